@@ -0,0 +1,60 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 adapter 들의 여러 key 조회/저장을 한 번의 round trip 으로 처리하기 위한 helper.
+ * 조회는 MGET, 저장은 key 별 PSETEX 를 pipeline 으로 묶어서 보낸다.
+ * 여러 캐시의 삭제를 묶는 경우(CacheEvictor)에는 캐시마다 template 이 다르므로, 모든 캐시가 공유하는 String key 를 직접 직렬화한다.
+ */
+final class CacheBatch {
+
+    private CacheBatch() {
+    }
+
+    // MGET 결과 중 존재하는 값만 key 순서대로 반환
+    static <V> Map<String, V> multiGet(RedisTemplate<String, V> redisTemplate, Collection<String> keys) {
+        Map<String, V> found = new LinkedHashMap<>();
+        if (keys.isEmpty())
+            return found;
+
+        List<String> keyList = new ArrayList<>(keys);
+        List<V> values = redisTemplate.opsForValue().multiGet(keyList);
+        if (Objects.isNull(values))
+            return found;
+
+        for (int i = 0; i < keyList.size(); i++) {
+            if (Objects.nonNull(values.get(i)))
+                found.put(keyList.get(i), values.get(i));
+        }
+        return found;
+    }
+
+    // String key serializer 로 직렬화한 key (캐시 template 은 모두 String key 를 사용)
+    static byte[][] rawKeys(Collection<String> keys) {
+        return keys.stream().map(RedisSerializer.string()::serialize).toArray(byte[][]::new);
+    }
+
+    // key 마다 ttl 이 다를 수 있으므로(jitter) MSET 대신 PSETEX 를 pipeline 으로 보낸다.
+    @SuppressWarnings("unchecked")
+    static <V> void setAll(RedisTemplate<String, V> redisTemplate, Map<String, V> values, Supplier<Duration> ttl) {
+        if (values.isEmpty())
+            return;
+
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        RedisSerializer<V> valueSerializer = (RedisSerializer<V>) redisTemplate.getValueSerializer();
+        Map<byte[], byte[]> raw = new LinkedHashMap<>();
+        values.forEach((key, value) -> raw.put(keySerializer.serialize(key), valueSerializer.serialize(value)));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            raw.forEach((key, value) -> connection.pSetEx(key, ttl.get().toMillis(), value));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.sweep.jaksim31.adapter.cache;
+
+/**
+ * Redis 캐시 value 직렬화 포맷
+ * JSON  : header 없는 JSON (기존 포맷, 구버전 노드와 호환)
+ * SMILE : [MAGIC][FORMAT] header + Smile(binary JSON)
+ */
+public enum CacheCodec {
+    JSON,
+    SMILE
+}
@@ -0,0 +1,15 @@
+package com.sweep.jaksim31.adapter.cache;
+
+/**
+ * 한 번의 쓰기에서 여러 캐시의 key 를 함께 삭제.
+ * cache.backend 설정에 따라 Redis(기본) 또는 on-heap 구현이 사용된다.
+ * Redis 구현은 캐시별 DEL 과 near cache 무효화 발행을 한 번의 pipeline 으로 보낸다.
+ */
+public interface CacheEvictor {
+
+    // 사용자 정보 캐시와 개별 일기 캐시 삭제 (일기 수정/삭제)
+    void deleteMemberAndDiary(String memberKey, String diaryKey);
+
+    // 사용자 정보 캐시와 refresh token 삭제 (회원 탈퇴)
+    void deleteMemberAndRefreshToken(String memberKey, String refreshTokenKey);
+}
@@ -0,0 +1,73 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 캐시 key 생성 helper.
+ * Redis Cluster 에서 한 사용자의 member/일기/페이지/타임라인/태그 key 가 같은 slot 에 모이도록
+ * 사용자 id 를 hash tag({userId}) 로 감싼다. (같은 slot 이어야 pipeline 의 다중 key 명령, RENAME, Lua script 가 동작한다)
+ * value key 에는 캐시 schema 버전을 붙인다. ({@link CacheSchemas}, 버전 1 은 버전 없이 기존 key 그대로)
+ */
+public final class CacheKeys {
+
+    public static final String MEMBER_CACHE_PREFIX = "memberCache::";
+    public static final String DIARY_CACHE_PREFIX = "diaryCache::";
+    public static final String TAG_PREFIX = "cacheTag::";
+    public static final String NOT_FOUND_PREFIX = "notFound::";
+    public static final String PAGE_BODY_MARKER = "Body:";
+    public static final String SEARCH_MARKER = "Search:";
+    public static final String COUNT_MARKER = "Count:";
+
+    private CacheKeys() {
+    }
+
+    // {userId}
+    public static String slot(String userId) {
+        return "{" + userId + "}";
+    }
+
+    // memberCache::{userId}
+    public static String member(String userId) {
+        return CacheSchemas.MEMBER.key(MEMBER_CACHE_PREFIX + slot(userId));
+    }
+
+    // diaryCache::{userId}:diaryId
+    public static String diary(String userId, String diaryId) {
+        return CacheSchemas.DIARY.key(DIARY_CACHE_PREFIX + slot(userId) + ":" + diaryId);
+    }
+
+    // {userId}Page request [number: 0, size 1, sort: date: DESC]
+    public static String diaryPage(String userId, Pageable pageable) {
+        return CacheSchemas.DIARY_PAGE.key(slot(userId) + pageable);
+    }
+
+    // 직렬화된 응답 body. 페이지와 같은 태그로 무효화된다. ({userId}Body:Page request [...])
+    public static String diaryPageBody(String userId, Pageable pageable) {
+        return CacheSchemas.DIARY_PAGE.key(slot(userId) + PAGE_BODY_MARKER + pageable);
+    }
+
+    // 일기 검색 결과. 조건을 정규화한 hash 로 구분하고, 페이지와 같은 태그로 무효화된다. ({userId}Search:hash)
+    public static String diarySearch(String userId, String filterHash) {
+        return CacheSchemas.DIARY_PAGE.key(slot(userId) + SEARCH_MARKER + filterHash);
+    }
+
+    // 검색 조건별 전체 일기 개수. 페이지/정렬과 상관없이 조건 hash 로 구분한다. ({userId}Count:hash)
+    public static String diaryCount(String userId, String filterHash) {
+        return CacheSchemas.DIARY_PAGE.key(slot(userId) + COUNT_MARKER + filterHash);
+    }
+
+    // 일기 저장/수정/삭제를 직접 반영할 수 있는 전체 일기 페이지인지 (응답 body, 검색 결과, 개수는 삭제 대상)
+    public static boolean isDiaryPage(String key) {
+        return key.contains("}Page request");
+    }
+
+    // 태그 set key. 태그로 묶인 key 들과 같은 slot 에 둔다. (cacheTag::diaryPagingCache::{userId})
+    public static String tag(String cacheName, String tag) {
+        return TAG_PREFIX + cacheName + "::" + slot(tag);
+    }
+
+    // 존재하지 않는 id 의 tombstone key (notFound::memberCache::{userId}). tombstone 은 value 가 없으므로 schema 버전과 상관없이 공유한다.
+    public static String notFound(String key) {
+        return NOT_FOUND_PREFIX + CacheSchema.baseKey(key);
+    }
+}
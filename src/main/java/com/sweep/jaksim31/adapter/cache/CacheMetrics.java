@@ -0,0 +1,124 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 캐시 이름별 hit/miss, 로딩 시간, 직렬화 byte 수, 저장/삭제 횟수 metrics.
+ * MeterBinder 로 등록되어 actuator(/actuator/metrics/cache.adapter.*) 로 노출되며, registry 에 bind 되기 전에는 기록하지 않는다.
+ */
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    public static final String TIER_NEAR = "near";
+    public static final String TIER_REDIS = "redis";
+    public static final String TIER_MEMORY = "memory";
+
+    private volatile MeterRegistry meterRegistry;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+    }
+
+    // tier : 값을 찾은 계층 (near = 로컬 L1, redis = L2, memory = cache.backend=memory 의 on-heap 저장소)
+    public void hit(String cacheName, String tier) {
+        hits(cacheName, tier, 1);
+    }
+
+    public void hits(String cacheName, String tier, int count) {
+        MeterRegistry registry = meterRegistry;
+        if (count > 0 && registry != null)
+            registry.counter("cache.adapter.gets", "cache", cacheName, "result", "hit", "tier", tier).increment(count);
+    }
+
+    public void miss(String cacheName) {
+        misses(cacheName, 1);
+    }
+
+    public void misses(String cacheName, int count) {
+        misses(cacheName, TIER_REDIS, count);
+    }
+
+    // miss 는 마지막으로 조회한 저장소(tier) 기준으로 기록
+    public void misses(String cacheName, String tier, int count) {
+        MeterRegistry registry = meterRegistry;
+        if (count > 0 && registry != null)
+            registry.counter("cache.adapter.gets", "cache", cacheName, "result", "miss", "tier", tier).increment(count);
+    }
+
+    // hit 여부를 값의 존재 여부로 기록하고 값을 그대로 반환
+    public <T> T recordGet(String cacheName, String tier, T value) {
+        if (value == null)
+            misses(cacheName, tier, 1);
+        else
+            hit(cacheName, tier);
+        return value;
+    }
+
+    public void puts(String cacheName, int count) {
+        MeterRegistry registry = meterRegistry;
+        if (count > 0 && registry != null)
+            registry.counter("cache.adapter.puts", "cache", cacheName).increment(count);
+    }
+
+    // 명시적인 삭제/무효화로 제거된 key 수 (ttl 만료는 Redis INFO 의 expired_keys 로 확인)
+    public void evictions(String cacheName, int count) {
+        MeterRegistry registry = meterRegistry;
+        if (count > 0 && registry != null)
+            registry.counter("cache.adapter.evictions", "cache", cacheName).increment(count);
+    }
+
+    // cache miss 시 원본(DB) 로딩 시간
+    public <T> T recordLoad(String cacheName, Supplier<T> loader) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null)
+            return loader.get();
+
+        return Timer.builder("cache.adapter.load")
+                .tag("cache", cacheName)
+                .description("cache miss 시 원본 로딩 시간")
+                .register(registry)
+                .record(loader);
+    }
+
+    // operation : write(직렬화) / read(역직렬화)
+    public void payload(String cacheName, String operation, int bytes) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null)
+            return;
+
+        DistributionSummary.builder("cache.adapter.payload")
+                .tag("cache", cacheName)
+                .tag("operation", operation)
+                .baseUnit("bytes")
+                .description("캐시 value 직렬화 크기")
+                .register(registry)
+                .record(bytes);
+    }
+
+    // 로그인 직후 캐시 미리 채우기 결과 (success / failure / rejected / disabled)
+    public void prewarm(String result) {
+        MeterRegistry registry = meterRegistry;
+        if (registry != null)
+            registry.counter("cache.prewarm.runs", "result", result).increment();
+    }
+
+    public void recordPrewarm(Runnable prewarm) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            prewarm.run();
+            return;
+        }
+
+        Timer.builder("cache.prewarm.duration")
+                .description("로그인 직후 캐시 미리 채우기 소요 시간")
+                .register(registry)
+                .record(prewarm);
+    }
+}
@@ -0,0 +1,149 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 만료가 가까운 캐시를 미리 다시 로딩하는 refresh-ahead (XFetch, probabilistic early expiration).
+ * 남은 ttl 이 (로딩 시간 * beta * -ln(random)) 보다 작아지면 기존 값은 그대로 반환하고, 백그라운드에서 다시 로딩한다.
+ * 다시 로딩하는 동안 key 가 삭제되거나 다른 값으로 저장되었으면, 다시 로딩한 값(이전 DB 값일 수 있음)은 저장하지 않는다.
+ */
+@Component
+@Slf4j
+public class CacheRefresher {
+
+    // 로딩 시간 이동 평균 가중치
+    private static final double LOAD_TIME_WEIGHT = 0.2;
+
+    // 현재 값이 refresh 를 시작할 때 읽은 값(ARGV[1])과 같을 때만 새 값으로 저장 (삭제/재저장된 key 는 건드리지 않음)
+    static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1", Long.class);
+
+    private final Executor cacheRefreshExecutor;
+    private final CacheMetrics cacheMetrics;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, Double> loadMillis = new ConcurrentHashMap<>();
+
+
+    public CacheRefresher(Executor cacheRefreshExecutor, CacheMetrics cacheMetrics) {
+        this.cacheRefreshExecutor = cacheRefreshExecutor;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    /**
+     * Redis 에서 값과 남은 ttl 을 한 번에 조회하고, 만료가 가까우면 백그라운드 refresh 를 예약한다.
+     * refresh 는 조회한 값이 그대로 남아 있을 때만 새 값을 저장한다. (REPLACE_SCRIPT)
+     * @param reloader    원본 조회
+     * @param onRefreshed 다시 로딩한 값이 저장된 뒤 호출 (near cache 갱신 등)
+     */
+    public <T> T get(String cacheName, CachePolicy policy, RedisTemplate<String, T> redisTemplate, String key,
+                     Supplier<T> reloader, Consumer<T> onRefreshed) {
+        if (!policy.isRefreshAheadEnabled())
+            return redisTemplate.opsForValue().get(key);
+
+        // 비교에 사용할 원본 byte 를 그대로 받는다. (result serializer 없음)
+        byte[] rawKey = RedisSerializer.string().serialize(key);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.get(rawKey);
+            connection.pTtl(rawKey);
+            return null;
+        }, null);
+
+        byte[] rawValue = (byte[]) results.get(0);
+        Long remainingMillis = (Long) results.get(1);
+        if (Objects.isNull(rawValue))
+            return null;
+
+        @SuppressWarnings("unchecked")
+        RedisSerializer<T> valueSerializer = (RedisSerializer<T>) redisTemplate.getValueSerializer();
+        T value = valueSerializer.deserialize(rawValue);
+        if (Objects.nonNull(value) && Objects.nonNull(remainingMillis))
+            refreshIfExpiring(cacheName, policy, key, remainingMillis, reloader, reloaded -> {
+                if (replace(redisTemplate, valueSerializer, key, rawValue, reloaded, policy))
+                    onRefreshed.accept(reloaded);
+            });
+        return value;
+    }
+
+    // key 의 값이 expected 그대로일 때만 value 로 교체
+    private static <T> boolean replace(RedisTemplate<String, T> redisTemplate, RedisSerializer<T> valueSerializer,
+                                       String key, byte[] expected, T value, CachePolicy policy) {
+        Long replaced = redisTemplate.execute(REPLACE_SCRIPT, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+                Collections.singletonList(key),
+                expected, valueSerializer.serialize(value),
+                String.valueOf(policy.jitteredTtl().toMillis()).getBytes(StandardCharsets.UTF_8));
+        return Long.valueOf(1).equals(replaced);
+    }
+
+    /**
+     * 남은 ttl 을 직접 조회하는 저장소(on-heap keyspace)용. 만료가 가까우면 백그라운드 refresh 를 예약한다.
+     * @param writer 다시 로딩한 값 저장. 그 사이 key 가 삭제/재저장되었으면 저장하지 않아야 한다.
+     */
+    public <T> void refreshIfExpiring(String cacheName, CachePolicy policy, String key, long remainingMillis,
+                                      Supplier<T> reloader, Consumer<T> writer) {
+        if (policy.isRefreshAheadEnabled() && shouldRefresh(cacheName, policy, remainingMillis))
+            refresh(cacheName, key, reloader, writer);
+    }
+
+    boolean shouldRefresh(String cacheName, CachePolicy policy, long remainingMillis) {
+        // 만료 시간이 없는 key(-1) 는 refresh 하지 않음
+        if (remainingMillis < 0)
+            return false;
+
+        double delta = loadMillis.getOrDefault(cacheName, (double) policy.getRefreshAheadDelta().toMillis());
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();    // (0, 1]
+        return delta * policy.getRefreshAheadBeta() * -Math.log(random) >= remainingMillis;
+    }
+
+    private <T> void refresh(String cacheName, String key, Supplier<T> reloader, Consumer<T> writer) {
+        String refreshKey = cacheName + "::" + key;
+        // 같은 key 에 대한 refresh 는 한 번만 실행
+        if (!refreshing.add(refreshKey))
+            return;
+
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                long start = System.nanoTime();
+                try {
+                    T value = cacheMetrics.recordLoad(cacheName, reloader);
+                    if (Objects.nonNull(value))
+                        writer.accept(value);
+                    recordLoadTime(cacheName, (System.nanoTime() - start) / 1_000_000.0);
+                } catch (RuntimeException e) {
+                    // refresh 실패 시 기존 값은 ttl 까지 그대로 사용된다.
+                    log.debug("cache refresh failed : {}", refreshKey, e);
+                } finally {
+                    refreshing.remove(refreshKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // executor 가 가득 찬 경우 이번 refresh 는 건너뛴다.
+            refreshing.remove(refreshKey);
+        }
+    }
+
+    private void recordLoadTime(String cacheName, double millis) {
+        loadMillis.merge(cacheName, millis, (prev, cur) -> prev + LOAD_TIME_WEIGHT * (cur - prev));
+    }
+}
@@ -0,0 +1,140 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 캐시 value 의 schema 버전.
+ * DTO 모양이 바뀌면 버전을 올리고, key 에 버전(#v2)을 붙여서 배포 중 이전 버전 노드와 새 버전 노드가 서로의 value 를 덮어쓰지 않게 한다.
+ * 새 버전 노드는 자기 key 가 없으면 바로 이전 버전 key 를 upcaster 로 변환하여 읽고 새 key 에 다시 쓰며,
+ * 이전 버전 key 는 ttl 로 자연스럽게 만료된다. (버전 1 은 기존 key 그대로)
+ * 무효화는 앞뒤 한 버전 key 를 함께 삭제하여, 한 단계씩 진행되는 rolling 배포 중 어느 노드에서 삭제해도 오래된 값이 남지 않는다.
+ */
+@Slf4j
+public final class CacheSchema {
+
+    private static final String VERSION_SEPARATOR = "#v";
+    private static final Pattern VERSIONED_KEY = Pattern.compile("^(.*)" + VERSION_SEPARATOR + "(\\d+)$");
+
+    private final String cacheName;
+    private final int version;
+    // 버전 n -> n + 1 변환
+    private final Map<Integer, UnaryOperator<JsonNode>> upcasters;
+
+    private CacheSchema(String cacheName, int version, Map<Integer, UnaryOperator<JsonNode>> upcasters) {
+        if (version < 1)
+            throw new IllegalArgumentException("cache schema version must be positive : " + version);
+        this.cacheName = cacheName;
+        this.version = version;
+        this.upcasters = Collections.unmodifiableMap(upcasters);
+    }
+
+    public static CacheSchema of(String cacheName, int version) {
+        return new CacheSchema(cacheName, version, Collections.emptyMap());
+    }
+
+    // fromVersion 으로 저장된 value 를 fromVersion + 1 모양으로 바꾸는 upcaster 추가
+    public CacheSchema upcaster(int fromVersion, UnaryOperator<JsonNode> upcaster) {
+        Map<Integer, UnaryOperator<JsonNode>> added = new HashMap<>(upcasters);
+        added.put(fromVersion, upcaster);
+        return new CacheSchema(cacheName, version, added);
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    // 현재 버전 key (hash tag 는 앞쪽 key 에 그대로 남는다)
+    public String key(String baseKey) {
+        return versioned(baseKey, version);
+    }
+
+    // 버전을 뗀 key
+    public static String baseKey(String key) {
+        Matcher matcher = VERSIONED_KEY.matcher(key);
+        return matcher.matches() ? matcher.group(1) : key;
+    }
+
+    public static int versionOf(String key) {
+        Matcher matcher = VERSIONED_KEY.matcher(key);
+        return matcher.matches() ? Integer.parseInt(matcher.group(2)) : 1;
+    }
+
+    public boolean isCurrent(String key) {
+        return versionOf(key) == version;
+    }
+
+    // 무효화 대상 key. key 버전의 이전/현재/다음 버전 key 를 모두 삭제한다.
+    public static List<String> siblingKeys(String key) {
+        String baseKey = baseKey(key);
+        int version = versionOf(key);
+        List<String> keys = new ArrayList<>(3);
+        for (int sibling = Math.max(1, version - 1); sibling <= version + 1; sibling++)
+            keys.add(versioned(baseKey, sibling));
+        return keys;
+    }
+
+    public static List<String> siblingKeys(Collection<String> keys) {
+        Set<String> siblings = new LinkedHashSet<>();
+        keys.forEach(key -> siblings.addAll(siblingKeys(key)));
+        return new ArrayList<>(siblings);
+    }
+
+    // 바로 이전 버전 key (upcaster 가 없으면 null)
+    public String previousKey(String key) {
+        if (!upcasters.containsKey(version - 1))
+            return null;
+        return versioned(baseKey(key), version - 1);
+    }
+
+    /**
+     * 현재 버전 key 가 없을 때 바로 이전 버전 value 를 읽어 현재 모양으로 변환
+     * @param rawGet key -> 저장된 byte (없으면 null)
+     * @return 이전 버전 value 가 없거나 변환에 실패하면 null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T readPrevious(String key, Function<String, byte[]> rawGet, RedisSerializer<T> serializer) {
+        String previousKey = previousKey(key);
+        if (Objects.isNull(previousKey) || !(serializer instanceof UpcastingSerializer))
+            return null;
+
+        try {
+            byte[] bytes = rawGet.apply(previousKey);
+            if (Objects.isNull(bytes))
+                return null;
+            return ((UpcastingSerializer<T>) serializer).deserialize(bytes, upcasters.get(version - 1));
+        } catch (SerializationException e) {
+            log.warn("cache upcast failed, treat as miss. cacheName = {}, key = {}", cacheName, previousKey, e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T readPrevious(String key, RedisTemplate<String, T> redisTemplate) {
+        if (Objects.isNull(previousKey(key)))
+            return null;
+
+        RedisSerializer<String> keySerializer = (RedisSerializer<String>) redisTemplate.getKeySerializer();
+        return readPrevious(key,
+                previousKey -> redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.get(keySerializer.serialize(previousKey))),
+                (RedisSerializer<T>) redisTemplate.getValueSerializer());
+    }
+
+    private static String versioned(String baseKey, int version) {
+        return version == 1 ? baseKey : baseKey + VERSION_SEPARATOR + version;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sweep.jaksim31.adapter.cache;
+
+/**
+ * 캐시별 현재 schema 버전.
+ * 캐시 DTO 의 field 이름/타입이 바뀌면 버전을 올리고, 이전 버전 JSON 을 새 모양으로 바꾸는 upcaster 를 등록한다.
+ * (예: CacheSchema.of(MemberCacheAdapter.CACHE_NAME, 2).upcaster(1, node -> ...))
+ * field 추가는 역직렬화에서 무시/기본값 처리되므로 버전을 올리지 않아도 된다.
+ */
+public final class CacheSchemas {
+
+    public static final CacheSchema MEMBER = CacheSchema.of(MemberCacheAdapter.CACHE_NAME, 1);
+    public static final CacheSchema DIARY = CacheSchema.of(DiaryCacheAdapter.CACHE_NAME, 1);
+    public static final CacheSchema DIARY_PAGE = CacheSchema.of(DiaryPagingCacheAdapter.CACHE_NAME, 1);
+    public static final CacheSchema DIARY_TIMELINE = CacheSchema.of(DiaryTimelineCacheAdapter.CACHE_NAME, 1);
+
+    private CacheSchemas() {
+    }
+}
@@ -0,0 +1,111 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * 캐시 value 공통 직렬화기. String 을 거치지 않고 byte[] 로 바로 읽고 쓴다.
+ * binary 포맷은 [MAGIC][FORMAT] 2 byte header 를 붙이고, header 가 없으면 기존 JSON 으로 읽는다.
+ * 이전 schema 버전의 value 는 JSON tree 로 읽어 upcaster 를 거친 뒤 변환한다.
+ */
+public abstract class CacheSerializer<T> implements UpcastingSerializer<T> {
+
+    static final byte MAGIC = (byte) 0xCA;
+    static final byte FORMAT_SMILE = 1;
+    private static final int HEADER_LENGTH = 2;
+
+    private static final ObjectMapper JSON_MAPPER = configure(new ObjectMapper());
+    private static final ObjectMapper SMILE_MAPPER = configure(new ObjectMapper(new SmileFactory()));
+
+    private final JavaType type;
+    private final CacheCodec codec;
+
+    protected CacheSerializer(Class<T> type, CacheCodec codec) {
+        this.type = JSON_MAPPER.constructType(type);
+        this.codec = codec;
+    }
+
+    protected CacheSerializer(TypeReference<T> type, CacheCodec codec) {
+        this.type = JSON_MAPPER.constructType(type);
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (Objects.isNull(value))
+            return null;
+
+        try {
+            if (codec == CacheCodec.JSON)
+                return JSON_MAPPER.writeValueAsBytes(value);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            out.write(MAGIC);
+            out.write(FORMAT_SMILE);
+            SMILE_MAPPER.writeValue(out, value);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("cache serialize error", e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (Objects.isNull(bytes))
+            return null;
+
+        try {
+            // header 가 없으면 기존(JSON) 포맷
+            if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC)
+                return JSON_MAPPER.readValue(bytes, type);
+
+            if (bytes[1] == FORMAT_SMILE)
+                return SMILE_MAPPER.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, type);
+
+            throw new SerializationException("unknown cache format : " + bytes[1]);
+        } catch (IOException e) {
+            throw new SerializationException("cache deserialize error", e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes, UnaryOperator<JsonNode> upcaster) throws SerializationException {
+        if (Objects.isNull(bytes))
+            return null;
+
+        try {
+            JsonNode tree;
+            if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC)
+                tree = JSON_MAPPER.readTree(bytes);
+            else if (bytes[1] == FORMAT_SMILE)
+                tree = SMILE_MAPPER.readTree(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+            else
+                throw new SerializationException("unknown cache format : " + bytes[1]);
+
+            return JSON_MAPPER.readerFor(type).readValue(upcaster.apply(tree));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("cache upcast error", e);
+        }
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        return mapper
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .registerModules(new JavaTimeModule(), new Jdk8Module());
+    }
+}
@@ -0,0 +1,133 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 캐시 key 를 태그(ex. 사용자 id) 단위로 묶어두는 Redis SET 인덱스.
+ * 태그 무효화 시 keyspace 전체를 SCAN 하지 않고 해당 태그에 등록된 key 들만 삭제한다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class CacheTagIndex {
+
+    private static final String LOCK_PREFIX = "cacheTagLock::";
+    private static final long LOCK_POLL_MILLIS = 20;
+
+    private final RedisTemplate<String, String> cacheTagRedisTemplate;
+
+
+    public CacheTagIndex(RedisTemplate<String, String> cacheTagRedisTemplate) {
+        this.cacheTagRedisTemplate = cacheTagRedisTemplate;
+    }
+
+    // key 를 태그 set 에 등록. 태그 set 은 마지막으로 등록된 key 보다 먼저 만료되지 않도록 ttl 을 갱신한다.
+    public void register(String cacheName, String tag, String key, Duration ttl) {
+        byte[] rawTagKey = raw(tagKey(cacheName, tag));
+        byte[] rawKey = raw(key);
+
+        cacheTagRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.sAdd(rawTagKey, rawKey);
+            connection.expire(rawTagKey, ttl.getSeconds());
+            return null;
+        });
+    }
+
+    // 여러 key 를 한 번의 SADD 로 등록
+    public void registerAll(String cacheName, String tag, Collection<String> keys, Duration ttl) {
+        if (keys.isEmpty())
+            return;
+
+        byte[] rawTagKey = raw(tagKey(cacheName, tag));
+        byte[][] rawKeys = keys.stream().map(this::raw).toArray(byte[][]::new);
+
+        cacheTagRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.sAdd(rawTagKey, rawKeys);
+            connection.expire(rawTagKey, ttl.getSeconds());
+            return null;
+        });
+    }
+
+    // 태그에 등록된 key 들을 삭제하고, 삭제된 key 목록을 반환
+    public List<String> invalidate(String cacheName, String tag) {
+        String tagKey = tagKey(cacheName, tag);
+        Set<String> keys = cacheTagRedisTemplate.opsForSet().members(tagKey);
+        if (Objects.isNull(keys) || keys.isEmpty())
+            return Collections.emptyList();
+
+        byte[] rawTagKey = raw(tagKey);
+        byte[][] rawKeys = keys.stream().map(this::raw).toArray(byte[][]::new);
+
+        // 캐시 데이터 삭제와 태그 set 정리를 한 번의 pipeline 으로 처리
+        // (태그 set 자체를 지우지 않고 읽어온 member 만 제거하여, 그 사이 새로 등록된 key 는 유지된다)
+        cacheTagRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.del(rawKeys);
+            connection.sRem(rawTagKey, rawKeys);
+            return null;
+        });
+
+        return new ArrayList<>(keys);
+    }
+
+    // 태그에 등록된 key 목록
+    public List<String> members(String cacheName, String tag) {
+        Set<String> keys = cacheTagRedisTemplate.opsForSet().members(tagKey(cacheName, tag));
+        if (Objects.isNull(keys))
+            return Collections.emptyList();
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * 태그 단위 lock. 다른 요청이 lock 을 가지고 있으면 ttl 동안 기다린다.
+     * @return lock token (획득하지 못하면 null)
+     */
+    public String lock(String cacheName, String tag, Duration ttl) {
+        String lockKey = lockKey(cacheName, tag);
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + ttl.toNanos();
+
+        do {
+            if (Boolean.TRUE.equals(cacheTagRedisTemplate.opsForValue().setIfAbsent(lockKey, token, ttl)))
+                return token;
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        } while (System.nanoTime() < deadline);
+        return null;
+    }
+
+    public void unlock(String cacheName, String tag, String token) {
+        String lockKey = lockKey(cacheName, tag);
+        cacheTagRedisTemplate.execute(SingleFlightLoader.UNLOCK_SCRIPT, Collections.singletonList(lockKey), token);
+    }
+
+    // 태그 set 은 태그로 묶인 key 들과 같은 slot 에 두어야 cluster 에서도 DEL + SREM 을 한 번에 보낼 수 있다.
+    private String tagKey(String cacheName, String tag) {
+        return CacheKeys.tag(cacheName, tag);
+    }
+
+    private String lockKey(String cacheName, String tag) {
+        return LOCK_PREFIX + cacheName + "::" + CacheKeys.slot(tag);
+    }
+
+    private byte[] raw(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+}
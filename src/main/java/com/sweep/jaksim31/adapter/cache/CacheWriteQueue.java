@@ -0,0 +1,202 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시 저장/무효화를 요청 thread 에서 분리하여 백그라운드에서 실행하는 queue.
+ * 같은 ordering key(ex. 사용자 id) 의 작업은 항상 같은 단일 thread stripe 에서 순서대로 실행되고,
+ * stripe 의 queue 가 가득 차면 요청 thread 는 offer-timeout-millis 까지만 기다리고, 그래도 자리가 없으면 작업을 버린다.
+ * 버린 작업에 무효화 작업이 함께 제출되었으면 호출한 thread 에서 바로 무효화하고, (공유 Redis 캐시를 읽는 다른 노드도 DB 에서 다시 읽도록)
+ * 먼저 제출된 작업이 남아 있으면 그 작업들이 끝난 뒤 한 번 더 무효화한다. (먼저 제출된 작업이 이전 값을 다시 저장할 수 있으므로)
+ * 아직 실행되지 않은 작업이 있는 key 는 hasPending 으로 확인할 수 있다. (캐시가 아직 이전 값이므로)
+ * async 모드가 꺼져 있으면 호출한 thread 에서 바로 실행한다.
+ */
+@Component
+@Slf4j
+public class CacheWriteQueue implements MeterBinder, DisposableBean {
+
+    private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+    private final boolean async;
+    private final ThreadPoolExecutor[] stripes;
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder inline = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder drops = new LongAdder();
+    // ordering key -> 제출되었지만 아직 끝나지 않은 작업 수 (0 이 되면 제거)
+    private final ConcurrentHashMap<String, Integer> pendingByKey = new ConcurrentHashMap<>();
+    // ordering key -> 작업을 버린 뒤 남은 작업이 모두 끝나면 다시 실행할 무효화
+    private final ConcurrentHashMap<String, Runnable> invalidationsOnDrain = new ConcurrentHashMap<>();
+
+
+    public CacheWriteQueue(@Value("${cache.async-writes.enabled:false}") boolean async,
+                           @Value("${cache.async-writes.threads:4}") int threads,
+                           @Value("${cache.async-writes.queue-capacity:1000}") int queueCapacity,
+                           @Value("${cache.async-writes.offer-timeout-millis:50}") long offerTimeoutMillis) {
+        this.async = async;
+        this.stripes = async
+                ? createStripes(threads, Math.max(1, queueCapacity / threads), Math.max(0, offerTimeoutMillis))
+                : new ThreadPoolExecutor[0];
+    }
+
+    private static ThreadPoolExecutor[] createStripes(int threads, int capacityPerStripe, long offerTimeoutMillis) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor[] stripes = new ThreadPoolExecutor[threads];
+        for (int i = 0; i < threads; i++) {
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(capacityPerStripe),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "cache-write-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (task, executor) -> waitForSpace(task, executor, offerTimeoutMillis));
+        }
+        return stripes;
+    }
+
+    // queue 가 가득 차면 offerTimeoutMillis 까지만 자리가 나기를 기다리고, 그래도 없으면 거절한다. (종료 중이면 바로 실행)
+    private static void waitForSpace(Runnable task, ThreadPoolExecutor executor, long offerTimeoutMillis) {
+        if (executor.isShutdown()) {
+            task.run();
+            return;
+        }
+        try {
+            if (!executor.getQueue().offer(task, offerTimeoutMillis, TimeUnit.MILLISECONDS))
+                throw new RejectedExecutionException("cache write queue is full");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("interrupted while waiting for cache write queue", e);
+        }
+    }
+
+    /**
+     * 캐시 채우기 작업 제출. queue 가 가득 차면 작업을 버린다. (다음 조회 시 다시 채운다)
+     * @param orderingKey 같은 key 의 작업끼리 제출 순서대로 실행된다.
+     * @param write       캐시 저장 작업
+     */
+    public void submit(String orderingKey, Runnable write) {
+        submit(orderingKey, write, null);
+    }
+
+    /**
+     * 캐시 쓰기 작업 제출
+     * @param orderingKey  같은 key 의 작업끼리 제출 순서대로 실행된다.
+     * @param write        캐시 저장/무효화 작업
+     * @param invalidation queue 가 가득 차서 write 를 버릴 때 대신 호출한 thread 에서 실행할 무효화 작업 (null 이면 버리기만 한다)
+     */
+    public void submit(String orderingKey, Runnable write, Runnable invalidation) {
+        if (!async) {
+            inline.increment();
+            write.run();
+            return;
+        }
+
+        pendingByKey.merge(orderingKey, 1, Integer::sum);
+        try {
+            stripes[Math.floorMod(orderingKey.hashCode(), stripes.length)].execute(() -> {
+                try {
+                    write.run();
+                } catch (RuntimeException e) {
+                    // 실패한 무효화는 ttl 이 지나면 정리된다.
+                    failures.increment();
+                    log.warn("async cache write failed : {}", orderingKey, e);
+                } finally {
+                    done(orderingKey);
+                }
+            });
+            queued.increment();
+        } catch (RejectedExecutionException e) {
+            drops.increment();
+            if (Objects.nonNull(invalidation)) {
+                log.warn("cache write queue is full, invalidating caches on the caller thread : {}", orderingKey);
+                // 대기 작업 수를 줄이기 전에 무효화한다. (그 사이 읽기가 이전 캐시를 읽지 않도록)
+                invalidate(orderingKey, invalidation);
+                if (pendingByKey.getOrDefault(orderingKey, 0) > 1)
+                    invalidationsOnDrain.merge(orderingKey, invalidation, CacheWriteQueue::andThen);
+            }
+            done(orderingKey);
+        }
+    }
+
+    // key 의 마지막 작업이면 남겨둔 무효화를 실행한 뒤 대기 작업 수를 줄인다. (무효화 전에 읽기가 이전 캐시를 읽지 않도록)
+    private void done(String orderingKey) {
+        if (pendingByKey.getOrDefault(orderingKey, 0) <= 1) {
+            Runnable invalidation = invalidationsOnDrain.remove(orderingKey);
+            if (Objects.nonNull(invalidation))
+                invalidate(orderingKey, invalidation);
+        }
+        pendingByKey.computeIfPresent(orderingKey, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void invalidate(String orderingKey, Runnable invalidation) {
+        try {
+            invalidation.run();
+        } catch (RuntimeException e) {
+            // 실패한 무효화는 ttl 이 지나면 정리된다.
+            failures.increment();
+            log.warn("cache invalidation failed : {}", orderingKey, e);
+        }
+    }
+
+    private static Runnable andThen(Runnable first, Runnable second) {
+        return () -> {
+            first.run();
+            second.run();
+        };
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    // key 에 제출되었지만 아직 끝나지 않은 작업이 있는지 (async 모드가 꺼져 있으면 항상 false)
+    public boolean hasPending(String orderingKey) {
+        return pendingByKey.containsKey(orderingKey);
+    }
+
+    int pending() {
+        return Arrays.stream(stripes).mapToInt(stripe -> stripe.getQueue().size() + stripe.getActiveCount()).sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.async.writes", queued, LongAdder::sum)
+                .tag("result", "queued")
+                .register(registry);
+        FunctionCounter.builder("cache.async.writes", inline, LongAdder::sum)
+                .tag("result", "inline")
+                .register(registry);
+        FunctionCounter.builder("cache.async.writes", failures, LongAdder::sum)
+                .tag("result", "failure")
+                .register(registry);
+        FunctionCounter.builder("cache.async.writes", drops, LongAdder::sum)
+                .tag("result", "dropped")
+                .register(registry);
+        Gauge.builder("cache.async.pending", this, CacheWriteQueue::pending)
+                .description("실행 대기 중인 캐시 쓰기 작업 수")
+                .register(registry);
+    }
+
+    // 종료 시 남은 작업을 최대한 실행하고 내려간다.
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ThreadPoolExecutor stripe : stripes)
+            stripe.shutdown();
+        for (ThreadPoolExecutor stripe : stripes)
+            stripe.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+    }
+}
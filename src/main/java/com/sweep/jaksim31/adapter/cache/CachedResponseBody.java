@@ -0,0 +1,66 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 직렬화가 끝난 HTTP 응답 body 캐시 값.
+ * cache hit 시 역직렬화/재직렬화 없이 byte 그대로 응답하며, ETag(body 의 MD5) 로 조건부 요청(If-None-Match)에 304 를 응답할 수 있다.
+ * 저장 포맷은 [MAGIC][ETag 길이(1 byte)][ETag][body] 이다.
+ */
+public final class CachedResponseBody {
+
+    static final byte MAGIC = (byte) 0xCB;
+
+    private final byte[] body;
+    private final String etag;
+    private final MediaType contentType;
+
+    private CachedResponseBody(byte[] body, String etag, MediaType contentType) {
+        this.body = body;
+        this.etag = etag;
+        this.contentType = contentType;
+    }
+
+    public static CachedResponseBody json(byte[] body) {
+        return new CachedResponseBody(body, "\"0" + DigestUtils.md5DigestAsHex(body) + "\"", MediaType.APPLICATION_JSON);
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public MediaType getContentType() {
+        return contentType;
+    }
+
+    public byte[] toBytes() {
+        byte[] etagBytes = etag.getBytes(StandardCharsets.US_ASCII);
+        byte[] bytes = new byte[2 + etagBytes.length + body.length];
+        bytes[0] = MAGIC;
+        bytes[1] = (byte) etagBytes.length;
+        System.arraycopy(etagBytes, 0, bytes, 2, etagBytes.length);
+        System.arraycopy(body, 0, bytes, 2 + etagBytes.length, body.length);
+        return bytes;
+    }
+
+    public static CachedResponseBody from(byte[] bytes) {
+        if (Objects.isNull(bytes))
+            return null;
+        if (bytes.length < 2 || bytes[0] != MAGIC || bytes.length < 2 + (bytes[1] & 0xFF))
+            throw new SerializationException("unknown response body format");
+
+        int etagLength = bytes[1] & 0xFF;
+        String etag = new String(bytes, 2, etagLength, StandardCharsets.US_ASCII);
+        return new CachedResponseBody(Arrays.copyOfRange(bytes, 2 + etagLength, bytes.length), etag, MediaType.APPLICATION_JSON);
+    }
+}
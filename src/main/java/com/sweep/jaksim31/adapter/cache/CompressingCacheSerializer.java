@@ -0,0 +1,97 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * threshold 이상 크기의 value 를 LZ4 로 압축하는 직렬화 wrapper.
+ * 압축된 value 는 [MAGIC][FORMAT_LZ4][원본 길이(4 byte)] header 로 구분하며, header 가 없으면 delegate 로 그대로 읽는다.
+ */
+public class CompressingCacheSerializer<T> implements UpcastingSerializer<T> {
+
+    static final byte MAGIC = (byte) 0xCB;
+    static final byte FORMAT_LZ4 = 1;
+    private static final int HEADER_LENGTH = 6;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final RedisSerializer<T> delegate;
+    private final int thresholdBytes;
+    private final CompressionStats stats;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    // thresholdBytes 가 0 이하이면 압축하지 않는다 (읽기는 항상 지원).
+    public CompressingCacheSerializer(RedisSerializer<T> delegate, int thresholdBytes, CompressionStats stats) {
+        this.delegate = delegate;
+        this.thresholdBytes = thresholdBytes;
+        this.stats = stats;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] raw = delegate.serialize(value);
+        if (Objects.isNull(raw))
+            return null;
+
+        if (thresholdBytes <= 0 || raw.length < thresholdBytes) {
+            stats.record(raw.length, raw.length, false);
+            return raw;
+        }
+
+        byte[] out = new byte[HEADER_LENGTH + compressor.maxCompressedLength(raw.length)];
+        ByteBuffer.wrap(out)
+                .put(MAGIC)
+                .put(FORMAT_LZ4)
+                .putInt(raw.length);
+        int compressedLength = compressor.compress(raw, 0, raw.length, out, HEADER_LENGTH);
+
+        // 압축 효과가 없으면 원본 그대로 저장
+        if (HEADER_LENGTH + compressedLength >= raw.length) {
+            stats.record(raw.length, raw.length, false);
+            return raw;
+        }
+
+        byte[] stored = new byte[HEADER_LENGTH + compressedLength];
+        System.arraycopy(out, 0, stored, 0, stored.length);
+        stats.record(raw.length, stored.length, true);
+        return stored;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        return delegate.deserialize(decompress(bytes));
+    }
+
+    @Override
+    public T deserialize(byte[] bytes, UnaryOperator<JsonNode> upcaster) throws SerializationException {
+        if (!(delegate instanceof UpcastingSerializer))
+            throw new SerializationException("cache serializer does not support upcast");
+        return ((UpcastingSerializer<T>) delegate).deserialize(decompress(bytes), upcaster);
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (Objects.isNull(bytes) || bytes.length < HEADER_LENGTH || bytes[0] != MAGIC)
+            return bytes;
+
+        if (bytes[1] != FORMAT_LZ4)
+            throw new SerializationException("unknown compression format : " + bytes[1]);
+
+        int rawLength = ByteBuffer.wrap(bytes, 2, 4).getInt();
+        try {
+            byte[] raw = new byte[rawLength];
+            decompressor.decompress(bytes, HEADER_LENGTH, raw, 0, rawLength);
+            return raw;
+        } catch (RuntimeException e) {
+            throw new SerializationException("cache decompress error", e);
+        }
+    }
+}
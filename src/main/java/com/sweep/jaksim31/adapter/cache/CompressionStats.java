@@ -0,0 +1,71 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 캐시별 압축 통계 (압축 전/후 byte 수, 압축 여부별 write 횟수).
+ * MeterBinder 빈으로 등록하면 actuator(/actuator/metrics) 로 노출된다.
+ */
+public class CompressionStats implements MeterBinder {
+
+    private final String cacheName;
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
+    private final LongAdder compressedWrites = new LongAdder();
+    private final LongAdder rawWrites = new LongAdder();
+
+    public CompressionStats(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    void record(int rawLength, int storedLength, boolean compressed) {
+        rawBytes.add(rawLength);
+        storedBytes.add(storedLength);
+        if (compressed)
+            compressedWrites.increment();
+        else
+            rawWrites.increment();
+    }
+
+    public long getRawBytes() {
+        return rawBytes.sum();
+    }
+
+    public long getStoredBytes() {
+        return storedBytes.sum();
+    }
+
+    public long getCompressedWrites() {
+        return compressedWrites.sum();
+    }
+
+    public long getRawWrites() {
+        return rawWrites.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.compression.raw.bytes", this, CompressionStats::getRawBytes)
+                .tag("cache", cacheName)
+                .baseUnit("bytes")
+                .description("압축 전 직렬화 byte 수")
+                .register(registry);
+        FunctionCounter.builder("cache.compression.stored.bytes", this, CompressionStats::getStoredBytes)
+                .tag("cache", cacheName)
+                .baseUnit("bytes")
+                .description("Redis 에 실제로 저장된 byte 수")
+                .register(registry);
+        FunctionCounter.builder("cache.compression.writes", this, CompressionStats::getCompressedWrites)
+                .tag("cache", cacheName)
+                .tag("result", "compressed")
+                .register(registry);
+        FunctionCounter.builder("cache.compression.writes", this, CompressionStats::getRawWrites)
+                .tag("cache", cacheName)
+                .tag("result", "raw")
+                .register(registry);
+    }
+}
@@ -1,37 +1,30 @@
 package com.sweep.jaksim31.adapter.cache;
 
-import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
 import com.sweep.jaksim31.dto.diary.DiaryResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.stereotype.Component;
 
-import java.time.Duration;
+import java.util.function.Supplier;
 
-@Component
-@Slf4j
-public class DiaryCacheAdapter {
+/**
+ * 개별 일기(DiaryResponse) 캐시.
+ * cache.backend 설정에 따라 Redis(기본) 또는 on-heap 구현이 사용된다.
+ */
+public interface DiaryCacheAdapter {
 
-    private final RedisTemplate<String, DiaryResponse> diaryCacheRedisTemplate;
-    private final ValueOperations<String, DiaryResponse> diaryCacheOperation;
+    String CACHE_NAME = "diaryCache";
 
+    void put(String key, DiaryResponse value);
 
-    public DiaryCacheAdapter(RedisTemplate<String, DiaryResponse> diaryCacheRedisTemplate) {
-        this.diaryCacheRedisTemplate = diaryCacheRedisTemplate;
-        this.diaryCacheOperation = diaryCacheRedisTemplate.opsForValue();
-    }
+    DiaryResponse get(String key);
 
-    public void put(String key, DiaryResponse value) {
-        diaryCacheOperation.set(key, value, Duration.ofSeconds(24 * 60 * 60));
-    }
+    // 만료가 가까운 값은 그대로 반환하고, reloader 로 백그라운드에서 미리 갱신한다. (refresh-ahead)
+    DiaryResponse get(String key, Supplier<DiaryResponse> reloader);
 
-    public DiaryResponse get(String key) {
-        return diaryCacheOperation.get(key);
-    }
+    void delete(String key);
 
-    public void delete(String key) {
-        diaryCacheRedisTemplate.delete(key);
-    }
+    // 존재하지 않는 id 인지 확인 (negative cache 를 사용하지 않으면 항상 false)
+    boolean isNotFound(String key);
 
+    void putNotFound(String key);
+
+    void deleteNotFound(String key);
 }
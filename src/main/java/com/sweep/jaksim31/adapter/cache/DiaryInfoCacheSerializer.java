@@ -0,0 +1,14 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+
+public class DiaryInfoCacheSerializer extends CacheSerializer<DiaryInfoResponse> {
+
+    public DiaryInfoCacheSerializer() {
+        this(CacheCodec.JSON);
+    }
+
+    public DiaryInfoCacheSerializer(CacheCodec codec) {
+        super(DiaryInfoResponse.class, codec);
+    }
+}
@@ -0,0 +1,169 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+
+import java.util.*;
+
+/**
+ * 일기 저장/수정/삭제 시 캐싱된 페이지들을 삭제하지 않고 직접 수정한다.
+ * 같은 정렬/크기의 페이지들 중 이전/다음 페이지가 캐싱되어 있어 경계를 옮길 수 있는 경우에만 수정하고,
+ * 계산할 수 없는 페이지는 null(삭제 대상)로 반환한다.
+ */
+final class DiaryPagePatcher {
+
+    private static final String ASC = "date: ASC";
+    private static final String DESC = "date: DESC";
+
+    private DiaryPagePatcher() {
+    }
+
+    // 일기 저장 (새 일기를 정렬 위치에 끼워넣고, 뒤쪽 페이지들은 한 칸씩 밀어낸다)
+    static Map<String, RestPage<DiaryInfoResponse>> onSave(Map<String, RestPage<DiaryInfoResponse>> pages, DiaryInfoResponse saved) {
+        return patch(pages, (group, order, number, page) -> insert(group, order, number, page, saved));
+    }
+
+    // 일기 삭제 (삭제된 일기를 빼고, 뒤쪽 페이지들은 한 칸씩 당겨온다)
+    static Map<String, RestPage<DiaryInfoResponse>> onRemove(Map<String, RestPage<DiaryInfoResponse>> pages, DiaryInfoResponse removed) {
+        return patch(pages, (group, order, number, page) -> remove(group, order, number, page, removed));
+    }
+
+    // 일기 수정 (날짜가 같으면 해당 일기만 교체, 날짜가 바뀌면 삭제 후 저장으로 처리)
+    static Map<String, RestPage<DiaryInfoResponse>> onUpdate(Map<String, RestPage<DiaryInfoResponse>> pages,
+                                                             DiaryInfoResponse before, DiaryInfoResponse after) {
+        if (!Objects.equals(before.getDiaryDate(), after.getDiaryDate())) {
+            Map<String, RestPage<DiaryInfoResponse>> removed = onRemove(pages, before);
+            Map<String, RestPage<DiaryInfoResponse>> remaining = new HashMap<>();
+            removed.forEach((key, page) -> {
+                if (Objects.nonNull(page))
+                    remaining.put(key, page);
+            });
+            Map<String, RestPage<DiaryInfoResponse>> result = new HashMap<>(removed);
+            result.putAll(onSave(remaining, after));
+            return result;
+        }
+
+        Map<String, RestPage<DiaryInfoResponse>> result = new HashMap<>();
+        pages.forEach((key, page) -> {
+            List<DiaryInfoResponse> content = new ArrayList<>(page.getContent());
+            for (int i = 0; i < content.size(); i++) {
+                if (Objects.equals(content.get(i).getDiaryId(), after.getDiaryId())) {
+                    content.set(i, after);
+                    result.put(key, new RestPage<>(content, page.getNumber(), page.getSize(), page.getTotalElements()));
+                }
+            }
+        });
+        return result;
+    }
+
+    private static RestPage<DiaryInfoResponse> insert(Map<Integer, RestPage<DiaryInfoResponse>> group, Comparator<DiaryInfoResponse> order,
+                                                      int number, RestPage<DiaryInfoResponse> page, DiaryInfoResponse saved) {
+        List<DiaryInfoResponse> content = new ArrayList<>(page.getContent());
+        int size = page.getSize();
+        long total = page.getTotalElements() + 1;
+
+        if (content.isEmpty()) {
+            if (number == 0)
+                return new RestPage<>(List.of(saved), number, size, total);
+            // 저장 후에도 범위 밖인 페이지
+            if ((long) number * size >= total)
+                return new RestPage<>(content, number, size, total);
+        }
+
+        int pos = 0;
+        while (pos < content.size() && order.compare(content.get(pos), saved) < 0)
+            pos++;
+
+        if (pos == 0 && number > 0) {
+            // 이전 페이지의 마지막 일기 또는 새 일기가 이 페이지의 첫 번째로 밀려온다.
+            RestPage<DiaryInfoResponse> prev = group.get(number - 1);
+            if (Objects.isNull(prev) || prev.getContent().size() != size)
+                return null;
+            DiaryInfoResponse prevLast = prev.getContent().get(size - 1);
+            content.add(0, order.compare(saved, prevLast) < 0 ? prevLast : saved);
+        } else if (pos < content.size() || content.size() < size) {
+            content.add(pos, saved);
+        }
+        // 그 외(가득 찬 페이지의 마지막 일기 뒤) 는 다음 페이지에 들어가므로 내용 변경 없음
+
+        if (content.size() > size)
+            content.remove(size);
+        return new RestPage<>(content, number, size, total);
+    }
+
+    private static RestPage<DiaryInfoResponse> remove(Map<Integer, RestPage<DiaryInfoResponse>> group, Comparator<DiaryInfoResponse> order,
+                                                      int number, RestPage<DiaryInfoResponse> page, DiaryInfoResponse removed) {
+        List<DiaryInfoResponse> content = new ArrayList<>(page.getContent());
+        int size = page.getSize();
+        long total = page.getTotalElements() - 1;
+
+        if (content.isEmpty())
+            return new RestPage<>(content, number, size, total);
+
+        int index = indexOf(content, removed);
+        if (index < 0) {
+            if (order.compare(removed, content.get(content.size() - 1)) > 0)
+                return new RestPage<>(content, number, size, total);    // 이 페이지 뒤쪽에서 삭제됨
+            if (order.compare(removed, content.get(0)) >= 0)
+                return null;                                            // 캐시와 DB 가 어긋난 경우
+            index = 0;                                                  // 앞 페이지에서 삭제되어 한 칸씩 당겨짐
+        }
+        content.remove(index);
+
+        // 다음 페이지가 있다면, 다음 페이지의 첫 번째 일기를 끌어온다.
+        if (page.getTotalElements() > (long) (number + 1) * size) {
+            RestPage<DiaryInfoResponse> next = group.get(number + 1);
+            if (Objects.isNull(next) || next.getContent().isEmpty())
+                return null;
+            content.add(next.getContent().get(0));
+        }
+
+        return new RestPage<>(content, number, size, total);
+    }
+
+    private interface PagePatch {
+        RestPage<DiaryInfoResponse> apply(Map<Integer, RestPage<DiaryInfoResponse>> group, Comparator<DiaryInfoResponse> order,
+                                          int number, RestPage<DiaryInfoResponse> page);
+    }
+
+    // 정렬/크기가 같은 페이지끼리 묶어서 원본 기준으로 계산한다.
+    private static Map<String, RestPage<DiaryInfoResponse>> patch(Map<String, RestPage<DiaryInfoResponse>> pages, PagePatch patch) {
+        Map<String, Map<Integer, RestPage<DiaryInfoResponse>>> groups = new HashMap<>();
+        pages.forEach((key, page) -> {
+            String direction = direction(key);
+            if (Objects.nonNull(direction))
+                groups.computeIfAbsent(direction + "/" + page.getSize(), g -> new HashMap<>()).put(page.getNumber(), page);
+        });
+
+        Map<String, RestPage<DiaryInfoResponse>> result = new HashMap<>();
+        pages.forEach((key, page) -> {
+            String direction = direction(key);
+            result.put(key, Objects.isNull(direction)
+                    ? null
+                    : patch.apply(groups.get(direction + "/" + page.getSize()), order(direction), page.getNumber(), page));
+        });
+        return result;
+    }
+
+    // 페이지 캐시 key(userId + Pageable) 에서 정렬 방향을 꺼낸다.
+    private static String direction(String key) {
+        if (key.contains(ASC))
+            return ASC;
+        if (key.contains(DESC))
+            return DESC;
+        return null;
+    }
+
+    private static Comparator<DiaryInfoResponse> order(String direction) {
+        Comparator<DiaryInfoResponse> byDate = Comparator.comparing(DiaryInfoResponse::getDiaryDate);
+        return ASC.equals(direction) ? byDate : byDate.reversed();
+    }
+
+    private static int indexOf(List<DiaryInfoResponse> content, DiaryInfoResponse diary) {
+        for (int i = 0; i < content.size(); i++) {
+            if (Objects.equals(content.get(i).getDiaryId(), diary.getDiaryId()))
+                return i;
+        }
+        return -1;
+    }
+}
@@ -1,55 +1,55 @@
 package com.sweep.jaksim31.adapter.cache;
 
-import com.google.common.collect.Lists;
 import com.sweep.jaksim31.adapter.RestPage;
 import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.*;
-import org.springframework.stereotype.Component;
-
-import java.time.Duration;
-import java.util.List;
-
-@Component
-@Slf4j
-public class DiaryPagingCacheAdapter {
-
-    private final RedisTemplate<String, RestPage<DiaryInfoResponse>> diaryPageCacheRedisTemplate;
-    private final ValueOperations<String, RestPage<DiaryInfoResponse>> diaryPageCacheOperation;
-
-
-    public DiaryPagingCacheAdapter(RedisTemplate<String, RestPage<DiaryInfoResponse>> diaryPageCacheRedisTemplate) {
-        this.diaryPageCacheRedisTemplate = diaryPageCacheRedisTemplate;
-        this.diaryPageCacheOperation = diaryPageCacheRedisTemplate.opsForValue();
-    }
-
-    public void put(String key, RestPage<DiaryInfoResponse> value) {
-        diaryPageCacheOperation.set(key, value, Duration.ofSeconds(24 * 60 * 60));
-    }
-
-    public RestPage<DiaryInfoResponse> get(String key) {
-        return diaryPageCacheOperation.get(key);
-    }
-
-    public void delete(String key) {
-        diaryPageCacheRedisTemplate.delete(key);
-    }
-
-    public void findAndDelete(String key){
-        final ScanOptions options = ScanOptions.scanOptions().count(10).match("*"+key+"*").build();
-
-        List<String> keys = diaryPageCacheRedisTemplate.execute((RedisCallback<List<String>>) connection -> {
-            List<String> cacheKeys = Lists.newArrayList();
-            Cursor<byte[]> cursor = (connection).scan(options);
-            while (cursor.hasNext()) {
-                String value = new String(cursor.next());
-                cacheKeys.add(value);
-//      System.out.println("KEYS Evict===========>>>>>>>>>" + value);
-            }
-            return cacheKeys;
-        });
-        assert keys != null;
-        diaryPageCacheRedisTemplate.delete(keys);
-    }
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 일기 목록 페이지(RestPage) 캐시.
+ * cache.backend 설정에 따라 Redis(기본) 또는 on-heap 구현이 사용된다.
+ * API 응답용으로 직렬화된 페이지 body, 일기 검색 결과와 조건별 전체 개수도 같은 태그로 저장하며, 페이지가 바뀌면(apply*, deleteByTag) 함께 삭제된다.
+ */
+public interface DiaryPagingCacheAdapter {
+
+    String CACHE_NAME = "diaryPagingCache";
+
+    // tag(사용자 id) 에 key 를 등록하여 deleteByTag 로 한 번에 무효화할 수 있도록 한다.
+    void put(String tag, String key, RestPage<DiaryInfoResponse> value);
+
+    // cache miss 시 같은 key 에 대한 동시 로딩을 하나로 합쳐서 loader 를 실행하고, 결과를 캐시에 저장한다.
+    RestPage<DiaryInfoResponse> load(String tag, String key, Supplier<RestPage<DiaryInfoResponse>> loader);
+
+    RestPage<DiaryInfoResponse> get(String key);
+
+    // 직렬화된 응답 body 조회/저장 (key 는 CacheKeys.diaryPageBody)
+    CachedResponseBody getBody(String key);
+
+    void putBody(String tag, String key, CachedResponseBody body);
+
+    // 검색 조건별 전체 일기 개수 조회/저장 (key 는 CacheKeys.diaryCount)
+    Long getCount(String key);
+
+    void putCount(String tag, String key, long count);
+
+    // 여러 페이지 조회. 존재하는 페이지만 반환한다.
+    Map<String, RestPage<DiaryInfoResponse>> getAll(Collection<String> keys);
+
+    void putAll(String tag, Map<String, RestPage<DiaryInfoResponse>> values);
+
+    void delete(String key);
+
+    void deleteAll(Collection<String> keys);
+
+    // tag(사용자 id) 로 등록된 모든 페이지 캐시 삭제
+    void deleteByTag(String tag);
+
+    // 일기 저장/수정/삭제를 캐싱된 페이지에 직접 반영한다. (계산할 수 없는 페이지는 삭제)
+    void applySave(String tag, DiaryInfoResponse saved);
+
+    void applyUpdate(String tag, DiaryInfoResponse before, DiaryInfoResponse after);
+
+    void applyRemove(String tag, DiaryInfoResponse removed);
 }
@@ -0,0 +1,41 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 사용자별 일기 타임라인 캐시. 정렬 방향, page, size 에 상관없이 한 사용자의 일기 목록에서 페이지를 만든다.
+ * cache.backend 설정에 따라 Redis(기본) 또는 on-heap 구현이 사용된다.
+ */
+public interface DiaryTimelineCacheAdapter {
+
+    String CACHE_NAME = "diaryTimeline";
+
+    /**
+     * 타임라인에서 페이지 조회
+     * @return 타임라인이 없으면(또는 어긋나 있으면) null
+     */
+    RestPage<DiaryInfoResponse> page(String userId, Pageable pageable);
+
+    // 사용자의 타임라인 쓰기(put/delete) 순번. DB 에서 전체 일기를 읽기 전에 조회하여 rebuild 에 전달한다.
+    long sequence(String userId);
+
+    /**
+     * DB 에서 읽어온 전체 일기로 타임라인을 다시 생성
+     * @param sequence DB 조회 전에 읽은 쓰기 순번. 그 사이 put/delete 가 있었다면 읽어온 목록에 반영되지 않았을 수 있으므로 교체하지 않는다.
+     * @return 타임라인을 교체했는지
+     */
+    boolean rebuild(String userId, List<DiaryInfoResponse> diaries, long sequence);
+
+    // 일기 저장/수정 (날짜가 바뀐 경우 순서도 갱신된다). 쓰기 순번을 올린다.
+    void put(String userId, DiaryInfoResponse diary);
+
+    // 일기 삭제. 쓰기 순번을 올린다.
+    void delete(String userId, String diaryId);
+
+    // 사용자의 타임라인 삭제 (다음 조회 시 DB 로부터 다시 생성). 쓰기 순번을 올린다.
+    void invalidate(String userId);
+}
@@ -0,0 +1,39 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 캐시 삭제의 on-heap 구현 (cache.backend=memory).
+ * round trip 이 없으므로 각 adapter 의 삭제를 그대로 호출한다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "memory")
+public class InMemoryCacheEvictor implements CacheEvictor {
+
+
+    private final MemberCacheAdapter memberCacheAdapter;
+    private final DiaryCacheAdapter diaryCacheAdapter;
+    private final RefreshTokenCacheAdapter refreshTokenCacheAdapter;
+
+
+    public InMemoryCacheEvictor(MemberCacheAdapter memberCacheAdapter,
+                                DiaryCacheAdapter diaryCacheAdapter,
+                                RefreshTokenCacheAdapter refreshTokenCacheAdapter) {
+        this.memberCacheAdapter = memberCacheAdapter;
+        this.diaryCacheAdapter = diaryCacheAdapter;
+        this.refreshTokenCacheAdapter = refreshTokenCacheAdapter;
+    }
+
+    @Override
+    public void deleteMemberAndDiary(String memberKey, String diaryKey) {
+        memberCacheAdapter.delete(memberKey);
+        diaryCacheAdapter.delete(diaryKey);
+    }
+
+    @Override
+    public void deleteMemberAndRefreshToken(String memberKey, String refreshTokenKey) {
+        memberCacheAdapter.delete(memberKey);
+        refreshTokenCacheAdapter.delete(refreshTokenKey);
+    }
+}
@@ -0,0 +1,86 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.diary.DiaryResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 개별 일기 캐시의 on-heap 구현 (cache.backend=memory).
+ * 단일 노드 배포용이므로 near cache 와 노드 간 무효화 메시지는 사용하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "memory")
+public class InMemoryDiaryCacheAdapter implements DiaryCacheAdapter {
+
+
+    private final InMemoryKeyspace inMemoryKeyspace;
+    private final CacheRefresher cacheRefresher;
+    private final CacheMetrics cacheMetrics;
+    private final CachePolicy policy;
+
+
+    public InMemoryDiaryCacheAdapter(InMemoryKeyspace inMemoryKeyspace,
+                                     CacheRefresher cacheRefresher,
+                                     CacheMetrics cacheMetrics,
+                                     CachePolicies cachePolicies) {
+        this.inMemoryKeyspace = inMemoryKeyspace;
+        this.cacheRefresher = cacheRefresher;
+        this.cacheMetrics = cacheMetrics;
+        this.policy = cachePolicies.get(CACHE_NAME);
+    }
+
+    @Override
+    public void put(String key, DiaryResponse value) {
+        inMemoryKeyspace.set(key, value, policy.jitteredTtl());
+        cacheMetrics.puts(CACHE_NAME, 1);
+    }
+
+    @Override
+    public DiaryResponse get(String key) {
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_MEMORY, inMemoryKeyspace.get(key));
+    }
+
+    @Override
+    public DiaryResponse get(String key, Supplier<DiaryResponse> reloader) {
+        DiaryResponse value = inMemoryKeyspace.get(key);
+        if (Objects.nonNull(value))
+            cacheRefresher.refreshIfExpiring(CACHE_NAME, policy, key, inMemoryKeyspace.remainingTtlMillis(key), reloader,
+                    reloaded -> replace(key, value, reloaded));
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_MEMORY, value);
+    }
+
+    // refresh 를 시작할 때 읽은 값이 그대로 남아 있을 때만 저장 (그 사이 삭제/재저장되었으면 저장하지 않음)
+    private void replace(String key, DiaryResponse expected, DiaryResponse value) {
+        if (inMemoryKeyspace.replace(key, expected, value, policy.jitteredTtl()))
+            cacheMetrics.puts(CACHE_NAME, 1);
+    }
+
+    @Override
+    public void delete(String key) {
+        inMemoryKeyspace.delete(key);
+        cacheMetrics.evictions(CACHE_NAME, 1);
+    }
+
+    @Override
+    public boolean isNotFound(String key) {
+        return policy.isNegativeCacheEnabled() && inMemoryKeyspace.exists(CacheKeys.notFound(key));
+    }
+
+    @Override
+    public void putNotFound(String key) {
+        if (policy.isNegativeCacheEnabled())
+            inMemoryKeyspace.set(CacheKeys.notFound(key), Boolean.TRUE, policy.getNegativeTtl());
+    }
+
+    @Override
+    public void deleteNotFound(String key) {
+        if (policy.isNegativeCacheEnabled())
+            inMemoryKeyspace.delete(CacheKeys.notFound(key));
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 사용자 일기 목록 페이지 캐시의 on-heap 구현 (cache.backend=memory).
+ * 페이지 수정은 Redis lock 대신 태그별 striped lock 으로 순서대로 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "memory")
+@Slf4j
+public class InMemoryDiaryPagingCacheAdapter implements DiaryPagingCacheAdapter {
+
+    private static final int PATCH_LOCK_STRIPES = 64;
+
+    private final InMemoryKeyspace inMemoryKeyspace;
+    private final SingleFlightLoader singleFlightLoader;
+    private final CacheMetrics cacheMetrics;
+    private final CachePolicy policy;
+    private final Object[] patchLocks = new Object[PATCH_LOCK_STRIPES];
+
+
+    public InMemoryDiaryPagingCacheAdapter(InMemoryKeyspace inMemoryKeyspace,
+                                           SingleFlightLoader singleFlightLoader,
+                                           CacheMetrics cacheMetrics,
+                                           CachePolicies cachePolicies) {
+        this.inMemoryKeyspace = inMemoryKeyspace;
+        this.singleFlightLoader = singleFlightLoader;
+        this.cacheMetrics = cacheMetrics;
+        this.policy = cachePolicies.get(CACHE_NAME);
+        for (int i = 0; i < PATCH_LOCK_STRIPES; i++)
+            patchLocks[i] = new Object();
+    }
+
+    @Override
+    public void put(String tag, String key, RestPage<DiaryInfoResponse> value) {
+        inMemoryKeyspace.set(key, value, policy.jitteredTtl());
+        cacheMetrics.puts(CACHE_NAME, 1);
+        inMemoryKeyspace.addToSet(CacheKeys.tag(CACHE_NAME, tag), Collections.singleton(key), policy.getTtl());
+    }
+
+    @Override
+    public RestPage<DiaryInfoResponse> load(String tag, String key, Supplier<RestPage<DiaryInfoResponse>> loader) {
+        return singleFlightLoader.load(CACHE_NAME, key, policy.getLoadLockTtl(), () -> get(key), () -> {
+            RestPage<DiaryInfoResponse> value = cacheMetrics.recordLoad(CACHE_NAME, loader);
+            put(tag, key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public RestPage<DiaryInfoResponse> get(String key) {
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_MEMORY, inMemoryKeyspace.get(key));
+    }
+
+    @Override
+    public CachedResponseBody getBody(String key) {
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_MEMORY, inMemoryKeyspace.get(key));
+    }
+
+    @Override
+    public void putBody(String tag, String key, CachedResponseBody body) {
+        inMemoryKeyspace.set(key, body, policy.jitteredTtl());
+        cacheMetrics.puts(CACHE_NAME, 1);
+        inMemoryKeyspace.addToSet(CacheKeys.tag(CACHE_NAME, tag), Collections.singleton(key), policy.getTtl());
+    }
+
+    @Override
+    public Long getCount(String key) {
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_MEMORY, inMemoryKeyspace.get(key));
+    }
+
+    @Override
+    public void putCount(String tag, String key, long count) {
+        inMemoryKeyspace.set(key, count, policy.jitteredTtl());
+        cacheMetrics.puts(CACHE_NAME, 1);
+        inMemoryKeyspace.addToSet(CacheKeys.tag(CACHE_NAME, tag), Collections.singleton(key), policy.getTtl());
+    }
+
+    @Override
+    public Map<String, RestPage<DiaryInfoResponse>> getAll(Collection<String> keys) {
+        Map<String, RestPage<DiaryInfoResponse>> found = inMemoryKeyspace.getAll(keys);
+        cacheMetrics.hits(CACHE_NAME, CacheMetrics.TIER_MEMORY, found.size());
+        cacheMetrics.misses(CACHE_NAME, CacheMetrics.TIER_MEMORY, keys.size() - found.size());
+        return found;
+    }
+
+    @Override
+    public void putAll(String tag, Map<String, RestPage<DiaryInfoResponse>> values) {
+        values.forEach((key, value) -> inMemoryKeyspace.set(key, value, policy.jitteredTtl()));
+        cacheMetrics.puts(CACHE_NAME, values.size());
+        inMemoryKeyspace.addToSet(CacheKeys.tag(CACHE_NAME, tag), values.keySet(), policy.getTtl());
+    }
+
+    @Override
+    public void delete(String key) {
+        inMemoryKeyspace.delete(key);
+        cacheMetrics.evictions(CACHE_NAME, 1);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty())
+            return;
+
+        inMemoryKeyspace.delete(keys);
+        cacheMetrics.evictions(CACHE_NAME, keys.size());
+    }
+
+    @Override
+    public void deleteByTag(String tag) {
+        cacheMetrics.evictions(CACHE_NAME, inMemoryKeyspace.deleteMembers(CacheKeys.tag(CACHE_NAME, tag)).size());
+    }
+
+    @Override
+    public void applySave(String tag, DiaryInfoResponse saved) {
+        patch(tag, pages -> DiaryPagePatcher.onSave(pages, saved));
+    }
+
+    @Override
+    public void applyUpdate(String tag, DiaryInfoResponse before, DiaryInfoResponse after) {
+        patch(tag, pages -> DiaryPagePatcher.onUpdate(pages, before, after));
+    }
+
+    @Override
+    public void applyRemove(String tag, DiaryInfoResponse removed) {
+        patch(tag, pages -> DiaryPagePatcher.onRemove(pages, removed));
+    }
+
+    private void patch(String tag, UnaryOperator<Map<String, RestPage<DiaryInfoResponse>>> patcher) {
+        String tagKey = CacheKeys.tag(CACHE_NAME, tag);
+
+        // 같은 사용자의 동시 수정이 서로의 결과를 덮어쓰지 않도록 태그 단위로 순서대로 처리
+        synchronized (patchLocks[Math.floorMod(tag.hashCode(), PATCH_LOCK_STRIPES)]) {
+            List<String> keys = inMemoryKeyspace.members(tagKey);
+            if (keys.isEmpty())
+                return;
+
+            try {
+                // 직렬화된 응답 body 와 검색 결과는 수정하지 않고 삭제한다.
+                List<String> pageKeys = new ArrayList<>();
+                List<String> evicted = new ArrayList<>();
+                keys.forEach(key -> (CacheKeys.isDiaryPage(key) ? pageKeys : evicted).add(key));
+
+                // 수정 대상 페이지 조회는 hit/miss 통계에 포함하지 않는다.
+                Map<String, RestPage<DiaryInfoResponse>> pages = new HashMap<>(inMemoryKeyspace.getAll(pageKeys));
+
+                Map<String, RestPage<DiaryInfoResponse>> patched = new HashMap<>();
+                patcher.apply(pages).forEach((key, page) -> {
+                    if (Objects.isNull(page))
+                        evicted.add(key);
+                    else
+                        patched.put(key, page);
+                });
+                putAll(tag, patched);
+                deleteAll(evicted);
+            } catch (RuntimeException e) {
+                log.warn("diary page cache patch failed, evict all pages : {}", tag, e);
+                deleteByTag(tag);
+            }
+        }
+    }
+
+}
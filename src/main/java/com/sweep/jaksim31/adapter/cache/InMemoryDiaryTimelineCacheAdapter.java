@@ -0,0 +1,129 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 사용자별 일기 타임라인 캐시의 on-heap 구현 (cache.backend=memory).
+ * diaryTimeline::{userId} 에 (날짜, id) 순으로 정렬된 불변 목록을 저장하고, 수정 시에는 새 목록으로 교체한다.
+ * (Redis ZSET 과 같은 순서이므로 두 구현의 페이지 결과가 같다)
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "memory")
+public class InMemoryDiaryTimelineCacheAdapter implements DiaryTimelineCacheAdapter {
+
+
+    private static final String TIMELINE_PREFIX = "diaryTimeline::";
+    private static final String SEQUENCE_PREFIX = "diaryTimelineSeq::";
+    private static final Comparator<DiaryInfoResponse> TIMELINE_ORDER = Comparator
+            .comparing(DiaryInfoResponse::getDiaryDate)
+            .thenComparing(DiaryInfoResponse::getDiaryId);
+
+    private final InMemoryKeyspace inMemoryKeyspace;
+    private final CacheMetrics cacheMetrics;
+    private final CachePolicy policy;
+
+
+    public InMemoryDiaryTimelineCacheAdapter(InMemoryKeyspace inMemoryKeyspace,
+                                             CacheMetrics cacheMetrics,
+                                             CachePolicies cachePolicies) {
+        this.inMemoryKeyspace = inMemoryKeyspace;
+        this.cacheMetrics = cacheMetrics;
+        this.policy = cachePolicies.get(CACHE_NAME);
+    }
+
+    @Override
+    public RestPage<DiaryInfoResponse> page(String userId, Pageable pageable) {
+        List<DiaryInfoResponse> timeline = inMemoryKeyspace.get(timelineKeyOf(userId));
+        if (Objects.isNull(timeline))
+            return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_MEMORY, null);
+
+        int total = timeline.size();
+        int start = (int) Math.min(pageable.getOffset(), total);
+        int end = Math.min(start + pageable.getPageSize(), total);
+
+        List<DiaryInfoResponse> content;
+        if (isAscending(pageable)) {
+            content = new ArrayList<>(timeline.subList(start, end));
+        } else {
+            content = new ArrayList<>(timeline.subList(total - end, total - start));
+            Collections.reverse(content);
+        }
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_MEMORY, new RestPage<>(new PageImpl<>(content, pageable, total)));
+    }
+
+    @Override
+    public long sequence(String userId) {
+        return inMemoryKeyspace.sequence(sequenceKeyOf(userId));
+    }
+
+    // DB 조회 이후 put/delete 가 있었으면 교체하지 않는다. (다음 조회 시 다시 생성)
+    @Override
+    public boolean rebuild(String userId, List<DiaryInfoResponse> diaries, long sequence) {
+        List<DiaryInfoResponse> timeline = new ArrayList<>(diaries);
+        timeline.sort(TIMELINE_ORDER);
+        boolean applied = inMemoryKeyspace.setIfSequence(timelineKeyOf(userId), Collections.unmodifiableList(timeline), policy.getTtl(),
+                sequenceKeyOf(userId), sequence);
+        if (applied)
+            cacheMetrics.puts(CACHE_NAME, diaries.size());
+        return applied;
+    }
+
+    // 타임라인이 없으면 다음 조회 시 DB 로부터 다시 생성되므로 저장하지 않는다.
+    // 순번을 먼저 올려서, 진행 중인 rebuild 가 이 쓰기를 반영하지 않은 목록으로 교체하지 않게 한다.
+    @Override
+    public void put(String userId, DiaryInfoResponse diary) {
+        inMemoryKeyspace.increment(sequenceKeyOf(userId), policy.getTtl());
+        inMemoryKeyspace.<List<DiaryInfoResponse>>computeIfPresent(timelineKeyOf(userId), timeline -> {
+            List<DiaryInfoResponse> updated = without(timeline, diary.getDiaryId());
+            int index = Collections.binarySearch(updated, diary, TIMELINE_ORDER);
+            updated.add(index < 0 ? -index - 1 : index, diary);
+            return Collections.unmodifiableList(updated);
+        });
+    }
+
+    @Override
+    public void delete(String userId, String diaryId) {
+        inMemoryKeyspace.increment(sequenceKeyOf(userId), policy.getTtl());
+        inMemoryKeyspace.<List<DiaryInfoResponse>>computeIfPresent(timelineKeyOf(userId),
+                timeline -> Collections.unmodifiableList(without(timeline, diaryId)));
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        inMemoryKeyspace.increment(sequenceKeyOf(userId), policy.getTtl());
+        inMemoryKeyspace.delete(timelineKeyOf(userId));
+        cacheMetrics.evictions(CACHE_NAME, 1);
+    }
+
+    private static List<DiaryInfoResponse> without(List<DiaryInfoResponse> timeline, String diaryId) {
+        List<DiaryInfoResponse> copy = new ArrayList<>(timeline.size() + 1);
+        for (DiaryInfoResponse diary : timeline) {
+            if (!diary.getDiaryId().equals(diaryId))
+                copy.add(diary);
+        }
+        return copy;
+    }
+
+    private static String timelineKeyOf(String userId) {
+        return TIMELINE_PREFIX + CacheKeys.slot(userId);
+    }
+
+    private static String sequenceKeyOf(String userId) {
+        return SEQUENCE_PREFIX + CacheKeys.slot(userId);
+    }
+
+    private static boolean isAscending(Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor("date");
+        return Objects.nonNull(order) && order.isAscending();
+    }
+}
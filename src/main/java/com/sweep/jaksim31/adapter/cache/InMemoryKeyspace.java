@@ -0,0 +1,219 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * cache.backend=memory 일 때 Redis 대신 사용하는 on-heap keyspace.
+ * 모든 in-memory adapter 가 하나의 keyspace 를 공유하여 Redis 와 같은 key 규칙(태그 set, negative cache 등)을 그대로 사용하고,
+ * key 별 ttl 로 만료된다. 데이터 entry 수가 maximumSize 를 넘으면 W-TinyLFU 로 내보내며, 태그 set 은 크기 계산에서 제외한다.
+ * (태그 set 이 먼저 밀려나면 태그 무효화가 누락되므로)
+ *
+ * value 는 직렬화하지 않고 참조로 저장하므로, 저장한 객체는 수정하지 않는다.
+ */
+public class InMemoryKeyspace {
+
+    private static final long NO_EXPIRE = Long.MAX_VALUE;
+
+    private final Cache<String, Entry> entries;
+
+
+    public InMemoryKeyspace(long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maximumSize)
+                .weigher((String key, Entry entry) -> entry.pinned ? 0 : 1)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return entry.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V get(String key) {
+        Entry entry = entries.getIfPresent(key);
+        return Objects.isNull(entry) ? null : (V) entry.value;
+    }
+
+    // 존재하는 값만 key 순서대로 반환
+    public <V> Map<String, V> getAll(Collection<String> keys) {
+        Map<String, V> found = new LinkedHashMap<>();
+        for (String key : keys) {
+            V value = get(key);
+            if (Objects.nonNull(value))
+                found.put(key, value);
+        }
+        return found;
+    }
+
+    public boolean exists(String key) {
+        return Objects.nonNull(entries.getIfPresent(key));
+    }
+
+    // 남은 ttl(ms). Redis PTTL 과 같이 key 가 없으면 -2, 만료 시간이 없으면 -1
+    public long remainingTtlMillis(String key) {
+        Entry entry = entries.getIfPresent(key);
+        if (Objects.isNull(entry))
+            return -2;
+        if (entry.expiresAt == NO_EXPIRE)
+            return -1;
+        return Duration.ofNanos(entry.remainingNanos()).toMillis();
+    }
+
+    public void set(String key, Object value, Duration ttl) {
+        entries.put(key, new Entry(value, expiresAt(ttl), false));
+    }
+
+    /**
+     * 값이 있을 때만 updater 로 교체 (ttl 유지)
+     * @param updater 새 값 (null 이면 삭제)
+     */
+    @SuppressWarnings("unchecked")
+    public <V> void computeIfPresent(String key, UnaryOperator<V> updater) {
+        entries.asMap().computeIfPresent(key, (k, entry) -> {
+            V updated = updater.apply((V) entry.value);
+            return Objects.isNull(updated) ? null : new Entry(updated, entry.expiresAt, entry.pinned);
+        });
+    }
+
+    /**
+     * 현재 값이 expected 와 같은 객체일 때만 value 로 교체 (value 는 참조로 저장하므로 참조로 비교)
+     * @return 교체했는지
+     */
+    public boolean replace(String key, Object expected, Object value, Duration ttl) {
+        boolean[] replaced = {false};
+        entries.asMap().computeIfPresent(key, (k, entry) -> {
+            if (entry.value != expected)
+                return entry;
+            replaced[0] = true;
+            return new Entry(value, expiresAt(ttl), entry.pinned);
+        });
+        return replaced[0];
+    }
+
+    /**
+     * 순번 key 증가 (INCR + EXPIRE). 순번이 밀려나면 비교가 틀어지므로 크기 제한으로 내보내지 않는다.
+     * @return 증가한 순번
+     */
+    public long increment(String key, Duration ttl) {
+        Entry updated = entries.asMap().compute(key, (k, entry) ->
+                new Entry(Objects.isNull(entry) ? 1L : (Long) entry.value + 1, expiresAt(ttl), true));
+        return (Long) updated.value;
+    }
+
+    // 순번 key 의 값 (없으면 0)
+    public long sequence(String key) {
+        Long sequence = get(key);
+        return Objects.isNull(sequence) ? 0 : sequence;
+    }
+
+    /**
+     * sequenceKey 의 순번이 expected 와 같을 때만 저장
+     * (순번 확인과 저장은 key 단위로 원자적이므로, 순번을 올린 뒤 computeIfPresent 로 수정하는 쪽과 순서가 섞이지 않는다)
+     * @return 저장했는지
+     */
+    public boolean setIfSequence(String key, Object value, Duration ttl, String sequenceKey, long expected) {
+        boolean[] applied = {false};
+        entries.asMap().compute(key, (k, entry) -> {
+            if (sequence(sequenceKey) != expected)
+                return entry;
+            applied[0] = true;
+            return new Entry(value, expiresAt(ttl), false);
+        });
+        return applied[0];
+    }
+
+    public void delete(String key) {
+        entries.invalidate(key);
+    }
+
+    public void delete(Collection<String> keys) {
+        entries.invalidateAll(keys);
+    }
+
+    // set 에 member 추가 후 set 의 ttl 갱신 (SADD + EXPIRE)
+    public void addToSet(String key, Collection<String> members, Duration ttl) {
+        if (members.isEmpty())
+            return;
+
+        entries.asMap().compute(key, (k, entry) -> {
+            Set<String> set = Objects.isNull(entry) ? ConcurrentHashMap.newKeySet() : castSet(entry.value);
+            set.addAll(members);
+            return new Entry(set, expiresAt(ttl), true);
+        });
+    }
+
+    public List<String> members(String key) {
+        Entry entry = entries.getIfPresent(key);
+        return Objects.isNull(entry) ? Collections.emptyList() : new ArrayList<>(castSet(entry.value));
+    }
+
+    // set 에 등록된 key 들을 삭제하고 set 에서도 제거 (그 사이 새로 등록된 member 는 유지), 삭제한 key 목록 반환
+    public List<String> deleteMembers(String key) {
+        List<String> members = members(key);
+        if (members.isEmpty())
+            return members;
+
+        entries.invalidateAll(members);
+        entries.asMap().computeIfPresent(key, (k, entry) -> {
+            Set<String> set = castSet(entry.value);
+            set.removeAll(members);
+            return set.isEmpty() ? null : entry;
+        });
+        return members;
+    }
+
+    // 만료/크기 제한 처리를 마친 뒤의 entry 수 (태그 set 포함)
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> castSet(Object value) {
+        return (Set<String>) value;
+    }
+
+    private static long expiresAt(Duration ttl) {
+        if (Objects.isNull(ttl) || ttl.isZero() || ttl.isNegative())
+            return NO_EXPIRE;
+        return System.nanoTime() + ttl.toNanos();
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+        // 크기 제한으로 내보내지 않는 entry (태그 set)
+        private final boolean pinned;
+
+        private Entry(Object value, long expiresAt, boolean pinned) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.pinned = pinned;
+        }
+
+        private long remainingNanos() {
+            if (expiresAt == NO_EXPIRE)
+                return Long.MAX_VALUE;
+            return Math.max(0, expiresAt - System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * refresh token 저장소의 on-heap 구현 (cache.backend=memory).
+ * 프로세스가 재시작되면 저장된 token 이 사라지므로 사용자는 다시 로그인해야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "memory")
+public class InMemoryRefreshTokenCacheAdapter implements RefreshTokenCacheAdapter {
+
+
+    private final InMemoryKeyspace inMemoryKeyspace;
+    private final CacheMetrics cacheMetrics;
+
+
+    public InMemoryRefreshTokenCacheAdapter(InMemoryKeyspace inMemoryKeyspace,
+                                            CacheMetrics cacheMetrics) {
+        this.inMemoryKeyspace = inMemoryKeyspace;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    public void put(String key, String value, Duration duration) {
+        inMemoryKeyspace.set(key, value, duration);
+        cacheMetrics.puts(CACHE_NAME, 1);
+    }
+
+    @Override
+    public String get(String key) {
+        Object value = inMemoryKeyspace.get(key);
+        // 같은 keyspace 의 다른 캐시 value 는 Redis 의 String 조회처럼 문자열로 읽는다.
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_MEMORY, Objects.isNull(value) ? null : value.toString());
+    }
+
+    @Override
+    public void delete(String key) {
+        inMemoryKeyspace.delete(key);
+        cacheMetrics.evictions(CACHE_NAME, 1);
+    }
+
+}
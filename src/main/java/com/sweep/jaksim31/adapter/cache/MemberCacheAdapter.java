@@ -1,39 +1,30 @@
 package com.sweep.jaksim31.adapter.cache;
 
-import com.google.common.collect.Lists;
-import com.sweep.jaksim31.adapter.RestPage;
-import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
 import com.sweep.jaksim31.dto.member.MemberInfoResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.*;
-import org.springframework.stereotype.Component;
 
-import java.time.Duration;
-import java.util.List;
+import java.util.function.Supplier;
 
-@Component
-@Slf4j
-public class MemberCacheAdapter {
+/**
+ * 사용자 정보(MemberInfoResponse) 캐시.
+ * cache.backend 설정에 따라 Redis(기본) 또는 on-heap 구현이 사용된다.
+ */
+public interface MemberCacheAdapter {
 
-    private final RedisTemplate<String, MemberInfoResponse> memberCacheRedisTemplate;
-    private final ValueOperations<String, MemberInfoResponse> memberCacheOperation;
+    String CACHE_NAME = "memberCache";
 
+    void put(String key, MemberInfoResponse value);
 
-    public MemberCacheAdapter(RedisTemplate<String, MemberInfoResponse> memberCacheRedisTemplate) {
-        this.memberCacheRedisTemplate = memberCacheRedisTemplate;
-        this.memberCacheOperation = memberCacheRedisTemplate.opsForValue();
-    }
+    MemberInfoResponse get(String key);
 
-    public void put(String key, MemberInfoResponse value) {
-        memberCacheOperation.set(key, value, Duration.ofSeconds(24 * 60 * 60));
-    }
+    // 만료가 가까운 값은 그대로 반환하고, reloader 로 백그라운드에서 미리 갱신한다. (refresh-ahead)
+    MemberInfoResponse get(String key, Supplier<MemberInfoResponse> reloader);
 
-    public MemberInfoResponse get(String key) {
-        return memberCacheOperation.get(key);
-    }
+    void delete(String key);
 
-    public void delete(String key) {
-        memberCacheRedisTemplate.delete(key);
-    }
+    // 존재하지 않는 id 인지 확인 (negative cache 를 사용하지 않으면 항상 false)
+    boolean isNotFound(String key);
 
+    void putNotFound(String key);
+
+    void deleteNotFound(String key);
 }
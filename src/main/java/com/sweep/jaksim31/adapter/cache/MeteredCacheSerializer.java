@@ -0,0 +1,49 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * 캐시 value serializer 를 감싸서 직렬화/역직렬화 byte 수를 캐시 이름별로 기록한다.
+ * (압축을 사용하는 경우 압축 후, 즉 Redis 에 실제로 저장되는 크기)
+ */
+public class MeteredCacheSerializer<T> implements UpcastingSerializer<T> {
+
+    private final String cacheName;
+    private final RedisSerializer<T> delegate;
+    private final CacheMetrics cacheMetrics;
+
+    public MeteredCacheSerializer(String cacheName, RedisSerializer<T> delegate, CacheMetrics cacheMetrics) {
+        this.cacheName = cacheName;
+        this.delegate = delegate;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (Objects.nonNull(bytes))
+            cacheMetrics.payload(cacheName, "write", bytes.length);
+        return bytes;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (Objects.nonNull(bytes))
+            cacheMetrics.payload(cacheName, "read", bytes.length);
+        return delegate.deserialize(bytes);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes, UnaryOperator<JsonNode> upcaster) throws SerializationException {
+        if (!(delegate instanceof UpcastingSerializer))
+            throw new SerializationException("cache serializer does not support upcast");
+        if (Objects.nonNull(bytes))
+            cacheMetrics.payload(cacheName, "read", bytes.length);
+        return ((UpcastingSerializer<T>) delegate).deserialize(bytes, upcaster);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+/**
+ * Redis(L2) 앞단의 로컬(L1) 캐시.
+ * Caffeine(W-TinyLFU) 으로 크기/시간 제한을 두고, invalidate 시 Redis pub/sub 으로 다른 노드의 L1 entry 도 함께 제거한다.
+ */
+@Slf4j
+public class NearCache<V> {
+
+    private static final String CHANNEL_PREFIX = "nearCache:invalidate:";
+
+    private final byte[] channel;
+    private final Cache<String, V> localCache;
+    private final RedisTemplate<String, ?> redisTemplate;
+
+    public NearCache(String cacheName, CachePolicy policy, RedisTemplate<String, ?> redisTemplate,
+                     RedisMessageListenerContainer listenerContainer) {
+        this.channel = (CHANNEL_PREFIX + cacheName).getBytes(StandardCharsets.UTF_8);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(policy.getNearCacheMaximumSize())
+                .expireAfterWrite(policy.getNearCacheTtl())
+                .build();
+        this.redisTemplate = redisTemplate;
+
+        // 다른 노드(자기 자신 포함)에서 발행한 무효화 메시지를 받으면 L1 entry 제거
+        listenerContainer.addMessageListener(
+                (message, pattern) -> localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL_PREFIX + cacheName));
+    }
+
+    public V get(String key) {
+        return localCache.getIfPresent(key);
+    }
+
+    public void put(String key, V value) {
+        localCache.put(key, value);
+    }
+
+    // 로컬 entry 를 제거하고 모든 노드에 무효화 메시지 발행
+    public void invalidate(String key) {
+        localCache.invalidate(key);
+        try {
+            redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.publish(channel, key.getBytes(StandardCharsets.UTF_8)));
+        } catch (RuntimeException e) {
+            // 발행에 실패하더라도 다른 노드의 L1 은 nearCacheTtl 이후 만료된다.
+            log.warn("near cache invalidation publish failed. key = {}", key, e);
+        }
+    }
+
+    // 여러 key 를 로컬에서 제거하고 무효화 메시지를 한 번의 pipeline 으로 발행
+    public void invalidateAll(Collection<String> keys) {
+        if (keys.isEmpty())
+            return;
+
+        localCache.invalidateAll(keys);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                publishAll(keys, connection);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("near cache invalidation publish failed. keys = {}", keys, e);
+        }
+    }
+
+    // 여러 key 를 로컬에서 제거하고, 호출하는 쪽이 연 pipeline 에 무효화 메시지 발행을 추가
+    void invalidateAll(Collection<String> keys, RedisConnection connection) {
+        localCache.invalidateAll(keys);
+        publishAll(keys, connection);
+    }
+
+    private void publishAll(Collection<String> keys, RedisConnection connection) {
+        keys.forEach(key -> connection.publish(channel, key.getBytes(StandardCharsets.UTF_8)));
+    }
+}
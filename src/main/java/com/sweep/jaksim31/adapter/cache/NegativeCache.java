@@ -0,0 +1,39 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 존재하지 않는 id 를 짧은 ttl 의 tombstone 으로 기억해두는 negative cache.
+ * 같은 없는 id 로 반복 조회될 때 Mongo 를 조회하지 않고 바로 NOT_FOUND 처리할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class NegativeCache {
+
+    private static final String TOMBSTONE = "1";
+
+    private final RedisTemplate<String, String> cacheTagRedisTemplate;
+
+
+    public NegativeCache(RedisTemplate<String, String> cacheTagRedisTemplate) {
+        this.cacheTagRedisTemplate = cacheTagRedisTemplate;
+    }
+
+    public boolean contains(String key) {
+        return Boolean.TRUE.equals(cacheTagRedisTemplate.hasKey(CacheKeys.notFound(key)));
+    }
+
+    public void put(String key, Duration ttl) {
+        cacheTagRedisTemplate.opsForValue().set(CacheKeys.notFound(key), TOMBSTONE, ttl);
+    }
+
+    public void delete(String key) {
+        cacheTagRedisTemplate.delete(CacheKeys.notFound(key));
+    }
+}
@@ -0,0 +1,33 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 thread 의 Redis 읽기를 replica 대신 master 로 보내야 하는지 표시하는 context.
+ * {@link com.sweep.jaksim31.config.cache.PrimaryPinnedReadFrom} 이 명령을 보낼 때마다 확인한다.
+ */
+public final class PrimaryReadContext {
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private PrimaryReadContext() {
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get();
+    }
+
+    // reader 실행 동안만 master 에서 읽고, 끝나면 이전 상태로 되돌린다. (중첩 호출 가능)
+    public static <T> T callPinned(Supplier<T> reader) {
+        boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            if (previous)
+                PINNED.set(Boolean.TRUE);
+            else
+                PINNED.remove();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sweep.jaksim31.utils.CookieUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 최근 쓰기 기록 (read-your-writes).
+ * 쓰기 직후 일정 시간(window) 동안은 해당 사용자의 Redis 읽기를 master 로 보내,
+ * 아직 복제되지 않은 replica 에서 이전 페이지/사용자 정보를 읽지 않도록 한다.
+ * 같은 노드는 로컬 기록으로, 다른 노드는 응답에 실어 보낸 cookie/header 의 만료 시각으로 판단한다.
+ * async 캐시 쓰기 모드에서는 master 의 캐시도 queue 의 작업이 실행되기 전까지 이전 값이므로,
+ * 해당 사용자의 캐시 쓰기가 queue 에 남아 있는 동안은 캐시를 건너뛰는 reader 로 읽는다.
+ * (queue 는 노드별이므로 같은 노드에서만 판단)
+ */
+@Component
+public class RecentWriteTracker {
+
+    public static final String COOKIE_NAME = "recentWrite";
+    public static final String HEADER_NAME = "X-Recent-Write";
+    private static final long MAXIMUM_SIZE = 100_000;
+
+    private final Duration window;
+    // userId -> 쓰기 기록 만료 시각(epoch millis)
+    private final Cache<String, Long> recentWrites;
+    private final CacheWriteQueue cacheWriteQueue;
+
+
+    public RecentWriteTracker(@Value("${cache.read-your-writes.window-millis:3000}") long windowMillis,
+                              CacheWriteQueue cacheWriteQueue) {
+        this.window = Duration.ofMillis(Math.max(0, windowMillis));
+        this.cacheWriteQueue = cacheWriteQueue;
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    // 쓰기 기록. 요청 처리 중이면 다른 노드도 알 수 있도록 응답에 cookie/header 를 함께 내려준다.
+    public void markWrite(String userId) {
+        if (window.isZero())
+            return;
+
+        long expiresAt = System.currentTimeMillis() + window.toMillis();
+        recentWrites.put(userId, expiresAt);
+
+        currentResponse().ifPresent(response -> {
+            CookieUtil.addCookie(response, COOKIE_NAME, String.valueOf(expiresAt), Math.max(1, window.getSeconds()));
+            response.setHeader(HEADER_NAME, String.valueOf(expiresAt));
+        });
+    }
+
+    public boolean isRecent(String userId) {
+        Long expiresAt = recentWrites.getIfPresent(userId);
+        return Objects.nonNull(expiresAt) && expiresAt > System.currentTimeMillis();
+    }
+
+    // 최근에 쓰기를 한 사용자면 reader 를 master 읽기로 실행
+    public <T> T read(String userId, Supplier<T> reader) {
+        if (isRecent(userId) || currentRequest().map(RecentWriteTracker::hasRecentWrite).orElse(false))
+            return PrimaryReadContext.callPinned(reader);
+        return reader.get();
+    }
+
+    /**
+     * 캐시를 거치는 reader 와 DB 에서 바로 읽는 uncachedReader 를 받아,
+     * 사용자의 캐시 쓰기(페이지 patch, 캐시 삭제)가 아직 queue 에 남아 있으면 uncachedReader 를 master 읽기로 실행한다.
+     */
+    public <T> T read(String userId, Supplier<T> reader, Supplier<T> uncachedReader) {
+        if (cacheWriteQueue.hasPending(userId))
+            return PrimaryReadContext.callPinned(uncachedReader);
+        return read(userId, reader);
+    }
+
+    // 요청의 cookie 또는 header 에 아직 만료되지 않은 쓰기 기록이 있는지 확인
+    static boolean hasRecentWrite(HttpServletRequest request) {
+        String value = request.getHeader(HEADER_NAME);
+        if (Objects.isNull(value))
+            value = CookieUtil.getCookie(request, COOKIE_NAME).map(Cookie::getValue).orElse(null);
+        if (Objects.isNull(value))
+            return false;
+
+        try {
+            return Long.parseLong(value) > System.currentTimeMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Optional<HttpServletRequest> currentRequest() {
+        return servletRequestAttributes().map(ServletRequestAttributes::getRequest);
+    }
+
+    private static Optional<HttpServletResponse> currentResponse() {
+        return servletRequestAttributes().map(ServletRequestAttributes::getResponse);
+    }
+
+    private static Optional<ServletRequestAttributes> servletRequestAttributes() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes)
+            return Optional.of((ServletRequestAttributes) attributes);
+        return Optional.empty();
+    }
+}
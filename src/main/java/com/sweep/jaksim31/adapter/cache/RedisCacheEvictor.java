@@ -0,0 +1,50 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 캐시의 삭제를 한 번의 round trip 으로 처리.
+ * 캐시마다 template(value serializer)이 다르지만 key 는 모두 String 이므로, 하나의 pipeline 에서 각 adapter 가 자기 key 를 삭제한다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+public class RedisCacheEvictor implements CacheEvictor {
+
+
+    private final RedisTemplate<String, String> cacheTagRedisTemplate;
+    private final RedisMemberCacheAdapter memberCacheAdapter;
+    private final RedisDiaryCacheAdapter diaryCacheAdapter;
+    private final RedisRefreshTokenCacheAdapter refreshTokenCacheAdapter;
+
+
+    public RedisCacheEvictor(RedisTemplate<String, String> cacheTagRedisTemplate,
+                             RedisMemberCacheAdapter memberCacheAdapter,
+                             RedisDiaryCacheAdapter diaryCacheAdapter,
+                             RedisRefreshTokenCacheAdapter refreshTokenCacheAdapter) {
+        this.cacheTagRedisTemplate = cacheTagRedisTemplate;
+        this.memberCacheAdapter = memberCacheAdapter;
+        this.diaryCacheAdapter = diaryCacheAdapter;
+        this.refreshTokenCacheAdapter = refreshTokenCacheAdapter;
+    }
+
+    @Override
+    public void deleteMemberAndDiary(String memberKey, String diaryKey) {
+        cacheTagRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            memberCacheAdapter.delete(memberKey, connection);
+            diaryCacheAdapter.delete(diaryKey, connection);
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteMemberAndRefreshToken(String memberKey, String refreshTokenKey) {
+        cacheTagRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            memberCacheAdapter.delete(memberKey, connection);
+            refreshTokenCacheAdapter.delete(refreshTokenKey, connection);
+            return null;
+        });
+    }
+}
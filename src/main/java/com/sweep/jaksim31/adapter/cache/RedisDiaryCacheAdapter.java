@@ -0,0 +1,148 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.diary.DiaryResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisDiaryCacheAdapter implements DiaryCacheAdapter {
+
+
+    private final RedisTemplate<String, DiaryResponse> diaryCacheRedisTemplate;
+    private final ValueOperations<String, DiaryResponse> diaryCacheOperation;
+    private final CacheRefresher cacheRefresher;
+    private final NegativeCache negativeCache;
+    private final CacheMetrics cacheMetrics;
+    private final CachePolicy policy;
+    private final NearCache<DiaryResponse> nearCache;
+
+
+    public RedisDiaryCacheAdapter(RedisTemplate<String, DiaryResponse> diaryCacheRedisTemplate,
+                             RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                             CacheRefresher cacheRefresher,
+                             NegativeCache negativeCache,
+                             CacheMetrics cacheMetrics,
+                             CachePolicies cachePolicies) {
+        this.diaryCacheRedisTemplate = diaryCacheRedisTemplate;
+        this.diaryCacheOperation = diaryCacheRedisTemplate.opsForValue();
+        this.cacheRefresher = cacheRefresher;
+        this.negativeCache = negativeCache;
+        this.cacheMetrics = cacheMetrics;
+        this.policy = cachePolicies.get(CACHE_NAME);
+        this.nearCache = policy.isNearCacheEnabled()
+                ? new NearCache<>(CACHE_NAME, policy, diaryCacheRedisTemplate, cacheInvalidationListenerContainer)
+                : null;
+    }
+
+    @Override
+    public void put(String key, DiaryResponse value) {
+        diaryCacheOperation.set(key, value, policy.jitteredTtl());
+        cacheMetrics.puts(CACHE_NAME, 1);
+        if (Objects.nonNull(nearCache))
+            nearCache.put(key, value);
+    }
+
+    @Override
+    public DiaryResponse get(String key) {
+        if (Objects.isNull(nearCache))
+            return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_REDIS, orPrevious(key, diaryCacheOperation.get(key)));
+
+        // L1 -> L2(Redis) 순서로 조회, L2 에서 찾은 값은 L1 에 채워둔다.
+        DiaryResponse value = nearCache.get(key);
+        if (Objects.nonNull(value)) {
+            cacheMetrics.hit(CACHE_NAME, CacheMetrics.TIER_NEAR);
+            return value;
+        }
+
+        value = orPrevious(key, diaryCacheOperation.get(key));
+        if (Objects.nonNull(value))
+            nearCache.put(key, value);
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_REDIS, value);
+    }
+
+    // 만료가 가까운 값은 그대로 반환하고, reloader 로 백그라운드에서 미리 갱신한다. (refresh-ahead)
+    @Override
+    public DiaryResponse get(String key, Supplier<DiaryResponse> reloader) {
+        if (Objects.nonNull(nearCache)) {
+            DiaryResponse value = nearCache.get(key);
+            if (Objects.nonNull(value)) {
+                cacheMetrics.hit(CACHE_NAME, CacheMetrics.TIER_NEAR);
+                return value;
+            }
+        }
+
+        DiaryResponse value = orPrevious(key, cacheRefresher.get(CACHE_NAME, policy, diaryCacheRedisTemplate, key, reloader,
+                reloaded -> refreshed(key, reloaded)));
+        if (Objects.nonNull(value) && Objects.nonNull(nearCache))
+            nearCache.put(key, value);
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_REDIS, value);
+    }
+
+    // refresh-ahead 로 Redis 에 다시 저장된 값 반영 (Redis 저장은 CacheRefresher 가 조건부로 처리)
+    private void refreshed(String key, DiaryResponse value) {
+        cacheMetrics.puts(CACHE_NAME, 1);
+        if (Objects.nonNull(nearCache))
+            nearCache.put(key, value);
+    }
+
+    @Override
+    public void delete(String key) {
+        // rolling 배포 중에는 다른 schema 버전 노드가 쓴 key 도 함께 삭제
+        List<String> keys = CacheSchema.siblingKeys(key);
+        diaryCacheRedisTemplate.delete(keys);
+        cacheMetrics.evictions(CACHE_NAME, 1);
+        if (Objects.nonNull(nearCache))
+            nearCache.invalidateAll(keys);
+    }
+
+    // 다른 캐시의 삭제와 함께 보내는 pipeline 에 삭제와 near cache 무효화 발행을 추가 (CacheEvictor)
+    void delete(String key, RedisConnection connection) {
+        List<String> keys = CacheSchema.siblingKeys(key);
+        connection.del(CacheBatch.rawKeys(keys));
+        cacheMetrics.evictions(CACHE_NAME, 1);
+        if (Objects.nonNull(nearCache))
+            nearCache.invalidateAll(keys, connection);
+    }
+
+    // 현재 버전 key 가 없으면 이전 schema 버전 value 를 변환해서 읽고, 현재 버전 key 로 다시 저장한다.
+    private DiaryResponse orPrevious(String key, DiaryResponse value) {
+        if (Objects.nonNull(value))
+            return value;
+
+        DiaryResponse upcasted = CacheSchemas.DIARY.readPrevious(key, diaryCacheRedisTemplate);
+        if (Objects.nonNull(upcasted))
+            put(key, upcasted);
+        return upcasted;
+    }
+
+    // 존재하지 않는 id 인지 확인 (negative cache 를 사용하지 않으면 항상 false)
+    @Override
+    public boolean isNotFound(String key) {
+        return policy.isNegativeCacheEnabled() && negativeCache.contains(key);
+    }
+
+    @Override
+    public void putNotFound(String key) {
+        if (policy.isNegativeCacheEnabled())
+            negativeCache.put(key, policy.getNegativeTtl());
+    }
+
+    @Override
+    public void deleteNotFound(String key) {
+        if (policy.isNegativeCacheEnabled())
+            negativeCache.delete(key);
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisDiaryPagingCacheAdapter implements DiaryPagingCacheAdapter {
+
+    private static final Duration PATCH_LOCK_TTL = Duration.ofSeconds(2);
+
+    private final RedisTemplate<String, RestPage<DiaryInfoResponse>> diaryPageCacheRedisTemplate;
+    private final ValueOperations<String, RestPage<DiaryInfoResponse>> diaryPageCacheOperation;
+    private final CacheTagIndex cacheTagIndex;
+    private final SingleFlightLoader singleFlightLoader;
+    private final CacheMetrics cacheMetrics;
+    private final CachePolicy policy;
+
+
+    public RedisDiaryPagingCacheAdapter(RedisTemplate<String, RestPage<DiaryInfoResponse>> diaryPageCacheRedisTemplate,
+                                   CacheTagIndex cacheTagIndex,
+                                   SingleFlightLoader singleFlightLoader,
+                                   CacheMetrics cacheMetrics,
+                                   CachePolicies cachePolicies) {
+        this.diaryPageCacheRedisTemplate = diaryPageCacheRedisTemplate;
+        this.diaryPageCacheOperation = diaryPageCacheRedisTemplate.opsForValue();
+        this.cacheTagIndex = cacheTagIndex;
+        this.singleFlightLoader = singleFlightLoader;
+        this.cacheMetrics = cacheMetrics;
+        this.policy = cachePolicies.get(CACHE_NAME);
+    }
+
+    // tag(사용자 id) 에 key 를 등록하여 deleteByTag 로 한 번에 무효화할 수 있도록 한다.
+    @Override
+    public void put(String tag, String key, RestPage<DiaryInfoResponse> value) {
+        diaryPageCacheOperation.set(key, value, policy.jitteredTtl());
+        cacheMetrics.puts(CACHE_NAME, 1);
+        cacheTagIndex.register(CACHE_NAME, tag, key, policy.getTtl());
+    }
+
+    // cache miss 시 같은 key 에 대한 동시 로딩을 하나로 합쳐서 loader 를 실행하고, 결과를 캐시에 저장한다.
+    // 이전 schema 버전 페이지가 있으면 DB 대신 변환해서 사용한다.
+    @Override
+    public RestPage<DiaryInfoResponse> load(String tag, String key, Supplier<RestPage<DiaryInfoResponse>> loader) {
+        return singleFlightLoader.load(CACHE_NAME, key, policy.getLoadLockTtl(), () -> get(key), () -> {
+            RestPage<DiaryInfoResponse> value = CacheSchemas.DIARY_PAGE.readPrevious(key, diaryPageCacheRedisTemplate);
+            if (Objects.isNull(value))
+                value = cacheMetrics.recordLoad(CACHE_NAME, loader);
+            put(tag, key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public RestPage<DiaryInfoResponse> get(String key) {
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_REDIS, diaryPageCacheOperation.get(key));
+    }
+
+    // 직렬화된 응답 body 는 value serializer 를 거치지 않고 byte 그대로 읽고 쓴다.
+    @Override
+    public CachedResponseBody getBody(String key) {
+        byte[] rawKey = RedisSerializer.string().serialize(key);
+        byte[] bytes = diaryPageCacheRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.get(rawKey));
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_REDIS, CachedResponseBody.from(bytes));
+    }
+
+    @Override
+    public void putBody(String tag, String key, CachedResponseBody body) {
+        byte[] rawKey = RedisSerializer.string().serialize(key);
+        byte[] value = body.toBytes();
+        diaryPageCacheRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.pSetEx(rawKey, policy.jitteredTtl().toMillis(), value));
+        cacheMetrics.puts(CACHE_NAME, 1);
+        cacheTagIndex.register(CACHE_NAME, tag, key, policy.getTtl());
+    }
+
+    // 개수는 value serializer 를 거치지 않고 10진수 문자열 byte 로 저장한다.
+    @Override
+    public Long getCount(String key) {
+        byte[] rawKey = RedisSerializer.string().serialize(key);
+        byte[] bytes = diaryPageCacheRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.get(rawKey));
+        Long count = Objects.isNull(bytes) ? null : Long.valueOf(new String(bytes, StandardCharsets.US_ASCII));
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_REDIS, count);
+    }
+
+    @Override
+    public void putCount(String tag, String key, long count) {
+        byte[] rawKey = RedisSerializer.string().serialize(key);
+        byte[] value = Long.toString(count).getBytes(StandardCharsets.US_ASCII);
+        diaryPageCacheRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.pSetEx(rawKey, policy.jitteredTtl().toMillis(), value));
+        cacheMetrics.puts(CACHE_NAME, 1);
+        cacheTagIndex.register(CACHE_NAME, tag, key, policy.getTtl());
+    }
+
+    // 여러 페이지 조회 (MGET). 존재하는 페이지만 반환한다.
+    @Override
+    public Map<String, RestPage<DiaryInfoResponse>> getAll(Collection<String> keys) {
+        Map<String, RestPage<DiaryInfoResponse>> found = CacheBatch.multiGet(diaryPageCacheRedisTemplate, keys);
+        cacheMetrics.hits(CACHE_NAME, CacheMetrics.TIER_REDIS, found.size());
+        cacheMetrics.misses(CACHE_NAME, keys.size() - found.size());
+        return found;
+    }
+
+    // 여러 페이지 저장 (pipeline) 후 태그에 한 번에 등록
+    @Override
+    public void putAll(String tag, Map<String, RestPage<DiaryInfoResponse>> values) {
+        CacheBatch.setAll(diaryPageCacheRedisTemplate, values, policy::jitteredTtl);
+        cacheMetrics.puts(CACHE_NAME, values.size());
+        cacheTagIndex.registerAll(CACHE_NAME, tag, values.keySet(), policy.getTtl());
+    }
+
+    @Override
+    public void delete(String key) {
+        diaryPageCacheRedisTemplate.delete(CacheSchema.siblingKeys(key));
+        cacheMetrics.evictions(CACHE_NAME, 1);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> keys) {
+        if (keys.isEmpty())
+            return;
+
+        diaryPageCacheRedisTemplate.delete(CacheSchema.siblingKeys(keys));
+        cacheMetrics.evictions(CACHE_NAME, keys.size());
+    }
+
+    // tag(사용자 id) 로 등록된 모든 페이지 캐시 삭제
+    @Override
+    public void deleteByTag(String tag) {
+        cacheMetrics.evictions(CACHE_NAME, cacheTagIndex.invalidate(CACHE_NAME, tag).size());
+    }
+
+    // 일기 저장/수정/삭제를 캐싱된 페이지에 직접 반영한다. (계산할 수 없는 페이지는 삭제)
+    @Override
+    public void applySave(String tag, DiaryInfoResponse saved) {
+        patch(tag, pages -> DiaryPagePatcher.onSave(pages, saved));
+    }
+
+    @Override
+    public void applyUpdate(String tag, DiaryInfoResponse before, DiaryInfoResponse after) {
+        patch(tag, pages -> DiaryPagePatcher.onUpdate(pages, before, after));
+    }
+
+    @Override
+    public void applyRemove(String tag, DiaryInfoResponse removed) {
+        patch(tag, pages -> DiaryPagePatcher.onRemove(pages, removed));
+    }
+
+    private void patch(String tag, UnaryOperator<Map<String, RestPage<DiaryInfoResponse>>> patcher) {
+        List<String> keys = cacheTagIndex.members(CACHE_NAME, tag);
+        if (keys.isEmpty())
+            return;
+
+        // 같은 사용자의 동시 수정이 서로의 결과를 덮어쓰지 않도록 태그 단위로 순서대로 처리
+        String token = cacheTagIndex.lock(CACHE_NAME, tag, PATCH_LOCK_TTL);
+        if (Objects.isNull(token)) {
+            deleteByTag(tag);
+            return;
+        }
+
+        try {
+            // 다른 schema 버전 노드가 쓴 페이지, 직렬화된 응답 body, 검색 결과는 수정하지 않고 삭제한다.
+            List<String> current = new ArrayList<>();
+            List<String> evicted = new ArrayList<>();
+            keys.forEach(key -> (CacheSchemas.DIARY_PAGE.isCurrent(key) && CacheKeys.isDiaryPage(key) ? current : evicted).add(key));
+
+            // 수정 대상 페이지 조회는 hit/miss 통계에 포함하지 않는다.
+            Map<String, RestPage<DiaryInfoResponse>> pages = new HashMap<>(CacheBatch.multiGet(diaryPageCacheRedisTemplate, current));
+
+            // 수정된 페이지는 한 번의 pipeline 으로 저장하고, 계산할 수 없는 페이지는 한 번의 DEL 로 삭제
+            Map<String, RestPage<DiaryInfoResponse>> patched = new HashMap<>();
+            patcher.apply(pages).forEach((key, page) -> {
+                if (Objects.isNull(page))
+                    evicted.add(key);
+                else
+                    patched.put(key, page);
+            });
+            putAll(tag, patched);
+            deleteAll(evicted);
+        } catch (RuntimeException e) {
+            log.warn("diary page cache patch failed, evict all pages : {}", tag, e);
+            deleteByTag(tag);
+        } finally {
+            cacheTagIndex.unlock(CACHE_NAME, tag, token);
+        }
+    }
+
+}
@@ -0,0 +1,256 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.DefaultTuple;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 사용자별 일기 타임라인 캐시.
+ * ZSET(diaryTimeline::{userId}, score = 일기 날짜) 에 일기 id 를, HASH(diaryTimelineEntry::{userId}) 에 DiaryInfoResponse 를 저장하여
+ * 정렬 방향, page, size 에 상관없이 ZRANGE/ZREVRANGE + HMGET 으로 페이지를 만든다.
+ * put/delete 는 같은 slot 의 쓰기 순번(diaryTimelineSeq::{userId}) 을 올리고, rebuild 는 DB 조회 전 순번과 같을 때만 교체한다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisDiaryTimelineCacheAdapter implements DiaryTimelineCacheAdapter {
+
+
+    private static final String TIMELINE_PREFIX = "diaryTimeline::";
+    private static final String ENTRY_PREFIX = "diaryTimelineEntry::";
+    private static final String SEQUENCE_PREFIX = "diaryTimelineSeq::";
+    // 타임라인이 DB 데이터로 생성되었음을 표시하는 hash field (일기가 없는 사용자도 구분하기 위함)
+    private static final byte[] BUILT_FIELD = RedisSerializer.string().serialize("_built");
+    private static final byte[] BUILT_VALUE = RedisSerializer.string().serialize("1");
+
+    // 쓰기 순번이 DB 조회 전과 같을 때만 임시 key 로 교체하고, 다르면 임시 key 를 삭제한다.
+    // KEYS = [순번, 임시 hash, hash, 임시 zset, zset], ARGV = [DB 조회 전 순번, 일기 유무(1/0)]
+    static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "if tonumber(redis.call('get', KEYS[1]) or '0') ~= tonumber(ARGV[1]) then " +
+            "redis.call('del', KEYS[2], KEYS[4]) return 0 end " +
+            "redis.call('rename', KEYS[2], KEYS[3]) " +
+            "if ARGV[2] == '1' then redis.call('rename', KEYS[4], KEYS[5]) else redis.call('del', KEYS[5]) end " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, DiaryInfoResponse> diaryTimelineRedisTemplate;
+    private final RedisSerializer<DiaryInfoResponse> entrySerializer;
+    private final CacheMetrics cacheMetrics;
+    private final CachePolicy policy;
+
+
+    @SuppressWarnings("unchecked")
+    public RedisDiaryTimelineCacheAdapter(RedisTemplate<String, DiaryInfoResponse> diaryTimelineRedisTemplate,
+                                     CacheMetrics cacheMetrics,
+                                     CachePolicies cachePolicies) {
+        this.diaryTimelineRedisTemplate = diaryTimelineRedisTemplate;
+        this.entrySerializer = (RedisSerializer<DiaryInfoResponse>) diaryTimelineRedisTemplate.getValueSerializer();
+        this.cacheMetrics = cacheMetrics;
+        this.policy = cachePolicies.get(CACHE_NAME);
+    }
+
+    /**
+     * 타임라인에서 페이지 조회
+     * @return 타임라인이 없으면(또는 hash 와 어긋나 있으면) null
+     */
+    @Override
+    public RestPage<DiaryInfoResponse> page(String userId, Pageable pageable) {
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_REDIS, readPage(userId, pageable));
+    }
+
+    private RestPage<DiaryInfoResponse> readPage(String userId, Pageable pageable) {
+        byte[] timelineKey = raw(timelineKeyOf(userId));
+        byte[] entryKey = raw(entryKeyOf(userId));
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+        boolean ascending = isAscending(pageable);
+
+        List<Object> results = diaryTimelineRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hExists(entryKey, BUILT_FIELD);
+            connection.zCard(timelineKey);
+            if (ascending)
+                connection.zRange(timelineKey, start, end);
+            else
+                connection.zRevRange(timelineKey, start, end);
+            return null;
+        }, RedisSerializer.string());
+
+        if (!Boolean.TRUE.equals(results.get(0)))
+            return null;
+
+        long total = Objects.isNull(results.get(1)) ? 0 : (Long) results.get(1);
+        @SuppressWarnings("unchecked")
+        Collection<String> ids = (Collection<String>) results.get(2);
+        if (Objects.isNull(ids) || ids.isEmpty())
+            return new RestPage<>(new PageImpl<>(Collections.emptyList(), pageable, total));
+
+        byte[][] fields = ids.stream().map(this::raw).toArray(byte[][]::new);
+        List<byte[]> values = diaryTimelineRedisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.hMGet(entryKey, fields));
+        if (Objects.isNull(values))
+            return null;
+
+        List<DiaryInfoResponse> content = new ArrayList<>(values.size());
+        for (byte[] value : values) {
+            // ZSET 과 HASH 가 어긋난 경우 타임라인을 다시 만든다.
+            if (Objects.isNull(value))
+                return null;
+            content.add(entrySerializer.deserialize(value));
+        }
+        return new RestPage<>(new PageImpl<>(content, pageable, total));
+    }
+
+    @Override
+    public long sequence(String userId) {
+        String sequence = diaryTimelineRedisTemplate.execute((RedisCallback<String>) connection ->
+                RedisSerializer.string().deserialize(connection.get(raw(sequenceKeyOf(userId)))));
+        return Objects.isNull(sequence) ? 0 : Long.parseLong(sequence);
+    }
+
+    // DB 에서 읽어온 전체 일기로 타임라인을 다시 생성 (DB 조회 이후 put/delete 가 있었으면 교체하지 않고 다음 조회 시 다시 생성)
+    @Override
+    public boolean rebuild(String userId, List<DiaryInfoResponse> diaries, long sequence) {
+        Set<RedisZSetCommands.Tuple> tuples = new HashSet<>();
+        Map<byte[], byte[]> entries = new HashMap<>();
+        for (DiaryInfoResponse diary : diaries) {
+            byte[] id = raw(diary.getDiaryId());
+            tuples.add(new DefaultTuple(id, score(diary)));
+            entries.put(id, entrySerializer.serialize(diary));
+        }
+        entries.put(BUILT_FIELD, BUILT_VALUE);
+
+        // 읽는 쪽에서 만들다 만 타임라인을 보지 않도록 임시 key 에 만든 뒤 순번 확인과 RENAME 을 script 하나로 교체
+        // (cluster 에서도 동작하도록 임시 key 와 순번 key 는 모두 같은 slot)
+        String suffix = ":rebuild:" + UUID.randomUUID();
+        byte[] tmpTimelineKey = raw(timelineKeyOf(userId) + suffix);
+        byte[] tmpEntryKey = raw(entryKeyOf(userId) + suffix);
+        long ttlSeconds = policy.getTtl().getSeconds();
+
+        diaryTimelineRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            if (!tuples.isEmpty()) {
+                connection.zAdd(tmpTimelineKey, tuples);
+                connection.expire(tmpTimelineKey, ttlSeconds);
+            }
+            connection.hMSet(tmpEntryKey, entries);
+            connection.expire(tmpEntryKey, ttlSeconds);
+            return null;
+        });
+        Long swapped = diaryTimelineRedisTemplate.execute(SWAP_SCRIPT, RedisSerializer.string(), new GenericToStringSerializer<>(Long.class),
+                Arrays.asList(sequenceKeyOf(userId), entryKeyOf(userId) + suffix, entryKeyOf(userId), timelineKeyOf(userId) + suffix, timelineKeyOf(userId)),
+                String.valueOf(sequence), tuples.isEmpty() ? "0" : "1");
+        if (!Long.valueOf(1).equals(swapped)) {
+            log.debug("diary timeline rebuild skipped, written during rebuild : {}", userId);
+            return false;
+        }
+        cacheMetrics.puts(CACHE_NAME, diaries.size());
+        return true;
+    }
+
+    // 일기 저장/수정 (날짜가 바뀐 경우 score 도 갱신된다)
+    // 다른 schema 버전 노드의 타임라인은 수정하지 않고 삭제하여, 그 노드의 다음 조회 때 DB 로부터 다시 생성되도록 한다.
+    @Override
+    public void put(String userId, DiaryInfoResponse diary) {
+        byte[] timelineKey = raw(timelineKeyOf(userId));
+        byte[] entryKey = raw(entryKeyOf(userId));
+        byte[] id = raw(diary.getDiaryId());
+        byte[] value = entrySerializer.serialize(diary);
+
+        // 타임라인이 없는 경우에도 쓰지만, _built 가 없으므로 다음 조회 시 DB 로부터 다시 생성된다.
+        // 순번을 먼저 올려서, 진행 중인 rebuild 가 이 쓰기를 반영하지 않은 목록으로 교체하지 않게 한다.
+        diaryTimelineRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            incrementSequence(connection, userId);
+            connection.zAdd(timelineKey, score(diary), id);
+            connection.hSet(entryKey, id, value);
+            connection.expire(timelineKey, policy.getTtl().getSeconds());
+            connection.expire(entryKey, policy.getTtl().getSeconds());
+            connection.del(otherVersionKeys(userId).toArray(new byte[0][]));
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(String userId, String diaryId) {
+        byte[] id = raw(diaryId);
+
+        diaryTimelineRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            incrementSequence(connection, userId);
+            connection.zRem(raw(timelineKeyOf(userId)), id);
+            connection.hDel(raw(entryKeyOf(userId)), id);
+            connection.del(otherVersionKeys(userId).toArray(new byte[0][]));
+            return null;
+        });
+    }
+
+    // 진행 중인 rebuild 가 삭제 이전 목록으로 교체하지 않도록 순번도 올린다.
+    @Override
+    public void invalidate(String userId) {
+        List<byte[]> keys = new ArrayList<>();
+        for (String key : Arrays.asList(timelineKeyOf(userId), entryKeyOf(userId)))
+            CacheSchema.siblingKeys(key).forEach(sibling -> keys.add(raw(sibling)));
+
+        diaryTimelineRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            incrementSequence(connection, userId);
+            connection.del(keys.toArray(new byte[0][]));
+            return null;
+        });
+        cacheMetrics.evictions(CACHE_NAME, 1);
+    }
+
+    private void incrementSequence(RedisConnection connection, String userId) {
+        byte[] sequenceKey = raw(sequenceKeyOf(userId));
+        connection.incr(sequenceKey);
+        connection.expire(sequenceKey, policy.getTtl().getSeconds());
+    }
+
+    private static String sequenceKeyOf(String userId) {
+        return CacheSchemas.DIARY_TIMELINE.key(SEQUENCE_PREFIX + CacheKeys.slot(userId));
+    }
+
+    private static String timelineKeyOf(String userId) {
+        return CacheSchemas.DIARY_TIMELINE.key(TIMELINE_PREFIX + CacheKeys.slot(userId));
+    }
+
+    private static String entryKeyOf(String userId) {
+        return CacheSchemas.DIARY_TIMELINE.key(ENTRY_PREFIX + CacheKeys.slot(userId));
+    }
+
+    private List<byte[]> otherVersionKeys(String userId) {
+        List<byte[]> keys = new ArrayList<>();
+        for (String key : Arrays.asList(timelineKeyOf(userId), entryKeyOf(userId))) {
+            CacheSchema.siblingKeys(key).stream()
+                    .filter(sibling -> !sibling.equals(key))
+                    .forEach(sibling -> keys.add(raw(sibling)));
+        }
+        return keys;
+    }
+
+    private static boolean isAscending(Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor("date");
+        return Objects.nonNull(order) && order.isAscending();
+    }
+
+    private static double score(DiaryInfoResponse diary) {
+        return diary.getDiaryDate().toEpochDay();
+    }
+
+    private byte[] raw(String value) {
+        return RedisSerializer.string().serialize(value);
+    }
+}
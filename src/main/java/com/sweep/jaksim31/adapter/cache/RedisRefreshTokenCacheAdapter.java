@@ -0,0 +1,54 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class RedisRefreshTokenCacheAdapter implements RefreshTokenCacheAdapter {
+
+
+    private final RedisTemplate<String, String> refreshTokenCacheRedisTemplate;
+    private final ValueOperations<String, String> refreshTokenCacheOperation;
+    private final CacheMetrics cacheMetrics;
+
+
+    public RedisRefreshTokenCacheAdapter(RedisTemplate<String, String> refreshTokenCacheRedisTemplate,
+                                    CacheMetrics cacheMetrics) {
+        this.refreshTokenCacheRedisTemplate = refreshTokenCacheRedisTemplate;
+        this.refreshTokenCacheOperation = refreshTokenCacheRedisTemplate.opsForValue();
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    public void put(String key, String value, Duration duration) {
+        refreshTokenCacheOperation.set(key, value, duration);
+        cacheMetrics.puts(CACHE_NAME, 1);
+    }
+
+    @Override
+    public String get(String key) {
+        return cacheMetrics.recordGet(CACHE_NAME, CacheMetrics.TIER_REDIS, refreshTokenCacheOperation.get(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        refreshTokenCacheRedisTemplate.delete(key);
+        cacheMetrics.evictions(CACHE_NAME, 1);
+    }
+
+    // 다른 캐시의 삭제와 함께 보내는 pipeline 에 삭제를 추가 (CacheEvictor)
+    void delete(String key, RedisConnection connection) {
+        connection.del(CacheBatch.rawKeys(Collections.singletonList(key)));
+        cacheMetrics.evictions(CACHE_NAME, 1);
+    }
+
+}
@@ -1,35 +1,19 @@
 package com.sweep.jaksim31.adapter.cache;
 
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.stereotype.Component;
-
 import java.time.Duration;
 
-@Component
-@Slf4j
-public class RefreshTokenCacheAdapter {
-
-    private final RedisTemplate<String, String> refreshTokenCacheRedisTemplate;
-    private final ValueOperations<String, String> refreshTokenCacheOperation;
-
+/**
+ * refresh token 저장소.
+ * cache.backend 설정에 따라 Redis(기본) 또는 on-heap 구현이 사용된다.
+ */
+public interface RefreshTokenCacheAdapter {
 
-    public RefreshTokenCacheAdapter(RedisTemplate<String, String> refreshTokenCacheRedisTemplate) {
-        this.refreshTokenCacheRedisTemplate = refreshTokenCacheRedisTemplate;
-        this.refreshTokenCacheOperation = refreshTokenCacheRedisTemplate.opsForValue();
-    }
+    String CACHE_NAME = "refreshTokenCache";
 
-    public void put(String key, String value, Duration duration) {
-        refreshTokenCacheOperation.set(key, value, duration);
-    }
+    void put(String key, String value, Duration duration);
 
-    public String get(String key) {
-        return refreshTokenCacheOperation.get(key);
-    }
+    String get(String key);
 
-    public void delete(String key) {
-        refreshTokenCacheRedisTemplate.delete(key);
-    }
+    void delete(String key);
 
 }
@@ -0,0 +1,142 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 캐시 key 에 대한 동시 miss 를 하나의 로딩으로 합쳐주는 read-through loader.
+ * 같은 프로세스 안에서는 먼저 들어온 요청의 결과를 공유하고,
+ * lockTtl 이 설정된 경우 짧은 Redis lock 으로 다른 노드의 로딩과도 합친다.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+@Slf4j
+public class SingleFlightLoader {
+
+    private static final String LOCK_PREFIX = "cacheLock::";
+    private static final long LOCK_POLL_MILLIS = 50;
+
+    // lock 소유자(token)가 일치할 때만 삭제
+    static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> cacheTagRedisTemplate;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+
+    // cacheTagRedisTemplate 이 null 이면 노드 간 lock 없이 프로세스 내에서만 합친다. (cache.backend=memory)
+    public SingleFlightLoader(RedisTemplate<String, String> cacheTagRedisTemplate) {
+        this.cacheTagRedisTemplate = cacheTagRedisTemplate;
+    }
+
+    /**
+     * @param cacheLookup 캐시 조회 (다른 요청/노드가 먼저 채웠는지 확인)
+     * @param loader      원본 조회 및 캐시 저장
+     * @param lockTtl     노드 간 lock 유지 시간 (0 이면 프로세스 내에서만 합침)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String cacheName, String key, Duration lockTtl, Supplier<T> cacheLookup, Supplier<T> loader) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+
+        // 이미 로딩 중인 요청이 있으면 그 결과를 기다린다.
+        if (Objects.nonNull(leader))
+            return (T) await(leader);
+
+        try {
+            T value = loadOnce(flightKey, lockTtl, cacheLookup, loader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private <T> T loadOnce(String flightKey, Duration lockTtl, Supplier<T> cacheLookup, Supplier<T> loader) {
+        T cached = cacheLookup.get();
+        if (Objects.nonNull(cached))
+            return cached;
+
+        if (lockTtl.isZero() || lockTtl.isNegative() || Objects.isNull(cacheTagRedisTemplate))
+            return loader.get();
+
+        String lockKey = LOCK_PREFIX + flightKey;
+        String token = UUID.randomUUID().toString();
+        Boolean locked = tryLock(lockKey, token, lockTtl);
+
+        // Redis 장애 등으로 lock 여부를 알 수 없으면 직접 로딩
+        if (Objects.isNull(locked))
+            return loader.get();
+
+        if (locked) {
+            try {
+                return loader.get();
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+
+        // 다른 노드가 로딩 중이면 lock 유지 시간 동안 캐시가 채워지기를 기다리고, 그래도 없으면 직접 로딩
+        long deadline = System.nanoTime() + lockTtl.toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            cached = cacheLookup.get();
+            if (Objects.nonNull(cached))
+                return cached;
+        }
+        return loader.get();
+    }
+
+    private Boolean tryLock(String lockKey, String token, Duration lockTtl) {
+        try {
+            return cacheTagRedisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+        } catch (RuntimeException e) {
+            log.warn("cache load lock failed : {}", lockKey, e);
+            return null;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            cacheTagRedisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(lockKey), token);
+        } catch (RuntimeException e) {
+            // lock 은 ttl 이 지나면 자동으로 풀린다.
+            log.warn("cache load unlock failed : {}", lockKey, e);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            // leader 에서 발생한 예외(BizException 등)를 그대로 전달
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
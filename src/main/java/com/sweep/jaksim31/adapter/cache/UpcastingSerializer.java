@@ -0,0 +1,16 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * 이전 schema 버전으로 저장된 value 를 읽을 수 있는 캐시 serializer.
+ * value 를 JSON tree 로 읽어 upcaster 로 현재 DTO 모양으로 바꾼 뒤 변환한다. ({@link CacheSchema})
+ */
+public interface UpcastingSerializer<T> extends RedisSerializer<T> {
+
+    T deserialize(byte[] bytes, UnaryOperator<JsonNode> upcaster) throws SerializationException;
+}
@@ -0,0 +1,435 @@
+package com.sweep.jaksim31.adapter.search;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.domain.diary.Diary;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.highlight.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * 일기 본문 검색용 embedded Lucene index (로컬 디스크).
+ * 본문은 CJK bigram 으로 분석하여 한글 부분 문자열 검색에 가깝게 찾고, BM25 점수 순 정렬과 검색어 강조(highlight)를 제공한다.
+ * 일기 저장/수정/삭제는 바로 검색되도록 NRT(near real-time) 로 반영하고, 디스크 commit 은 주기적으로 한다.
+ * 시작 시 이전 종료가 정상 종료가 아니었거나 index 문서 수가 Mongo 의 일기 수와 다르면 백그라운드로 다시 생성한다.
+ * 다시 생성하는 동안 들어온 저장/수정/삭제는 모아두었다가 전체 일기를 다 쓴 뒤 순서대로 반영한다. (이미 읽은 이전 값이 덮어쓰지 않도록)
+ * index 가 준비되지 않았거나 사용하지 않으면 search 는 null 을 반환한다. (호출하는 쪽에서 Mongo 로 조회)
+ * bigram 으로만 나뉘지 않는 검색어(한 글자 한글, 영문/숫자 단어)는 부분 문자열로 찾을 수 없으므로 마찬가지로 null 을 반환한다.
+ * index 는 노드별로 유지되어 다른 노드에서 처리한 저장/수정/삭제가 반영되지 않으므로 단일 노드 배포에서만
+ * search.lucene.enabled=true 와 index 경로(search.lucene.path, 일기 본문이 저장되므로 접근이 제한된 경로)를 지정하여 사용한다.
+ */
+@Slf4j
+@Component
+public class DiarySearchIndex {
+
+    static final String ID = "id";
+    static final String USER_ID = "userId";
+    static final String DATE = "date";
+    static final String MODIFY_DATE = "modifyDate";
+    static final String EMOTION = "emotion";
+    static final String KEYWORDS = "keywords";
+    static final String THUMBNAIL = "thumbnail";
+    static final String CONTENT = "content";
+
+    // 강조 결과로 보여줄 본문 일부의 길이 (글자 수)
+    private static final int HIGHLIGHT_FRAGMENT_SIZE = 80;
+    // 마지막 commit 이 정상 종료(close) 시점의 commit 인지 (아니면 commit 되지 않은 쓰기가 유실되었을 수 있음)
+    static final String CLEAN_SHUTDOWN = "cleanShutdown";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final String path;
+    private final long commitIntervalMillis;
+    // 한글(CJK) 은 인접한 두 글자(bigram), 그 외는 단어 단위. 부분 문자열 검색이므로 불용어는 제거하지 않는다.
+    private final Analyzer analyzer = new CJKAnalyzer(CharArraySet.EMPTY_SET);
+    // 재생성 예약은 한 번만 (쓰기 실패가 몰려도 재생성은 하나씩)
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    // 시작 시 동기화와 재생성을 실행하는 단일 thread
+    private final ExecutorService background = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "diary-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // 쓰기와 재생성 시작/종료를 직렬화 (재생성 중인 쓰기는 pendingWrites 에 모아둔다)
+    private final Object writeLock = new Object();
+    private final List<IndexOperation> pendingWrites = new ArrayList<>();
+    private boolean rebuilding;
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ScheduledExecutorService committer;
+    private boolean openedClean;
+    private volatile boolean ready;
+
+
+    public DiarySearchIndex(MongoTemplate mongoTemplate,
+                            @Value("${search.lucene.enabled:false}") boolean enabled,
+                            @Value("${search.lucene.path:}") String path,
+                            @Value("${search.lucene.commit-interval-millis:5000}") long commitIntervalMillis) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.path = path;
+        this.commitIntervalMillis = commitIntervalMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled)
+            return;
+        // 일기 본문 전체가 저장되므로 임시 디렉토리 등 기본 경로를 사용하지 않는다.
+        if (!StringUtils.hasText(path))
+            throw new IllegalStateException("search.lucene.path is required when search.lucene.enabled=true");
+
+        try {
+            open(FSDirectory.open(Paths.get(path)));
+        } catch (IOException e) {
+            // index 를 열지 못하면 검색은 Mongo 로 처리
+            log.error("diary search index open failed : {}", path, e);
+        }
+    }
+
+    void open(Directory directory) throws IOException {
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+
+        // 정상 종료 여부를 읽은 뒤 바로 지워둔다. (실행 중에 비정상 종료되면 다음 시작 시 다시 생성)
+        openedClean = false;
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (Objects.nonNull(commitData))
+            for (Map.Entry<String, String> entry : commitData)
+                if (CLEAN_SHUTDOWN.equals(entry.getKey()))
+                    openedClean = Boolean.parseBoolean(entry.getValue());
+        writer.setLiveCommitData(Collections.singletonMap(CLEAN_SHUTDOWN, "false").entrySet());
+        writer.commit();
+
+        committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "diary-search-index-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        committer.scheduleWithFixedDelay(this::commit, commitIntervalMillis, commitIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 요청 처리를 막지 않도록 별도 thread 에서 Mongo 와 비교 후 필요하면 다시 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (Objects.isNull(writer))
+            return;
+
+        background.execute(this::syncWithMongo);
+    }
+
+    // 정상 종료 후 다시 열었고 문서 수가 같을 때만 그대로 사용 (문서 수만으로는 수정 여부를 알 수 없으므로 비정상 종료 시에는 항상 다시 생성)
+    void syncWithMongo() {
+        long stored = mongoTemplate.count(query(new Criteria()), Diary.class);
+        if (openedClean && writer.getDocStats().numDocs == stored)
+            ready = true;
+        else
+            rebuild();
+    }
+
+    // 전체 일기로 index 를 다시 생성. 생성하는 동안 search 는 null (Mongo 로 조회)
+    // stream 으로 읽은 일기는 그 사이 수정/삭제되었을 수 있으므로, 생성 중에 들어온 쓰기는 마지막에 다시 반영한다.
+    void rebuild() {
+        synchronized (writeLock) {
+            if (rebuilding)
+                return;
+            rebuilding = true;
+        }
+
+        ready = false;
+        try (CloseableIterator<Diary> diaries = mongoTemplate.stream(query(new Criteria()), Diary.class)) {
+            writer.deleteAll();
+            while (diaries.hasNext()) {
+                Diary diary = diaries.next();
+                writer.updateDocument(new Term(ID, diary.getId()), document(diary));
+            }
+            synchronized (writeLock) {
+                for (IndexOperation operation : pendingWrites)
+                    operation.run();
+                pendingWrites.clear();
+                rebuilding = false;
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+            log.info("diary search index rebuilt : {} diaries", writer.getDocStats().numDocs);
+        } catch (IOException | RuntimeException e) {
+            log.error("diary search index rebuild failed", e);
+        } finally {
+            // 실패하면 모아둔 쓰기도 버린다. (index 는 다음 재생성까지 사용하지 않음)
+            synchronized (writeLock) {
+                pendingWrites.clear();
+                rebuilding = false;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void onSave(Diary diary) {
+        write(() -> writer.updateDocument(new Term(ID, diary.getId()), document(diary)));
+    }
+
+    public void onUpdate(Diary diary) {
+        onSave(diary);
+    }
+
+    public void onRemove(Diary diary) {
+        write(() -> writer.deleteDocuments(new Term(ID, diary.getId())));
+    }
+
+    // 쓰기 후 바로 검색되도록 searcher 를 NRT 로 갱신한다. (fsync 가 필요한 commit 은 주기적으로 실행)
+    // 재생성 중이면 모아두었다가 재생성이 끝날 때 반영하고, 실패하면 index 를 믿을 수 없으므로 다시 생성한다.
+    private void write(IndexOperation operation) {
+        if (Objects.isNull(writer))
+            return;
+
+        try {
+            synchronized (writeLock) {
+                if (rebuilding) {
+                    pendingWrites.add(operation);
+                    return;
+                }
+                operation.run();
+            }
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException | RuntimeException e) {
+            log.warn("diary search index update failed, index will be rebuilt", e);
+            ready = false;
+            scheduleRebuild();
+        }
+    }
+
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true))
+            return;
+
+        try {
+            background.execute(() -> {
+                rebuildScheduled.set(false);
+                rebuild();
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 재생성하지 않는다. (다음 시작 시 정상 종료 표시가 없으면 다시 생성)
+            rebuildScheduled.set(false);
+        }
+    }
+
+    // 주기적 commit. commit 되지 않은 쓰기는 비정상 종료 시 유실되지만, 그 경우 시작 시 다시 생성한다.
+    void commit() {
+        try {
+            if (writer.hasUncommittedChanges())
+                writer.commit();
+        } catch (IOException | RuntimeException e) {
+            log.warn("diary search index commit failed", e);
+        }
+    }
+
+    /**
+     * 사용자 일기 본문 검색
+     * @param pageable 정렬(date) 이 없으면 검색 점수 순(같은 점수는 최신순), 있으면 날짜 순
+     * @return 검색 결과 페이지 (검색어는 highlight 로 강조). index 를 사용할 수 없으면 null
+     */
+    public RestPage<DiaryInfoResponse> search(String userId, String searchWord, LocalDate startDate, LocalDate endDate,
+                                              String emotion, Pageable pageable) {
+        if (!ready)
+            return null;
+
+        // 문장 부호만 있거나 bigram 이 아닌 단위가 섞인 검색어는 Mongo 로 조회
+        Query textQuery = textQuery(searchWord);
+        if (Objects.isNull(textQuery))
+            return null;
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(USER_ID, userId)), BooleanClause.Occur.FILTER)
+                .add(LongPoint.newRangeQuery(DATE, startDate.toEpochDay(), endDate.toEpochDay()), BooleanClause.Occur.FILTER)
+                .add(textQuery, BooleanClause.Occur.MUST);
+        if (Objects.nonNull(emotion))
+            query.add(new TermQuery(new Term(EMOTION, emotion)), BooleanClause.Occur.FILTER);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            int offset = (int) pageable.getOffset();
+            TopFieldCollector collector = TopFieldCollector.create(sortOf(pageable), offset + pageable.getPageSize(), Integer.MAX_VALUE);
+            searcher.search(query.build(), collector);
+            ScoreDoc[] hits = collector.topDocs(offset, pageable.getPageSize()).scoreDocs;
+
+            Highlighter highlighter = highlighter(textQuery);
+            List<DiaryInfoResponse> content = new ArrayList<>(hits.length);
+            for (ScoreDoc hit : hits)
+                content.add(read(searcher.doc(hit.doc), highlighter));
+            return new RestPage<>(new PageImpl<>(content, pageable, collector.getTotalHits()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("diary search failed, fall back to mongo : {}", userId, e);
+            return null;
+        } finally {
+            release(searcher);
+        }
+    }
+
+    // 검색어를 본문과 같은 analyzer 로 나눈 bigram 들이 연속으로 나오는 문서 (부분 문자열 검색)
+    // 한 글자 한글은 본문에 bigram 으로만 색인되어 있고, 영문/숫자는 단어 단위라 "walk" 가 "walking" 을 찾지 못하므로
+    // bigram 이 아닌 단위가 하나라도 있으면 null (Mongo regex 로 조회)
+    Query textQuery(String searchWord) {
+        if (!bigramsOnly(searchWord))
+            return null;
+        return new QueryBuilder(analyzer).createPhraseQuery(CONTENT, searchWord);
+    }
+
+    private boolean bigramsOnly(String searchWord) {
+        try (TokenStream tokens = analyzer.tokenStream(CONTENT, searchWord)) {
+            TypeAttribute type = tokens.addAttribute(TypeAttribute.class);
+            tokens.reset();
+            boolean bigramsOnly = true;
+            while (tokens.incrementToken())
+                bigramsOnly &= CJKBigramFilter.DOUBLE_TYPE.equals(type.type());
+            tokens.end();
+            return bigramsOnly;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Sort sortOf(Pageable pageable) {
+        org.springframework.data.domain.Sort.Order order = pageable.getSort().getOrderFor("date");
+        if (Objects.isNull(order))
+            return new Sort(SortField.FIELD_SCORE, new SortField(DATE, SortField.Type.LONG, true));
+        return new Sort(new SortField(DATE, SortField.Type.LONG, order.isDescending()), SortField.FIELD_SCORE);
+    }
+
+    // 본문은 HTML escape 후 검색어만 <em> 으로 강조
+    private static Highlighter highlighter(Query textQuery) {
+        QueryScorer scorer = new QueryScorer(textQuery, CONTENT);
+        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<em>", "</em>"), new SimpleHTMLEncoder(), scorer);
+        highlighter.setTextFragmenter(new SimpleSpanFragmenter(scorer, HIGHLIGHT_FRAGMENT_SIZE));
+        return highlighter;
+    }
+
+    private DiaryInfoResponse read(Document document, Highlighter highlighter) throws IOException {
+        DiaryInfoResponse diary = new DiaryInfoResponse(
+                document.get(ID),
+                document.get(USER_ID),
+                dateOf(document.getField(DATE)),
+                dateOf(document.getField(MODIFY_DATE)),
+                document.get(EMOTION),
+                document.getValues(KEYWORDS).length == 0 ? null : document.getValues(KEYWORDS),
+                document.get(THUMBNAIL));
+
+        String content = document.get(CONTENT);
+        if (Objects.nonNull(content)) {
+            try {
+                diary.setHighlight(highlighter.getBestFragment(analyzer, CONTENT, content));
+            } catch (InvalidTokenOffsetsException e) {
+                log.debug("diary highlight failed : {}", diary.getDiaryId(), e);
+            }
+        }
+        return diary;
+    }
+
+    static Document document(Diary diary) {
+        Document document = new Document();
+        document.add(new StringField(ID, diary.getId(), Field.Store.YES));
+        document.add(new StringField(USER_ID, diary.getUserId(), Field.Store.YES));
+        long date = diary.getDate().toLocalDate().toEpochDay();
+        document.add(new LongPoint(DATE, date));
+        document.add(new NumericDocValuesField(DATE, date));
+        document.add(new StoredField(DATE, date));
+        if (Objects.nonNull(diary.getModifyDate()))
+            document.add(new StoredField(MODIFY_DATE, diary.getModifyDate().toLocalDate().toEpochDay()));
+        if (Objects.nonNull(diary.getEmotion()))
+            document.add(new StringField(EMOTION, diary.getEmotion(), Field.Store.YES));
+        if (Objects.nonNull(diary.getKeywords()))
+            for (String keyword : diary.getKeywords())
+                document.add(new StoredField(KEYWORDS, keyword));
+        if (Objects.nonNull(diary.getThumbnail()))
+            document.add(new StoredField(THUMBNAIL, diary.getThumbnail()));
+        if (Objects.nonNull(diary.getContent()))
+            document.add(new TextField(CONTENT, diary.getContent(), Field.Store.YES));
+        return document;
+    }
+
+    private static LocalDate dateOf(IndexableField field) {
+        return Objects.isNull(field) ? null : LocalDate.ofEpochDay(field.numericValue().longValue());
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (Objects.isNull(searcher))
+            return;
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("diary search index searcher release failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        background.shutdownNow();
+        if (Objects.isNull(writer))
+            return;
+
+        ready = false;
+        committer.shutdownNow();
+        try {
+            searcherManager.close();
+            // 정상 종료 표시 후 commit (다음 시작 시 문서 수만 비교)
+            writer.setLiveCommitData(Collections.singletonMap(CLEAN_SHUTDOWN, "true").entrySet());
+            writer.commit();
+            writer.close();
+        } catch (IOException e) {
+            log.warn("diary search index close failed", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void run() throws IOException;
+    }
+}
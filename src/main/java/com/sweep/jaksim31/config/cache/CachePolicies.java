@@ -0,0 +1,25 @@
+package com.sweep.jaksim31.config.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 이름 -> CachePolicy 매핑. 등록되지 않은 캐시 이름은 기본 정책을 사용한다.
+ */
+public class CachePolicies {
+    private final CachePolicy defaultPolicy;
+    private final Map<String, CachePolicy> policies = new HashMap<>();
+
+    public CachePolicies(CachePolicy defaultPolicy) {
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    public CachePolicies with(String cacheName, CachePolicy policy) {
+        policies.put(cacheName, policy);
+        return this;
+    }
+
+    public CachePolicy get(String cacheName) {
+        return policies.getOrDefault(cacheName, defaultPolicy);
+    }
+}
@@ -0,0 +1,62 @@
+package com.sweep.jaksim31.config.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 이름별 정책 (Redis TTL, 로컬(L1) near cache 크기 및 유효기간, 압축 기준 크기, refresh-ahead)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class CachePolicy {
+    // Redis(L2) 데이터 유효기간
+    @Builder.Default
+    private final Duration ttl = Duration.ofDays(1);
+    // 로컬(L1) 캐시 최대 entry 수 (0 이면 L1 사용 안 함)
+    @Builder.Default
+    private final long nearCacheMaximumSize = 0;
+    // 로컬(L1) 캐시 유효기간 (다른 노드의 무효화 메시지를 놓쳤을 때 허용되는 최대 stale 시간)
+    @Builder.Default
+    private final Duration nearCacheTtl = Duration.ofSeconds(30);
+    // 이 크기(byte) 이상의 value 는 LZ4 로 압축해서 저장 (0 이면 압축 안 함)
+    @Builder.Default
+    private final int compressThresholdBytes = 0;
+    // 동시 miss 로딩을 노드 간에도 합칠 때 사용하는 Redis lock 유지 시간 (0 이면 프로세스 내에서만 합침)
+    @Builder.Default
+    private final Duration loadLockTtl = Duration.ZERO;
+    // 저장 시 ttl 을 최대 이 비율만큼 랜덤하게 줄여서, 함께 저장된 entry 들이 동시에 만료되지 않도록 한다.
+    @Builder.Default
+    private final double ttlJitter = 0;
+    // refresh-ahead(XFetch) 가중치. 클수록 일찍 refresh 한다. (0 이면 refresh-ahead 사용 안 함)
+    @Builder.Default
+    private final double refreshAheadBeta = 0;
+    // 실제 로딩 시간을 측정하기 전까지 사용할 예상 로딩 시간
+    @Builder.Default
+    private final Duration refreshAheadDelta = Duration.ofMillis(100);
+    // 존재하지 않는 id 의 tombstone 유효기간 (0 이면 negative cache 사용 안 함)
+    @Builder.Default
+    private final Duration negativeTtl = Duration.ZERO;
+
+    public boolean isNearCacheEnabled() {
+        return nearCacheMaximumSize > 0;
+    }
+
+    public boolean isNegativeCacheEnabled() {
+        return !negativeTtl.isZero() && !negativeTtl.isNegative();
+    }
+
+    public boolean isRefreshAheadEnabled() {
+        return refreshAheadBeta > 0;
+    }
+
+    // jitter 가 적용된 ttl ( ttl * (1 - ttlJitter) ~ ttl )
+    public Duration jitteredTtl() {
+        if (ttlJitter <= 0)
+            return ttl;
+        long jitterMillis = (long) (ttl.toMillis() * ttlJitter * ThreadLocalRandom.current().nextDouble());
+        return ttl.minusMillis(jitterMillis);
+    }
+}
@@ -7,15 +7,23 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.CacheCodec;
+import com.sweep.jaksim31.adapter.cache.CacheMetrics;
+import com.sweep.jaksim31.adapter.cache.CompressingCacheSerializer;
+import com.sweep.jaksim31.adapter.cache.CompressionStats;
 import com.sweep.jaksim31.adapter.cache.DiaryCacheSerializer;
+import com.sweep.jaksim31.adapter.cache.DiaryInfoCacheSerializer;
 import com.sweep.jaksim31.adapter.cache.DiaryPagingCacheSerializer;
 import com.sweep.jaksim31.adapter.cache.MemberCacheSerializer;
+import com.sweep.jaksim31.adapter.cache.MeteredCacheSerializer;
 import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
 import com.sweep.jaksim31.dto.diary.DiaryResponse;
 import com.sweep.jaksim31.dto.member.MemberInfoResponse;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.SocketOptions;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -29,24 +37,39 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 
 
 @Configuration
 @EnableCaching
 @Profile("local")
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
 public class LocalCacheConfig {
 
+    private final CacheMetrics cacheMetrics;
+
     @Value("${spring.redis.host}")
     private String host;
 
     @Value("${spring.redis.port}")
     private int port;
 
+    // 캐시 value 직렬화 포맷 (구버전 노드가 모두 내려간 뒤 SMILE 로 전환)
+    @Value("${cache.codec:JSON}")
+    private CacheCodec cacheCodec;
+
+    // 페이지 캐시 압축 기준 크기 (0 이면 압축 안 함, 구버전 노드가 모두 내려간 뒤 활성화)
+    @Value("${cache.compression.threshold-bytes:0}")
+    private int compressThresholdBytes;
+
     @Bean
     public RedisConnectionFactory basicCacheRedisConnectionFactory() {
         RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
@@ -63,12 +86,100 @@ public class LocalCacheConfig {
         return new LettuceConnectionFactory(configuration, lettuceClientConfiguration);
     }
 
+    // 노드 간 L1(near cache) 무효화 메시지 구독
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(basicCacheRedisConnectionFactory());
+
+        return container;
+    }
+
+    // 캐시 이름별 정책 (Redis TTL, L1 크기/유효기간)
+    @Bean
+    public CachePolicies cachePolicies() {
+        CachePolicy defaultPolicy = CachePolicy.builder().build();
+
+        return new CachePolicies(defaultPolicy)
+                .with("diaryCache", defaultPolicy.toBuilder()
+                        .nearCacheMaximumSize(1_000)
+                        .nearCacheTtl(Duration.ofSeconds(30))
+                        .ttlJitter(0.1)
+                        .refreshAheadBeta(1.0)
+                        .negativeTtl(Duration.ofMinutes(1))
+                        .build())
+                .with("memberCache", defaultPolicy.toBuilder()
+                        .nearCacheMaximumSize(1_000)
+                        .nearCacheTtl(Duration.ofSeconds(30))
+                        .ttlJitter(0.1)
+                        .refreshAheadBeta(1.0)
+                        .negativeTtl(Duration.ofMinutes(1))
+                        .build())
+                .with("diaryPagingCache", defaultPolicy.toBuilder()
+                        .compressThresholdBytes(compressThresholdBytes)
+                        .build());
+    }
+
+    // refresh-ahead 백그라운드 로딩 (queue 가 가득 차면 refresh 를 건너뛴다)
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        return executor;
+    }
+
+    // 로그인 직후 캐시 미리 채우기 (queue 가 가득 차면 prewarm 을 건너뛴다)
+    @Bean
+    public ThreadPoolTaskExecutor cachePrewarmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("cache-prewarm-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        return executor;
+    }
+
+    // 페이지 캐시 압축 통계 (actuator metrics 로 노출)
+    @Bean
+    public CompressionStats diaryPagingCompressionStats() {
+        return new CompressionStats("diaryPagingCache");
+    }
+
+    private RedisSerializer<RestPage<DiaryInfoResponse>> diaryPagingCacheSerializer() {
+        return new CompressingCacheSerializer<>(new DiaryPagingCacheSerializer(cacheCodec),
+                cachePolicies().get("diaryPagingCache").getCompressThresholdBytes(),
+                diaryPagingCompressionStats());
+    }
+
+    // 캐시 이름별 value 직렬화 크기 기록 (actuator metrics 로 노출)
+    private <T> RedisSerializer<T> metered(String cacheName, RedisSerializer<T> serializer) {
+        return new MeteredCacheSerializer<>(cacheName, serializer, cacheMetrics);
+    }
+
     @Bean
     public RedisTemplate<String, RestPage<DiaryInfoResponse>> diaryPageCacheRedisTemplate() {
         RedisTemplate<String, RestPage<DiaryInfoResponse>> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(basicCacheRedisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new DiaryPagingCacheSerializer());
+        redisTemplate.setValueSerializer(metered("diaryPagingCache", diaryPagingCacheSerializer()));
+
+        return redisTemplate;
+    }
+
+    // 사용자별 일기 타임라인 (ZSET + HASH)
+    @Bean
+    public RedisTemplate<String, DiaryInfoResponse> diaryTimelineRedisTemplate() {
+        RedisTemplate<String, DiaryInfoResponse> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(basicCacheRedisConnectionFactory());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(metered("diaryTimeline", new DiaryInfoCacheSerializer(cacheCodec)));
 
         return redisTemplate;
     }
@@ -78,13 +189,24 @@ public class LocalCacheConfig {
         RedisTemplate<String, DiaryResponse> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(basicCacheRedisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new DiaryCacheSerializer());
+        redisTemplate.setValueSerializer(metered("diaryCache", new DiaryCacheSerializer(cacheCodec)));
 
         return redisTemplate;
     }
 
     @Bean
     public RedisTemplate<String, String> refreshTokenCacheRedisTemplate() {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(basicCacheRedisConnectionFactory());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(metered("refreshTokenCache", new StringRedisSerializer()));
+
+        return redisTemplate;
+    }
+
+    // 태그(사용자 id) -> 캐시 key 인덱스
+    @Bean
+    public RedisTemplate<String, String> cacheTagRedisTemplate() {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(basicCacheRedisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
@@ -98,7 +220,7 @@ public class LocalCacheConfig {
         RedisTemplate<String, MemberInfoResponse> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(basicCacheRedisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new MemberCacheSerializer());
+        redisTemplate.setValueSerializer(metered("memberCache", new MemberCacheSerializer(cacheCodec)));
 
         return redisTemplate;
     }
@@ -131,16 +253,17 @@ public class LocalCacheConfig {
         Map<String, RedisCacheConfiguration> configurations = new HashMap<>();  // 캐시 이름 저장, 캐시를 설정할 수 있는 configuration 설정
         configurations.put("refreshCache", defaultConfig.entryTtl(Duration.ofMinutes(30))); // 30분
         configurations.put("diaryCache", defaultConfig.entryTtl(Duration.ofDays(1))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new DiaryCacheSerializer()))); // 30분
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(metered("diaryCache", new DiaryCacheSerializer(cacheCodec))))); // 30분
         configurations.put("diaryPagingCache", defaultConfig.entryTtl(Duration.ofDays(1))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new DiaryPagingCacheSerializer()))); // 30분
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(metered("diaryPagingCache", diaryPagingCacheSerializer())))); // 30분
         configurations.put("memberCache", defaultConfig.entryTtl(Duration.ofDays(1))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new MemberCacheSerializer()))); // 30분
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(metered("memberCache", new MemberCacheSerializer(cacheCodec))))); // 30분
 
         return RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(basicCacheRedisConnectionFactory())
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(configurations)
+                .enableStatistics() // 캐시별 hit/miss/put/delete 통계 (actuator cache.gets 등으로 노출)
                 .build();
     }
 
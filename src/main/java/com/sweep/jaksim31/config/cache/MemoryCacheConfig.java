@@ -0,0 +1,124 @@
+package com.sweep.jaksim31.config.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sweep.jaksim31.adapter.cache.InMemoryKeyspace;
+import com.sweep.jaksim31.adapter.cache.SingleFlightLoader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 단일 노드 배포용 on-heap 캐시 (cache.backend=memory).
+ * Redis 없이 모든 캐시 adapter 와 CacheManager 가 크기 제한이 있는 Caffeine 캐시를 사용하며, ttl 정책은 Redis 모드와 같다.
+ * (Redis 자동 설정은 그대로 남아 있으므로 management.health.redis.enabled=false 로 health check 를 꺼둔다)
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "cache.backend", havingValue = "memory")
+public class MemoryCacheConfig {
+
+    // 데이터 entry 최대 개수 (태그 set 은 포함하지 않음)
+    @Value("${cache.memory.maximum-size:100000}")
+    private long maximumSize;
+
+    @Bean
+    public InMemoryKeyspace inMemoryKeyspace() {
+        return new InMemoryKeyspace(maximumSize);
+    }
+
+    // 캐시 이름별 정책 (TTL). 노드가 하나이므로 L1(near cache) 과 노드 간 load lock 은 사용하지 않는다.
+    @Bean
+    public CachePolicies cachePolicies() {
+        CachePolicy defaultPolicy = CachePolicy.builder().build();
+
+        return new CachePolicies(defaultPolicy)
+                .with("diaryCache", defaultPolicy.toBuilder()
+                        .ttlJitter(0.1)
+                        .refreshAheadBeta(1.0)
+                        .negativeTtl(Duration.ofMinutes(1))
+                        .build())
+                .with("memberCache", defaultPolicy.toBuilder()
+                        .ttlJitter(0.1)
+                        .refreshAheadBeta(1.0)
+                        .negativeTtl(Duration.ofMinutes(1))
+                        .build());
+    }
+
+    // 동시 miss 로딩을 프로세스 안에서만 합친다. (노드 간 lock 용 Redis 없음)
+    @Bean
+    public SingleFlightLoader singleFlightLoader() {
+        return new SingleFlightLoader(null);
+    }
+
+    // refresh-ahead 백그라운드 로딩 (queue 가 가득 차면 refresh 를 건너뛴다)
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        return executor;
+    }
+
+    // 로그인 직후 캐시 미리 채우기 (queue 가 가득 차면 prewarm 을 건너뛴다)
+    @Bean
+    public ThreadPoolTaskExecutor cachePrewarmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("cache-prewarm-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        return executor;
+    }
+
+    //     jackson LocalDateTime mapper
+    @Bean
+    public ObjectMapper objectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // timestamp 형식 안따르도록 설정
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.registerModules(new JavaTimeModule(), new Jdk8Module()); // LocalDateTime 매핑을 위해 모듈 활성화
+
+        return mapper;
+    }
+
+    // Redis CacheManager 와 같은 캐시 이름/유효기간
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(caffeine(Duration.ofHours(1)));
+        cacheManager.registerCustomCache("refreshCache", caffeine(Duration.ofMinutes(30)).build()); // 30분
+        cacheManager.registerCustomCache("diaryCache", caffeine(Duration.ofDays(1)).build());
+        cacheManager.registerCustomCache("diaryPagingCache", caffeine(Duration.ofDays(1)).build());
+        cacheManager.registerCustomCache("memberCache", caffeine(Duration.ofDays(1)).build());
+
+        return cacheManager;
+    }
+
+    private Caffeine<Object, Object> caffeine(Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats(); // 캐시별 hit/miss 통계 (actuator cache.gets 등으로 노출)
+    }
+}
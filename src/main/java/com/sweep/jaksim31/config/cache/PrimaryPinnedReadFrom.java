@@ -0,0 +1,33 @@
+package com.sweep.jaksim31.config.cache;
+
+import com.sweep.jaksim31.adapter.cache.PrimaryReadContext;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.models.role.RedisNodeDescription;
+
+import java.util.List;
+
+/**
+ * 기본 ReadFrom(ex. REPLICA_PREFERRED) 으로 읽되, 최근에 쓰기를 한 사용자의 요청({@link PrimaryReadContext})은 master 에서 읽는다.
+ * Lettuce 는 명령을 보내는 thread 에서 select 를 호출하므로 요청 thread 의 context 가 그대로 적용된다.
+ */
+public class PrimaryPinnedReadFrom extends ReadFrom {
+
+    private final ReadFrom delegate;
+
+    public PrimaryPinnedReadFrom(ReadFrom delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public List<RedisNodeDescription> select(Nodes nodes) {
+        if (PrimaryReadContext.isPinned())
+            return ReadFrom.UPSTREAM.select(nodes);
+        return delegate.select(nodes);
+    }
+
+    // 후보 노드 순서(master 우선/replica 우선)를 그대로 사용해야 한다.
+    @Override
+    protected boolean isOrderSensitive() {
+        return true;
+    }
+}
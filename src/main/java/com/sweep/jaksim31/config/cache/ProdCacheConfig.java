@@ -7,44 +7,76 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.CacheCodec;
+import com.sweep.jaksim31.adapter.cache.CacheMetrics;
+import com.sweep.jaksim31.adapter.cache.CompressingCacheSerializer;
+import com.sweep.jaksim31.adapter.cache.CompressionStats;
 import com.sweep.jaksim31.adapter.cache.DiaryCacheSerializer;
+import com.sweep.jaksim31.adapter.cache.DiaryInfoCacheSerializer;
 import com.sweep.jaksim31.adapter.cache.DiaryPagingCacheSerializer;
 import com.sweep.jaksim31.adapter.cache.MemberCacheSerializer;
+import com.sweep.jaksim31.adapter.cache.MeteredCacheSerializer;
 import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
 import com.sweep.jaksim31.dto.diary.DiaryResponse;
 import com.sweep.jaksim31.dto.member.MemberInfoResponse;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Profile("prod")
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis", matchIfMissing = true)
 @Configuration
 @RequiredArgsConstructor
 public class ProdCacheConfig {
     private final RedisInfo info;
+    private final CacheMetrics cacheMetrics;
+
+    // 캐시 value 직렬화 포맷 (구버전 노드가 모두 내려간 뒤 SMILE 로 전환)
+    @Value("${cache.codec:JSON}")
+    private CacheCodec cacheCodec;
+
+    // 페이지 캐시 압축 기준 크기 (0 이면 압축 안 함, 구버전 노드가 모두 내려간 뒤 활성화)
+    @Value("${cache.compression.threshold-bytes:0}")
+    private int compressThresholdBytes;
 
     @Bean
+    @Primary
     public LettuceConnectionFactory redisConnectionFactory(){
+        // cluster 모드는 Lettuce 가 slot 별 읽기 노드 선택을 캐싱하므로 요청 단위 master 읽기(read-your-writes)는 적용되지 않는다.
+        if (info.isCluster())
+            return clusterConnectionFactory(ReadFrom.REPLICA_PREFERRED);
+
         LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
-                .readFrom(ReadFrom.REPLICA_PREFERRED)	// replica에서 우선적으로 읽지만 replica에서 읽어오지 못할 경우 Master에서 읽어옴
+                .readFrom(new PrimaryPinnedReadFrom(ReadFrom.REPLICA_PREFERRED))	// replica에서 우선적으로 읽지만 replica에서 읽어오지 못할 경우 Master에서 읽어옴 (최근 쓰기를 한 사용자는 master)
                 .build();
         // replica 설정
         RedisStaticMasterReplicaConfiguration slaveConfig = new RedisStaticMasterReplicaConfiguration(info.getMaster().getHost(), info.getMaster().getPort());
@@ -53,12 +85,130 @@ public class ProdCacheConfig {
         return new LettuceConnectionFactory(slaveConfig, clientConfig);
     }
 
+    // Master/Replica 구성의 connection 은 Pub/Sub 을 지원하지 않으므로, 무효화 메시지 구독은 master 에 직접 연결한다.
+    // cluster 모드에서는 PUBLISH 가 모든 노드로 전파되므로 cluster connection 으로 구독한다.
+    @Bean
+    public LettuceConnectionFactory cacheInvalidationConnectionFactory() {
+        if (info.isCluster())
+            return clusterConnectionFactory(ReadFrom.UPSTREAM);
+
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(info.getMaster().getHost(), info.getMaster().getPort()));
+    }
+
+    // redis.mode=cluster 일 때의 connection (슬롯 이동/failover 시 topology 를 다시 읽어온다)
+    private LettuceConnectionFactory clusterConnectionFactory(ReadFrom readFrom) {
+        RedisClusterConfiguration clusterConfig = new RedisClusterConfiguration();
+        info.getNodes().forEach(node -> clusterConfig.clusterNode(node.getHost(), node.getPort()));
+        clusterConfig.setMaxRedirects(info.getMaxRedirects());
+
+        ClusterTopologyRefreshOptions topologyRefreshOptions = ClusterTopologyRefreshOptions.builder()
+                .enablePeriodicRefresh(Duration.ofMinutes(1))
+                .enableAllAdaptiveRefreshTriggers()   // MOVED/ASK redirect, 연결 실패 시 즉시 갱신
+                .build();
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .readFrom(readFrom)
+                .clientOptions(ClusterClientOptions.builder()
+                        .topologyRefreshOptions(topologyRefreshOptions)
+                        .build())
+                .build();
+        return new LettuceConnectionFactory(clusterConfig, clientConfig);
+    }
+
+    // 노드 간 L1(near cache) 무효화 메시지 구독
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cacheInvalidationConnectionFactory());
+
+        return container;
+    }
+
+    // 캐시 이름별 정책 (Redis TTL, L1 크기/유효기간)
+    @Bean
+    public CachePolicies cachePolicies() {
+        CachePolicy defaultPolicy = CachePolicy.builder().build();
+
+        return new CachePolicies(defaultPolicy)
+                .with("diaryCache", defaultPolicy.toBuilder()
+                        .nearCacheMaximumSize(10_000)
+                        .nearCacheTtl(Duration.ofSeconds(30))
+                        .ttlJitter(0.1)
+                        .refreshAheadBeta(1.0)
+                        .negativeTtl(Duration.ofMinutes(1))
+                        .build())
+                .with("memberCache", defaultPolicy.toBuilder()
+                        .nearCacheMaximumSize(10_000)
+                        .nearCacheTtl(Duration.ofSeconds(30))
+                        .ttlJitter(0.1)
+                        .refreshAheadBeta(1.0)
+                        .negativeTtl(Duration.ofMinutes(1))
+                        .build())
+                .with("diaryPagingCache", defaultPolicy.toBuilder()
+                        .compressThresholdBytes(compressThresholdBytes)
+                        .loadLockTtl(Duration.ofSeconds(3))
+                        .build());
+    }
+
+    // refresh-ahead 백그라운드 로딩 (queue 가 가득 차면 refresh 를 건너뛴다)
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        return executor;
+    }
+
+    // 로그인 직후 캐시 미리 채우기 (queue 가 가득 차면 prewarm 을 건너뛴다)
+    @Bean
+    public ThreadPoolTaskExecutor cachePrewarmExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("cache-prewarm-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        return executor;
+    }
+
+    // 페이지 캐시 압축 통계 (actuator metrics 로 노출)
+    @Bean
+    public CompressionStats diaryPagingCompressionStats() {
+        return new CompressionStats("diaryPagingCache");
+    }
+
+    private RedisSerializer<RestPage<DiaryInfoResponse>> diaryPagingCacheSerializer() {
+        return new CompressingCacheSerializer<>(new DiaryPagingCacheSerializer(cacheCodec),
+                cachePolicies().get("diaryPagingCache").getCompressThresholdBytes(),
+                diaryPagingCompressionStats());
+    }
+
+    // 캐시 이름별 value 직렬화 크기 기록 (actuator metrics 로 노출)
+    private <T> RedisSerializer<T> metered(String cacheName, RedisSerializer<T> serializer) {
+        return new MeteredCacheSerializer<>(cacheName, serializer, cacheMetrics);
+    }
+
     @Bean
     public RedisTemplate<String, RestPage<DiaryInfoResponse>> diaryPageCacheRedisTemplate() {
         RedisTemplate<String, RestPage<DiaryInfoResponse>> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new DiaryPagingCacheSerializer());
+        redisTemplate.setValueSerializer(metered("diaryPagingCache", diaryPagingCacheSerializer()));
+
+        return redisTemplate;
+    }
+
+    // 사용자별 일기 타임라인 (ZSET + HASH)
+    @Bean
+    public RedisTemplate<String, DiaryInfoResponse> diaryTimelineRedisTemplate() {
+        RedisTemplate<String, DiaryInfoResponse> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(metered("diaryTimeline", new DiaryInfoCacheSerializer(cacheCodec)));
 
         return redisTemplate;
     }
@@ -68,13 +218,24 @@ public class ProdCacheConfig {
         RedisTemplate<String, DiaryResponse> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new DiaryCacheSerializer());
+        redisTemplate.setValueSerializer(metered("diaryCache", new DiaryCacheSerializer(cacheCodec)));
 
         return redisTemplate;
     }
 
     @Bean
     public RedisTemplate<String, String> refreshTokenCacheRedisTemplate() {
+        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory());
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(metered("refreshTokenCache", new StringRedisSerializer()));
+
+        return redisTemplate;
+    }
+
+    // 태그(사용자 id) -> 캐시 key 인덱스
+    @Bean
+    public RedisTemplate<String, String> cacheTagRedisTemplate() {
         RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
@@ -88,7 +249,7 @@ public class ProdCacheConfig {
         RedisTemplate<String, MemberInfoResponse> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new MemberCacheSerializer());
+        redisTemplate.setValueSerializer(metered("memberCache", new MemberCacheSerializer(cacheCodec)));
 
         return redisTemplate;
     }
@@ -121,16 +282,17 @@ public class ProdCacheConfig {
         Map<String, RedisCacheConfiguration> configurations = new HashMap<>();  // 캐시 이름 저장, 캐시를 설정할 수 있는 configuration 설정
         configurations.put("refreshCache", defaultConfig.entryTtl(Duration.ofMinutes(30))); // 30분
         configurations.put("diaryCache", defaultConfig.entryTtl(Duration.ofDays(1))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new DiaryCacheSerializer()))); // 30분
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(metered("diaryCache", new DiaryCacheSerializer(cacheCodec))))); // 30분
         configurations.put("diaryPagingCache", defaultConfig.entryTtl(Duration.ofDays(1))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new DiaryPagingCacheSerializer()))); // 30분
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(metered("diaryPagingCache", diaryPagingCacheSerializer())))); // 30분
         configurations.put("memberCache", defaultConfig.entryTtl(Duration.ofDays(1))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new MemberCacheSerializer()))); // 30분
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(metered("memberCache", new MemberCacheSerializer(cacheCodec))))); // 30분
 
         return RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(redisConnectionFactory())
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(configurations)
+                .enableStatistics() // 캐시별 hit/miss/put/delete 통계 (actuator cache.gets 등으로 노출)
                 .build();
     }
 }
\ No newline at end of file
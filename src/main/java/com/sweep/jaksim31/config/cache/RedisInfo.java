@@ -14,9 +14,20 @@ import java.util.List;
 @ConfigurationProperties(prefix = "redis")  // 설정 값을 불러올 때 prefix 값을 지정할 수 있다.
 @Configuration
 public class RedisInfo {
+    public static final String MODE_CLUSTER = "cluster";
+
     private String host;
     private int port;
     private RedisInfo master;
     private List<RedisInfo> slaves;
+    // 연결 방식 (master-replica(기본) / cluster)
+    private String mode = "master-replica";
+    // cluster 모드의 seed 노드 목록
+    private List<RedisInfo> nodes;
+    private int maxRedirects = 3;
+
+    public boolean isCluster() {
+        return MODE_CLUSTER.equalsIgnoreCase(mode);
+    }
 }
 
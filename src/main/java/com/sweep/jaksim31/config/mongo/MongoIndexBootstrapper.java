@@ -0,0 +1,157 @@
+package com.sweep.jaksim31.config.mongo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * packageName :  com.sweep.jaksim31.config.mongo
+ * fileName : MongoIndexBootstrapper
+ * author :  방근호
+ * date : 2026-10-18
+ * description : document class 에 선언된 index(@Indexed, @CompoundIndex) 를 시작 시 백그라운드로 생성하고,
+ *               collection 의 실제 index 와 비교하여 누락(missing)/선언되지 않은(extra) index 를 보고한다. (actuator health : mongoIndexes)
+ *               spring data 의 auto-index-creation 은 시작을 막으므로 사용하지 않고, 생성 실패(예: 중복 loginId) 는 로그와 health 로 남긴다.
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+
+@Slf4j
+@Component
+public class MongoIndexBootstrapper {
+
+    // 모든 collection 에 자동으로 생성되는 index
+    private static final String ID_INDEX = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private volatile boolean completed;
+
+
+    public MongoIndexBootstrapper(MongoTemplate mongoTemplate,
+                                  @Value("${mongo.index-bootstrap.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    // 요청 처리를 막지 않도록 별도 thread 에서 생성 (이미 있는 index 는 그대로 둔다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        if (!enabled)
+            return;
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mongo-index-bootstrap");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(this::ensureIndexes);
+        executor.shutdown();
+    }
+
+    void ensureIndexes() {
+        declaredIndexes().forEach((collection, indexes) -> indexes.forEach(index -> {
+            try {
+                mongoTemplate.indexOps(collection).ensureIndex(background(index));
+            } catch (RuntimeException e) {
+                log.error("mongo index creation failed. collection = {}, index = {}", collection, index.getIndexOptions().get("name"), e);
+            }
+        }));
+        completed = true;
+
+        verify().forEach((collection, report) -> {
+            if (!report.get("missing").isEmpty() || !report.get("extra").isEmpty())
+                log.warn("mongo index mismatch. collection = {}, report = {}", collection, report);
+        });
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * 선언된 index 와 collection 의 index 비교 (이름과 key 가 모두 같아야 같은 index)
+     * @return collection -> (missing, extra) -> index 이름(key)
+     */
+    public Map<String, Map<String, List<String>>> verify() {
+        Map<String, Map<String, List<String>>> reports = new TreeMap<>();
+        declaredIndexes().forEach((collection, indexes) -> {
+            Set<String> declared = new TreeSet<>();
+            indexes.forEach(index -> declared.add(describe(index.getIndexOptions().getString("name"), index.getIndexKeys())));
+
+            Set<String> existing = new TreeSet<>();
+            for (IndexInfo info : mongoTemplate.indexOps(collection).getIndexInfo()) {
+                if (ID_INDEX.equals(info.getName()))
+                    continue;
+                Document keys = new Document();
+                info.getIndexFields().forEach(field -> keys.append(field.getKey(),
+                        Objects.isNull(field.getDirection()) ? 1 : (field.getDirection().isAscending() ? 1 : -1)));
+                existing.add(describe(info.getName(), keys));
+            }
+
+            Map<String, List<String>> report = new LinkedHashMap<>();
+            report.put("missing", difference(declared, existing));
+            report.put("extra", difference(existing, declared));
+            reports.put(collection, report);
+        });
+        return reports;
+    }
+
+    // document class 별 선언된 index (mapping context 에 등록된 @Document class)
+    Map<String, List<IndexDefinition>> declaredIndexes() {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext = mongoTemplate.getConverter().getMappingContext();
+        IndexResolver resolver = IndexResolver.create(mappingContext);
+
+        Map<String, List<IndexDefinition>> indexes = new TreeMap<>();
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class))
+                continue;
+            List<IndexDefinition> definitions = new ArrayList<>();
+            resolver.resolveIndexFor(entity.getTypeInformation()).forEach(definitions::add);
+            if (!definitions.isEmpty())
+                indexes.computeIfAbsent(entity.getCollection(), k -> new ArrayList<>()).addAll(definitions);
+        }
+        return indexes;
+    }
+
+    private static IndexDefinition background(IndexDefinition index) {
+        Document options = new Document(index.getIndexOptions()).append("background", true);
+        return new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return index.getIndexKeys();
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return options;
+            }
+        };
+    }
+
+    private static String describe(String name, Document keys) {
+        return name + keys.toJson();
+    }
+
+    private static List<String> difference(Set<String> from, Set<String> excluded) {
+        List<String> difference = new ArrayList<>(from);
+        difference.removeAll(excluded);
+        return difference;
+    }
+}
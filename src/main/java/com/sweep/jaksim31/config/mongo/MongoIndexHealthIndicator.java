@@ -0,0 +1,44 @@
+package com.sweep.jaksim31.config.mongo;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * packageName :  com.sweep.jaksim31.config.mongo
+ * fileName : MongoIndexHealthIndicator
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 선언된 index 와 collection 의 실제 index 비교 결과 (actuator health : mongoIndexes)
+ *               누락된 index 가 있어도 요청은 처리할 수 있으므로 UP 으로 두고, details 로 missing/extra 를 보고한다.
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+
+@Component("mongoIndexes")
+public class MongoIndexHealthIndicator extends AbstractHealthIndicator {
+
+    private final MongoIndexBootstrapper mongoIndexBootstrapper;
+
+
+    public MongoIndexHealthIndicator(MongoIndexBootstrapper mongoIndexBootstrapper) {
+        super("mongo index verification failed");
+        this.mongoIndexBootstrapper = mongoIndexBootstrapper;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        Map<String, Map<String, List<String>>> reports = mongoIndexBootstrapper.verify();
+        boolean missing = reports.values().stream().anyMatch(report -> !report.get("missing").isEmpty());
+
+        builder.up()
+                .withDetail("bootstrapCompleted", mongoIndexBootstrapper.isCompleted())
+                .withDetail("missingIndexes", missing)
+                .withDetail("collections", reports);
+    }
+}
@@ -1,6 +1,7 @@
 package com.sweep.jaksim31.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sweep.jaksim31.adapter.cache.CachedResponseBody;
 import com.sweep.jaksim31.dto.diary.*;
 import com.sweep.jaksim31.dto.diary.validator.DiaryAnalysisRequestValidator;
 import com.sweep.jaksim31.dto.diary.validator.DiarySaveRequestValidator;
@@ -15,7 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.simple.parser.ParseException;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -56,6 +57,9 @@ import java.util.Map;
  * 2023-01-21           김주현             Validation 추가
  * 2023-01-26           김주현             사용자 일기 조회 조건에 searchWord(검색어) 추가
  * 2023-02-01           김주현             PathValue(ObjectId_diaryId,userId) validation 추가
+ * 2026-10-18           방근호             사용자 일기 조회 시 캐싱된 응답 body(byte) 를 ETag 와 함께 그대로 응답
+ *                      방근호             사용자 일기 조회 cursor(keyset) pagination 추가 (cursor, limit)
+ *                      방근호             searchWord 검색 결과를 검색 점수 순(sort 가 없을 때) 으로 정렬하고 highlight 응답
 */
 
 @Slf4j
@@ -67,6 +71,9 @@ import java.util.Map;
 public class DiaryApiController {
     private final DiaryServiceImpl diaryService;
     private final String idPattern = "^[a-zA-Z0-9]{24}$";
+    // 사용자 일기 조회를 직렬화된 응답 body 캐시로 응답 (false 면 RestPage 를 MVC 가 직렬화)
+    @Value("${cache.diary-page.response-body:true}")
+    private boolean responseBodyCache;
     @InitBinder
     public void init(WebDataBinder binder) {
         binder.addValidators(new DiarySaveRequestValidator(), new DiaryThumbnailRequestValidator(), new DiaryAnalysisRequestValidator());
@@ -108,12 +115,22 @@ public class DiaryApiController {
     }
 
     // 사용자 일기 조회
-    @Operation(summary = "사용자 일기 조회", description = "해당 사용자의 일기를 조회합니다. 조회 조건(Query parameter)이 없을 경우 해당 사용자의 전체 일기가 조회됩니다.")
+    @Operation(summary = "사용자 일기 조회", description = "해당 사용자의 일기를 조회합니다. 조회 조건(Query parameter)이 없을 경우 해당 사용자의 전체 일기가 조회됩니다. cursor 또는 limit 을 보내면 cursor 방식으로 조회하고 응답의 nextCursor 로 다음 페이지를 조회합니다. 본문 검색 index 를 사용하는 경우(search.lucene.enabled=true) searchWord 로 검색하면 sort 가 없을 때 검색 점수 순으로 정렬되고, 각 일기의 highlight 에 검색어가 강조된 본문 일부가 포함됩니다.")
     @GetMapping(value = "{userId}")
-    public ResponseEntity<Page<DiaryInfoResponse>> findUserDiary(@Pattern(regexp = idPattern)@PathVariable String userId, @RequestParam(required = false) String page, @RequestParam(required = false) String size, @RequestParam(required = false) String sort, @RequestParam(required = false) Map<String, Object> params){
-        if(params.containsKey("emotion") || params.containsKey("startDate") || params.containsKey("endDate") || params.containsKey("searchWord")){
-            // 페이징 및 정렬 외에 다른 조건이 있다면 ElasticSearch로 검색
+    public ResponseEntity<?> findUserDiary(@Pattern(regexp = idPattern)@PathVariable String userId, @RequestParam(required = false) String page, @RequestParam(required = false) String size, @RequestParam(required = false) String sort, @RequestParam(required = false) Map<String, Object> params){
+        if(params.containsKey("cursor") || params.containsKey("limit")){
+            // cursor 또는 limit 이 있으면 cursor(keyset) pagination 으로 조회 (검색 조건도 함께 적용)
+            return ResponseEntity.ok(diaryService.findDiariesByCursor(userId, params));
+        }else if(params.containsKey("emotion") || params.containsKey("startDate") || params.containsKey("endDate") || params.containsKey("searchWord")){
+            // 페이징 및 정렬 외에 다른 조건이 있다면 검색 (searchWord 는 본문 검색 index 로 조회)
             return ResponseEntity.ok(diaryService.findDiaries(userId, params));
+        }else if(responseBodyCache){
+            // 페이징 및 정렬 조건만 있으면 사용자 일기 전체 조회 (캐싱된 body 를 그대로 응답, If-None-Match 가 같으면 304)
+            CachedResponseBody body = diaryService.findUserDiariesBody(userId, params);
+            return ResponseEntity.ok()
+                    .contentType(body.getContentType())
+                    .eTag(body.getEtag())
+                    .body(body.getBody());
         }else
             // 페이징 및 정렬 조건만 있으면 사용자 일기 전체 조회
             return ResponseEntity.ok(diaryService.findUserDiaries(userId, params));
@@ -4,6 +4,8 @@ import com.sweep.jaksim31.dto.diary.DiarySaveRequest;
 import lombok.*;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
@@ -21,12 +23,20 @@ import java.time.LocalDateTime;
  * -----------------------------------------------------------
  * 2023-01-09                김주현             최초 생성
  * 2023-01-18                김주현      id data type 변경(ObjectId -> String)
+ * 2026-10-18                방근호      사용자별 날짜 정렬 조회, 감정 통계용 compound index 추가
+ *                           방근호      cursor pagination 정렬(date, _id) 을 index 로 처리하도록 userId_date 에 _id 추가
  */
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Document(collection="diary")
+@CompoundIndexes({
+        // 사용자 일기 목록/검색(date 정렬), 날짜별 일기 조회, cursor pagination((date, _id) 정렬)
+        @CompoundIndex(name = "userId_date_id", def = "{'userId': 1, 'date': -1, '_id': -1}"),
+        // 감정 통계($match userId, date 범위 + group emotion), 감정 조건 검색
+        @CompoundIndex(name = "userId_emotion_date", def = "{'userId': 1, 'emotion': 1, 'date': 1}")
+})
 public class Diary {
     @Id
     private String id;
@@ -19,9 +19,10 @@ import java.util.Optional;
  * 2023-01-11           김주현             사용자 id와 날짜로 조회하는 method 추가
  * 2023-01-15           김주현             일기 검색 method에 날짜로 정렬 추가
  * 2023-01-18           김주현             id data type 변경(ObjectId -> String)
+ * 2026-10-18           방근호             목록용 요약 조회(DiaryRepositoryCustom) 추가
  */
 
-public interface DiaryRepository extends MongoRepository<Diary, String> {
+public interface DiaryRepository extends MongoRepository<Diary, String>, DiaryRepositoryCustom {
     List<Diary> findAll();
     Optional<Diary> findById(String id);
 
@@ -0,0 +1,26 @@
+package com.sweep.jaksim31.domain.diary;
+
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+/**
+ * packageName :  com.sweep.jaksim31.domain.diary
+ * fileName : DiaryRepositoryCustom
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 일기 목록용 요약 조회 (content 를 제외한 field 만 읽어 DiaryInfoResponse 로 반환)
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+
+public interface DiaryRepositoryCustom {
+    // 사용자의 전체 일기 요약
+    List<DiaryInfoResponse> findSummariesByUserId(String userId);
+
+    // query 의 조건/정렬/skip/limit 그대로 요약 조회
+    List<DiaryInfoResponse> findSummaries(Query query);
+}
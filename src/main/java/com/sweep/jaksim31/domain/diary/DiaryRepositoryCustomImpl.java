@@ -0,0 +1,47 @@
+package com.sweep.jaksim31.domain.diary;
+
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * packageName :  com.sweep.jaksim31.domain.diary
+ * fileName : DiaryRepositoryCustomImpl
+ * author :  방근호
+ * date : 2026-10-18
+ * description : DiaryRepositoryCustom 구현. 요약 field 만 projection 하여 document 를 바로 DiaryInfoResponse 로 변환한다.
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+
+public class DiaryRepositoryCustomImpl implements DiaryRepositoryCustom {
+
+    private static final String COLLECTION = "diary";
+
+    private final MongoTemplate mongoTemplate;
+
+
+    public DiaryRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<DiaryInfoResponse> findSummariesByUserId(String userId) {
+        return findSummaries(Query.query(Criteria.where("userId").is(userId)));
+    }
+
+    // entity mapping 없이 document 를 읽는 즉시 변환 (중간 Diary 객체, content 문자열을 만들지 않음)
+    @Override
+    public List<DiaryInfoResponse> findSummaries(Query query) {
+        List<DiaryInfoResponse> summaries = new ArrayList<>();
+        mongoTemplate.executeQuery(DiarySummaryProjection.include(query), COLLECTION,
+                document -> summaries.add(DiarySummaryProjection.read(document)));
+        return summaries;
+    }
+}
@@ -0,0 +1,65 @@
+package com.sweep.jaksim31.domain.diary;
+
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ProjectionOperation;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * packageName :  com.sweep.jaksim31.domain.diary
+ * fileName : DiarySummaryProjection
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 일기 목록용 요약 field projection.
+ *               목록 응답(DiaryInfoResponse)에 없는 content 는 Mongo 에서 읽지 않고,
+ *               조회한 document 를 Diary entity 를 거치지 않고 바로 DiaryInfoResponse 로 변환한다.
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+public final class DiarySummaryProjection {
+
+    // DiaryInfoResponse 에 필요한 field (_id 는 기본으로 포함)
+    public static final String[] FIELDS = {"userId", "date", "modifyDate", "emotion", "keywords", "thumbnail"};
+
+    private DiarySummaryProjection() {
+    }
+
+    // find 용 projection. 전달한 query 에 요약 field 만 포함하도록 설정한다.
+    public static Query include(Query query) {
+        query.fields().include(FIELDS);
+        return query;
+    }
+
+    // aggregation 용 projection ($project)
+    public static ProjectionOperation stage() {
+        return Aggregation.project(FIELDS);
+    }
+
+    // 요약 document -> DiaryInfoResponse
+    // (날짜는 MappingMongoConverter 와 같이 system default zone 기준으로 LocalDateTime 변환 후 날짜만 사용)
+    public static DiaryInfoResponse read(Document document) {
+        List<String> keywords = document.getList("keywords", String.class);
+        return new DiaryInfoResponse(
+                Objects.toString(document.get("_id"), null),
+                document.getString("userId"),
+                toLocalDate(document.getDate("date")),
+                toLocalDate(document.getDate("modifyDate")),
+                document.getString("emotion"),
+                Objects.isNull(keywords) ? null : keywords.toArray(new String[0]),
+                document.getString("thumbnail"));
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return Objects.isNull(date) ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()).toLocalDate();
+    }
+}
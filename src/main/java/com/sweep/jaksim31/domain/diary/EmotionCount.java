@@ -0,0 +1,48 @@
+package com.sweep.jaksim31.domain.diary;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * packageName :  com.sweep.jaksim31.domain.diary
+ * fileName : EmotionCount
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 사용자별 일/월 단위 감정 개수 (감정 통계 counter)
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ * 2026-10-18           방근호             생성 완료 표시에 갱신 순번(seq), 생성 완료 여부(built) 추가
+ *                      방근호             생성 완료 표시에 rebuild lease 만료 시각(rebuildingUntil) 추가
+ */
+
+@Getter
+@NoArgsConstructor
+@Document(collection = "emotionCount")
+@CompoundIndex(name = "userId_unit_period", def = "{'userId': 1, 'unit': 1, 'period': 1}")
+public class EmotionCount {
+
+    // 일 단위 (period = yyyy-MM-dd)
+    public static final String UNIT_DAY = "DAY";
+    // 월 단위 (period = yyyy-MM)
+    public static final String UNIT_MONTH = "MONTH";
+    // counter 생성 완료 표시 (period 없음)
+    public static final String UNIT_BUILT = "BUILT";
+
+    @Id
+    private String id;          // userId:period
+    private String userId;
+    private String unit;
+    private String period;
+    private Map<String, Integer> counts = new HashMap<>();  // 감정 -> 개수
+    private long seq;           // 생성 완료 표시 : counter 갱신 순번 (갱신마다 +1)
+    private boolean built;      // 생성 완료 표시 : rebuild 도중 갱신이 없었을 때만 true
+    private Long rebuildingUntil;   // 생성 완료 표시 : rebuild lease 만료 시각 (epoch millis, rebuild 중이 아니면 없음)
+}
@@ -9,6 +9,7 @@ import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -32,6 +33,7 @@ import java.util.stream.Collectors;
  * 2023-01-19           방근호             updateTime 수정(9시간 추가)
  * 2023-01-28           김주현             ""면 업데이트 하지 않도록 조건 추가
  * 2023-01-31           김주현             recentDiaries -> recentDiary(DiaryInfoResponse)
+ * 2026-10-18           방근호             loginId unique index 추가
  */
 
 @Getter
@@ -44,6 +46,7 @@ public class Members {
     @Id
     private String id;
 
+    @Indexed(name = "loginId", unique = true)
     private String loginId; // 사용자 로그인 아이디
     private String password;
     private String username;
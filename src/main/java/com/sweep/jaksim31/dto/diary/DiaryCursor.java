@@ -0,0 +1,53 @@
+package com.sweep.jaksim31.dto.diary;
+
+import com.sweep.jaksim31.enums.DiaryExceptionType;
+import com.sweep.jaksim31.exception.BizException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * packageName :  com.sweep.jaksim31.dto.diary
+ * fileName : DiaryCursor
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 일기 목록 cursor(keyset) pagination 의 위치. 마지막으로 읽은 일기의 (날짜, id) 를
+ *               클라이언트가 해석하지 않도록 base64url 문자열로 인코딩한다.
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+@Getter
+@AllArgsConstructor
+public class DiaryCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDate date;
+    private final String diaryId;
+
+    public static DiaryCursor of(DiaryInfoResponse diary) {
+        return new DiaryCursor(diary.getDiaryDate(), diary.getDiaryId());
+    }
+
+    public String encode() {
+        String raw = date + SEPARATOR + diaryId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DiaryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || separator == raw.length() - 1)
+                throw new BizException(DiaryExceptionType.INVALID_CURSOR);
+            return new DiaryCursor(LocalDate.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BizException(DiaryExceptionType.INVALID_CURSOR);
+        }
+    }
+}
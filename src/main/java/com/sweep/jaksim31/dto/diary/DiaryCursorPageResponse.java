@@ -0,0 +1,30 @@
+package com.sweep.jaksim31.dto.diary;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * packageName :  com.sweep.jaksim31.dto.diary
+ * fileName : DiaryCursorPageResponse
+ * author :  방근호
+ * date : 2026-10-18
+ * description : cursor(keyset) pagination 일기 목록 응답 DTO (nextCursor 가 null 이면 마지막 페이지)
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DiaryCursorPageResponse {
+    private List<DiaryInfoResponse> content;
+    private int limit;
+    private String nextCursor;
+
+    public static DiaryCursorPageResponse of(List<DiaryInfoResponse> content, int limit, String nextCursor) {
+        return new DiaryCursorPageResponse(content, limit, nextCursor);
+    }
+}
@@ -1,5 +1,6 @@
 package com.sweep.jaksim31.dto.diary;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sweep.jaksim31.domain.diary.Diary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,6 +24,7 @@ import java.time.LocalDate;
  * 2023-01-13                방근호             클래스 이름 변경
  * 2023-01-17                김주현             contents field 삭제
  * 2023-01-19                김주현             date -> diary date
+ * 2026-10-18                방근호             본문 검색 결과의 검색어 강조(highlight) field 추가
  */
 @Data
 @AllArgsConstructor
@@ -37,6 +39,13 @@ public class DiaryInfoResponse {
     private String emotion;
     private String[] keywords;
     private String thumbnail;
+    // 본문 검색 결과에서 검색어가 포함된 본문 일부 (검색어는 <em> 으로 강조, 검색이 아니면 응답에서 제외)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String highlight;
+
+    public DiaryInfoResponse(String diaryId, String userId, LocalDate diaryDate, LocalDate modifyDate, String emotion, String[] keywords, String thumbnail) {
+        this(diaryId, userId, diaryDate, modifyDate, emotion, keywords, thumbnail, null);
+    }
 
     public static DiaryInfoResponse of(Diary diary){
         return new DiaryInfoResponse(diary.getId(), diary.getUserId(), diary.getDate().toLocalDate(), diary.getModifyDate().toLocalDate(), diary.getEmotion(), diary.getKeywords(), diary.getThumbnail());
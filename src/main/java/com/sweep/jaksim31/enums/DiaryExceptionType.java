@@ -17,6 +17,7 @@ import org.springframework.http.HttpStatus;
  * 2023-01-15                방근호            DELETE_NOT_FOUND_USER 추가
  * 2023-01-20                김주현            NO_PERMISSION 추가
  * 2023-01-21                김주현            Validation 관련 Exception type 추가
+ * 2026-10-18                방근호            INVALID_CURSOR 추가
  */
 @Getter
 public enum DiaryExceptionType implements BaseExceptionType {
@@ -29,6 +30,7 @@ public enum DiaryExceptionType implements BaseExceptionType {
     DELETE_NOT_FOUND_DIARY("ALREADY_NOT_EXIST_DIARY", "존재하지 않는 일기입니다.", HttpStatus.OK),
     // Validation Exception type
     INVALID_ID("INVALID_ID", "잘못 된 ID 값입니다.",HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("INVALID_CURSOR", "잘못 된 cursor 값입니다.",HttpStatus.BAD_REQUEST),
     USER_ID_IS_NULL("USER_ID_IS_NULL", "사용자 ID가 입력되지 않았습니다.",HttpStatus.BAD_REQUEST),
     DIARY_ID_IS_NULL("DIARY_ID_IS_NULL", "Diary ID가 입력되지 않았습니다.",HttpStatus.BAD_REQUEST),
     CONTENT_IS_NULL("CONTENT_IS_NULL", "일기 내용이 입력되지 않았습니다.",HttpStatus.BAD_REQUEST),
@@ -2,6 +2,7 @@ package com.sweep.jaksim31.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.CachedResponseBody;
 import com.sweep.jaksim31.dto.diary.*;
 import org.json.simple.parser.ParseException;
 
@@ -28,6 +29,8 @@ import java.util.Map;
  *                      김주현             일기 삭제 service input 값에 userId 추가
  * 2023-01-23           방근호             Method Return type에 ResponseEntity 제거
  * 2023-01-24           방근호             Page -> RestPage 수정
+ * 2026-10-18           방근호             findUserDiariesBody 메소드 추가
+ *                      방근호             findDiariesByCursor 메소드 추가
  */
 
 public interface DiaryService {
@@ -37,6 +40,9 @@ public interface DiaryService {
     // 사용자 일기 전체 조회
     RestPage<DiaryInfoResponse> findUserDiaries(String userId, Map params);
 
+    // 사용자 일기 전체 조회 (직렬화된 API 응답 body)
+    CachedResponseBody findUserDiariesBody(String userId, Map params);
+
     // 일기 생성
     String saveDiary(HttpServletResponse response, DiarySaveRequest diarySaveRequest);
 
@@ -52,6 +58,9 @@ public interface DiaryService {
     // 일기 검색
     RestPage<DiaryInfoResponse> findDiaries(String userId, Map<String, Object> params);
 
+    // 일기 목록/검색 cursor(keyset) pagination
+    DiaryCursorPageResponse findDiariesByCursor(String userId, Map<String, Object> params);
+
     // 일기 분석
     DiaryAnalysisResponse analyzeDiary(DiaryAnalysisRequest diaryAnalysisRequest) throws JsonProcessingException, ParseException;
 
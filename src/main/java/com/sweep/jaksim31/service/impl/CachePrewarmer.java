@@ -0,0 +1,123 @@
+package com.sweep.jaksim31.service.impl;
+
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
+import com.sweep.jaksim31.adapter.cache.CacheMetrics;
+import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
+import com.sweep.jaksim31.adapter.cache.RecentWriteTracker;
+import com.sweep.jaksim31.domain.members.MemberRepository;
+import com.sweep.jaksim31.domain.members.Members;
+import com.sweep.jaksim31.dto.member.MemberInfoResponse;
+import com.sweep.jaksim31.service.DiaryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * packageName :  com.sweep.jaksim31.service.impl
+ * fileName : CachePrewarmer
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 로그인 직후 사용자 정보 캐시와 첫 일기 페이지(타임라인)를 백그라운드에서 미리 채운다.
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             사용자 정보는 로그인 시점 값 대신 실행 시점에 DB 에서 읽고, 최근 정보 수정이 있으면 저장하지 않음
+ */
+
+@Slf4j
+@Component
+public class CachePrewarmer {
+
+
+    private final Executor cachePrewarmExecutor;
+    private final MemberCacheAdapter memberCacheAdapter;
+    private final MemberRepository memberRepository;
+    private final RecentWriteTracker recentWriteTracker;
+    private final DiaryService diaryService;
+    private final CacheMetrics cacheMetrics;
+
+    // kill switch (false 면 로그인 시 아무것도 하지 않음)
+    @Value("${cache.prewarm.enabled:true}")
+    private boolean enabled = true;
+
+    // 미리 채울 첫 페이지 수
+    @Value("${cache.prewarm.pages:1}")
+    private int pages = 1;
+
+    // 미리 채울 페이지 크기 (0 이면 findUserDiaries 기본값, 즉 전체 일기 한 페이지)
+    @Value("${cache.prewarm.page-size:0}")
+    private int pageSize = 0;
+
+
+    public CachePrewarmer(Executor cachePrewarmExecutor,
+                          MemberCacheAdapter memberCacheAdapter,
+                          MemberRepository memberRepository,
+                          RecentWriteTracker recentWriteTracker,
+                          DiaryService diaryService,
+                          CacheMetrics cacheMetrics) {
+        this.cachePrewarmExecutor = cachePrewarmExecutor;
+        this.memberCacheAdapter = memberCacheAdapter;
+        this.memberRepository = memberRepository;
+        this.recentWriteTracker = recentWriteTracker;
+        this.diaryService = diaryService;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    /**
+     * 로그인에 성공한 사용자의 캐시를 미리 채운다. 로그인 응답을 늦추지 않도록 실패/거절은 무시한다.
+     * @param members 로그인한 사용자
+     */
+    public void prewarm(Members members) {
+        if (!enabled) {
+            cacheMetrics.prewarm("disabled");
+            return;
+        }
+
+        try {
+            cachePrewarmExecutor.execute(() -> cacheMetrics.recordPrewarm(() -> run(members)));
+        } catch (RejectedExecutionException e) {
+            // executor 가 가득 찬 경우 이번 prewarm 은 건너뛰고, 첫 조회 시 평소처럼 캐시가 채워진다.
+            cacheMetrics.prewarm("rejected");
+        }
+    }
+
+    private void run(Members members) {
+        String userId = members.getId();
+        try {
+            // 사용자 정보 캐시 (getMyInfo)
+            prewarmMember(userId);
+
+            // 첫 페이지 조회 시 타임라인도 함께 생성되어, 다른 page/size 조회도 타임라인에서 처리된다.
+            for (int page = 0; page < pages; page++) {
+                Map<String, String> params = new HashMap<>();
+                params.put("page", String.valueOf(page));
+                if (pageSize > 0)
+                    params.put("size", String.valueOf(pageSize));
+                if (diaryService.findUserDiaries(userId, params).isLast())
+                    break;
+            }
+            cacheMetrics.prewarm("success");
+        } catch (RuntimeException e) {
+            log.debug("cache prewarm failed : {}", userId, e);
+            cacheMetrics.prewarm("failure");
+        }
+    }
+
+    // 로그인 시점의 사용자 정보는 그 사이 정보 수정으로 삭제된 캐시를 이전 값으로 되살릴 수 있으므로 실행 시점에 DB 에서 읽고,
+    // 읽은 뒤 정보 수정이 있었으면(수정 후 캐시 삭제와 순서가 섞였을 수 있음) 저장하지 않는다.
+    private void prewarmMember(String userId) {
+        MemberInfoResponse member = memberRepository.findById(userId)
+                .map(MemberInfoResponse::of)
+                .orElse(null);
+        if (Objects.isNull(member) || recentWriteTracker.isRecent(userId))
+            return;
+        memberCacheAdapter.put(CacheKeys.member(userId), member);
+    }
+}
@@ -0,0 +1,114 @@
+package com.sweep.jaksim31.service.impl;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.DiaryPagingCacheAdapter;
+import com.sweep.jaksim31.domain.diary.DiaryRepository;
+import com.sweep.jaksim31.domain.diary.DiarySummaryProjection;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.bson.Document;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * packageName :  com.sweep.jaksim31.service.impl
+ * fileName : DiaryQueryExecutor
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 일기 목록 페이지 조회 (페이지 데이터 + 전체 개수를 한 번의 DB 조회로 처리).
+ *               전체 개수를 이미 알고 있으면(조건 없는 조회의 Members.diaryTotal, 캐싱된 조건별 개수) find 만 실행하고,
+ *               모르면 $facet aggregation 하나로 데이터와 개수를 함께 읽은 뒤 개수를 조건 hash 로 캐싱한다.
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             요약 field projection 으로 조회 (content 제외, entity 변환 없음)
+ *                      방근호             개수 캐시를 거치지 않는 조건 검색 조회 추가
+ */
+
+@Component
+public class DiaryQueryExecutor {
+
+    private static final String COLLECTION = "diary";
+
+    private final MongoTemplate mongoTemplate;
+    private final DiaryRepository diaryRepository;
+    private final DiaryPagingCacheAdapter diaryPagingCacheAdapter;
+
+
+    public DiaryQueryExecutor(MongoTemplate mongoTemplate, DiaryRepository diaryRepository, DiaryPagingCacheAdapter diaryPagingCacheAdapter) {
+        this.mongoTemplate = mongoTemplate;
+        this.diaryRepository = diaryRepository;
+        this.diaryPagingCacheAdapter = diaryPagingCacheAdapter;
+    }
+
+    /**
+     * 전체 개수를 알고 있는 조회 (count 없이 find 한 번)
+     * @param total 조건에 맞는 전체 일기 개수
+     */
+    public RestPage<DiaryInfoResponse> page(Criteria criteria, Pageable pageable, long total) {
+        List<DiaryInfoResponse> content = diaryRepository.findSummaries(new Query(criteria).with(pageable));
+        return new RestPage<>(new PageImpl<>(content, pageable, total));
+    }
+
+    /**
+     * 조건 검색 조회. 캐싱된 개수가 있으면 find 만, 없으면 $facet(data + count) 한 번으로 조회한다.
+     * @param tag 개수 캐시를 등록할 태그(사용자 id). 일기 저장/수정/삭제 시 페이지 캐시와 함께 무효화된다.
+     * @param countKey 개수 캐시 key (CacheKeys.diaryCount)
+     */
+    public RestPage<DiaryInfoResponse> page(String tag, String countKey, Criteria criteria, Pageable pageable) {
+        Long cachedTotal = diaryPagingCacheAdapter.getCount(countKey);
+        if (Objects.nonNull(cachedTotal))
+            return page(criteria, pageable, cachedTotal);
+
+        RestPage<DiaryInfoResponse> page = page(criteria, pageable);
+        diaryPagingCacheAdapter.putCount(tag, countKey, page.getTotalElements());
+        return page;
+    }
+
+    /**
+     * 개수 캐시를 거치지 않는 조건 검색 조회. $facet(data + count) 한 번으로 조회한다.
+     */
+    public RestPage<DiaryInfoResponse> page(Criteria criteria, Pageable pageable) {
+        Document result = mongoTemplate.aggregate(facetAggregation(criteria, pageable), COLLECTION, Document.class)
+                .getUniqueMappedResult();
+
+        List<DiaryInfoResponse> content = new ArrayList<>();
+        long total = 0;
+        if (Objects.nonNull(result)) {
+            for (Document document : result.getList("data", Document.class, Collections.emptyList()))
+                content.add(DiarySummaryProjection.read(document));
+            List<Document> counts = result.getList("total", Document.class, Collections.emptyList());
+            if (!counts.isEmpty())
+                total = ((Number) counts.get(0).get("count")).longValue();
+        }
+
+        return new RestPage<>(new PageImpl<>(content, pageable, total));
+    }
+
+    // 조건으로 한 번 거른 뒤 페이지 데이터(data)와 전체 개수(total)를 한 문서로 반환
+    static Aggregation facetAggregation(Criteria criteria, Pageable pageable) {
+        List<AggregationOperation> data = new ArrayList<>();
+        if (pageable.getSort().isSorted())
+            data.add(Aggregation.sort(pageable.getSort()));
+        data.add(Aggregation.skip(pageable.getOffset()));
+        data.add(Aggregation.limit(pageable.getPageSize()));
+        // 목록에 필요한 요약 field 만 반환 (content 제외)
+        data.add(DiarySummaryProjection.stage());
+
+        return Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.facet(data.toArray(new AggregationOperation[0])).as("data")
+                        .and(Aggregation.count().as("count")).as("total"));
+    }
+}
@@ -4,8 +4,16 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sun.net.httpserver.Authenticator;
 import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.CacheEvictor;
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
+import com.sweep.jaksim31.adapter.cache.CachedResponseBody;
+import com.sweep.jaksim31.adapter.cache.CacheWriteQueue;
+import com.sweep.jaksim31.adapter.cache.DiaryCacheAdapter;
 import com.sweep.jaksim31.adapter.cache.DiaryPagingCacheAdapter;
+import com.sweep.jaksim31.adapter.cache.DiaryTimelineCacheAdapter;
 import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
+import com.sweep.jaksim31.adapter.cache.RecentWriteTracker;
+import com.sweep.jaksim31.adapter.search.DiarySearchIndex;
 import com.sweep.jaksim31.controller.feign.*;
 import com.sweep.jaksim31.controller.feign.config.UploadImageFeignConfig;
 import com.sweep.jaksim31.domain.diary.Diary;
@@ -30,9 +38,8 @@ import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -40,23 +47,26 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.*;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.annotation.Validated;
 
 import javax.servlet.http.HttpServletResponse;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -86,6 +96,30 @@ import java.util.stream.Collectors;
  * 2023-01-23           방근호             Method Return type에 ResponseEntity 제거
  *                      김주현             findDiaries 수정(날짜 검색 오류 수정 및 키워드 검색 추가)
  * 2023-02-01           김주현             마지막 남은 일기 삭제 시 recentDiary 설정 오류 수정
+ * 2026-10-18           방근호             개별 일기 캐시를 DiaryCacheAdapter(L1 + Redis) 로 조회/삭제하도록 변경
+ *                      방근호             페이징 캐시 삭제를 SCAN 대신 사용자 태그 인덱스로 처리
+ *                      방근호             사용자 일기 조회 cache miss 시 동시 조회를 single-flight 로 합침
+ *                      방근호             일기 캐시 refresh-ahead 적용
+ *                      방근호             존재하지 않는 사용자/일기 조회 negative cache 적용
+ *                      방근호             일기 저장/수정/삭제 시 페이징 캐시를 삭제하지 않고 직접 수정
+ *                      방근호             사용자 일기 조회를 Redis 타임라인(ZSET + HASH) 기반으로 변경
+ *                      방근호             캐시 저장/무효화를 CacheWriteQueue 로 실행 (async 모드 지원)
+ *                      방근호             캐시 key 를 CacheKeys(사용자 id hash tag) 로 생성 (Redis Cluster slot 정렬)
+ *                      방근호             일기 저장/수정/삭제 직후 해당 사용자의 캐시 조회는 master 에서 읽음 (read-your-writes)
+ *                      방근호             감정 통계를 일/월 단위 counter 합산으로 조회 (aggregation 은 fallback 및 counter 재생성에 사용)
+ *                      방근호             사용자 일기 목록 API 응답 body 를 직렬화된 byte 로 캐싱 (findUserDiariesBody)
+ *                      방근호             일기 검색 결과를 정규화한 조건 hash 로 캐싱 (페이지 캐시와 같은 태그로 무효화)
+ *                      방근호             일기 목록/검색 cursor(keyset) pagination 추가 (findDiariesByCursor)
+ *                      방근호             일기 검색을 DiaryQueryExecutor 로 조회 (조건 없으면 diaryTotal, 있으면 $facet 한 번 + 조건별 개수 캐시)
+ *                      방근호             일기 목록 조회는 content 를 제외한 요약 field 만 읽어 DiaryInfoResponse 로 바로 변환
+ *                      방근호             검색어 검색을 embedded 본문 검색 index(DiarySearchIndex) 로 조회 (점수 순 정렬, 검색어 강조)
+ *                      방근호             일기 수정 시 사용자/일기 캐시 삭제를 DB 저장 이후로 이동
+ *                      방근호             cursor 조회 정렬(date, _id) 을 userId_date_id index 로 처리
+ *                      방근호             타임라인 재생성은 DB 조회 전 쓰기 순번과 같을 때만 교체
+ *                      방근호             개별 일기 캐시 저장 시 사용자 태그 등록 제거 (태그는 페이징 캐시에만 사용)
+ *                      방근호             async 캐시 쓰기가 queue 에 남아 있는 사용자의 목록/body/검색/일기 조회는 캐시를 건너뛰고 DB 에서 읽음
+ *                      방근호             일기 수정/삭제 시 사용자/개별 일기 캐시를 CacheEvictor 로 함께 삭제
+ *                      방근호             캐시 쓰기 queue 가 가득 차서 작업을 버리면 호출한 thread 에서 사용자 일기 캐시를 무효화
  */
 /* TODO
     * API 호출 시 에러 핸들링 하는 코드 추가 작성 해야 함
@@ -98,6 +132,9 @@ import java.util.stream.Collectors;
 public class DiaryServiceImpl implements DiaryService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'");
+    // cursor pagination 기본/최대 limit
+    private static final int DEFAULT_CURSOR_LIMIT = 20;
+    private static final int MAX_CURSOR_LIMIT = 100;
 
     @Value("${kakao.download-storage.url}")
     private String DOWNLOAD_URL;
@@ -113,7 +150,15 @@ public class DiaryServiceImpl implements DiaryService {
     private final MongoTemplate mongoTemplate;
     private final DiaryPagingCacheAdapter diaryCacheAdapter;
     private final MemberCacheAdapter memberCacheAdapter;
-    private static final String MEMBER_CACHE_PREFIX = "memberCache::";
+    private final DiaryCacheAdapter diaryResponseCacheAdapter;
+    private final DiaryTimelineCacheAdapter diaryTimelineCacheAdapter;
+    private final CacheEvictor cacheEvictor;
+    private final CacheWriteQueue cacheWriteQueue;
+    private final RecentWriteTracker recentWriteTracker;
+    private final EmotionCounter emotionCounter;
+    private final DiaryQueryExecutor diaryQueryExecutor;
+    private final DiarySearchIndex diarySearchIndex;
+    private final ObjectMapper objectMapper;
 
     @Override
     // 전체 일기 조회
@@ -132,11 +177,55 @@ public class DiaryServiceImpl implements DiaryService {
 
     // 사용자 id 전체 일기 조회
     public RestPage<DiaryInfoResponse> findUserDiaries(String userId, Map params){
+        // 최근에 일기를 저장/수정/삭제한 사용자는 replica 복제 지연으로 이전 페이지를 보지 않도록 master 에서 읽는다.
+        // (캐시 반영이 아직 queue 에 남아 있으면 캐시를 건너뛰고 DB 에서 읽는다)
+        return recentWriteTracker.read(userId, () -> readUserDiaries(userId, params), () -> queryUserDiaries(userId, params));
+    }
+
+    /**
+     *  findUserDiariesBody 사용자 일기 목록 조회 API 응답 body
+     *  (findUserDiaries 결과를 API 와 같은 ObjectMapper 로 직렬화한 byte. 캐싱된 body 는 그대로 응답한다)
+     * @param userId
+     * @param params 페이징 조건(page(0부터 시작), size) 및 정렬(sort)
+     * @return CachedResponseBody
+     */
+    public CachedResponseBody findUserDiariesBody(String userId, Map params){
+        return recentWriteTracker.read(userId, () -> {
+            // 사용자를 찾을 수 없을 때
+            Pageable pageable = pageableOf(findMember(userId), params);
+            String key = CacheKeys.diaryPageBody(userId, pageable);
+
+            CachedResponseBody cacheBody = diaryCacheAdapter.getBody(key);
+            if (Objects.nonNull(cacheBody)) return cacheBody;
+
+            CachedResponseBody body = serialize(loadUserDiaries(userId, pageable));
+            diaryCacheAdapter.putBody(userId, key, body);
+            return body;
+        }, () -> serialize(queryUserDiaries(userId, params)));
+    }
+
+    private CachedResponseBody serialize(RestPage<DiaryInfoResponse> page) {
+        try {
+            return CachedResponseBody.json(objectMapper.writeValueAsBytes(page));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("diary page serialize error", e);
+        }
+    }
+
+    private RestPage<DiaryInfoResponse> readUserDiaries(String userId, Map params){
         // 사용자를 찾을 수 없을 때
-        Members user = memberRepository
-                .findById(userId)
-                .orElseThrow(()-> new BizException(MemberExceptionType.NOT_FOUND_USER));
+        Members user = findMember(userId);
+        return loadUserDiaries(userId, pageableOf(user, params));
+    }
 
+    // 캐시와 타임라인을 거치지 않고 DB 에서 페이지 조회 (전체 개수는 사용자의 diaryTotal)
+    private RestPage<DiaryInfoResponse> queryUserDiaries(String userId, Map params){
+        // 사용자를 찾을 수 없을 때
+        Members user = findMember(userId);
+        return diaryQueryExecutor.page(Criteria.where("userId").is(userId), pageableOf(user, params), user.getDiaryTotal());
+    }
+
+    private Pageable pageableOf(Members user, Map params){
         Pageable pageable;
         // paging 설정 값이 비어있다면, 기본값(첫번째 페이지(0), size=사용자 total 일기 수) 세팅
         if(!params.containsKey("page"))
@@ -152,34 +241,44 @@ public class DiaryServiceImpl implements DiaryService {
             pageable = PageRequest.of(Integer.parseInt(params.get("page").toString()) , Integer.parseInt(params.get("size").toString()), Sort.by("date"));
         else
             pageable = PageRequest.of(Integer.parseInt(params.get("page").toString()) , Integer.parseInt(params.get("size").toString()), Sort.by(Sort.Direction.DESC, "date"));
+        return pageable;
+    }
 
+    private RestPage<DiaryInfoResponse> loadUserDiaries(String userId, Pageable pageable){
         // 캐싱된 값이 있는지 확인
-        RestPage<DiaryInfoResponse> cacheDiaryPage = diaryCacheAdapter.get(userId+pageable);
+        RestPage<DiaryInfoResponse> cacheDiaryPage = diaryCacheAdapter.get(CacheKeys.diaryPage(userId, pageable));
 
         if (Objects.nonNull(cacheDiaryPage)) return cacheDiaryPage;
 
-        // page size와 찾고자 하는 page의 번호 외에 다른 section들은 skip하여 빠르게 찾아갈 수 있도록 Query 객체를 설정한다.
-        Query query = new Query()
-                .with(pageable)
-                .skip((long) pageable.getPageSize() * pageable.getPageNumber())
-                .limit(pageable.getPageSize());
-        // filter(사용자 id)
-        query.addCriteria(Criteria.where("userId").is(userId));
-        // filtering 된 데이터
-        List<DiaryInfoResponse> diaries = mongoTemplate.find(query, Diary.class, "diary")
-                .stream()
-                .map(DiaryInfoResponse::of)
-                .collect(Collectors.toList());
-        // filtering 된 데이터, 페이징 정보, document 개수 정보로 Page 객체 생성
-        Page<DiaryInfoResponse> diaryPage = PageableExecutionUtils.getPage(
-                diaries,
-                pageable,
-                () -> mongoTemplate.count(query.skip(-1).limit(-1), Diary.class, "diary")
-        );
-        // 캐시에 저장
-        diaryCacheAdapter.put(userId + pageable, new RestPage<>(diaryPage));
+        // 같은 페이지에 대한 동시 miss 는 한 번만 조회하고 결과를 캐시에 저장
+        return diaryCacheAdapter.load(userId, CacheKeys.diaryPage(userId, pageable), () -> {
+            // 사용자 타임라인(ZSET + HASH) 에서 페이지 조회
+            RestPage<DiaryInfoResponse> timelinePage = diaryTimelineCacheAdapter.page(userId, pageable);
+            if (Objects.nonNull(timelinePage))
+                return timelinePage;
+
+            // 타임라인이 없으면 사용자의 전체 일기로 다시 생성하고, 요청한 페이지는 메모리에서 잘라서 반환
+            // (content 를 제외한 요약 field 만 읽는다. 조회 중 저장/수정/삭제된 경우 타임라인은 교체하지 않는다)
+            long sequence = diaryTimelineCacheAdapter.sequence(userId);
+            List<DiaryInfoResponse> diaries = diaryRepository.findSummariesByUserId(userId);
+            diaryTimelineCacheAdapter.rebuild(userId, diaries, sequence);
+            return slice(diaries, pageable);
+        });
+    }
 
-        return new RestPage<>(diaryPage);
+    // 일기 목록을 pageable 의 정렬(date) 기준으로 정렬 후 해당 페이지만 잘라서 Page 객체 생성
+    private RestPage<DiaryInfoResponse> slice(List<DiaryInfoResponse> diaries, Pageable pageable) {
+        Comparator<DiaryInfoResponse> comparator = Comparator.comparing(DiaryInfoResponse::getDiaryDate);
+        Sort.Order order = pageable.getSort().getOrderFor("date");
+        if (Objects.isNull(order) || order.isDescending())
+            comparator = comparator.reversed();
+
+        List<DiaryInfoResponse> content = diaries.stream()
+                .sorted(comparator)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+        return new RestPage<>(new PageImpl<>(content, pageable, diaries.size()));
     }
 
     /**
@@ -198,6 +297,10 @@ public class DiaryServiceImpl implements DiaryService {
 
         Diary diary = diarySaveRequest.toEntity();
         diaryRepository.save(diary);
+        // 감정 통계 counter 갱신
+        emotionCounter.onSave(diary);
+        // 본문 검색 index 반영 (검색 캐시 무효화 전에 반영해야 다시 채운 검색 결과에 포함됨)
+        diarySearchIndex.onSave(diary);
         // 사용자 정보의 total diary 정보 업데이트
         user.setDiaryTotal(user.getDiaryTotal()+1);
         // 사용자 정보의 recentDiary 정보 업데이트
@@ -221,14 +324,39 @@ public class DiaryServiceImpl implements DiaryService {
             CookieUtil.addCookie(response, "todayDiaryId", diary.getId(), todayExpTime);
         }
 
-        // 페이징 캐시 데이터 삭제
-        diaryCacheAdapter.findAndDelete(diarySaveRequest.getUserId()+"Page");
-        // 사용자 캐시 데이터 삭제
-        memberCacheAdapter.delete(MEMBER_CACHE_PREFIX + diarySaveRequest.getUserId());
+        String userId = diarySaveRequest.getUserId();
+        recentWriteTracker.markWrite(userId);
+        DiaryInfoResponse savedDiary = DiaryInfoResponse.of(diary);
+        // 캐시 반영은 사용자 단위 순서를 지키며 실행 (async 모드에서는 백그라운드)
+        cacheWriteQueue.submit(userId, () -> {
+            // 타임라인, 페이징 캐시에 새 일기 반영
+            diaryTimelineCacheAdapter.put(userId, savedDiary);
+            diaryCacheAdapter.applySave(userId, savedDiary);
+            // 사용자 캐시 데이터 삭제
+            memberCacheAdapter.delete(CacheKeys.member(userId));
+            // 새로 저장된 일기 id 의 tombstone 삭제
+            diaryResponseCacheAdapter.deleteNotFound(CacheKeys.diary(userId, diary.getId()));
+        }, () -> {
+            invalidateCaches(userId, diary.getId());
+            diaryResponseCacheAdapter.deleteNotFound(CacheKeys.diary(userId, diary.getId()));
+        });
 
         return SuccessResponseType.DIARY_SAVE_SUCCESS.getMessage();
     }
 
+    // 사용자 조회. 존재하지 않는 사용자로 확인된 id 는 tombstone 으로 기억해두고 DB 조회 없이 예외 처리
+    private Members findMember(String userId) {
+        if (memberCacheAdapter.isNotFound(CacheKeys.member(userId)))
+            throw new BizException(MemberExceptionType.NOT_FOUND_USER);
+
+        return memberRepository
+                .findById(userId)
+                .orElseThrow(() -> {
+                    memberCacheAdapter.putNotFound(CacheKeys.member(userId));
+                    return new BizException(MemberExceptionType.NOT_FOUND_USER);
+                });
+    }
+
     /**
      *  updateDiary 일기 수정
      * @param diaryId
@@ -237,10 +365,6 @@ public class DiaryServiceImpl implements DiaryService {
      */
     @Override
     @Transactional
-    @CacheEvict(
-            value = "diaryCache",
-            key = "#diaryId"
-    )
     public String updateDiary(String diaryId, DiarySaveRequest diarySaveRequest) {
         // 일기를 찾을 수 없을 때
         Diary diary = diaryRepository
@@ -256,11 +380,7 @@ public class DiaryServiceImpl implements DiaryService {
         if(!diary.getUserId().equals(diarySaveRequest.getUserId()))
             throw new BizException(DiaryExceptionType.NO_PERMISSION);
 
-        // 페이징 캐시 데이터 삭제
-        diaryCacheAdapter.findAndDelete(diarySaveRequest.getUserId()+"Page");
-        // 사용자 캐시 데이터 삭제
-        memberCacheAdapter.delete(MEMBER_CACHE_PREFIX + diarySaveRequest.getUserId());
-
+        String userId = diarySaveRequest.getUserId();
         System.out.println("#######recent diary is "+members.getRecentDiary().toString());
         // recentDiary 업데이트
         Diary updatedDiary = new Diary(diaryId, diarySaveRequest);
@@ -269,14 +389,24 @@ public class DiaryServiceImpl implements DiaryService {
             memberRepository.save(members);
         }
         diaryRepository.save(updatedDiary);
+        // 감정 또는 날짜가 바뀐 경우 감정 통계 counter 갱신
+        emotionCounter.onUpdate(diary, updatedDiary);
+        diarySearchIndex.onUpdate(updatedDiary);
+        recentWriteTracker.markWrite(userId);
+        DiaryInfoResponse beforeInfo = DiaryInfoResponse.of(diary);
+        DiaryInfoResponse updatedInfo = DiaryInfoResponse.of(updatedDiary);
+        // 캐시 삭제는 저장 이후에 실행 (저장 전에 삭제하면 그 사이 조회가 수정 전 일기를 다시 캐싱함)
+        cacheWriteQueue.submit(userId, () -> {
+            // 사용자 캐시, 개별 일기 캐시 데이터 삭제 (한 번의 pipeline)
+            cacheEvictor.deleteMemberAndDiary(CacheKeys.member(userId), CacheKeys.diary(userId, diaryId));
+            // 타임라인, 페이징 캐시에 수정된 일기 반영
+            diaryTimelineCacheAdapter.put(userId, updatedInfo);
+            diaryCacheAdapter.applyUpdate(userId, beforeInfo, updatedInfo);
+        }, () -> invalidateCaches(userId, diaryId));
         return SuccessResponseType.DIARY_UPDATE_SUCCESS.getMessage();
     }
 
     @Override
-    @CacheEvict(
-            value = "diaryCache",
-            key = "#diaryId"
-    )
     // 일기 삭제
     public String remove(HttpServletResponse response, String userId, String diaryId) {
 
@@ -322,31 +452,76 @@ public class DiaryServiceImpl implements DiaryService {
         memberRepository.save(members);
         // 다이어리 삭제
         diaryRepository.delete(diary);
-        // 페이징 캐시 데이터 삭제
-        diaryCacheAdapter.findAndDelete(userId +"Page");
-
-        // 사용자 캐시 데이터 삭제
-        memberCacheAdapter.delete(MEMBER_CACHE_PREFIX + members.getId());
+        emotionCounter.onRemove(diary);
+        diarySearchIndex.onRemove(diary);
+        recentWriteTracker.markWrite(userId);
+        DiaryInfoResponse removedInfo = DiaryInfoResponse.of(diary);
+        cacheWriteQueue.submit(userId, () -> {
+            // 타임라인, 페이징 캐시에서 삭제된 일기 제거
+            diaryTimelineCacheAdapter.delete(userId, diaryId);
+            diaryCacheAdapter.applyRemove(userId, removedInfo);
+
+            // 사용자 캐시, 개별 일기 캐시 데이터 삭제 (한 번의 pipeline)
+            cacheEvictor.deleteMemberAndDiary(CacheKeys.member(userId), CacheKeys.diary(userId, diaryId));
+        }, () -> invalidateCaches(userId, diaryId));
 
         return SuccessResponseType.DIARY_REMOVE_SUCCESS.getMessage();
     }
 
+    // 캐시 쓰기 queue 가 가득 차서 반영하지 못한 경우, 사용자의 일기 캐시를 모두 삭제하여 다른 노드도 DB 에서 다시 읽도록 함
+    private void invalidateCaches(String userId, String diaryId) {
+        diaryTimelineCacheAdapter.invalidate(userId);
+        diaryCacheAdapter.deleteByTag(userId);
+        cacheEvictor.deleteMemberAndDiary(CacheKeys.member(userId), CacheKeys.diary(userId, diaryId));
+    }
+
     @Override
-    @Cacheable(
-            value = "diaryCache",
-            key = "#diaryId"
-    )
     // 일기 조회
     public DiaryResponse findDiary(String userId, String diaryId) {
+        return recentWriteTracker.read(userId, () -> readDiary(userId, diaryId), () -> queryDiary(userId, diaryId));
+    }
+
+    // 캐시를 거치지 않고 DB 에서 조회
+    private DiaryResponse queryDiary(String userId, String diaryId) {
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new BizException(DiaryExceptionType.NOT_FOUND_DIARY));
         // 본인의 일기가 아닌 다른 사람의 일기를 조회하고자 하였을 때, 권한 없음
         if(!diary.getUserId().equals(userId))
             throw new BizException(DiaryExceptionType.NO_PERMISSION);
-
         return DiaryResponse.of(diary);
     }
 
+    private DiaryResponse readDiary(String userId, String diaryId) {
+        // 캐싱된 값이 있는지 확인 (L1 -> Redis), 만료가 가까우면 백그라운드에서 미리 갱신
+        DiaryResponse cacheDiary = diaryResponseCacheAdapter.get(CacheKeys.diary(userId, diaryId),
+                () -> diaryRepository.findById(diaryId).map(DiaryResponse::of).orElse(null));
+        if (Objects.nonNull(cacheDiary)) {
+            // 본인의 일기가 아닌 다른 사람의 일기를 조회하고자 하였을 때, 권한 없음
+            if(!cacheDiary.getUserId().equals(userId))
+                throw new BizException(DiaryExceptionType.NO_PERMISSION);
+            return cacheDiary;
+        }
+
+        // 존재하지 않는 일기로 확인된 id 는 DB 조회 없이 예외 처리
+        if (diaryResponseCacheAdapter.isNotFound(CacheKeys.diary(userId, diaryId)))
+            throw new BizException(DiaryExceptionType.NOT_FOUND_DIARY);
+
+        Diary diary = diaryRepository.findById(diaryId)
+                .orElseThrow(() -> {
+                    diaryResponseCacheAdapter.putNotFound(CacheKeys.diary(userId, diaryId));
+                    return new BizException(DiaryExceptionType.NOT_FOUND_DIARY);
+                });
+        // 본인의 일기가 아닌 다른 사람의 일기를 조회하고자 하였을 때, 권한 없음
+        if(!diary.getUserId().equals(userId))
+            throw new BizException(DiaryExceptionType.NO_PERMISSION);
+
+        DiaryResponse diaryResponse = DiaryResponse.of(diary);
+        // 캐시에 저장
+        cacheWriteQueue.submit(userId, () -> diaryResponseCacheAdapter.put(CacheKeys.diary(userId, diaryId), diaryResponse));
+
+        return diaryResponse;
+    }
+
     /**
      * @param userId 유저 아이디
      * @param params 정렬 조건
@@ -356,14 +531,9 @@ public class DiaryServiceImpl implements DiaryService {
     @Override
     // 일기 검색, 조건 조회
     public RestPage<DiaryInfoResponse> findDiaries(String userId, Map<String, Object> params){
-        // TODO
-        //  * ElasticSearch 연결 되면 elasticSerch 사용해서 검색하도록 수정
-
-        //mongoTemplate 사용해서 일단 구현
+        // 검색어는 본문 검색 index(DiarySearchIndex) 로, 그 외 조건은 mongoTemplate 으로 조회
         // 사용자를 찾을 수 없을 때
-        Members user = memberRepository
-                .findById(userId)
-                .orElseThrow(() -> new BizException(MemberExceptionType.NOT_FOUND_USER));
+        Members user = findMember(userId);
         Pageable pageable;
         // paging 설정 값이 비어있다면, 기본값(첫번째 페이지(0), size=사용자 total 일기 수) 세팅
         if(!params.containsKey("page"))
@@ -379,40 +549,148 @@ public class DiaryServiceImpl implements DiaryService {
             pageable = PageRequest.of(Integer.parseInt(params.get("page").toString()) , Integer.parseInt(params.get("size").toString()), Sort.by("date"));
         else
             pageable = PageRequest.of(Integer.parseInt(params.get("page").toString()) , Integer.parseInt(params.get("size").toString()), Sort.by(Sort.Direction.DESC, "date"));
-        // page size와 찾고자 하는 page의 번호 외에 다른 section들은 skip하여 빠르게 찾아갈 수 있도록 Query 객체를 설정한다.
-        Query query = new Query()
-                .with(pageable)
-                .skip(pageable.getPageSize() * pageable.getPageNumber())
-                .limit(pageable.getPageSize());
-        // userId 조건 설정
-        query.addCriteria(Criteria.where("userId").is(userId));
+        // 조건 없이 들어온 조회는 사용자의 전체 일기 수(diaryTotal)가 곧 전체 개수
+        boolean filtered = params.containsKey("startDate") || params.containsKey("endDate")
+                || params.containsKey("searchWord") || params.containsKey("emotion");
 
         // 시간 조건 설정(아무 조건 없이 들어오면 전체 기간으로 검색되도록 설정)
         if(!params.containsKey("startDate"))
             params.put("startDate","1990-01-01");
         if(!params.containsKey("endDate"))
             params.put("endDate", LocalDate.now().toString());
-        query.addCriteria(Criteria.where("date").gte(LocalDate.parse((params.get("startDate").toString())).atTime(9,0)).lte(LocalDate.parse((params.get("endDate").toString())).atTime(9,0)));
+        LocalDate startDate = LocalDate.parse(params.get("startDate").toString());
+        LocalDate endDate = LocalDate.parse(params.get("endDate").toString());
+        // userId 조건 설정
+        Criteria criteria = Criteria.where("userId").is(userId)
+                .and("date").gte(startDate.atTime(9,0)).lte(endDate.atTime(9,0));
         // 검색어 조건 설정
-        if(params.containsKey("searchWord")) {
-            query.addCriteria(Criteria.where("content").regex(params.get("searchWord").toString()));
+        String searchWord = params.containsKey("searchWord") ? params.get("searchWord").toString() : null;
+        if(Objects.nonNull(searchWord)) {
+            // index 를 사용할 수 없을 때의 Mongo 조회. 검색어는 정규식이 아닌 문자열 그대로 찾는다.
+            criteria.and("content").regex(Pattern.quote(searchWord));
         }
         // 감정 조건 설정
-        if(params.containsKey("emotion")) {
-            query.addCriteria(Criteria.where("emotion").is(params.get("emotion").toString()));
+        String emotion = params.containsKey("emotion") ? params.get("emotion").toString() : null;
+        if(Objects.nonNull(emotion)) {
+            criteria.and("emotion").is(emotion);
         }
+        // 검색어가 있고 정렬 조건이 없으면 검색 점수 순 (index 를 사용할 수 없을 때는 최신순)
+        Pageable searchPageable = Objects.nonNull(searchWord) && !params.containsKey("sort")
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : pageable;
+
+        // 같은 조건의 반복 검색은 캐시 조회 한 번으로 응답 (일기 저장/수정/삭제 시 사용자 태그로 무효화)
+        String key = CacheKeys.diarySearch(userId, searchHash(startDate, endDate, searchWord, emotion, searchPageable));
+        String countKey = CacheKeys.diaryCount(userId, countHash(startDate, endDate, searchWord, emotion));
+        return recentWriteTracker.read(userId, () -> {
+            RestPage<DiaryInfoResponse> cacheSearch = diaryCacheAdapter.get(key);
+            if (Objects.nonNull(cacheSearch)) return cacheSearch;
+
+            // 페이지 데이터와 전체 개수를 한 번의 DB 조회로 읽는다. (조건이 있으면 $facet, 개수는 조건 hash 로 캐싱)
+            return diaryCacheAdapter.load(userId, key, () -> search(userId, searchWord, startDate, endDate, emotion, searchPageable,
+                    () -> filtered
+                            ? diaryQueryExecutor.page(userId, countKey, criteria, pageable)
+                            : diaryQueryExecutor.page(criteria, pageable, user.getDiaryTotal())));
+        }, () -> search(userId, searchWord, startDate, endDate, emotion, searchPageable,
+                // 캐시 반영이 아직 queue 에 남아 있으면 개수 캐시도 건너뛴다.
+                () -> filtered
+                        ? diaryQueryExecutor.page(criteria, pageable)
+                        : diaryQueryExecutor.page(criteria, pageable, user.getDiaryTotal())));
+    }
 
-        List<DiaryInfoResponse> diaries = mongoTemplate.find(query, Diary.class, "diary")
-                .stream()
-                .map(DiaryInfoResponse::of)
-                .collect(Collectors.toList());
-        // filtering 된 데이터, 페이징 정보, document 개수 정보로 Page 객체 생성
-        Page<DiaryInfoResponse> diaryPage = PageableExecutionUtils.getPage(
-                diaries,
-                pageable,
-                () -> mongoTemplate.count(query.skip(-1).limit(-1), Diary.class, "diary")
-        );
-        return new RestPage<>(diaryPage);
+    // 검색어가 있으면 본문 검색 index 로, index 를 사용할 수 없거나 검색어가 없으면 mongoQuery 로 조회
+    private RestPage<DiaryInfoResponse> search(String userId, String searchWord, LocalDate startDate, LocalDate endDate,
+                                               String emotion, Pageable searchPageable, Supplier<RestPage<DiaryInfoResponse>> mongoQuery) {
+        if (Objects.nonNull(searchWord)) {
+            RestPage<DiaryInfoResponse> searched = diarySearchIndex.search(userId, searchWord, startDate, endDate, emotion, searchPageable);
+            if (Objects.nonNull(searched)) return searched;
+        }
+        return mongoQuery.get();
+    }
+
+    /**
+     *  findDiariesByCursor 일기 목록/검색 cursor(keyset) pagination
+     *  마지막으로 읽은 (날짜, id) 다음부터 limit 개를 userId_date_id index 범위 조회로 (정렬 없이) 읽으므로, 몇 번째 페이지든 비용이 같다.
+     * @param userId
+     * @param params cursor(이전 응답의 nextCursor, 없으면 처음부터), limit, sort 및 검색 조건(startDate, endDate, searchWord, emotion)
+     * @return DiaryCursorPageResponse
+     */
+    @Override
+    public DiaryCursorPageResponse findDiariesByCursor(String userId, Map<String, Object> params){
+        // 사용자를 찾을 수 없을 때
+        findMember(userId);
+
+        int limit = params.containsKey("limit") ? Integer.parseInt(params.get("limit").toString()) : DEFAULT_CURSOR_LIMIT;
+        limit = Math.max(1, Math.min(limit, MAX_CURSOR_LIMIT));
+        // sort가 없으면 최신순(default), asc라고 오면 오래된 순
+        boolean ascending = params.containsKey("sort") && params.get("sort").toString().equalsIgnoreCase("asc");
+        DiaryCursor cursor = params.containsKey("cursor") ? DiaryCursor.decode(params.get("cursor").toString()) : null;
+
+        Query query = cursorQuery(userId, params, cursor, ascending).limit(limit + 1);
+        int pageSize = limit;
+        return recentWriteTracker.read(userId, () -> {
+            // limit 보다 하나 더 읽어서 다음 페이지가 있는지 확인
+            List<DiaryInfoResponse> diaries = diaryRepository.findSummaries(query);
+            boolean hasNext = diaries.size() > pageSize;
+            if (hasNext)
+                diaries = diaries.subList(0, pageSize);
+
+            String nextCursor = hasNext ? DiaryCursor.of(diaries.get(diaries.size() - 1)).encode() : null;
+            return DiaryCursorPageResponse.of(diaries, pageSize, nextCursor);
+        });
+    }
+
+    // (date, _id) 정렬 기준으로 cursor 다음 위치부터 조회. date 범위는 index 로 좁히고, 같은 날짜는 _id 로 구분한다.
+    static Query cursorQuery(String userId, Map<String, Object> params, DiaryCursor cursor, boolean ascending) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("userId").is(userId));
+        if (params.containsKey("startDate"))
+            criteria.add(Criteria.where("date").gte(LocalDate.parse(params.get("startDate").toString()).atTime(9,0)));
+        if (params.containsKey("endDate"))
+            criteria.add(Criteria.where("date").lte(LocalDate.parse(params.get("endDate").toString()).atTime(9,0)));
+        if (params.containsKey("searchWord"))
+            criteria.add(Criteria.where("content").regex(Pattern.quote(params.get("searchWord").toString())));
+        if (params.containsKey("emotion"))
+            criteria.add(Criteria.where("emotion").is(params.get("emotion").toString()));
+
+        if (Objects.nonNull(cursor)) {
+            LocalDateTime date = cursor.getDate().atTime(9,0);
+            if (ascending) {
+                criteria.add(Criteria.where("date").gte(date));
+                criteria.add(new Criteria().orOperator(Criteria.where("date").gt(date), Criteria.where("_id").gt(cursor.getDiaryId())));
+            } else {
+                criteria.add(Criteria.where("date").lte(date));
+                criteria.add(new Criteria().orOperator(Criteria.where("date").lt(date), Criteria.where("_id").lt(cursor.getDiaryId())));
+            }
+        }
+
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return new Query(new Criteria().andOperator(criteria.toArray(new Criteria[0])))
+                .with(Sort.by(direction, "date").and(Sort.by(direction, "_id")));
+    }
+
+    // 검색 조건을 정규화(기본값 적용, 날짜 형식, 정렬 방향)한 뒤 hash. 같은 조건은 파라미터 표기와 상관없이 같은 key 가 된다.
+    static String searchHash(LocalDate startDate, LocalDate endDate, String searchWord, String emotion, Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor("date");
+        String filter = filterOf(startDate, endDate, searchWord, emotion)
+                // 정렬이 없으면 검색 점수 순
+                + "|sort=" + (Objects.isNull(order) ? "SCORE" : order.isAscending() ? "ASC" : "DESC")
+                + "|page=" + pageable.getPageNumber()
+                + "|size=" + pageable.getPageSize();
+        return DigestUtils.md5DigestAsHex(filter.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 전체 개수는 정렬, 페이지와 상관없으므로 검색 조건만으로 hash
+    static String countHash(LocalDate startDate, LocalDate endDate, String searchWord, String emotion) {
+        return DigestUtils.md5DigestAsHex(filterOf(startDate, endDate, searchWord, emotion).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String filterOf(LocalDate startDate, LocalDate endDate, String searchWord, String emotion) {
+        return "start=" + startDate
+                + "|end=" + endDate
+                // 검색어는 자유 입력이므로 길이를 붙여 구분자와 섞이지 않게 한다.
+                + "|word=" + (Objects.isNull(searchWord) ? "" : searchWord.length() + ":" + searchWord)
+                + "|emotion=" + Objects.toString(emotion, "");
     }
 
     /**
@@ -567,9 +845,7 @@ public class DiaryServiceImpl implements DiaryService {
     // 감정 통계
     public DiaryEmotionStaticsResponse emotionStatics(String userId, Map<String, Object> params){
         // 사용자를 찾을 수 없을 때
-        memberRepository
-                .findById(userId)
-                .orElseThrow(() -> new BizException(MemberExceptionType.NOT_FOUND_USER));
+        findMember(userId);
         LocalDateTime startDate;
         LocalDateTime endDate;
         // 시간 조건 설정(아무 조건 없이 들어오면 전체 기간으로 검색되도록 설정)
@@ -582,6 +858,11 @@ public class DiaryServiceImpl implements DiaryService {
         else{
             endDate = LocalDate.now().atTime(9,0);}
 
+        // 일/월 counter 합산 (counter 를 사용할 수 없으면 아래 aggregation 으로 조회)
+        List<DiaryEmotionStatics> counted = emotionCounter.statistics(userId, startDate.toLocalDate(), endDate.toLocalDate());
+        if (Objects.nonNull(counted))
+            return DiaryEmotionStaticsResponse.of(counted, startDate.toLocalDate(), endDate.toLocalDate());
+
         // Aggregation 설정
         // filter
         MatchOperation matchOperation = Aggregation.match(
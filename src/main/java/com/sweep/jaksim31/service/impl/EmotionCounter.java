@@ -0,0 +1,352 @@
+package com.sweep.jaksim31.service.impl;
+
+import com.mongodb.client.result.UpdateResult;
+import com.sweep.jaksim31.domain.diary.Diary;
+import com.sweep.jaksim31.domain.diary.EmotionCount;
+import com.sweep.jaksim31.dto.diary.DiaryEmotionStatics;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * packageName :  com.sweep.jaksim31.service.impl
+ * fileName : EmotionCounter
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 사용자별 일/월 단위 감정 counter (emotionCount collection).
+ *               일기 저장/수정/삭제 시 해당 날짜의 일, 월 counter 를 $inc 로 갱신하고,
+ *               감정 통계는 기간을 월 단위(온전한 달) + 일 단위(앞뒤 남은 날)로 나누어 counter 를 합산한다.
+ *               counter 가 없는 사용자(기능 추가 이전 일기, counter 갱신 실패)는 background 에서 일기 aggregation 으로 다시 생성한다.
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ * 2026-10-18           방근호             rebuild 도중 counter 가 갱신되면 생성 완료로 표시하지 않도록 수정
+ *                      방근호             rebuild 는 생성 완료 표시의 lease 를 얻은 요청 하나만 실행 (나머지는 aggregation 으로 조회)
+ *                      방근호             rebuild 를 조회 요청에서 실행하지 않고 background 로 실행 (생성 전까지는 aggregation 으로 조회)
+ */
+
+@Slf4j
+@Component
+public class EmotionCounter {
+
+    // 감정이 없는 일기의 counter field 이름 (null 은 field 이름으로 쓸 수 없음)
+    private static final String NO_EMOTION = "_none";
+    // rebuild lease 유지 시간. rebuild 하던 요청이 lease 를 풀지 못하고 종료되어도 이 시간이 지나면 다른 요청이 다시 생성한다.
+    private static final Duration REBUILD_LEASE = Duration.ofMinutes(1);
+
+    private final MongoTemplate mongoTemplate;
+    // counter 재생성을 실행하는 executor. 조회 요청은 재생성을 기다리지 않는다.
+    private final Executor rebuildExecutor;
+    // 재생성이 예약된 사용자 (같은 사용자의 조회가 이어져도 한 번만 예약)
+    private final Set<String> rebuildScheduled = ConcurrentHashMap.newKeySet();
+
+
+    @Autowired
+    public EmotionCounter(MongoTemplate mongoTemplate) {
+        this(mongoTemplate, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "emotion-counter-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    EmotionCounter(MongoTemplate mongoTemplate, Executor rebuildExecutor) {
+        this.mongoTemplate = mongoTemplate;
+        this.rebuildExecutor = rebuildExecutor;
+    }
+
+    public void onSave(Diary diary) {
+        record(diary.getUserId(), Collections.singletonList(new Change(day(diary), diary.getEmotion(), 1)));
+    }
+
+    // 감정 또는 날짜가 바뀐 경우에만 이전 counter 에서 빼고 새 counter 에 더한다.
+    public void onUpdate(Diary before, Diary after) {
+        if (Objects.equals(before.getEmotion(), after.getEmotion()) && day(before).equals(day(after)))
+            return;
+
+        record(after.getUserId(), Arrays.asList(
+                new Change(day(before), before.getEmotion(), -1),
+                new Change(day(after), after.getEmotion(), 1)));
+    }
+
+    public void onRemove(Diary diary) {
+        record(diary.getUserId(), Collections.singletonList(new Change(day(diary), diary.getEmotion(), -1)));
+    }
+
+    /**
+     * 기간(startDate ~ endDate, 포함) 감정 통계
+     * @return counter 를 읽지 못했거나 아직 생성되지 않았으면 null (호출하는 쪽에서 aggregation 으로 조회)
+     */
+    public List<DiaryEmotionStatics> statistics(String userId, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate))
+            return Collections.emptyList();
+
+        try {
+            List<EmotionCount> buckets = mongoTemplate.find(rangeQuery(userId, startDate, endDate), EmotionCount.class);
+            boolean built = buckets.stream().anyMatch(bucket -> EmotionCount.UNIT_BUILT.equals(bucket.getUnit()) && bucket.isBuilt());
+            if (built)
+                return sum(buckets);
+
+            // counter 가 없으면 background 에서 다시 생성하고, 이번 요청은 aggregation 으로 조회
+            scheduleRebuild(userId);
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("emotion counter read failed, fall back to aggregation : {}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 사용자의 일기를 (날짜, 감정) 으로 aggregation 하여 counter 를 다시 생성
+     * aggregation ~ counter 쓰기 사이에 record() 가 실행되면 그 $inc 는 지워지거나 중복될 수 있으므로,
+     * 시작할 때 읽은 갱신 순번(seq)이 그대로인 경우에만 생성 완료로 표시한다. (아니면 다음 조회 때 다시 생성)
+     * 동시에 여러 요청이 지우고 다시 쓰지 않도록, 생성 완료 표시에 lease(rebuildingUntil)를 얻은 요청만 실행한다.
+     * 이미 생성되었거나 다른 요청이 생성 중이면 아무것도 하지 않는다.
+     */
+    public void rebuild(String userId) {
+        EmotionCount marker = acquireRebuildLease(userId);
+        if (Objects.isNull(marker))
+            return;
+
+        try {
+            rebuild(userId, marker.getSeq());
+        } catch (RuntimeException e) {
+            releaseRebuildLease(userId);
+            throw e;
+        }
+    }
+
+    private void scheduleRebuild(String userId) {
+        if (!rebuildScheduled.add(userId))
+            return;
+
+        try {
+            rebuildExecutor.execute(() -> {
+                rebuildScheduled.remove(userId);
+                try {
+                    rebuild(userId);
+                } catch (RuntimeException e) {
+                    log.warn("emotion counter rebuild failed : {}", userId, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("emotion counter rebuild rejected : {}", userId);
+            rebuildScheduled.remove(userId);
+        }
+    }
+
+    private void rebuild(String userId, long seq) {
+        List<DayEmotionCount> results = mongoTemplate.aggregate(Aggregation.newAggregation(
+                        Aggregation.match(Criteria.where("userId").is(userId)),
+                        Aggregation.group("date", "emotion").count().as("count"),
+                        Aggregation.project("date", "emotion", "count")),
+                Diary.class,
+                DayEmotionCount.class).getMappedResults();
+
+        Map<String, Map<String, Integer>> days = new TreeMap<>();
+        Map<String, Map<String, Integer>> months = new TreeMap<>();
+        for (DayEmotionCount result : results) {
+            LocalDate day = result.getDate().toLocalDate();
+            String emotion = fieldOf(result.getEmotion());
+            days.computeIfAbsent(day.toString(), k -> new HashMap<>()).merge(emotion, result.getCount(), Integer::sum);
+            months.computeIfAbsent(YearMonth.from(day).toString(), k -> new HashMap<>()).merge(emotion, result.getCount(), Integer::sum);
+        }
+
+        // 이전 counter(표시 제외)를 지운 뒤 새로 쓰고, 그동안 갱신이 없었을 때만 생성 완료를 표시
+        mongoTemplate.remove(Query.query(Criteria.where("userId").is(userId)
+                .and("unit").ne(EmotionCount.UNIT_BUILT)), EmotionCount.class);
+        if (!days.isEmpty()) {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmotionCount.class);
+            days.forEach((period, counts) -> bulk.upsert(idQuery(userId, period), bucket(userId, EmotionCount.UNIT_DAY, period).set("counts", counts)));
+            months.forEach((period, counts) -> bulk.upsert(idQuery(userId, period), bucket(userId, EmotionCount.UNIT_MONTH, period).set("counts", counts)));
+            bulk.execute();
+        }
+        UpdateResult result = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(userId + ":" + EmotionCount.UNIT_BUILT).and("seq").is(seq)),
+                Update.update("built", true).unset("rebuildingUntil"),
+                EmotionCount.class);
+        if (result.getMatchedCount() == 0) {
+            log.info("emotion counter updated during rebuild, counter will be rebuilt : {}", userId);
+            releaseRebuildLease(userId);
+        }
+    }
+
+    /**
+     * 생성 완료 표시가 없고 lease 가 없거나 만료된 경우에만 lease 를 설정하고 현재 갱신 순번을 읽는다.
+     * ($inc 0 : 순번이 없는 이전 표시에도 0 으로 생성)
+     * 조건에 맞지 않으면 같은 _id 로 upsert 하게 되어 duplicate key 로 실패한다.
+     * @return lease 를 얻지 못하면 null
+     */
+    private EmotionCount acquireRebuildLease(String userId) {
+        long now = System.currentTimeMillis();
+        try {
+            return mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("_id").is(userId + ":" + EmotionCount.UNIT_BUILT)
+                            .and("built").ne(true)
+                            .orOperator(Criteria.where("rebuildingUntil").exists(false),
+                                    Criteria.where("rebuildingUntil").lt(now))),
+                    bucket(userId, EmotionCount.UNIT_BUILT, null).inc("seq", 0).set("rebuildingUntil", now + REBUILD_LEASE.toMillis()),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    EmotionCount.class);
+        } catch (DuplicateKeyException e) {
+            log.debug("emotion counter is built or being rebuilt : {}", userId);
+            return null;
+        }
+    }
+
+    private void releaseRebuildLease(String userId) {
+        try {
+            mongoTemplate.updateFirst(idQuery(userId, EmotionCount.UNIT_BUILT), new Update().unset("rebuildingUntil"), EmotionCount.class);
+        } catch (RuntimeException e) {
+            log.warn("emotion counter rebuild lease release failed : {}", userId, e);
+        }
+    }
+
+    // 일, 월 counter 와 갱신 순번을 한 번의 bulk 로 갱신. 실패하면 생성 완료 표시를 해제해 다음 조회 때 다시 생성되도록 한다.
+    private void record(String userId, List<Change> changes) {
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmotionCount.class);
+            for (Change change : changes) {
+                String field = "counts." + fieldOf(change.emotion);
+                String day = change.day.toString();
+                String month = YearMonth.from(change.day).toString();
+                bulk.upsert(idQuery(userId, day), bucket(userId, EmotionCount.UNIT_DAY, day).inc(field, change.delta));
+                bulk.upsert(idQuery(userId, month), bucket(userId, EmotionCount.UNIT_MONTH, month).inc(field, change.delta));
+            }
+            // 진행 중인 rebuild 가 생성 완료로 표시하지 않도록 순번 증가 (표시가 없으면 built 없이 생성)
+            bulk.upsert(idQuery(userId, EmotionCount.UNIT_BUILT), bucket(userId, EmotionCount.UNIT_BUILT, null).inc("seq", 1));
+            bulk.execute();
+        } catch (RuntimeException e) {
+            log.warn("emotion counter update failed, counter will be rebuilt : {}", userId, e);
+            invalidate(userId);
+        }
+    }
+
+    // 순번도 올려서, 진행 중인 rebuild 가 일부만 반영된 갱신 뒤에 생성 완료로 표시하지 않도록 한다
+    private void invalidate(String userId) {
+        try {
+            mongoTemplate.updateFirst(idQuery(userId, EmotionCount.UNIT_BUILT),
+                    new Update().set("built", false).inc("seq", 1),
+                    EmotionCount.class);
+        } catch (RuntimeException e) {
+            log.warn("emotion counter invalidate failed : {}", userId, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (rebuildExecutor instanceof ExecutorService)
+            ((ExecutorService) rebuildExecutor).shutdownNow();
+    }
+
+    // 생성 완료 표시 + 온전한 달은 월 counter, 앞뒤 남은 날은 일 counter
+    static Query rangeQuery(String userId, LocalDate startDate, LocalDate endDate) {
+        List<Criteria> ranges = new ArrayList<>();
+        ranges.add(Criteria.where("unit").is(EmotionCount.UNIT_BUILT));
+
+        YearMonth firstMonth = startDate.getDayOfMonth() == 1 ? YearMonth.from(startDate) : YearMonth.from(startDate).plusMonths(1);
+        YearMonth lastMonth = endDate.equals(YearMonth.from(endDate).atEndOfMonth()) ? YearMonth.from(endDate) : YearMonth.from(endDate).minusMonths(1);
+        if (firstMonth.isAfter(lastMonth)) {
+            ranges.add(dayRange(startDate, endDate));
+        } else {
+            ranges.add(Criteria.where("unit").is(EmotionCount.UNIT_MONTH)
+                    .and("period").gte(firstMonth.toString()).lte(lastMonth.toString()));
+            if (startDate.isBefore(firstMonth.atDay(1)))
+                ranges.add(dayRange(startDate, firstMonth.atDay(1).minusDays(1)));
+            if (endDate.isAfter(lastMonth.atEndOfMonth()))
+                ranges.add(dayRange(lastMonth.atEndOfMonth().plusDays(1), endDate));
+        }
+
+        return Query.query(Criteria.where("userId").is(userId)
+                .orOperator(ranges.toArray(new Criteria[0])));
+    }
+
+    private static Criteria dayRange(LocalDate from, LocalDate to) {
+        return Criteria.where("unit").is(EmotionCount.UNIT_DAY)
+                .and("period").gte(from.toString()).lte(to.toString());
+    }
+
+    private static List<DiaryEmotionStatics> sum(List<EmotionCount> buckets) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (EmotionCount bucket : buckets) {
+            if (Objects.nonNull(bucket.getCounts()))
+                bucket.getCounts().forEach((emotion, count) -> counts.merge(emotion, count, Integer::sum));
+        }
+        return toStatics(counts);
+    }
+
+    // aggregation 결과와 같이 개수가 0 인 감정은 제외
+    private static List<DiaryEmotionStatics> toStatics(Map<String, Integer> counts) {
+        List<DiaryEmotionStatics> statics = new ArrayList<>();
+        new TreeMap<>(counts).forEach((emotion, count) -> {
+            if (count > 0)
+                statics.add(new DiaryEmotionStatics(NO_EMOTION.equals(emotion) ? null : emotion, count));
+        });
+        return statics;
+    }
+
+    private static Query idQuery(String userId, String period) {
+        return Query.query(Criteria.where("_id").is(userId + ":" + period));
+    }
+
+    private static Update bucket(String userId, String unit, String period) {
+        return new Update()
+                .setOnInsert("userId", userId)
+                .setOnInsert("unit", unit)
+                .setOnInsert("period", period);
+    }
+
+    private static String fieldOf(String emotion) {
+        return Objects.isNull(emotion) ? NO_EMOTION : emotion;
+    }
+
+    private static LocalDate day(Diary diary) {
+        return diary.getDate().toLocalDate();
+    }
+
+    private static final class Change {
+        private final LocalDate day;
+        private final String emotion;
+        private final int delta;
+
+        private Change(LocalDate day, String emotion, int delta) {
+            this.day = day;
+            this.emotion = emotion;
+            this.delta = delta;
+        }
+    }
+
+    // rebuild aggregation 결과 (날짜, 감정, 개수)
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class DayEmotionCount {
+        private LocalDateTime date;
+        private String emotion;
+        private int count;
+    }
+}
@@ -1,5 +1,7 @@
 package com.sweep.jaksim31.service.impl;
 
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
+import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
 import com.sweep.jaksim31.adapter.cache.RefreshTokenCacheAdapter;
 import com.sweep.jaksim31.auth.CustomLoginIdPasswordAuthToken;
 import com.sweep.jaksim31.auth.CustomUserDetailsService;
@@ -58,6 +60,9 @@ import java.util.Objects;
  * 2023-01-13            장건                주석 정리 완료
  * 2023-01-15            방근호            회원가입/로그인 통합 및 리팩토링
  * 2023-01-30           방근호             인증 로직 변경으로 인한 쿠기 설정 추가
+ * 2026-10-18           방근호             회원가입 시 사용자 negative cache 삭제
+ *                      방근호             로그인 성공 시 사용자 정보/첫 일기 페이지 캐시 prewarm
+ *                      방근호             캐시 key 를 CacheKeys(사용자 id hash tag) 로 생성
  */
 
 @Slf4j
@@ -83,6 +88,8 @@ public class KakaoMemberServiceImpl implements MemberService {
     private long atkLive;
 
     private final RefreshTokenCacheAdapter refreshTokenCacheAdapter;
+    private final MemberCacheAdapter memberCacheAdapter;
+    private final CachePrewarmer cachePrewarmer;
 
 
 
@@ -96,6 +103,8 @@ public class KakaoMemberServiceImpl implements MemberService {
             Members members = memberSaveRequest.toMember(passwordEncoder, true);
             System.out.println(members.toString());
             memberRepository.save(members);
+            // 새로 가입한 사용자 id 의 tombstone 삭제
+            memberCacheAdapter.deleteNotFound(CacheKeys.member(members.getId()));
         }
 
         System.out.println(loginRequest.getLoginId() +" " +  loginRequest.getPassword());
@@ -119,6 +128,8 @@ public class KakaoMemberServiceImpl implements MemberService {
 
         // 저장소 정보 업데이트
         refreshTokenCacheAdapter.put(authenticate.getName(), refreshToken, Duration.ofSeconds(rtkLive / 60));
+        // 로그인 직후 조회될 사용자 정보와 첫 일기 페이지 캐시를 백그라운드에서 미리 채움
+        cachePrewarmer.prewarm(members);
 
         LocalDate today = LocalDate.now();
         Diary todayDiary = diaryRepository.findDiaryByUserIdAndDate(members.getId(), today.atTime(9,0)).orElse(null);
@@ -1,5 +1,9 @@
 package com.sweep.jaksim31.service.impl;
 
+import com.sweep.jaksim31.adapter.cache.CacheEvictor;
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
+import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
+import com.sweep.jaksim31.adapter.cache.RecentWriteTracker;
 import com.sweep.jaksim31.adapter.cache.RefreshTokenCacheAdapter;
 import com.sweep.jaksim31.auth.CustomLoginIdPasswordAuthToken;
 import com.sweep.jaksim31.auth.CustomUserDetailsService;
@@ -22,8 +26,6 @@ import com.sweep.jaksim31.utils.RedirectionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -67,6 +69,14 @@ import java.util.Objects;
  * 2023-01-27           김주현          로그인/로그아웃 시 userId 쿠키 설정 및 refresh token은 addSecureCookie로 전달
  * 2023-01-30           방근호          인증 로직 변경으로 인한 쿠기 설정 추가
  * 2023-01-31           방근호,김주현    로그아웃 시 Cookie 삭제
+ * 2026-10-18           방근호          사용자 정보 캐시를 MemberCacheAdapter(L1 + Redis) 로 조회/삭제하도록 변경
+ *                      방근호          사용자 정보 캐시 refresh-ahead 적용
+ *                      방근호          존재하지 않는 사용자 조회 negative cache 적용
+ *                      방근호          로그인 성공 시 사용자 정보/첫 일기 페이지 캐시 prewarm
+ *                      방근호          캐시 key 를 CacheKeys(사용자 id hash tag) 로 생성
+ *                      방근호          정보 수정 직후 해당 사용자의 캐시 조회는 master 에서 읽음 (read-your-writes)
+ *                      방근호          일기 저장/수정/삭제의 async 캐시 쓰기가 queue 에 남아 있으면 사용자 정보 캐시를 건너뛰고 DB 에서 읽음
+ *                      방근호          회원 탈퇴 시 사용자 정보 캐시와 refresh token 을 CacheEvictor 로 함께 삭제
  */
 
 @Slf4j
@@ -87,6 +97,10 @@ public class MemberServiceImpl implements MemberService {
     private final DiaryRepository diaryRepository;
     private final RedirectionUtil redirectionUtil;
     private final RefreshTokenCacheAdapter refreshTokenCacheAdapter;
+    private final MemberCacheAdapter memberCacheAdapter;
+    private final CacheEvictor cacheEvictor;
+    private final CachePrewarmer cachePrewarmer;
+    private final RecentWriteTracker recentWriteTracker;
 
 
     @Transactional
@@ -97,6 +111,8 @@ public class MemberServiceImpl implements MemberService {
 
         Members members = memberRequestDto.toMember(passwordEncoder, false);
         memberRepository.save(members);
+        // 새로 가입한 사용자 id 의 tombstone 삭제
+        memberCacheAdapter.deleteNotFound(CacheKeys.member(members.getId()));
         return SuccessResponseType.SIGNUP_SUCCESS.getMessage();
     }
     @Override
@@ -124,6 +140,8 @@ public class MemberServiceImpl implements MemberService {
 
         // 레디스에 캐싱
         refreshTokenCacheAdapter.put(loginId, refreshToken, Duration.ofSeconds((int) rtkLive / 60));
+        // 로그인 직후 조회될 사용자 정보와 첫 일기 페이지 캐시를 백그라운드에서 미리 채움
+        cachePrewarmer.prewarm(members);
 
         LocalDate today = LocalDate.now();
         Diary todayDiary = diaryRepository.findDiaryByUserIdAndDate(members.getId(), today.atTime(9,0)).orElse(null);
@@ -248,19 +266,50 @@ public class MemberServiceImpl implements MemberService {
      * @param userId 회원 아이디
      * @return MemberInfoResponse
      */
-    @Cacheable(
-            value = "memberCache",
-            key = "#userId"
-    )
     @Transactional(readOnly = true)
     public MemberInfoResponse getMyInfo(String userId, HttpServletRequest request) {
+        // 최근에 정보를 수정한 사용자는 replica 복제 지연으로 이전 정보를 보지 않도록 master 에서 읽는다.
+        // (일기 저장/수정/삭제의 사용자 캐시 삭제가 아직 queue 에 남아 있으면 캐시를 건너뛰고 DB 에서 읽는다)
+        return recentWriteTracker.read(userId, () -> readMyInfo(userId, request), () -> queryMyInfo(userId, request));
+    }
+
+    // 캐시를 거치지 않고 DB 에서 조회
+    private MemberInfoResponse queryMyInfo(String userId, HttpServletRequest request) {
         MemberInfoResponse members = memberRepository.findById(userId)
                 .map(MemberInfoResponse::of)
                 .orElseThrow(() -> new BizException(MemberExceptionType.NOT_FOUND_USER));
         // 토큰의 id와 조회하려고 하는 id가 일치하지 않는 경우
+        if(!tokenProvider.getMemberLoginIdByToken(CookieUtil.getAccessToken(request)).equals(members.getLoginId()))
+            throw new BizException(MemberExceptionType.NO_PERMISSION);
+        return members;
+    }
+
+    private MemberInfoResponse readMyInfo(String userId, HttpServletRequest request) {
+        // 캐싱된 값이 있는지 확인 (L1 -> Redis), 만료가 가까우면 백그라운드에서 미리 갱신
+        MemberInfoResponse members = memberCacheAdapter.get(CacheKeys.member(userId),
+                () -> memberRepository.findById(userId).map(MemberInfoResponse::of).orElse(null));
+        boolean cached = Objects.nonNull(members);
+
+        if (!cached) {
+            // 존재하지 않는 사용자로 확인된 id 는 DB 조회 없이 예외 처리
+            if (memberCacheAdapter.isNotFound(CacheKeys.member(userId)))
+                throw new BizException(MemberExceptionType.NOT_FOUND_USER);
+
+            members = memberRepository.findById(userId)
+                    .map(MemberInfoResponse::of)
+                    .orElseThrow(() -> {
+                        memberCacheAdapter.putNotFound(CacheKeys.member(userId));
+                        return new BizException(MemberExceptionType.NOT_FOUND_USER);
+                    });
+        }
+        // 토큰의 id와 조회하려고 하는 id가 일치하지 않는 경우
         if(!tokenProvider.getMemberLoginIdByToken(CookieUtil.getAccessToken(request)).equals(members.getLoginId()))
             throw new BizException(MemberExceptionType.NO_PERMISSION);
 
+        // 캐시에 저장
+        if (!cached)
+            memberCacheAdapter.put(CacheKeys.member(userId), members);
+
         return members;
     }
 
@@ -270,10 +319,6 @@ public class MemberServiceImpl implements MemberService {
      * @param memberUpdateRequest member 수정 요청 dto
      */
 
-    @CacheEvict(
-            value = "memberCache",
-            key = "#userId"
-    )
     @Transactional
     public String updateMemberInfo(String userId, MemberUpdateRequest memberUpdateRequest, HttpServletRequest request) {
         Members members = memberRepository
@@ -285,6 +330,9 @@ public class MemberServiceImpl implements MemberService {
 
         members.updateMember( memberUpdateRequest);
         memberRepository.save(members);
+        recentWriteTracker.markWrite(userId);
+        // 사용자 캐시 데이터 삭제
+        memberCacheAdapter.delete(CacheKeys.member(userId));
         return SuccessResponseType.USER_UPDATE_SUCCESS.getMessage();
     }
 
@@ -301,10 +349,6 @@ public class MemberServiceImpl implements MemberService {
         return SuccessResponseType.CHECK_PW_SUCCESS.getMessage();
     }
 
-    @CacheEvict(
-            value = "memberCache",
-            key = "#userId"
-    )
     @Transactional
     public String remove(String userId, MemberRemoveRequest dto, HttpServletResponse response, HttpServletRequest request) throws URISyntaxException {
         // 멤버가 없을 경우 200 리턴 (멱등성을 위해)
@@ -324,9 +368,8 @@ public class MemberServiceImpl implements MemberService {
         // 멤버 엔티티의 delYn을 Yes로 변경 후 삭제 처리
         members.remove('Y');
         memberRepository.save(members);
-
-        // 저장소에서 토큰 삭제
-        refreshTokenCacheAdapter.delete(dto.getUserId());
+        // 사용자 캐시 데이터와 저장소의 토큰 삭제 (한 번의 pipeline)
+        cacheEvictor.deleteMemberAndRefreshToken(CacheKeys.member(userId), dto.getUserId());
         // 쿠키 삭제
         CookieUtil.resetDefaultCookies(response);
 
@@ -0,0 +1,86 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : CacheBatchTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 여러 key 조회(MGET)/저장(pipeline) helper 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheBatchTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("[정상] MGET 결과 중 존재하는 값만 key 순서대로 반환한다")
+    void multiGet() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(List.of("a", "b", "c")))
+                .willReturn(Arrays.asList("1", null, "3"));
+
+        // when
+        Map<String, String> found = CacheBatch.multiGet(redisTemplate, List.of("a", "b", "c"));
+
+        // then
+        assertEquals(List.of("a", "c"), new ArrayList<>(found.keySet()));
+        assertEquals("1", found.get("a"));
+        assertEquals("3", found.get("c"));
+    }
+
+    @Test
+    @DisplayName("[정상] key 가 없으면 Redis 를 호출하지 않는다")
+    void emptyKeys() {
+        // when
+        Map<String, String> found = CacheBatch.multiGet(redisTemplate, Collections.emptyList());
+        CacheBatch.setAll(redisTemplate, Collections.emptyMap(), () -> Duration.ofMinutes(1));
+
+        // then
+        assertTrue(found.isEmpty());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("[정상] 여러 key 저장은 한 번의 pipeline 으로 보낸다")
+    void setAll() {
+        // given
+        doReturn(new StringRedisSerializer()).when(redisTemplate).getKeySerializer();
+        doReturn(new StringRedisSerializer()).when(redisTemplate).getValueSerializer();
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("a", "1");
+        values.put("b", "2");
+
+        // when
+        CacheBatch.setAll(redisTemplate, values, () -> Duration.ofMinutes(1));
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+}
@@ -0,0 +1,46 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : CacheKeysTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 캐시 key 의 hash tag(cluster slot) 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+class CacheKeysTest {
+
+    private static final String USER_ID = "63808d9d3e4f1b5d2a7c0e11";
+
+    @Test
+    @DisplayName("한 사용자의 member/일기/페이지 key 는 같은 slot 에 모인다")
+    void sameSlotPerUser() {
+        int slot = SlotHash.getSlot(USER_ID);
+
+        assertEquals(slot, SlotHash.getSlot(CacheKeys.member(USER_ID)));
+        assertEquals(slot, SlotHash.getSlot(CacheKeys.diary(USER_ID, "diaryId")));
+        assertEquals(slot, SlotHash.getSlot(CacheKeys.diaryPage(USER_ID, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date")))));
+        assertEquals(slot, SlotHash.getSlot("cacheTag::diaryPagingCache::" + CacheKeys.slot(USER_ID)));
+        assertEquals(slot, SlotHash.getSlot("diaryTimeline::" + CacheKeys.slot(USER_ID) + ":rebuild:tmp"));
+    }
+
+    @Test
+    @DisplayName("key 형식")
+    void keyFormat() {
+        assertEquals("memberCache::{" + USER_ID + "}", CacheKeys.member(USER_ID));
+        assertEquals("diaryCache::{" + USER_ID + "}:diaryId", CacheKeys.diary(USER_ID, "diaryId"));
+        assertEquals("{" + USER_ID + "}Page request [number: 0, size 1, sort: date: DESC]",
+                CacheKeys.diaryPage(USER_ID, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "date"))));
+    }
+}
@@ -0,0 +1,80 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : CacheMetricsTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 캐시 hit/miss, 로딩 시간, 직렬화 크기 metrics 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+class CacheMetricsTest {
+
+    @Test
+    @DisplayName("[정상] 캐시 이름/계층별로 hit, miss 를 기록한다")
+    void recordGet() {
+        // given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        cacheMetrics.bindTo(registry);
+
+        // when
+        cacheMetrics.hit("diaryCache", CacheMetrics.TIER_NEAR);
+        cacheMetrics.recordGet("diaryCache", CacheMetrics.TIER_REDIS, "value");
+        assertNull(cacheMetrics.recordGet("diaryCache", CacheMetrics.TIER_REDIS, null));
+        cacheMetrics.misses("memberCache", 2);
+
+        // then
+        assertEquals(1, registry.get("cache.adapter.gets").tags("cache", "diaryCache", "result", "hit", "tier", "near").counter().count());
+        assertEquals(1, registry.get("cache.adapter.gets").tags("cache", "diaryCache", "result", "hit", "tier", "redis").counter().count());
+        assertEquals(1, registry.get("cache.adapter.gets").tags("cache", "diaryCache", "result", "miss").counter().count());
+        assertEquals(2, registry.get("cache.adapter.gets").tags("cache", "memberCache", "result", "miss").counter().count());
+    }
+
+    @Test
+    @DisplayName("[정상] 원본 로딩 시간과 직렬화 크기를 기록한다")
+    void recordLoadAndPayload() {
+        // given
+        MeterRegistry registry = new SimpleMeterRegistry();
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        cacheMetrics.bindTo(registry);
+        MeteredCacheSerializer<String> serializer = new MeteredCacheSerializer<>("refreshTokenCache", new StringRedisSerializer(), cacheMetrics);
+
+        // when
+        String loaded = cacheMetrics.recordLoad("diaryPagingCache", () -> "page");
+        byte[] bytes = serializer.serialize("token");
+        serializer.deserialize(bytes);
+
+        // then
+        assertEquals("page", loaded);
+        assertEquals(1, registry.get("cache.adapter.load").tag("cache", "diaryPagingCache").timer().count());
+        assertEquals(5, registry.get("cache.adapter.payload").tags("cache", "refreshTokenCache", "operation", "write").summary().totalAmount());
+        assertEquals(5, registry.get("cache.adapter.payload").tags("cache", "refreshTokenCache", "operation", "read").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("[정상] registry 에 bind 되기 전에는 기록하지 않고 로딩은 그대로 실행한다")
+    void unbound() {
+        // given
+        CacheMetrics cacheMetrics = new CacheMetrics();
+
+        // when
+        cacheMetrics.hit("diaryCache", CacheMetrics.TIER_NEAR);
+        cacheMetrics.payload("diaryCache", "write", 10);
+
+        // then
+        assertEquals("value", cacheMetrics.recordLoad("diaryCache", () -> "value"));
+    }
+}
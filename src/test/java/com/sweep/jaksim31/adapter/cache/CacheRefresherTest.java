@@ -0,0 +1,162 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : CacheRefresherTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : refresh-ahead(XFetch) 및 ttl jitter 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             refresh 중 key 가 삭제되면 저장하지 않는 테스트 추가
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheRefresherTest {
+
+    private static final CachePolicy POLICY = CachePolicy.builder()
+            .refreshAheadBeta(1.0)
+            .refreshAheadDelta(Duration.ofMillis(100))
+            .build();
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("[정상] 만료가 충분히 남은 값은 refresh 하지 않는다")
+    void notRefreshFarFromExpiry() {
+        CacheRefresher cacheRefresher = new CacheRefresher(Runnable::run, new CacheMetrics());
+
+        for (int i = 0; i < 1000; i++)
+            assertFalse(cacheRefresher.shouldRefresh("memberCache", POLICY, Duration.ofHours(1).toMillis()));
+        assertFalse(cacheRefresher.shouldRefresh("memberCache", POLICY, -1));
+    }
+
+    @Test
+    @DisplayName("[정상] 만료된 직후의 값은 항상 refresh 한다")
+    void refreshAtExpiry() {
+        CacheRefresher cacheRefresher = new CacheRefresher(Runnable::run, new CacheMetrics());
+
+        assertTrue(cacheRefresher.shouldRefresh("memberCache", POLICY, 0));
+    }
+
+    @Test
+    @DisplayName("[정상] 만료가 가까운 값은 기존 값을 반환하고 백그라운드에서 다시 저장한다")
+    void refreshAhead() {
+        // given
+        CacheRefresher cacheRefresher = new CacheRefresher(Runnable::run, new CacheMetrics());
+        givenExpiringValue("old");
+        given(redisTemplate.execute(eq(CacheRefresher.REPLACE_SCRIPT), any(RedisSerializer.class), any(RedisSerializer.class),
+                eq(Collections.singletonList("key")), aryEq(bytes("old")), aryEq(bytes("new")), any()))
+                .willReturn(1L);
+        AtomicReference<String> written = new AtomicReference<>();
+
+        // when
+        String value = cacheRefresher.get("memberCache", POLICY, redisTemplate, "key", () -> "new", written::set);
+
+        // then
+        assertEquals("old", value);
+        assertEquals("new", written.get());
+    }
+
+    @Test
+    @DisplayName("[정상] 다시 로딩하는 동안 key 가 삭제되었으면 다시 로딩한 값을 저장하지 않는다")
+    void refreshSkipsDeletedKey() {
+        // given
+        CacheRefresher cacheRefresher = new CacheRefresher(Runnable::run, new CacheMetrics());
+        givenExpiringValue("old");
+        AtomicInteger deleted = new AtomicInteger();
+        // 삭제되어 현재 값이 읽은 값("old")과 다르면 script 는 저장하지 않고 0 을 반환
+        given(redisTemplate.execute(eq(CacheRefresher.REPLACE_SCRIPT), any(RedisSerializer.class), any(RedisSerializer.class),
+                eq(Collections.singletonList("key")), aryEq(bytes("old")), aryEq(bytes("stale")), any()))
+                .willAnswer(invocation -> deleted.get() > 0 ? 0L : 1L);
+        AtomicReference<String> written = new AtomicReference<>();
+
+        // when (refresh 가 원본을 읽은 뒤 수정/삭제로 key 가 삭제됨)
+        String value = cacheRefresher.get("memberCache", POLICY, redisTemplate, "key", () -> {
+            deleted.incrementAndGet();
+            return "stale";
+        }, written::set);
+
+        // then
+        assertEquals("old", value);
+        assertNull(written.get());
+    }
+
+    @Test
+    @DisplayName("[정상] refresh-ahead 를 사용하지 않으면 reloader 를 호출하지 않는다")
+    void disabled() {
+        // given
+        CacheRefresher cacheRefresher = new CacheRefresher(Runnable::run, new CacheMetrics());
+        CachePolicy policy = CachePolicy.builder().build();
+        AtomicInteger reloadCount = new AtomicInteger();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("key")).willReturn("old");
+
+        // when
+        String value = cacheRefresher.get("memberCache", policy, redisTemplate, "key",
+                () -> String.valueOf(reloadCount.incrementAndGet()), v -> {});
+
+        // then
+        assertEquals("old", value);
+        assertEquals(0, reloadCount.get());
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class), any());
+    }
+
+    @Test
+    @DisplayName("[정상] jitter 가 적용된 ttl 은 (ttl * (1 - jitter)) ~ ttl 범위이다")
+    void jitteredTtl() {
+        CachePolicy policy = CachePolicy.builder()
+                .ttl(Duration.ofDays(1))
+                .ttlJitter(0.1)
+                .build();
+
+        for (int i = 0; i < 1000; i++) {
+            Duration ttl = policy.jitteredTtl();
+            assertTrue(ttl.compareTo(Duration.ofDays(1)) <= 0);
+            assertTrue(ttl.compareTo(Duration.ofDays(1).minusMinutes(144)) >= 0);
+        }
+    }
+
+    // GET/PTTL pipeline 결과로 만료 직전(남은 ttl 0)의 원본 byte 를 반환
+    private void givenExpiringValue(String value) {
+        given(redisTemplate.executePipelined(any(RedisCallback.class), isNull()))
+                .willReturn(Arrays.asList(bytes(value), 0L));
+        doReturn(RedisSerializer.string()).when(redisTemplate).getValueSerializer();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,181 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.member.MemberInfoResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : CacheSchemaTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 캐시 schema 버전 key 및 rolling 배포(이전/새 버전 노드 혼재) 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             rolling 배포 테스트를 실제 Redis adapter 로 실행
+ */
+class CacheSchemaTest {
+
+    private static final String BASE_KEY = "memberCache::{userId}";
+
+    // 버전 1: username 을 nickname 으로 저장하던 이전 DTO
+    private static final CacheSchema V1 = CacheSchema.of(MemberCacheAdapter.CACHE_NAME, 1);
+    // 버전 2: nickname -> username
+    private static final CacheSchema V2 = CacheSchema.of(MemberCacheAdapter.CACHE_NAME, 2)
+            .upcaster(1, node -> {
+                ObjectNode object = (ObjectNode) node;
+                object.set("username", object.remove("nickname"));
+                return object;
+            });
+
+    // 여러 노드가 공유하는 Redis
+    private final Map<String, byte[]> redis = new HashMap<>();
+
+    @Test
+    @DisplayName("버전 1 은 기존 key 그대로 쓰고, 이후 버전은 hash tag 뒤에 버전을 붙인다")
+    void keyFormat() {
+        assertEquals(BASE_KEY, V1.key(BASE_KEY));
+        assertEquals(BASE_KEY + "#v2", V2.key(BASE_KEY));
+        assertEquals(BASE_KEY, CacheSchema.baseKey(BASE_KEY + "#v2"));
+        assertEquals(2, CacheSchema.versionOf(BASE_KEY + "#v2"));
+        assertEquals(1, CacheSchema.versionOf(BASE_KEY));
+        assertTrue(V2.isCurrent(BASE_KEY + "#v2"));
+        assertFalse(V2.isCurrent(BASE_KEY));
+
+        assertEquals(Arrays.asList(BASE_KEY, BASE_KEY + "#v2"), CacheSchema.siblingKeys(BASE_KEY));
+        assertEquals(Arrays.asList(BASE_KEY, BASE_KEY + "#v2", BASE_KEY + "#v3"), CacheSchema.siblingKeys(BASE_KEY + "#v2"));
+        assertNull(V1.previousKey(BASE_KEY));
+        assertEquals(BASE_KEY, V2.previousKey(V2.key(BASE_KEY)));
+    }
+
+    @Test
+    @DisplayName("새 버전 노드는 이전 버전 value 를 변환해서 읽고 새 key 에 다시 쓰며, 이전 버전 노드는 계속 자기 value 를 읽는다")
+    void mixedVersionFleet() {
+        RedisMemberCacheAdapter oldNode = node(V1, new LegacyMemberSerializer());
+        RedisMemberCacheAdapter newNode = node(V2, new MeteredCacheSerializer<>(MemberCacheAdapter.CACHE_NAME,
+                new CompressingCacheSerializer<>(new MemberCacheSerializer(CacheCodec.SMILE), 1024, new CompressionStats(MemberCacheAdapter.CACHE_NAME)),
+                new CacheMetrics()));
+
+        oldNode.put(V1.key(BASE_KEY), member("홍길동"));
+
+        // 새 노드: 자기 버전 key 는 없지만 DB 조회 없이 이전 버전 value 를 변환
+        MemberInfoResponse upcasted = newNode.get(V2.key(BASE_KEY));
+        assertEquals("홍길동", upcasted.getUsername());
+        assertEquals("userId", upcasted.getUserId());
+        assertTrue(redis.containsKey(BASE_KEY + "#v2"));
+
+        // 이전 노드: 새 버전 value 가 자기 key 를 덮어쓰지 않으므로 그대로 읽는다
+        assertEquals("홍길동", oldNode.get(V1.key(BASE_KEY)).getUsername());
+
+        // 어느 쪽에서 무효화해도 두 버전 key 가 모두 삭제된다
+        oldNode.delete(V1.key(BASE_KEY));
+        assertTrue(redis.isEmpty());
+
+        oldNode.put(V1.key(BASE_KEY), member("홍길동"));
+        newNode.get(V2.key(BASE_KEY));
+        newNode.delete(V2.key(BASE_KEY));
+        assertTrue(redis.isEmpty());
+    }
+
+    @Test
+    @DisplayName("이전 버전 value 를 변환하지 못하면 miss 로 처리한다")
+    void upcastFailureIsMiss() {
+        redis.put(BASE_KEY, "not json".getBytes());
+        RedisMemberCacheAdapter newNode = node(V2, new MemberCacheSerializer());
+
+        assertNull(newNode.get(V2.key(BASE_KEY)));
+        assertFalse(redis.containsKey(BASE_KEY + "#v2"));
+    }
+
+    // 한 schema 버전으로 배포된 노드의 사용자 캐시 adapter (near cache 사용 안 함)
+    private RedisMemberCacheAdapter node(CacheSchema schema, RedisSerializer<MemberInfoResponse> serializer) {
+        return new RedisMemberCacheAdapter(template(serializer), null, null, null, new CacheMetrics(),
+                new CachePolicies(CachePolicy.builder().build()), schema);
+    }
+
+    // 노드의 value serializer 로 직렬화하여 공유 Redis(map) 에 읽고 쓰는 RedisTemplate
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, MemberInfoResponse> template(RedisSerializer<MemberInfoResponse> serializer) {
+        RedisTemplate<String, MemberInfoResponse> template = mock(RedisTemplate.class);
+        ValueOperations<String, MemberInfoResponse> operations = mock(ValueOperations.class);
+        RedisConnection connection = mock(RedisConnection.class);
+
+        given(template.opsForValue()).willReturn(operations);
+        doReturn(RedisSerializer.string()).when(template).getKeySerializer();
+        doReturn(serializer).when(template).getValueSerializer();
+        given(operations.get(any())).willAnswer(invocation -> serializer.deserialize(redis.get(invocation.<String>getArgument(0))));
+        willAnswer(invocation -> redis.put(invocation.getArgument(0), serializer.serialize(invocation.getArgument(1))))
+                .given(operations).set(any(), any(), any(Duration.class));
+        given(template.delete(anyCollection())).willAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(key -> Objects.nonNull(redis.remove(key))).count();
+        });
+        given(connection.get(any(byte[].class))).willAnswer(invocation -> redis.get(RedisSerializer.string().deserialize(invocation.getArgument(0))));
+        given(template.execute(any(RedisCallback.class))).willAnswer(invocation -> invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection));
+        return template;
+    }
+
+    private static MemberInfoResponse member(String username) {
+        return MemberInfoResponse.builder()
+                .userId("userId")
+                .username(username)
+                .build();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class LegacyMember {
+        private String userId;
+        private String nickname;
+    }
+
+    static class LegacyMemberCacheSerializer extends CacheSerializer<LegacyMember> {
+        LegacyMemberCacheSerializer() {
+            super(LegacyMember.class, CacheCodec.JSON);
+        }
+    }
+
+    // 버전 1 DTO 로 배포된 노드의 serializer (username 을 nickname 으로 저장)
+    static class LegacyMemberSerializer implements RedisSerializer<MemberInfoResponse> {
+        private final LegacyMemberCacheSerializer legacy = new LegacyMemberCacheSerializer();
+
+        @Override
+        public byte[] serialize(MemberInfoResponse value) {
+            return Objects.isNull(value) ? null : legacy.serialize(new LegacyMember(value.getUserId(), value.getUsername()));
+        }
+
+        @Override
+        public MemberInfoResponse deserialize(byte[] bytes) {
+            LegacyMember member = legacy.deserialize(bytes);
+            return Objects.isNull(member) ? null : MemberInfoResponse.builder()
+                    .userId(member.getUserId())
+                    .username(member.getNickname())
+                    .build();
+        }
+    }
+}
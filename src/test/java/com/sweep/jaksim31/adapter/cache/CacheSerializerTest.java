@@ -0,0 +1,95 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import com.sweep.jaksim31.dto.member.MemberInfoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : CacheSerializerTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 캐시 직렬화 포맷(JSON/SMILE) 및 기존 포맷 호환 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+class CacheSerializerTest {
+
+    private static RestPage<DiaryInfoResponse> getPage(int size) {
+        List<DiaryInfoResponse> content = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            content.add(new DiaryInfoResponse("diaryId" + i, "userId", LocalDate.of(2023, 1, 1).plusDays(i),
+                    LocalDate.of(2023, 2, 1), "emotion", new String[]{"keyword" + i}, "thumbnail" + i));
+        }
+        return new RestPage<>(content, 0, size, size);
+    }
+
+    @Test
+    @DisplayName("[정상] SMILE 포맷으로 저장한 페이지를 그대로 읽어온다")
+    void smileRoundTrip() {
+        // given
+        DiaryPagingCacheSerializer serializer = new DiaryPagingCacheSerializer(CacheCodec.SMILE);
+        RestPage<DiaryInfoResponse> page = getPage(10);
+
+        // when
+        byte[] bytes = serializer.serialize(page);
+        RestPage<DiaryInfoResponse> result = serializer.deserialize(bytes);
+
+        // then
+        assertEquals(CacheSerializer.MAGIC, bytes[0]);
+        assertEquals(CacheSerializer.FORMAT_SMILE, bytes[1]);
+        assertEquals(page.getContent().get(3).getDiaryId(), result.getContent().get(3).getDiaryId());
+        assertEquals(page.getContent().get(3).getDiaryDate(), result.getContent().get(3).getDiaryDate());
+        assertEquals(page.getTotalElements(), result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("[정상] header 가 없는 기존 JSON(INDENT_OUTPUT) 데이터도 읽을 수 있다")
+    void readLegacyJson() throws Exception {
+        // given
+        ObjectMapper legacyMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        MemberInfoResponse member = new MemberInfoResponse("userId", "loginId", "username", "profileImage", null, 3);
+        byte[] legacy = legacyMapper.writeValueAsString(member).getBytes();
+
+        // when
+        MemberInfoResponse result = new MemberCacheSerializer(CacheCodec.SMILE).deserialize(legacy);
+
+        // then
+        assertEquals(member, result);
+    }
+
+    @Test
+    @DisplayName("[정상] SMILE 포맷이 JSON 포맷보다 작다")
+    void smileIsSmallerThanJson() {
+        // given
+        RestPage<DiaryInfoResponse> page = getPage(100);
+
+        // when
+        int json = new DiaryPagingCacheSerializer(CacheCodec.JSON).serialize(page).length;
+        int smile = new DiaryPagingCacheSerializer(CacheCodec.SMILE).serialize(page).length;
+
+        // then
+        assertTrue(smile < json);
+    }
+
+    @Test
+    @DisplayName("[정상] null 은 null 로 직렬화된다")
+    void serializeNull() {
+        assertNull(new DiaryCacheSerializer(CacheCodec.SMILE).serialize(null));
+        assertNull(new DiaryCacheSerializer(CacheCodec.SMILE).deserialize(null));
+    }
+}
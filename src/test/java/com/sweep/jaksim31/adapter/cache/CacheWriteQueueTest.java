@@ -0,0 +1,211 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : CacheWriteQueueTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 캐시 쓰기 queue (per-key 순서, backpressure) 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             key 별 미실행 작업(hasPending) 테스트 추가
+ *                      방근호             queue 가 가득 찬 채로 offer timeout 이 지나면 작업을 버리는 테스트 추가
+ *                      방근호             작업을 버린 key 를 blacklist 하는 대신 호출한 thread 에서 무효화하는 테스트로 변경
+ */
+class CacheWriteQueueTest {
+
+    @Test
+    @DisplayName("[정상] async 모드가 꺼져 있으면 호출한 thread 에서 바로 실행한다")
+    void inline() {
+        // given
+        CacheWriteQueue cacheWriteQueue = new CacheWriteQueue(false, 4, 100, 5_000);
+        Thread caller = Thread.currentThread();
+        List<Thread> executed = new ArrayList<>();
+
+        // when
+        cacheWriteQueue.submit("userId", () -> executed.add(Thread.currentThread()));
+
+        // then
+        assertEquals(List.of(caller), executed);
+    }
+
+    @Test
+    @DisplayName("[정상] 같은 key 의 작업은 제출 순서대로 실행되고, queue 가 가득 차면 기다린다")
+    void orderedPerKey() throws Exception {
+        // given
+        CacheWriteQueue cacheWriteQueue = new CacheWriteQueue(true, 2, 4, 5_000);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        int tasks = 50;
+
+        // when (stripe 당 queue 2개 -> 대부분의 제출이 backpressure 로 기다림)
+        for (int i = 0; i < tasks; i++) {
+            int sequence = i;
+            cacheWriteQueue.submit("userId", () -> {
+                sleep(1);
+                executed.add(sequence);
+            });
+        }
+        cacheWriteQueue.destroy();
+
+        // then
+        assertEquals(tasks, executed.size());
+        for (int i = 0; i < tasks; i++)
+            assertEquals(i, executed.get(i));
+    }
+
+    @Test
+    @DisplayName("[예외] 백그라운드 작업 실패는 호출한 쪽으로 전파되지 않고 metrics 로 기록된다")
+    void failure() throws Exception {
+        // given
+        CacheWriteQueue cacheWriteQueue = new CacheWriteQueue(true, 1, 10, 5_000);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cacheWriteQueue.bindTo(registry);
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        assertDoesNotThrow(() -> cacheWriteQueue.submit("userId", () -> {
+            throw new IllegalStateException("redis down");
+        }));
+        cacheWriteQueue.submit("userId", done::countDown);
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(1, registry.get("cache.async.writes").tag("result", "failure").functionCounter().count());
+        assertEquals(2, registry.get("cache.async.writes").tag("result", "queued").functionCounter().count());
+        cacheWriteQueue.destroy();
+    }
+
+    @Test
+    @DisplayName("[정상] 제출한 작업이 끝날 때까지 해당 key 만 미실행 작업이 있는 것으로 표시한다")
+    void pendingPerKey() throws Exception {
+        // given
+        CacheWriteQueue cacheWriteQueue = new CacheWriteQueue(true, 2, 10, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        cacheWriteQueue.submit("writer", () -> await(release));
+        cacheWriteQueue.submit("writer", done::countDown);
+
+        // then
+        assertTrue(cacheWriteQueue.hasPending("writer"));
+        assertFalse(cacheWriteQueue.hasPending("reader"));
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        cacheWriteQueue.destroy();
+        assertFalse(cacheWriteQueue.hasPending("writer"));
+
+        // async 모드가 꺼져 있으면 바로 실행되므로 남는 작업이 없음
+        CacheWriteQueue inline = new CacheWriteQueue(false, 1, 1, 5_000);
+        inline.submit("writer", () -> assertFalse(inline.hasPending("writer")));
+    }
+
+    @Test
+    @DisplayName("[예외] queue 가 가득 찬 채로 offer timeout 이 지나면 기다리지 않고 버리고, 호출한 thread 에서 바로 무효화한다")
+    void invalidateWhenFull() throws Exception {
+        // given (stripe 1개, queue 1칸, 10ms 까지만 기다림)
+        CacheWriteQueue cacheWriteQueue = new CacheWriteQueue(true, 1, 1, 10);
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cacheWriteQueue.bindTo(registry);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        CountDownLatch dequeued = new CountDownLatch(1);
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> invalidatedBy = Collections.synchronizedList(new ArrayList<>());
+        Thread caller = Thread.currentThread();
+
+        // when (실행 중 1개 + queue 1개로 가득 참)
+        cacheWriteQueue.submit("writer", () -> await(release));
+        cacheWriteQueue.submit("writer", () -> {
+            executed.add("queued");
+            dequeued.countDown();
+        });
+        long start = System.nanoTime();
+        cacheWriteQueue.submit("writer", () -> executed.add("dropped"), () -> {
+            // 무효화하는 동안 읽기는 계속 캐시를 건너뜀
+            assertTrue(cacheWriteQueue.hasPending("writer"));
+            invalidatedBy.add(Thread.currentThread());
+        });
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then (요청 thread 는 timeout 까지만 기다리고, 버린 작업 대신 바로 무효화)
+        assertTrue(waitedMillis < 1_000);
+        assertEquals(List.of(caller), invalidatedBy);
+        assertTrue(cacheWriteQueue.hasPending("writer"));
+
+        // 먼저 제출된 작업이 끝나면 이전 값을 다시 저장했을 수 있으므로 한 번 더 무효화
+        release.countDown();
+        assertTrue(dequeued.await(5, TimeUnit.SECONDS));
+        cacheWriteQueue.submit("other", done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("queued"), executed);
+        assertEquals(2, invalidatedBy.size());
+        assertNotSame(caller, invalidatedBy.get(1));
+
+        // 버린 key 도 남은 작업이 끝나면 바로 다시 캐시를 사용하고 이후 작업도 실행
+        assertFalse(cacheWriteQueue.hasPending("writer"));
+        CountDownLatch after = new CountDownLatch(1);
+        cacheWriteQueue.submit("writer", after::countDown);
+        assertTrue(after.await(5, TimeUnit.SECONDS));
+        assertEquals(1, registry.get("cache.async.writes").tag("result", "dropped").functionCounter().count());
+        cacheWriteQueue.destroy();
+    }
+
+    @Test
+    @DisplayName("[예외] queue 가 가득 차면 무효화 작업 없이 제출한 캐시 채우기는 버리기만 한다")
+    void dropFillWhenFull() throws Exception {
+        // given
+        CacheWriteQueue cacheWriteQueue = new CacheWriteQueue(true, 1, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        CountDownLatch dequeued = new CountDownLatch(1);
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        cacheWriteQueue.submit("reader", () -> await(release));
+        cacheWriteQueue.submit("reader", () -> {
+            executed.add("queued");
+            dequeued.countDown();
+        });
+        cacheWriteQueue.submit("reader", () -> executed.add("dropped"));
+        release.countDown();
+        assertTrue(dequeued.await(5, TimeUnit.SECONDS));
+        cacheWriteQueue.submit("reader", done::countDown);
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("queued"), executed);
+        cacheWriteQueue.destroy();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
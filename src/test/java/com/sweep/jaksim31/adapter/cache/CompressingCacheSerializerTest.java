@@ -0,0 +1,94 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : CompressingCacheSerializerTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 페이지 캐시 압축(LZ4) 및 압축 통계 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+class CompressingCacheSerializerTest {
+
+    private static RestPage<DiaryInfoResponse> getPage(int size) {
+        List<DiaryInfoResponse> content = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            content.add(new DiaryInfoResponse("diaryId" + i, "userId", LocalDate.of(2023, 1, 1).plusDays(i),
+                    LocalDate.of(2023, 2, 1), "emotion", new String[]{"keyword" + i}, "thumbnail" + i));
+        }
+        return new RestPage<>(content, 0, size, size);
+    }
+
+    @Test
+    @DisplayName("[정상] 기준 크기 이상의 페이지는 압축해서 저장하고 그대로 읽어온다")
+    void compressRoundTrip() {
+        // given
+        CompressionStats stats = new CompressionStats("diaryPagingCache");
+        CompressingCacheSerializer<RestPage<DiaryInfoResponse>> serializer =
+                new CompressingCacheSerializer<>(new DiaryPagingCacheSerializer(CacheCodec.SMILE), 512, stats);
+        RestPage<DiaryInfoResponse> page = getPage(50);
+
+        // when
+        byte[] bytes = serializer.serialize(page);
+        RestPage<DiaryInfoResponse> result = serializer.deserialize(bytes);
+
+        // then
+        assertEquals(CompressingCacheSerializer.MAGIC, bytes[0]);
+        assertEquals(CompressingCacheSerializer.FORMAT_LZ4, bytes[1]);
+        assertEquals(page.getContent().get(42).getDiaryId(), result.getContent().get(42).getDiaryId());
+        assertEquals(page.getTotalElements(), result.getTotalElements());
+        assertEquals(1, stats.getCompressedWrites());
+        assertEquals(bytes.length, stats.getStoredBytes());
+        assertTrue(stats.getStoredBytes() < stats.getRawBytes());
+    }
+
+    @Test
+    @DisplayName("[정상] 기준 크기보다 작은 페이지는 압축하지 않는다")
+    void belowThreshold() {
+        // given
+        CompressionStats stats = new CompressionStats("diaryPagingCache");
+        DiaryPagingCacheSerializer delegate = new DiaryPagingCacheSerializer();
+        CompressingCacheSerializer<RestPage<DiaryInfoResponse>> serializer =
+                new CompressingCacheSerializer<>(delegate, 64 * 1024, stats);
+        RestPage<DiaryInfoResponse> page = getPage(1);
+
+        // when
+        byte[] bytes = serializer.serialize(page);
+
+        // then
+        assertArrayEquals(delegate.serialize(page), bytes);
+        assertEquals(1, stats.getRawWrites());
+        assertEquals(stats.getRawBytes(), stats.getStoredBytes());
+        assertEquals(page.getContent().get(0).getDiaryId(), serializer.deserialize(bytes).getContent().get(0).getDiaryId());
+    }
+
+    @Test
+    @DisplayName("[정상] 압축을 끈 노드도 압축된 데이터를 읽을 수 있다")
+    void readCompressedWhenDisabled() {
+        // given
+        CompressionStats stats = new CompressionStats("diaryPagingCache");
+        byte[] bytes = new CompressingCacheSerializer<>(new DiaryPagingCacheSerializer(), 512, stats).serialize(getPage(50));
+        CompressingCacheSerializer<RestPage<DiaryInfoResponse>> disabled =
+                new CompressingCacheSerializer<>(new DiaryPagingCacheSerializer(), 0, stats);
+
+        // when
+        RestPage<DiaryInfoResponse> result = disabled.deserialize(bytes);
+
+        // then
+        assertEquals(50, result.getContent().size());
+    }
+}
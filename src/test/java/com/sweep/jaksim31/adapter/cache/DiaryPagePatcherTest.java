@@ -0,0 +1,135 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : DiaryPagePatcherTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 일기 저장/수정/삭제 시 페이징 캐시 직접 수정 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+class DiaryPagePatcherTest {
+
+    private static final String USER_ID = "userId";
+
+    private static DiaryInfoResponse diary(int day) {
+        return new DiaryInfoResponse("diary" + day, USER_ID, LocalDate.of(2023, 1, day), LocalDate.of(2023, 1, day),
+                "emotion", new String[]{"keyword"}, "thumbnail");
+    }
+
+    private static String key(int number, Sort.Direction direction) {
+        return USER_ID + PageRequest.of(number, 2, Sort.by(direction, "date"));
+    }
+
+    private static RestPage<DiaryInfoResponse> page(int number, long total, int... days) {
+        List<DiaryInfoResponse> content = Arrays.stream(days).mapToObj(DiaryPagePatcherTest::diary).collect(Collectors.toList());
+        return new RestPage<>(content, number, 2, total);
+    }
+
+    private static List<String> ids(RestPage<DiaryInfoResponse> page) {
+        return page.getContent().stream().map(DiaryInfoResponse::getDiaryId).collect(Collectors.toList());
+    }
+
+    // 최신순 페이지 [5,4] [3,2] [1]
+    private static Map<String, RestPage<DiaryInfoResponse>> descPages() {
+        Map<String, RestPage<DiaryInfoResponse>> pages = new HashMap<>();
+        pages.put(key(0, Sort.Direction.DESC), page(0, 5, 5, 4));
+        pages.put(key(1, Sort.Direction.DESC), page(1, 5, 3, 2));
+        pages.put(key(2, Sort.Direction.DESC), page(2, 5, 1));
+        return pages;
+    }
+
+    @Test
+    @DisplayName("[정상] 최신 일기 저장 시 모든 페이지가 한 칸씩 밀린다")
+    void saveNewest() {
+        Map<String, RestPage<DiaryInfoResponse>> result = DiaryPagePatcher.onSave(descPages(), diary(6));
+
+        assertEquals(List.of("diary6", "diary5"), ids(result.get(key(0, Sort.Direction.DESC))));
+        assertEquals(List.of("diary4", "diary3"), ids(result.get(key(1, Sort.Direction.DESC))));
+        assertEquals(List.of("diary2", "diary1"), ids(result.get(key(2, Sort.Direction.DESC))));
+        assertEquals(6, result.get(key(2, Sort.Direction.DESC)).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("[정상] 이전 페이지가 캐싱되어 있지 않으면 경계를 옮길 수 없으므로 삭제한다")
+    void saveWithoutPreviousPage() {
+        Map<String, RestPage<DiaryInfoResponse>> pages = descPages();
+        pages.remove(key(0, Sort.Direction.DESC));
+
+        Map<String, RestPage<DiaryInfoResponse>> result = DiaryPagePatcher.onSave(pages, diary(6));
+
+        assertTrue(result.containsKey(key(1, Sort.Direction.DESC)));
+        assertNull(result.get(key(1, Sort.Direction.DESC)));
+        assertEquals(List.of("diary2", "diary1"), ids(result.get(key(2, Sort.Direction.DESC))));
+    }
+
+    @Test
+    @DisplayName("[정상] 오래된 순 마지막 페이지에는 새 일기가 추가된다")
+    void saveAscending() {
+        Map<String, RestPage<DiaryInfoResponse>> pages = new HashMap<>();
+        pages.put(key(0, Sort.Direction.ASC), page(0, 3, 1, 2));
+        pages.put(key(1, Sort.Direction.ASC), page(1, 3, 3));
+
+        Map<String, RestPage<DiaryInfoResponse>> result = DiaryPagePatcher.onSave(pages, diary(4));
+
+        assertEquals(List.of("diary1", "diary2"), ids(result.get(key(0, Sort.Direction.ASC))));
+        assertEquals(List.of("diary3", "diary4"), ids(result.get(key(1, Sort.Direction.ASC))));
+        assertEquals(4, result.get(key(0, Sort.Direction.ASC)).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("[정상] 일기 삭제 시 뒤쪽 페이지의 일기를 당겨온다")
+    void remove() {
+        Map<String, RestPage<DiaryInfoResponse>> result = DiaryPagePatcher.onRemove(descPages(), diary(4));
+
+        assertEquals(List.of("diary5", "diary3"), ids(result.get(key(0, Sort.Direction.DESC))));
+        assertEquals(List.of("diary2", "diary1"), ids(result.get(key(1, Sort.Direction.DESC))));
+        assertEquals(4, result.get(key(1, Sort.Direction.DESC)).getTotalElements());
+        assertTrue(result.get(key(2, Sort.Direction.DESC)).getContent().isEmpty());
+    }
+
+    @Test
+    @DisplayName("[정상] 날짜가 같은 일기 수정은 해당 일기가 있는 페이지만 교체한다")
+    void updateSameDate() {
+        DiaryInfoResponse updated = diary(3);
+        updated.setEmotion("updated");
+
+        Map<String, RestPage<DiaryInfoResponse>> result = DiaryPagePatcher.onUpdate(descPages(), diary(3), updated);
+
+        assertEquals(1, result.size());
+        assertEquals("updated", result.get(key(1, Sort.Direction.DESC)).getContent().get(0).getEmotion());
+    }
+
+    @Test
+    @DisplayName("[정상] 날짜가 바뀐 일기 수정은 삭제 후 저장으로 처리한다")
+    void updateDateChanged() {
+        DiaryInfoResponse moved = diary(6);
+        moved.setDiaryId("diary1");
+
+        Map<String, RestPage<DiaryInfoResponse>> result = DiaryPagePatcher.onUpdate(descPages(), diary(1), moved);
+
+        assertEquals(List.of("diary1", "diary5"), ids(result.get(key(0, Sort.Direction.DESC))));
+        assertEquals(List.of("diary4", "diary3"), ids(result.get(key(1, Sort.Direction.DESC))));
+        assertEquals(List.of("diary2"), ids(result.get(key(2, Sort.Direction.DESC))));
+        assertEquals(5, result.get(key(0, Sort.Direction.DESC)).getTotalElements());
+    }
+}
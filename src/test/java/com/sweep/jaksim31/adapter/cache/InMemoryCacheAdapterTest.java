@@ -0,0 +1,224 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import com.sweep.jaksim31.dto.diary.DiaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : InMemoryCacheAdapterTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : on-heap 캐시(cache.backend=memory) keyspace 및 adapter 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             직렬화된 응답 body 캐시 테스트 추가
+ *                      방근호             검색 조건별 개수 캐시 무효화 테스트 추가
+ *                      방근호             타임라인 재생성 중 쓰기가 있으면 교체하지 않는 테스트 추가
+ *                      방근호             개별 일기 캐시 태그 무효화 테스트 제거
+ *                      방근호             refresh 중 삭제/재저장된 key 에 다시 로딩한 값을 저장하지 않는 테스트 추가
+ */
+class InMemoryCacheAdapterTest {
+
+    private static final String USER_ID = "userId";
+
+    private final InMemoryKeyspace keyspace = new InMemoryKeyspace(100);
+    private final CachePolicies cachePolicies = new CachePolicies(CachePolicy.builder().build())
+            .with(DiaryCacheAdapter.CACHE_NAME, CachePolicy.builder().negativeTtl(Duration.ofMinutes(1)).build());
+
+    @Test
+    @DisplayName("key 별 ttl 이 지나면 만료되고, 남은 ttl 은 Redis PTTL 과 같은 값으로 조회된다")
+    void expiresByTtl() throws InterruptedException {
+        keyspace.set("short", "value", Duration.ofMillis(50));
+        keyspace.set("forever", "value", null);
+
+        assertEquals("value", keyspace.get("short"));
+        assertTrue(keyspace.remainingTtlMillis("short") <= 50);
+        assertEquals(-1, keyspace.remainingTtlMillis("forever"));
+        assertEquals(-2, keyspace.remainingTtlMillis("absent"));
+
+        Thread.sleep(100);
+        assertNull(keyspace.get("short"));
+        assertEquals("value", keyspace.get("forever"));
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘으면 데이터만 내보내고 태그 set 은 유지한다")
+    void boundedButKeepsTagSets() {
+        InMemoryKeyspace small = new InMemoryKeyspace(10);
+        small.addToSet("tag", Collections.singleton("key0"), Duration.ofMinutes(1));
+        for (int i = 0; i < 1_000; i++)
+            small.set("key" + i, i, Duration.ofMinutes(1));
+
+        assertTrue(small.size() <= 11);
+        assertEquals(Collections.singletonList("key0"), small.members("tag"));
+    }
+
+    @Test
+    @DisplayName("일기 캐시는 key 단위로 저장/삭제하고, negative cache 는 정책의 ttl 로 저장된다")
+    void diaryCacheAndNegativeCache() {
+        InMemoryDiaryCacheAdapter adapter = new InMemoryDiaryCacheAdapter(keyspace, null, new CacheMetrics(), cachePolicies);
+        adapter.put(CacheKeys.diary(USER_ID, "d1"), DiaryResponse.builder().diaryId("d1").userId(USER_ID).build());
+        adapter.put(CacheKeys.diary("other", "d2"), DiaryResponse.builder().diaryId("d2").userId("other").build());
+
+        adapter.delete(CacheKeys.diary(USER_ID, "d1"));
+
+        assertNull(adapter.get(CacheKeys.diary(USER_ID, "d1")));
+        assertNotNull(adapter.get(CacheKeys.diary("other", "d2")));
+
+        adapter.putNotFound("absent");
+        assertTrue(adapter.isNotFound("absent"));
+        assertTrue(keyspace.remainingTtlMillis(CacheKeys.notFound("absent")) > 0);
+        adapter.deleteNotFound("absent");
+        assertFalse(adapter.isNotFound("absent"));
+    }
+
+    @Test
+    @DisplayName("refresh 가 원본을 다시 읽는 동안 삭제되거나 다시 저장된 key 에는 다시 로딩한 값을 저장하지 않는다")
+    void refreshSkipsKeyWrittenDuringReload() {
+        String key = CacheKeys.diary(USER_ID, "d1");
+        DiaryResponse before = DiaryResponse.builder().diaryId("d1").userId(USER_ID).content("before").build();
+        DiaryResponse stale = DiaryResponse.builder().diaryId("d1").userId(USER_ID).content("stale").build();
+        DiaryResponse updated = DiaryResponse.builder().diaryId("d1").userId(USER_ID).content("updated").build();
+
+        // 원본을 읽은 뒤 일기 수정으로 key 가 삭제됨
+        InMemoryDiaryCacheAdapter adapter = refreshingDiaryAdapter();
+        adapter.put(key, before);
+        assertSame(before, adapter.get(key, () -> {
+            adapter.delete(key);
+            return stale;
+        }));
+        assertNull(adapter.get(key));
+
+        // 삭제 후 다른 요청이 수정된 값을 다시 저장함
+        InMemoryDiaryCacheAdapter reloaded = refreshingDiaryAdapter();
+        reloaded.put(key, before);
+        reloaded.get(key, () -> {
+            reloaded.delete(key);
+            reloaded.put(key, updated);
+            return stale;
+        });
+        assertSame(updated, reloaded.get(key));
+
+        // 그 사이 쓰기가 없으면 다시 로딩한 값으로 교체
+        InMemoryDiaryCacheAdapter untouched = refreshingDiaryAdapter();
+        untouched.put(key, before);
+        untouched.get(key, () -> updated);
+        assertSame(updated, untouched.get(key));
+    }
+
+    // 저장 직후부터 항상 refresh 하도록 예상 로딩 시간을 ttl 보다 훨씬 길게 둔 adapter (refresh 는 호출한 thread 에서 실행)
+    private InMemoryDiaryCacheAdapter refreshingDiaryAdapter() {
+        CachePolicies policies = new CachePolicies(CachePolicy.builder().build())
+                .with(DiaryCacheAdapter.CACHE_NAME, CachePolicy.builder()
+                        .ttl(Duration.ofMinutes(1))
+                        .refreshAheadBeta(1.0)
+                        .refreshAheadDelta(Duration.ofDays(3650))
+                        .build());
+        return new InMemoryDiaryCacheAdapter(keyspace, new CacheRefresher(Runnable::run, new CacheMetrics()), new CacheMetrics(), policies);
+    }
+
+    @Test
+    @DisplayName("타임라인은 정렬 방향에 맞게 페이지를 만들고, 저장/삭제를 순서대로 반영한다")
+    void timelinePaging() {
+        InMemoryDiaryTimelineCacheAdapter adapter = new InMemoryDiaryTimelineCacheAdapter(keyspace, new CacheMetrics(), cachePolicies);
+        PageRequest latest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "date"));
+        PageRequest oldest = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "date"));
+
+        // 타임라인이 없으면 저장하지 않고 miss
+        adapter.put(USER_ID, diary("d0", 1));
+        assertNull(adapter.page(USER_ID, latest));
+
+        assertTrue(adapter.rebuild(USER_ID, Arrays.asList(diary("d2", 2), diary("d1", 1), diary("d3", 3)), adapter.sequence(USER_ID)));
+        assertEquals(Arrays.asList("d3", "d2"), ids(adapter.page(USER_ID, latest)));
+        assertEquals(Arrays.asList("d1", "d2"), ids(adapter.page(USER_ID, oldest)));
+        assertEquals(3, adapter.page(USER_ID, latest).getTotalElements());
+
+        // d1 의 날짜 변경, d4 추가, d3 삭제
+        adapter.put(USER_ID, diary("d1", 5));
+        adapter.put(USER_ID, diary("d4", 4));
+        adapter.delete(USER_ID, "d3");
+
+        assertEquals(Arrays.asList("d1", "d4"), ids(adapter.page(USER_ID, latest)));
+        assertEquals(Collections.singletonList("d2"), ids(adapter.page(USER_ID, PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "date")))));
+    }
+
+    @Test
+    @DisplayName("DB 조회 후 저장/삭제가 있었으면 타임라인을 교체하지 않고, 다음 재생성은 교체한다")
+    void timelineRebuildSkipsWhenWrittenDuringRead() {
+        InMemoryDiaryTimelineCacheAdapter adapter = new InMemoryDiaryTimelineCacheAdapter(keyspace, new CacheMetrics(), cachePolicies);
+        PageRequest latest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date"));
+
+        // DB 조회 전 순번을 읽은 뒤, 조회 결과에 없는 d2 가 저장됨
+        long sequence = adapter.sequence(USER_ID);
+        adapter.put(USER_ID, diary("d2", 2));
+
+        assertFalse(adapter.rebuild(USER_ID, Collections.singletonList(diary("d1", 1)), sequence));
+        assertNull(adapter.page(USER_ID, latest));
+
+        // 삭제도 순번을 올린다
+        long next = adapter.sequence(USER_ID);
+        adapter.delete(USER_ID, "d1");
+        assertFalse(adapter.rebuild(USER_ID, Arrays.asList(diary("d1", 1), diary("d2", 2)), next));
+
+        assertTrue(adapter.rebuild(USER_ID, Collections.singletonList(diary("d2", 2)), adapter.sequence(USER_ID)));
+        assertEquals(Collections.singletonList("d2"), ids(adapter.page(USER_ID, latest)));
+    }
+
+    @Test
+    @DisplayName("직렬화된 응답 body, 검색 결과와 개수는 페이지를 수정하면 수정하지 않고 삭제된다")
+    void pageBodyEvictedOnPatch() {
+        InMemoryDiaryPagingCacheAdapter adapter = new InMemoryDiaryPagingCacheAdapter(keyspace, new SingleFlightLoader(null), new CacheMetrics(), cachePolicies);
+        PageRequest latest = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "date"));
+        RestPage<DiaryInfoResponse> page = new RestPage<>(Collections.singletonList(diary("d1", 1)), 0, 2, 1);
+        CachedResponseBody body = CachedResponseBody.json("{\"content\":[]}".getBytes());
+
+        adapter.put(USER_ID, CacheKeys.diaryPage(USER_ID, latest), page);
+        adapter.putBody(USER_ID, CacheKeys.diaryPageBody(USER_ID, latest), body);
+        adapter.put(USER_ID, CacheKeys.diarySearch(USER_ID, "hash"), page);
+        adapter.putCount(USER_ID, CacheKeys.diaryCount(USER_ID, "hash"), 1);
+        assertEquals(1L, adapter.getCount(CacheKeys.diaryCount(USER_ID, "hash")));
+
+        // Redis 저장 포맷 그대로 읽어온다
+        CachedResponseBody decoded = CachedResponseBody.from(body.toBytes());
+        assertArrayEquals(body.getBody(), decoded.getBody());
+        assertEquals(body.getEtag(), decoded.getEtag());
+        assertSame(body, adapter.getBody(CacheKeys.diaryPageBody(USER_ID, latest)));
+
+        adapter.applySave(USER_ID, diary("d2", 2));
+
+        assertNull(adapter.getBody(CacheKeys.diaryPageBody(USER_ID, latest)));
+        assertNull(adapter.get(CacheKeys.diarySearch(USER_ID, "hash")));
+        assertNull(adapter.getCount(CacheKeys.diaryCount(USER_ID, "hash")));
+        assertEquals(Arrays.asList("d2", "d1"), ids(adapter.get(CacheKeys.diaryPage(USER_ID, latest))));
+    }
+
+    private static DiaryInfoResponse diary(String diaryId, int day) {
+        return DiaryInfoResponse.builder()
+                .diaryId(diaryId)
+                .userId(USER_ID)
+                .diaryDate(LocalDate.of(2026, 10, day))
+                .build();
+    }
+
+    private static List<String> ids(RestPage<DiaryInfoResponse> page) {
+        return page.getContent().stream().map(DiaryInfoResponse::getDiaryId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,141 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.config.cache.PrimaryPinnedReadFrom;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.models.role.RedisInstance;
+import io.lettuce.core.models.role.RedisNodeDescription;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : RecentWriteTrackerTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 최근 쓰기 사용자 master 읽기(read-your-writes) 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+class RecentWriteTrackerTest {
+
+    private static final RedisNodeDescription MASTER = node(RedisInstance.Role.UPSTREAM, 6379);
+    private static final RedisNodeDescription REPLICA = node(RedisInstance.Role.REPLICA, 6380);
+
+    private final RecentWriteTracker tracker = new RecentWriteTracker(3000, new CacheWriteQueue(false, 1, 1, 5_000));
+    private final ReadFrom readFrom = new PrimaryPinnedReadFrom(ReadFrom.REPLICA_PREFERRED);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("쓰기를 한 사용자만 master 에서 읽고, 다른 사용자는 replica 에서 읽는다")
+    void pinsOnlyRecentWriter() {
+        tracker.markWrite("writer");
+
+        assertEquals(MASTER, tracker.read("writer", this::firstReadNode));
+        assertEquals(REPLICA, tracker.read("reader", this::firstReadNode));
+        // read 가 끝나면 thread 의 상태는 원래대로 돌아간다.
+        assertFalse(PrimaryReadContext.isPinned());
+    }
+
+    @Test
+    @DisplayName("쓰기 응답의 cookie/header 를 가진 요청은 다른 노드에서도 master 에서 읽는다")
+    void propagatesThroughCookieAndHeader() {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), writeResponse));
+        tracker.markWrite("writer");
+        String expiresAt = writeResponse.getHeader(RecentWriteTracker.HEADER_NAME);
+        assertNotNull(expiresAt);
+        assertTrue(writeResponse.getHeader("Set-Cookie").startsWith(RecentWriteTracker.COOKIE_NAME + "=" + expiresAt));
+
+        // 로컬 기록이 없는 다른 노드
+        RecentWriteTracker otherNode = new RecentWriteTracker(3000, new CacheWriteQueue(false, 1, 1, 5_000));
+        MockHttpServletRequest cookieRequest = new MockHttpServletRequest();
+        cookieRequest.setCookies(new Cookie(RecentWriteTracker.COOKIE_NAME, expiresAt));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(cookieRequest));
+        assertEquals(MASTER, otherNode.read("writer", this::firstReadNode));
+
+        MockHttpServletRequest headerRequest = new MockHttpServletRequest();
+        headerRequest.addHeader(RecentWriteTracker.HEADER_NAME, expiresAt);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(headerRequest));
+        assertEquals(MASTER, otherNode.read("writer", this::firstReadNode));
+    }
+
+    @Test
+    @DisplayName("만료되었거나 잘못된 cookie 는 무시한다")
+    void ignoresExpiredOrInvalidCookie() {
+        MockHttpServletRequest expired = new MockHttpServletRequest();
+        expired.setCookies(new Cookie(RecentWriteTracker.COOKIE_NAME, String.valueOf(System.currentTimeMillis() - 1)));
+        assertFalse(RecentWriteTracker.hasRecentWrite(expired));
+
+        MockHttpServletRequest invalid = new MockHttpServletRequest();
+        invalid.setCookies(new Cookie(RecentWriteTracker.COOKIE_NAME, "abc"));
+        assertFalse(RecentWriteTracker.hasRecentWrite(invalid));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(expired));
+        assertEquals(REPLICA, tracker.read("writer", this::firstReadNode));
+    }
+
+    @Test
+    @DisplayName("window 가 0 이면 기록하지 않는다")
+    void disabledWindow() {
+        RecentWriteTracker disabled = new RecentWriteTracker(0, new CacheWriteQueue(false, 1, 1, 5_000));
+        disabled.markWrite("writer");
+
+        assertFalse(disabled.isRecent("writer"));
+    }
+
+    private RedisNodeDescription firstReadNode() {
+        List<RedisNodeDescription> selected = readFrom.select(new ReadFrom.Nodes() {
+            private final List<RedisNodeDescription> nodes = Arrays.asList(MASTER, REPLICA);
+
+            @Override
+            public List<RedisNodeDescription> getNodes() {
+                return nodes;
+            }
+
+            @Override
+            public Iterator<RedisNodeDescription> iterator() {
+                return nodes.iterator();
+            }
+        });
+        return selected.get(0);
+    }
+
+    private static RedisNodeDescription node(RedisInstance.Role role, int port) {
+        RedisURI uri = RedisURI.create("localhost", port);
+        return new RedisNodeDescription() {
+            @Override
+            public RedisURI getUri() {
+                return uri;
+            }
+
+            @Override
+            public Role getRole() {
+                return role;
+            }
+
+            @Override
+            public String toString() {
+                return role + "@" + port;
+            }
+        };
+    }
+}
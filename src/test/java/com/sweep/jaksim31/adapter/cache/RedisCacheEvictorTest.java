@@ -0,0 +1,104 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.config.cache.CachePolicies;
+import com.sweep.jaksim31.config.cache.CachePolicy;
+import com.sweep.jaksim31.dto.diary.DiaryResponse;
+import com.sweep.jaksim31.dto.member.MemberInfoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : RedisCacheEvictorTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 여러 캐시 삭제를 한 번의 pipeline 으로 보내는지 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisCacheEvictorTest {
+
+    private static final String USER_ID = "userId";
+
+    @Mock
+    private RedisTemplate<String, String> cacheTagRedisTemplate;
+    @Mock
+    private RedisTemplate<String, MemberInfoResponse> memberCacheRedisTemplate;
+    @Mock
+    private RedisTemplate<String, DiaryResponse> diaryCacheRedisTemplate;
+    @Mock
+    private RedisTemplate<String, String> refreshTokenCacheRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+    @Mock
+    private RedisConnection connection;
+
+    @Test
+    @DisplayName("사용자/일기 캐시 삭제와 near cache 무효화 발행을 한 번의 pipeline 으로 보낸다")
+    void deleteMemberAndDiaryInOnePipeline() {
+        // 사용자 캐시만 near cache 사용
+        CachePolicies policies = new CachePolicies(CachePolicy.builder().build())
+                .with(MemberCacheAdapter.CACHE_NAME, CachePolicy.builder().nearCacheMaximumSize(10).build());
+        RedisCacheEvictor evictor = new RedisCacheEvictor(cacheTagRedisTemplate,
+                new RedisMemberCacheAdapter(memberCacheRedisTemplate, listenerContainer, null, null, new CacheMetrics(), policies),
+                new RedisDiaryCacheAdapter(diaryCacheRedisTemplate, listenerContainer, null, null, new CacheMetrics(), policies),
+                new RedisRefreshTokenCacheAdapter(refreshTokenCacheRedisTemplate, new CacheMetrics()));
+        givenPipeline();
+
+        evictor.deleteMemberAndDiary(CacheKeys.member(USER_ID), CacheKeys.diary(USER_ID, "diaryId"));
+
+        verify(cacheTagRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        // rolling 배포 중 다른 schema 버전 key 도 함께 삭제
+        verify(connection, times(1)).del(CacheBatch.rawKeys(CacheSchema.siblingKeys(CacheKeys.member(USER_ID))));
+        verify(connection, times(1)).del(CacheBatch.rawKeys(CacheSchema.siblingKeys(CacheKeys.diary(USER_ID, "diaryId"))));
+        verify(connection, times(2)).publish(eq("nearCache:invalidate:memberCache".getBytes(StandardCharsets.UTF_8)), any());
+        verify(memberCacheRedisTemplate, never()).delete(anyCollection());
+        verify(diaryCacheRedisTemplate, never()).delete(anyCollection());
+    }
+
+    @Test
+    @DisplayName("사용자 캐시와 refresh token 삭제를 한 번의 pipeline 으로 보낸다")
+    void deleteMemberAndRefreshTokenInOnePipeline() {
+        CachePolicies policies = new CachePolicies(CachePolicy.builder().build());
+        RedisCacheEvictor evictor = new RedisCacheEvictor(cacheTagRedisTemplate,
+                new RedisMemberCacheAdapter(memberCacheRedisTemplate, listenerContainer, null, null, new CacheMetrics(), policies),
+                new RedisDiaryCacheAdapter(diaryCacheRedisTemplate, listenerContainer, null, null, new CacheMetrics(), policies),
+                new RedisRefreshTokenCacheAdapter(refreshTokenCacheRedisTemplate, new CacheMetrics()));
+        givenPipeline();
+
+        evictor.deleteMemberAndRefreshToken(CacheKeys.member(USER_ID), USER_ID);
+
+        verify(cacheTagRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection, times(1)).del(CacheBatch.rawKeys(CacheSchema.siblingKeys(CacheKeys.member(USER_ID))));
+        verify(connection, times(1)).del(CacheBatch.rawKeys(Collections.singletonList(USER_ID)));
+        verify(refreshTokenCacheRedisTemplate, never()).delete(anyString());
+    }
+
+    // pipeline callback 을 mock connection 으로 바로 실행
+    @SuppressWarnings("unchecked")
+    private void givenPipeline() {
+        given(cacheTagRedisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return Collections.emptyList();
+        });
+    }
+}
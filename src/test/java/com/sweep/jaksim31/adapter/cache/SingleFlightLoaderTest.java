@@ -0,0 +1,147 @@
+package com.sweep.jaksim31.adapter.cache;
+
+import com.sweep.jaksim31.enums.DiaryExceptionType;
+import com.sweep.jaksim31.exception.BizException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.cache
+ * fileName : SingleFlightLoaderTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 동시 cache miss 로딩 합치기(single-flight) 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             Redis 모드 bean 의 lock 용 RedisTemplate 주입 테스트 추가
+ */
+@ExtendWith(MockitoExtension.class)
+class SingleFlightLoaderTest {
+
+    @Mock
+    private RedisTemplate<String, String> cacheTagRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("[정상] 같은 key 에 대한 동시 miss 는 loader 를 한 번만 실행한다")
+    void coalesceConcurrentMiss() throws Exception {
+        // given
+        SingleFlightLoader singleFlightLoader = new SingleFlightLoader(cacheTagRedisTemplate);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> singleFlightLoader.load("diaryPagingCache", "key", Duration.ZERO,
+                    () -> null,
+                    () -> {
+                        loadCount.incrementAndGet();
+                        started.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return "value";
+                    })));
+        }
+        started.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results)
+            assertEquals("value", result.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loadCount.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("[예외] loader 에서 발생한 예외를 그대로 전달한다")
+    void propagateException() {
+        // given
+        SingleFlightLoader singleFlightLoader = new SingleFlightLoader(cacheTagRedisTemplate);
+
+        // when
+        // then
+        assertThrows(BizException.class, () -> singleFlightLoader.load("diaryPagingCache", "key", Duration.ZERO,
+                () -> null,
+                () -> {
+                    throw new BizException(DiaryExceptionType.NOT_FOUND_DIARY);
+                }));
+    }
+
+    @Test
+    @DisplayName("[정상] 다른 노드가 lock 을 가지고 있으면 캐시가 채워지기를 기다린다")
+    void waitOtherNode() {
+        // given
+        SingleFlightLoader singleFlightLoader = new SingleFlightLoader(cacheTagRedisTemplate);
+        given(cacheTagRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+        AtomicInteger lookupCount = new AtomicInteger();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        String result = singleFlightLoader.load("diaryPagingCache", "key", Duration.ofSeconds(3),
+                () -> lookupCount.incrementAndGet() >= 3 ? "value" : null,
+                () -> {
+                    loadCount.incrementAndGet();
+                    return "loaded";
+                });
+
+        // then
+        assertEquals("value", result);
+        assertEquals(0, loadCount.get());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("[정상] Redis 모드(기본값)의 bean 은 cacheTagRedisTemplate 을 주입받아 노드 간 lock 을 사용한다")
+    void redisModeBeanUsesLock() {
+        // given
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, String> operations = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(operations);
+        given(operations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+
+        new ApplicationContextRunner()
+                .withBean("cacheTagRedisTemplate", RedisTemplate.class, () -> redisTemplate)
+                .withUserConfiguration(SingleFlightLoader.class)
+                .run(context -> {
+                    // when
+                    String result = context.getBean(SingleFlightLoader.class).load("diaryPagingCache", "key", Duration.ofSeconds(1),
+                            () -> null,
+                            () -> "loaded");
+
+                    // then
+                    assertEquals("loaded", result);
+                    verify(operations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+                });
+    }
+}
@@ -0,0 +1,298 @@
+package com.sweep.jaksim31.adapter.search;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.domain.diary.Diary;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * packageName :  com.sweep.jaksim31.adapter.search
+ * fileName : DiarySearchIndexTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 일기 본문 검색 index(Lucene) 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             NRT 반영 / 주기적 commit, 정상 종료 여부에 따른 재생성, index 경로 필수 테스트 추가
+ *                      방근호             한 글자 한글, 영문 단어 일부 검색어 테스트 추가
+ *                      방근호             재생성 중 수정/삭제 반영 테스트 추가
+ */
+class DiarySearchIndexTest {
+
+    private static final String USER_ID = "userId";
+    private static final LocalDate START = LocalDate.of(2023, 1, 1);
+    private static final LocalDate END = LocalDate.of(2023, 1, 31);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final DiarySearchIndex index = new DiarySearchIndex(mongoTemplate, true, "unused", 60_000);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index.open(new ByteBuffersDirectory());
+        // 새 index 는 정상 종료 표시가 없으므로 빈 collection 으로 다시 생성
+        given(mongoTemplate.count(any(Query.class), eq(Diary.class)))
+                .willReturn(0L);
+        given(mongoTemplate.stream(any(Query.class), eq(Diary.class)))
+                .willReturn(iterator(Collections.emptyList()));
+        index.syncWithMongo();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("index 가 준비되지 않았으면 null 을 반환한다")
+    void notReady() throws IOException {
+        DiarySearchIndex notReady = new DiarySearchIndex(mongoTemplate, true, "unused", 60_000);
+        notReady.open(new ByteBuffersDirectory());
+
+        assertFalse(notReady.isReady());
+        assertNull(notReady.search(USER_ID, "일기", START, END, null, PageRequest.of(0, 10)));
+        notReady.close();
+    }
+
+    @Test
+    @DisplayName("한글 본문을 단어 중간부터 부분 문자열로 찾고, 다른 사용자/기간/감정은 제외한다")
+    void substringAndFilters() {
+        index.onSave(diary("d1", USER_ID, 5, "happy", "오늘은 친구들과 한강공원에 갔다"));
+        index.onSave(diary("d2", "other", 5, "happy", "한강공원 산책"));
+        index.onSave(diary("d3", USER_ID, 6, "sad", "비 오는 한강공원"));
+        index.onSave(diary("d4", USER_ID, 20, "happy", "집에서 쉬었다"));
+        Diary nextMonth = Diary.builder().userId(USER_ID).content("다음 달 한강공원").date(LocalDate.of(2023, 2, 1)).build();
+        nextMonth.setId("d5");
+        index.onSave(nextMonth);
+
+        assertEquals(Arrays.asList("d1", "d3"), ids(index.search(USER_ID, "강공", START, END, null, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "date")))));
+        assertEquals(Arrays.asList("d1"), ids(index.search(USER_ID, "강공", START, END, "happy", PageRequest.of(0, 10))));
+        assertEquals(Arrays.asList("d4"), ids(index.search(USER_ID, "쉬었", START, END, null, PageRequest.of(0, 10))));
+        // 연속하지 않은 글자는 찾지 않는다
+        assertTrue(index.search(USER_ID, "한공", START, END, null, PageRequest.of(0, 10)).getContent().isEmpty());
+    }
+
+    @Test
+    @DisplayName("정렬 조건이 없으면 검색 점수 순, 같은 점수는 최신순으로 정렬하고 페이지를 나눈다")
+    void scoreOrderAndPaging() {
+        index.onSave(diary("d1", USER_ID, 1, null, "산책 산책 산책 산책"));
+        index.onSave(diary("d2", USER_ID, 2, null, "산책하고 밥을 먹고 영화를 보고 책을 읽었다"));
+        index.onSave(diary("d3", USER_ID, 3, null, "산책하고 밥을 먹고 영화를 보고 책을 읽었다"));
+
+        RestPage<DiaryInfoResponse> first = index.search(USER_ID, "산책", START, END, null, PageRequest.of(0, 2));
+        RestPage<DiaryInfoResponse> second = index.search(USER_ID, "산책", START, END, null, PageRequest.of(1, 2));
+
+        assertEquals(Arrays.asList("d1", "d3"), ids(first));
+        assertEquals(Arrays.asList("d2"), ids(second));
+        assertEquals(3, first.getTotalElements());
+        // 날짜 정렬이 있으면 날짜 순
+        assertEquals(Arrays.asList("d3", "d2", "d1"),
+                ids(index.search(USER_ID, "산책", START, END, null, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date")))));
+    }
+
+    @Test
+    @DisplayName("목록 field 를 그대로 돌려주고 본문은 HTML escape 후 검색어만 강조한다")
+    void readFieldsAndHighlight() {
+        Diary diary = diary("d1", USER_ID, 5, "happy", "<b>오늘</b> 한강공원에 갔다");
+        diary.setKeywords(new String[]{"한강", "공원"});
+        diary.setThumbnail("thumbnail");
+        index.onSave(diary);
+
+        DiaryInfoResponse found = index.search(USER_ID, "한강공원", START, END, null, PageRequest.of(0, 10)).getContent().get(0);
+
+        assertEquals("d1", found.getDiaryId());
+        assertEquals(USER_ID, found.getUserId());
+        assertEquals(LocalDate.of(2023, 1, 5), found.getDiaryDate());
+        assertEquals("happy", found.getEmotion());
+        assertArrayEquals(new String[]{"한강", "공원"}, found.getKeywords());
+        assertEquals("thumbnail", found.getThumbnail());
+        assertTrue(found.getHighlight().contains("&lt;b&gt;"));
+        assertFalse(found.getHighlight().contains("<b>"));
+        assertTrue(found.getHighlight().contains("<em>"));
+    }
+
+    @Test
+    @DisplayName("수정/삭제는 바로 검색 결과에 반영된다")
+    void updateAndRemove() {
+        Diary diary = diary("d1", USER_ID, 5, null, "한강공원");
+        index.onSave(diary);
+
+        diary.setContent("도서관");
+        index.onUpdate(diary);
+        assertTrue(index.search(USER_ID, "한강", START, END, null, PageRequest.of(0, 10)).getContent().isEmpty());
+        assertEquals(Arrays.asList("d1"), ids(index.search(USER_ID, "도서", START, END, null, PageRequest.of(0, 10))));
+
+        index.onRemove(diary);
+        assertTrue(index.search(USER_ID, "도서", START, END, null, PageRequest.of(0, 10)).getContent().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Mongo 의 일기 수와 다르면 전체 일기로 index 를 다시 생성한다")
+    void rebuildOnMismatch() throws IOException {
+        DiarySearchIndex stale = new DiarySearchIndex(mongoTemplate, true, "unused", 60_000);
+        stale.open(new ByteBuffersDirectory());
+        given(mongoTemplate.count(any(Query.class), eq(Diary.class)))
+                .willReturn(2L);
+        given(mongoTemplate.stream(any(Query.class), eq(Diary.class)))
+                .willReturn(iterator(Arrays.asList(diary("d1", USER_ID, 1, null, "한강"), diary("d2", USER_ID, 2, null, "한강"))));
+
+        stale.syncWithMongo();
+
+        assertTrue(stale.isReady());
+        assertEquals(2, stale.search(USER_ID, "한강", START, END, null, PageRequest.of(0, 10)).getTotalElements());
+        stale.close();
+    }
+
+    @Test
+    @DisplayName("다시 생성하는 동안 들어온 수정/삭제는 이미 읽은 이전 일기로 덮어쓰지 않고 생성 후 반영한다")
+    void writesDuringRebuild() throws IOException {
+        DiarySearchIndex rebuilding = new DiarySearchIndex(mongoTemplate, true, "unused", 60_000);
+        rebuilding.open(new ByteBuffersDirectory());
+        Diary removed = diary("d1", USER_ID, 1, null, "한강 산책");
+        Diary updated = diary("d2", USER_ID, 2, null, "한강 자전거");
+        // cursor 가 두 일기를 이미 읽어둔 상태에서 d1 이 삭제되고 d2 가 수정됨
+        given(mongoTemplate.stream(any(Query.class), eq(Diary.class)))
+                .willReturn(iterator(Arrays.asList(removed, updated), () -> {
+                    rebuilding.onRemove(removed);
+                    rebuilding.onUpdate(diary("d2", USER_ID, 2, null, "도서관 독서"));
+                }));
+
+        rebuilding.rebuild();
+
+        assertTrue(rebuilding.isReady());
+        assertTrue(rebuilding.search(USER_ID, "한강", START, END, null, PageRequest.of(0, 10)).getContent().isEmpty());
+        assertEquals(Arrays.asList("d2"), ids(rebuilding.search(USER_ID, "도서", START, END, null, PageRequest.of(0, 10))));
+        rebuilding.close();
+    }
+
+    @Test
+    @DisplayName("정상 종료 후 다시 열면 문서 수가 같을 때 다시 생성하지 않고, 종료 전 쓰기도 그대로 검색된다")
+    void reopenAfterCleanShutdown() throws IOException {
+        ByteBuffersDirectory directory = new ByteBuffersDirectory();
+        DiarySearchIndex first = new DiarySearchIndex(mongoTemplate, true, "unused", 60_000);
+        first.open(directory);
+        first.syncWithMongo();
+        first.onSave(diary("d1", USER_ID, 1, null, "한강"));
+        first.close();
+
+        MongoTemplate reopenedMongo = mock(MongoTemplate.class);
+        given(reopenedMongo.count(any(Query.class), eq(Diary.class)))
+                .willReturn(1L);
+        DiarySearchIndex reopened = new DiarySearchIndex(reopenedMongo, true, "unused", 60_000);
+        reopened.open(directory);
+        reopened.syncWithMongo();
+
+        assertTrue(reopened.isReady());
+        verify(reopenedMongo, never()).stream(any(Query.class), eq(Diary.class));
+        assertEquals(Arrays.asList("d1"), ids(reopened.search(USER_ID, "한강", START, END, null, PageRequest.of(0, 10))));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("정상 종료 표시가 없으면 문서 수가 같아도 다시 생성한다")
+    void rebuildWithoutCleanShutdown() {
+        // setUp 의 새 index 는 문서 수(0)가 같아도 Mongo 에서 다시 생성됨
+        verify(mongoTemplate).stream(any(Query.class), eq(Diary.class));
+        assertTrue(index.isReady());
+    }
+
+    @Test
+    @DisplayName("사용하도록 설정했는데 index 경로가 없으면 시작하지 않는다")
+    void requirePath() {
+        DiarySearchIndex noPath = new DiarySearchIndex(mongoTemplate, true, "", 60_000);
+
+        assertThrows(IllegalStateException.class, noPath::init);
+    }
+
+    @Test
+    @DisplayName("색인 단위로 나눌 수 없는 검색어는 null 을 반환한다")
+    void punctuationOnly() {
+        assertNull(index.search(USER_ID, "?!", START, END, null, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("한 글자 한글이나 영문/숫자가 섞인 검색어는 bigram 으로 찾을 수 없으므로 null 을 반환한다")
+    void nonBigramSearchWord() {
+        index.onSave(diary("d1", USER_ID, 5, "happy", "오늘 한강공원에서 산책 walking 10000보"));
+
+        // 본문은 "한강", "강공" 처럼 bigram 으로만 색인되어 "강" 한 글자로는 찾을 수 없음
+        assertNull(index.search(USER_ID, "강", START, END, null, PageRequest.of(0, 10)));
+        // 영문/숫자는 단어 단위로 색인되어 단어 일부로는 찾을 수 없음
+        assertNull(index.search(USER_ID, "walk", START, END, null, PageRequest.of(0, 10)));
+        assertNull(index.search(USER_ID, "산책 walk", START, END, null, PageRequest.of(0, 10)));
+        assertNull(index.search(USER_ID, "1000", START, END, null, PageRequest.of(0, 10)));
+        // 두 글자 이상 한글은 그대로 index 로 찾음
+        assertEquals(Arrays.asList("d1"), ids(index.search(USER_ID, "한강공원", START, END, null, PageRequest.of(0, 10))));
+    }
+
+    private static Diary diary(String diaryId, String userId, int day, String emotion, String content) {
+        Diary diary = Diary.builder()
+                .userId(userId)
+                .content(content)
+                .date(LocalDate.of(2023, 1, day))
+                .emotion(emotion)
+                .build();
+        diary.setId(diaryId);
+        return diary;
+    }
+
+    private static CloseableIterator<Diary> iterator(List<Diary> diaries) {
+        return iterator(diaries, () -> {});
+    }
+
+    // 첫 번째 일기를 읽을 때 onFirstRead 실행 (cursor 로 읽는 도중 들어온 쓰기)
+    private static CloseableIterator<Diary> iterator(List<Diary> diaries, Runnable onFirstRead) {
+        Iterator<Diary> iterator = diaries.iterator();
+        return new CloseableIterator<>() {
+            private boolean read;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Diary next() {
+                if (!read) {
+                    read = true;
+                    onFirstRead.run();
+                }
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static List<String> ids(RestPage<DiaryInfoResponse> page) {
+        return page.getContent().stream().map(DiaryInfoResponse::getDiaryId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,127 @@
+package com.sweep.jaksim31.config.mongo;
+
+import com.sweep.jaksim31.domain.diary.Diary;
+import com.sweep.jaksim31.domain.diary.EmotionCount;
+import com.sweep.jaksim31.domain.members.Members;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.config.mongo
+ * fileName : MongoIndexBootstrapperTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 선언된 index 생성 및 누락/선언되지 않은 index 보고 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             일기 index 를 userId_date_id(userId, date, _id) 로 변경
+ */
+@ExtendWith(MockitoExtension.class)
+class MongoIndexBootstrapperTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private IndexOperations diaryIndexOps;
+    @Mock
+    private IndexOperations memberIndexOps;
+    @Mock
+    private IndexOperations emotionCountIndexOps;
+
+    private MongoIndexBootstrapper bootstrapper;
+
+    @BeforeEach
+    void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(Collections.emptyList()).getSimpleTypeHolder());
+        mappingContext.setInitialEntitySet(new HashSet<>(Arrays.asList(Diary.class, Members.class, EmotionCount.class)));
+        mappingContext.initialize();
+
+        given(mongoTemplate.getConverter()).willReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        lenient().when(mongoTemplate.indexOps("diary")).thenReturn(diaryIndexOps);
+        lenient().when(mongoTemplate.indexOps("member")).thenReturn(memberIndexOps);
+        lenient().when(mongoTemplate.indexOps("emotionCount")).thenReturn(emotionCountIndexOps);
+        bootstrapper = new MongoIndexBootstrapper(mongoTemplate, true);
+    }
+
+    @Test
+    @DisplayName("document class 에 선언된 index 를 collection 별로 찾는다")
+    void declaredIndexes() {
+        Map<String, List<IndexDefinition>> indexes = bootstrapper.declaredIndexes();
+
+        assertEquals(Arrays.asList("userId_date_id", "userId_emotion_date"), names(indexes.get("diary")));
+        assertEquals(Collections.singletonList("loginId"), names(indexes.get("member")));
+        assertEquals(Boolean.TRUE, indexes.get("member").get(0).getIndexOptions().get("unique"));
+        assertEquals("{\"userId\": 1, \"date\": -1, \"_id\": -1}", indexes.get("diary").get(0).getIndexKeys().toJson());
+    }
+
+    @Test
+    @DisplayName("index 는 background 로 생성하고, 하나가 실패해도 나머지는 계속 생성한다")
+    void ensureIndexesInBackground() {
+        given(memberIndexOps.ensureIndex(any())).willThrow(new IllegalStateException("duplicate key"));
+
+        bootstrapper.ensureIndexes();
+
+        ArgumentCaptor<IndexDefinition> captor = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(diaryIndexOps, times(2)).ensureIndex(captor.capture());
+        captor.getAllValues().forEach(index -> assertEquals(Boolean.TRUE, index.getIndexOptions().get("background")));
+        verify(emotionCountIndexOps, times(1)).ensureIndex(any());
+        assertTrue(bootstrapper.isCompleted());
+    }
+
+    @Test
+    @DisplayName("collection 에 없는 선언 index 는 missing, 선언되지 않은 index 는 extra 로 보고한다")
+    void verifyReportsMissingAndExtra() {
+        given(diaryIndexOps.getIndexInfo()).willReturn(Arrays.asList(
+                index("_id_", IndexField.create("_id", Sort.Direction.ASC)),
+                index("userId_date_id", IndexField.create("userId", Sort.Direction.ASC), IndexField.create("date", Sort.Direction.DESC), IndexField.create("_id", Sort.Direction.DESC)),
+                index("content_1", IndexField.create("content", Sort.Direction.ASC))));
+        given(memberIndexOps.getIndexInfo()).willReturn(Collections.singletonList(
+                index("loginId", IndexField.create("loginId", Sort.Direction.ASC))));
+        given(emotionCountIndexOps.getIndexInfo()).willReturn(Collections.emptyList());
+
+        Map<String, Map<String, List<String>>> reports = bootstrapper.verify();
+
+        assertEquals(Collections.singletonList("userId_emotion_date{\"userId\": 1, \"emotion\": 1, \"date\": 1}"), reports.get("diary").get("missing"));
+        assertEquals(Collections.singletonList("content_1{\"content\": 1}"), reports.get("diary").get("extra"));
+        assertTrue(reports.get("member").get("missing").isEmpty());
+        assertTrue(reports.get("member").get("extra").isEmpty());
+        assertEquals(1, reports.get("emotionCount").get("missing").size());
+    }
+
+    private static IndexInfo index(String name, IndexField... fields) {
+        return new IndexInfo(Arrays.asList(fields), name, false, false, "");
+    }
+
+    private static List<String> names(List<IndexDefinition> indexes) {
+        return indexes.stream()
+                .map(index -> index.getIndexOptions().getString("name"))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -18,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -40,6 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * DATE                 AUTHOR                NOTE
  * -----------------------------------------------------------
  * 2023-01-27              김주현             최초 생성
+ * 2026-10-18           방근호             DiaryRepository custom 구현용 MongoTemplate MockBean 추가
  */
 
 @WebMvcTest(controllers = DiaryApiController.class)
@@ -70,6 +72,9 @@ public class DiaryApiControllerNullTest  {
     private AuthorityRepository authorityRepository;
     @MockBean
     private RefreshTokenRepository refreshTokenRepository;
+    // DiaryRepository 의 custom 구현(DiaryRepositoryCustomImpl) 이 MongoTemplate 을 주입받음
+    @MockBean
+    private MongoTemplate mongoTemplate;
 
     @Nested
     @DisplayName("일기 등록 컨트롤러")
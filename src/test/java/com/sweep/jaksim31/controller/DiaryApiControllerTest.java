@@ -1,6 +1,8 @@
 package com.sweep.jaksim31.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.CachedResponseBody;
 import com.sweep.jaksim31.controller.feign.*;
 import com.sweep.jaksim31.domain.auth.AuthorityRepository;
 import com.sweep.jaksim31.domain.diary.Diary;
@@ -16,6 +18,8 @@ import com.sweep.jaksim31.enums.ThirdPartyExceptionType;
 import com.sweep.jaksim31.service.impl.DiaryServiceImpl;
 import com.sweep.jaksim31.utils.JsonUtil;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,13 +28,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
@@ -43,7 +50,11 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -64,6 +75,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * 2023-01-27           김주현             validator 테스트 코드 추가
  *                                       중복 코드 제거
  * 2023-02-01           김주현             PathValue validation 추가로 인한 test 수정
+ * 2026-10-18           방근호             DiaryRepository custom 구현용 MongoTemplate MockBean 추가
+ *                      방근호             사용자 일기 조회 응답 body 캐시(findUserDiariesBody, ETag, 304) 테스트 반영
+ *                      방근호             사용자 일기 cursor 조회(cursor, limit) 테스트 추가
  */
 
 @WebMvcTest(controllers = DiaryApiController.class)
@@ -72,6 +86,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class DiaryApiControllerTest  {
     @Autowired
     private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private DiaryApiController diaryApiController;
     @MockBean
     private DiaryServiceImpl diaryService;
     @MockBean
@@ -94,6 +112,9 @@ public class DiaryApiControllerTest  {
     private AuthorityRepository authorityRepository;
     @MockBean
     private RefreshTokenRepository refreshTokenRepository;
+    // DiaryRepository 의 custom 구현(DiaryRepositoryCustomImpl) 이 MongoTemplate 을 주입받음
+    @MockBean
+    private MongoTemplate mongoTemplate;
 
     @Nested
     @DisplayName("일기 등록 컨트롤러")
@@ -389,20 +410,10 @@ public class DiaryApiControllerTest  {
         @Test
         @DisplayName("[정상]일기 조회 완료")
         public void findUserDiaries() throws Exception{
-            List<DiaryInfoResponse> diaryInfoResponses = List.of(DiaryInfoResponse.builder()
-                    .diaryId("diaryId")
-                    .userId("testobjectidtestobject12")
-                    .diaryDate(date)
-                    .modifyDate(LocalDate.now())
-                    .emotion("happy")
-                    .keywords(keywords)
-                    .thumbnail("thumbnail").build());
-            Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "date"));
-
-            Page<DiaryInfoResponse> page = PageableExecutionUtils.getPage(diaryInfoResponses, pageable, ()->1);
             //given
-            given(diaryService.findUserDiaries(any(),any()))
-                    .willReturn(new RestPage<>(page));
+            CachedResponseBody body = userDiariesBody(date, keywords);
+            given(diaryService.findUserDiariesBody(any(),any()))
+                    .willReturn(body);
 
             //when
             mockMvc.perform(get("/api/v1/diaries/testobjectidtestobject12")
@@ -421,12 +432,53 @@ public class DiaryApiControllerTest  {
                     .andExpect(jsonPath("$.content[0].thumbnail", Matchers.is("thumbnail")))
                     .andDo(MockMvcResultHandlers.print(System.out));
         }
+        @Test
+        @DisplayName("[정상]캐싱된 응답 body 의 ETag 를 응답 header 로 보낸다")
+        public void findUserDiariesETag() throws Exception{
+            //given
+            CachedResponseBody body = userDiariesBody(date, keywords);
+            given(diaryService.findUserDiariesBody(any(),any()))
+                    .willReturn(body);
+
+            //when
+            mockMvc.perform(get("/api/v1/diaries/testobjectidtestobject12")
+                            .with(csrf()) //403 에러 방지
+                            .queryParam("page", String.valueOf(0))
+                    )
+
+                    //then
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, body.getEtag()))
+                    .andExpect(content().bytes(body.getBody()))
+                    .andDo(MockMvcResultHandlers.print(System.out));
+        }
+        @Test
+        @DisplayName("[정상]If-None-Match 가 ETag 와 같으면 body 없이 304 를 응답한다")
+        public void findUserDiariesNotModified() throws Exception{
+            //given
+            CachedResponseBody body = userDiariesBody(date, keywords);
+            given(diaryService.findUserDiariesBody(any(),any()))
+                    .willReturn(body);
+
+            //when
+            mockMvc.perform(get("/api/v1/diaries/testobjectidtestobject12")
+                            .with(csrf()) //403 에러 방지
+                            .queryParam("page", String.valueOf(0))
+                            .header(HttpHeaders.IF_NONE_MATCH, body.getEtag())
+                    )
+
+                    //then
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, body.getEtag()))
+                    .andExpect(content().string(""))
+                    .andDo(MockMvcResultHandlers.print(System.out));
+        }
         // TODO 사용자 일기 조건 조회 test 코드 추가
         @Test
         @DisplayName("[예외]사용자가 없는 경우")
         public void failFindUserDiariesNotFoundUser() throws Exception{
             //given
-            given(diaryService.findUserDiaries(any(),any()))
+            given(diaryService.findUserDiariesBody(any(),any()))
                     .willThrow(new BizException(MemberExceptionType.NOT_FOUND_USER));
 
             //when
@@ -444,6 +496,123 @@ public class DiaryApiControllerTest  {
         }
     }
 
+    @Nested
+    @DisplayName("사용자 일기 조회 컨트롤러 (응답 body 캐시 사용 안 함)")
+    class findUserDiariesWithoutBodyCache {
+        String[] keywords = {"happy"};
+        LocalDate date = LocalDate.of(2023, 1, 18);
+
+        // cache.diary-page.response-body=false
+        @BeforeEach
+        void disableResponseBodyCache() {
+            ReflectionTestUtils.setField(diaryApiController, "responseBodyCache", false);
+        }
+
+        @AfterEach
+        void enableResponseBodyCache() {
+            ReflectionTestUtils.setField(diaryApiController, "responseBodyCache", true);
+        }
+
+        @Test
+        @DisplayName("[정상]응답 body 캐시를 사용하지 않으면 RestPage 를 직렬화하여 응답한다")
+        public void findUserDiaries() throws Exception{
+            //given
+            given(diaryService.findUserDiaries(any(),any()))
+                    .willReturn(userDiariesPage(date, keywords));
+
+            //when
+            mockMvc.perform(get("/api/v1/diaries/testobjectidtestobject12")
+                            .with(csrf()) //403 에러 방지
+                            .queryParam("page", String.valueOf(0))
+                    )
+
+                    //then
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.content[0].userId", Matchers.is("testobjectidtestobject12")))
+                    .andExpect(jsonPath("$.content[0].diaryDate", Matchers.is(date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))))
+                    .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                    .andDo(MockMvcResultHandlers.print(System.out));
+
+            verify(diaryService, never()).findUserDiariesBody(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("사용자 일기 cursor 조회 컨트롤러")
+    class findDiariesByCursor {
+        String[] keywords = {"happy"};
+        LocalDate date = LocalDate.of(2023, 1, 18);
+        @Test
+        @DisplayName("[정상]cursor 또는 limit 이 있으면 cursor 방식으로 조회하고 nextCursor 를 응답한다")
+        public void findDiariesByCursor() throws Exception{
+            //given
+            DiaryCursorPageResponse response = DiaryCursorPageResponse.of(userDiariesPage(date, keywords).getContent(), 1, "nextCursor");
+            given(diaryService.findDiariesByCursor(any(), any()))
+                    .willReturn(response);
+
+            //when
+            mockMvc.perform(get("/api/v1/diaries/testobjectidtestobject12")
+                            .with(csrf()) //403 에러 방지
+                            .queryParam("cursor", "cursor")
+                            .queryParam("limit", String.valueOf(1))
+                            .queryParam("searchWord", "일기")
+                    )
+
+                    //then
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.content[0].diaryId", Matchers.is("diaryId")))
+                    .andExpect(jsonPath("$.limit", Matchers.is(1)))
+                    .andExpect(jsonPath("$.nextCursor", Matchers.is("nextCursor")))
+                    .andDo(MockMvcResultHandlers.print(System.out));
+
+            // 검색 조건도 cursor 조회에 함께 전달하고, 페이지 조회/검색은 하지 않는다
+            verify(diaryService).findDiariesByCursor(eq("testobjectidtestobject12"),
+                    argThat(params -> "cursor".equals(params.get("cursor")) && "1".equals(params.get("limit")) && "일기".equals(params.get("searchWord"))));
+            verify(diaryService, never()).findDiaries(any(), any());
+            verify(diaryService, never()).findUserDiariesBody(any(), any());
+        }
+        @Test
+        @DisplayName("[예외]사용자가 없는 경우")
+        public void failFindDiariesByCursorNotFoundUser() throws Exception{
+            //given
+            given(diaryService.findDiariesByCursor(any(), any()))
+                    .willThrow(new BizException(MemberExceptionType.NOT_FOUND_USER));
+
+            //when
+            mockMvc.perform(get("/api/v1/diaries/testobjectidtestobject12")
+                            .with(csrf()) //403 에러 방지
+                            .queryParam("limit", String.valueOf(10))
+                    )
+
+                    //then
+                    .andExpect(status().is4xxClientError())
+                    .andExpect(jsonPath("$.errorCode", Matchers.is(MemberExceptionType.NOT_FOUND_USER.getErrorCode())))
+                    .andDo(MockMvcResultHandlers.print(System.out));
+        }
+    }
+
+    private RestPage<DiaryInfoResponse> userDiariesPage(LocalDate date, String[] keywords) {
+        List<DiaryInfoResponse> diaryInfoResponses = List.of(DiaryInfoResponse.builder()
+                .diaryId("diaryId")
+                .userId("testobjectidtestobject12")
+                .diaryDate(date)
+                .modifyDate(LocalDate.now())
+                .emotion("happy")
+                .keywords(keywords)
+                .thumbnail("thumbnail").build());
+        Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "date"));
+
+        Page<DiaryInfoResponse> page = PageableExecutionUtils.getPage(diaryInfoResponses, pageable, ()->1);
+        return new RestPage<>(page);
+    }
+
+    // 서비스와 같이 API 의 ObjectMapper 로 직렬화한 응답 body
+    private CachedResponseBody userDiariesBody(LocalDate date, String[] keywords) throws Exception {
+        return CachedResponseBody.json(objectMapper.writeValueAsBytes(userDiariesPage(date, keywords)));
+    }
+
     @Nested
     @DisplayName("일기 수정 컨트롤러")
     class updateDiary {
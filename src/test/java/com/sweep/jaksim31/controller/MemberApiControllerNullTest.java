@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,6 +40,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * -----------------------------------------------------------
  * 2023-01-27              김주현             최초 생성
  * 2023-02-01           김주현                PathValue validation 추가로 인한 test 수정
+ * 2026-10-18           방근호             DiaryRepository custom 구현용 MongoTemplate MockBean 추가
  */
 
 @WebMvcTest(controllers = MembersApiController.class)
@@ -61,6 +63,9 @@ class MemberApiControllerNullTest {
     private AuthorityRepository authorityRepository;
     @MockBean
     private RefreshTokenRepository refreshTokenRepository;
+    // DiaryRepository 의 custom 구현(DiaryRepositoryCustomImpl) 이 MongoTemplate 을 주입받음
+    @MockBean
+    private MongoTemplate mongoTemplate;
     @MockBean
     private DiaryRepository diaryRepository;
 
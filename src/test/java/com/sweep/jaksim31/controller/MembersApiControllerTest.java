@@ -24,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -51,6 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * 2023-01-30           방근호             인증 로직 변경으로 인한 test 수정 및 제거
  * 2023-01-31           김주현             사용자 정보 조회, 수정 service 수정으로 인한 테스트 코드 수정
  * 2023-02-01           김주현             PathValue validation 추가로 인한 test 수정
+ * 2026-10-18           방근호             DiaryRepository custom 구현용 MongoTemplate MockBean 추가
  */
 
 @WebMvcTest(controllers = MembersApiController.class)
@@ -70,6 +72,9 @@ class MembersApiControllerTest {
     private AuthorityRepository authorityRepository;
     @MockBean
     private RefreshTokenRepository refreshTokenRepository;
+    // DiaryRepository 의 custom 구현(DiaryRepositoryCustomImpl) 이 MongoTemplate 을 주입받음
+    @MockBean
+    private MongoTemplate mongoTemplate;
     @MockBean
     private DiaryRepository diaryRepository;
     @MockBean
@@ -35,6 +35,7 @@ import static org.springframework.data.domain.Sort.by;
  * -----------------------------------------------------------
  * 2023-01-20           방근호             최초 생성
  * 2023-01-21           김주현             테스트 케이스 추가 및 수정
+ * 2026-10-18           방근호             목록용 요약 조회(findSummaries) 테스트 추가
  */
 
 @DataMongoTest
@@ -226,4 +227,26 @@ class DiaryRepositoryTest {
         }
     }
 
+    @Test
+    @Order(10)
+    @DisplayName("사용자 일기 요약 조회(Paging) - content 를 제외한 field 만 DiaryInfoResponse 로 반환")
+    void findSummaries() {
+        //given
+        Pageable pageable = PageRequest.of(1 , 5, Sort.by(Sort.Direction.DESC, "date"));
+        Query query = new Query(Criteria.where("userId").is("63c0cb6f30dc3d547e3b88bb")).with(pageable);
+
+        //when
+        List<DiaryInfoResponse> summaries = diaryRepository.findSummaries(query);
+
+        //then
+        assertThat(summaries.size()).isEqualTo(5);
+        // 최신순 두번째 페이지 = 15일 ~ 11일 일기
+        assertThat(summaries.get(0).getDiaryDate()).isEqualTo(LocalDate.of(2023, 1, 15));
+        assertThat(summaries.get(0).getEmotion()).isEqualTo("15");
+        assertThat(summaries.get(0).getKeywords()).containsExactly("keyword15");
+        assertThat(summaries.get(0).getDiaryId()).isNotNull();
+        assertThat(diaryRepository.findSummariesByUserId("63c0cb6f30dc3d547e3b88bb").size())
+                .isEqualTo(20);
+    }
+
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.sweep.jaksim31.integration;
 
 
 import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
 import com.sweep.jaksim31.adapter.cache.DiaryCacheAdapter;
 import com.sweep.jaksim31.adapter.cache.DiaryPagingCacheAdapter;
 import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
@@ -29,10 +30,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureMockMvc
@@ -40,8 +44,6 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class IntegrationDiaryCacheTest {
 
-    private static final String MEMBER_CACHE_PREFIX = "memberCache::";
-    private static final String DIARY_CACHE_PREFIX = "diaryCache::";
     private static final String LOGIN_ID = "loginId";
     private static final String PASSWORD = "password";
     private static final String USERNAME = "username";
@@ -120,7 +122,7 @@ public class IntegrationDiaryCacheTest {
 
             // when
             diaryService.findDiary(userId, diaryId);
-            DiaryResponse cacheResult = diaryCacheAdapter.get(DIARY_CACHE_PREFIX + diaryId);
+            DiaryResponse cacheResult = diaryCacheAdapter.get(CacheKeys.diary(userId, diaryId));
 
             //then
             assertNotNull(cacheResult);
@@ -130,12 +132,12 @@ public class IntegrationDiaryCacheTest {
         @DisplayName("1-2. [예외] 다이어리 조회 시 예외 발생하면 캐싱 X")
         public void failFindDiary() {
             //given
-            diaryCacheAdapter.delete(DIARY_CACHE_PREFIX + diaryId);
+            diaryCacheAdapter.delete(CacheKeys.diary(userId, diaryId));
             // when
             try {
                 diaryService.findDiary(INVALID_USER_ID, diaryId);
             } catch (BizException ex) {
-                DiaryResponse cacheResult = diaryCacheAdapter.get(DIARY_CACHE_PREFIX + diaryId);
+                DiaryResponse cacheResult = diaryCacheAdapter.get(CacheKeys.diary(userId, diaryId));
                 //then
                 assertNull(cacheResult);
             }
@@ -153,7 +155,7 @@ public class IntegrationDiaryCacheTest {
 
             // when
             diaryService.findUserDiaries(userId, new HashMap<String, String>());
-            RestPage<DiaryInfoResponse> cacheResult = diaryPagingCacheAdapter.get(userId + DIARY_PAGE_CACHE_SUFFIX);
+            RestPage<DiaryInfoResponse> cacheResult = diaryPagingCacheAdapter.get(CacheKeys.slot(userId) + DIARY_PAGE_CACHE_SUFFIX);
 
             //then
             assertNotNull(cacheResult);
@@ -167,7 +169,7 @@ public class IntegrationDiaryCacheTest {
             try {
                 diaryService.findUserDiaries(INVALID_USER_ID, new HashMap<String, String>());
             } catch (BizException ex) {
-                RestPage<DiaryInfoResponse> cacheResult = diaryPagingCacheAdapter.get(INVALID_USER_ID + DIARY_PAGE_CACHE_SUFFIX);
+                RestPage<DiaryInfoResponse> cacheResult = diaryPagingCacheAdapter.get(CacheKeys.slot(INVALID_USER_ID) + DIARY_PAGE_CACHE_SUFFIX);
                 //then
                 assertNull(cacheResult);
             }
@@ -180,63 +182,77 @@ public class IntegrationDiaryCacheTest {
     class diaryRemoveCachingTest {
 
         @Test
-        @DisplayName("3-1. [정상] 다이어리 삭제 시 캐시 데이터 제거 ")
+        @DisplayName("3-1. [정상] 다이어리 삭제 시 캐시 데이터 제거 및 페이징 캐시 반영 ")
         public void successRemoveDiary() {
             // 현재 테스트에서는 캐시가 정상적으로 제거 되는지만 확인하면 되므로,
             // value가 String인 refresh token cache adapter를 사용하여 간편하게 테스트 진행.
 
             //given
-            refreshTokenCacheAdapter.put(DIARY_CACHE_PREFIX + diaryId, "test", Duration.ofSeconds(1));
-            refreshTokenCacheAdapter.put(userId + DIARY_PAGE_CACHE_SUFFIX, " test", Duration.ofSeconds(1));
-            refreshTokenCacheAdapter.put(MEMBER_CACHE_PREFIX + userId, "test", Duration.ofSeconds(1));
+            refreshTokenCacheAdapter.put(CacheKeys.diary(userId, diaryId), "test", Duration.ofSeconds(1));
+            // 페이징 캐시는 태그 인덱스에 등록된 key 만 수정되므로 adapter 를 통해 저장
+            DiaryInfoResponse removed = DiaryInfoResponse.of(diaryRepository.findById(diaryId).orElseThrow());
+            diaryPagingCacheAdapter.put(userId, CacheKeys.slot(userId) + DIARY_PAGE_CACHE_SUFFIX, new RestPage<>(List.of(removed), 0, 1, 1));
+            refreshTokenCacheAdapter.put(CacheKeys.member(userId), "test", Duration.ofSeconds(1));
 
             // when
             diaryService.remove(response, userId, diaryId);
 
             //then
-            assertNull(refreshTokenCacheAdapter.get(DIARY_CACHE_PREFIX + diaryId));
-            assertNull(refreshTokenCacheAdapter.get(userId + DIARY_PAGE_CACHE_SUFFIX));
-            assertNull(refreshTokenCacheAdapter.get(MEMBER_CACHE_PREFIX + userId));
+            assertNull(refreshTokenCacheAdapter.get(CacheKeys.diary(userId, diaryId)));
+            // 페이징 캐시는 삭제되지 않고 삭제된 일기만 제거된다.
+            RestPage<DiaryInfoResponse> page = diaryPagingCacheAdapter.get(CacheKeys.slot(userId) + DIARY_PAGE_CACHE_SUFFIX);
+            assertNotNull(page);
+            assertTrue(page.getContent().stream().noneMatch(diary -> diary.getDiaryId().equals(diaryId)));
+            assertNull(refreshTokenCacheAdapter.get(CacheKeys.member(userId)));
         }
 
         @Test
-        @DisplayName("3-2. [정상] 다이어리 수정 시 캐시 데이터 제거 ")
+        @DisplayName("3-2. [정상] 다이어리 수정 시 캐시 데이터 제거 및 페이징 캐시 반영 ")
         public void successUpdateDiary() {
             //given
             diaryRepository.save(getDiaryRequest(3, userId).toEntity());
             // 테스트용 diaryId
             diaryId = diaryRepository.findAll().get(0).getId();
             // 캐시데이터 저장
-            refreshTokenCacheAdapter.put(DIARY_CACHE_PREFIX + diaryId, "test", Duration.ofSeconds(1));
-            refreshTokenCacheAdapter.put(userId + DIARY_PAGE_CACHE_SUFFIX, " test", Duration.ofSeconds(1));
-            refreshTokenCacheAdapter.put(MEMBER_CACHE_PREFIX + userId, "test", Duration.ofSeconds(1));
+            refreshTokenCacheAdapter.put(CacheKeys.diary(userId, diaryId), "test", Duration.ofSeconds(1));
+            // 페이징 캐시는 태그 인덱스에 등록된 key 만 수정되므로 adapter 를 통해 저장
+            DiaryInfoResponse before = DiaryInfoResponse.of(diaryRepository.findById(diaryId).orElseThrow());
+            diaryPagingCacheAdapter.put(userId, CacheKeys.slot(userId) + DIARY_PAGE_CACHE_SUFFIX, new RestPage<>(List.of(before), 0, 1, 1));
+            refreshTokenCacheAdapter.put(CacheKeys.member(userId), "test", Duration.ofSeconds(1));
 
             // when
             diaryService.updateDiary(diaryId, getDiaryRequest(2, userId));
 
             //then
-            assertNull(refreshTokenCacheAdapter.get(DIARY_CACHE_PREFIX + diaryId));
-            assertNull(refreshTokenCacheAdapter.get(userId + DIARY_PAGE_CACHE_SUFFIX));
-            assertNull(refreshTokenCacheAdapter.get(MEMBER_CACHE_PREFIX + userId));
+            assertNull(refreshTokenCacheAdapter.get(CacheKeys.diary(userId, diaryId)));
+            // 페이징 캐시는 삭제되지 않고 수정된 일기로 교체된다.
+            RestPage<DiaryInfoResponse> page = diaryPagingCacheAdapter.get(CacheKeys.slot(userId) + DIARY_PAGE_CACHE_SUFFIX);
+            assertNotNull(page);
+            assertEquals(LocalDate.of(2023, 1, 2), page.getContent().get(0).getDiaryDate());
+            assertNull(refreshTokenCacheAdapter.get(CacheKeys.member(userId)));
         }
 
         @Test
-        @DisplayName("3-3. [정상] 다이어리 등록 시 캐시 데이터 제거 ")
+        @DisplayName("3-3. [정상] 다이어리 등록 시 캐시 데이터 제거 및 페이징 캐시 반영 ")
         public void successSaveDiary() {
             //given
             diaryRepository.save(getDiaryRequest(3, userId).toEntity());
             // 테스트용 diaryId
             diaryId = diaryRepository.findAll().get(0).getId();
             // 캐시데이터 저장
-            refreshTokenCacheAdapter.put(userId + DIARY_PAGE_CACHE_SUFFIX, " test", Duration.ofSeconds(1));
-            refreshTokenCacheAdapter.put(MEMBER_CACHE_PREFIX + userId, "test", Duration.ofSeconds(1));
+            // 페이징 캐시는 태그 인덱스에 등록된 key 만 수정되므로 adapter 를 통해 저장
+            diaryPagingCacheAdapter.put(userId, CacheKeys.slot(userId) + DIARY_PAGE_CACHE_SUFFIX, new RestPage<>(List.of(), 0, 1, 0));
+            refreshTokenCacheAdapter.put(CacheKeys.member(userId), "test", Duration.ofSeconds(1));
 
             // when
             diaryService.saveDiary(response, getDiaryRequest(5, userId));
 
             //then
-            assertNull(refreshTokenCacheAdapter.get(userId + DIARY_PAGE_CACHE_SUFFIX));
-            assertNull(refreshTokenCacheAdapter.get(MEMBER_CACHE_PREFIX + userId));
+            // 페이징 캐시는 삭제되지 않고 새 일기가 추가된다.
+            RestPage<DiaryInfoResponse> page = diaryPagingCacheAdapter.get(CacheKeys.slot(userId) + DIARY_PAGE_CACHE_SUFFIX);
+            assertNotNull(page);
+            assertEquals(LocalDate.of(2023, 1, 5), page.getContent().get(0).getDiaryDate());
+            assertNull(refreshTokenCacheAdapter.get(CacheKeys.member(userId)));
         }
     }
 }
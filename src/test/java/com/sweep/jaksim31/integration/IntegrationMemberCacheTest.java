@@ -2,6 +2,7 @@ package com.sweep.jaksim31.integration;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
 import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
 import com.sweep.jaksim31.adapter.cache.RefreshTokenCacheAdapter;
 import com.sweep.jaksim31.auth.TokenProvider;
@@ -45,7 +46,6 @@ import static org.mockito.ArgumentMatchers.any;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @ExtendWith(MockitoExtension.class)
 public class IntegrationMemberCacheTest {
-    private static final String MEMBER_CACHE = "memberCache::";
     private static final String LOGIN_ID = "loginId";
     private static final String PASSWORD = "password";
     private static final String INVALID_PASSWORD = "asdasdsadadad";
@@ -123,7 +123,7 @@ public class IntegrationMemberCacheTest {
 
             // when
             MemberInfoResponse result = memberService.getMyInfo(userId, request);
-            MemberInfoResponse cacheResult = memberCacheAdapter.get(MEMBER_CACHE + userId);
+            MemberInfoResponse cacheResult = memberCacheAdapter.get(CacheKeys.member(userId));
 
             //then
             assertNotNull(cacheResult);
@@ -139,7 +139,7 @@ public class IntegrationMemberCacheTest {
             try {
                 MemberInfoResponse result = memberService.getMyInfo(INVALID_USER_ID, request);
             } catch (BizException ex) {
-                MemberInfoResponse cacheResult = memberCacheAdapter.get(MEMBER_CACHE + INVALID_USER_ID);
+                MemberInfoResponse cacheResult = memberCacheAdapter.get(CacheKeys.member(INVALID_USER_ID));
                 //then
                 assertNull(cacheResult);
             }
@@ -151,7 +151,7 @@ public class IntegrationMemberCacheTest {
         public void updateUserInfo() {
             // when
             memberService.updateMemberInfo(userId, memberUpdateRequest, request);
-            MemberInfoResponse cacheResult = memberCacheAdapter.get(MEMBER_CACHE + userId);
+            MemberInfoResponse cacheResult = memberCacheAdapter.get(CacheKeys.member(userId));
 
             //then
             assertNull(cacheResult);
@@ -162,12 +162,12 @@ public class IntegrationMemberCacheTest {
         @Order(4)
         public void failUpdateUserInfo() {
             // given
-            memberCacheAdapter.put(MEMBER_CACHE + userId, memberInfoResponse);
+            memberCacheAdapter.put(CacheKeys.member(userId), memberInfoResponse);
             // when
             try {
                 memberService.updateMemberInfo(INVALID_USER_ID, memberUpdateRequest, request);
             } catch (BizException ex) {
-                MemberInfoResponse cacheResult = memberCacheAdapter.get(MEMBER_CACHE + userId);
+                MemberInfoResponse cacheResult = memberCacheAdapter.get(CacheKeys.member(userId));
                 //then
                 assertEquals(cacheResult.getUserId(), userId);
             }
@@ -179,7 +179,7 @@ public class IntegrationMemberCacheTest {
         public void deleteUserInfo() throws URISyntaxException {
             // when
             memberService.remove(userId, memberRemoveRequest, response, request);
-            MemberInfoResponse cacheResult = memberCacheAdapter.get(MEMBER_CACHE + userId);
+            MemberInfoResponse cacheResult = memberCacheAdapter.get(CacheKeys.member(userId));
 
             //then
             assertNull(cacheResult);
@@ -190,12 +190,12 @@ public class IntegrationMemberCacheTest {
         @Order(6)
         public void failDeleteUserInfo() {
             // given
-            memberCacheAdapter.put(MEMBER_CACHE + userId, memberInfoResponse);
+            memberCacheAdapter.put(CacheKeys.member(userId), memberInfoResponse);
             // when
             try {
                 memberService.remove(INVALID_USER_ID, memberRemoveRequest, response, request);
             } catch (BizException ex) {
-                MemberInfoResponse cacheResult = memberCacheAdapter.get(MEMBER_CACHE + userId);
+                MemberInfoResponse cacheResult = memberCacheAdapter.get(CacheKeys.member(userId));
                 //then
                 assertEquals(cacheResult.getUserId(), userId);
             } catch (URISyntaxException e) {
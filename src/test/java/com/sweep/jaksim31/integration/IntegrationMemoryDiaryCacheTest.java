@@ -0,0 +1,18 @@
+package com.sweep.jaksim31.integration;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * packageName :  com.sweep.jaksim31.integration
+ * fileName : IntegrationMemoryDiaryCacheTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : cache.backend=memory 에서 IntegrationDiaryCacheTest 의 캐시 시나리오를 그대로 실행
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ */
+@TestPropertySource(properties = {"cache.backend=memory", "management.health.redis.enabled=false"})
+public class IntegrationMemoryDiaryCacheTest extends IntegrationDiaryCacheTest {
+}
@@ -0,0 +1,212 @@
+package com.sweep.jaksim31.integration;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.*;
+import com.sweep.jaksim31.config.cache.ProdCacheConfig;
+import com.sweep.jaksim31.config.cache.RedisInfo;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import com.sweep.jaksim31.dto.diary.DiaryResponse;
+import com.sweep.jaksim31.dto.member.MemberInfoResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.assertj.AssertableApplicationContext;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * redis.mode=cluster 로 ProdCacheConfig 를 구성하여 실제 multi-node Redis Cluster 에서
+ * 한 번에 보내는 다중 key 명령(pipeline DEL+PUBLISH, 타임라인 SWAP_SCRIPT, 태그 인덱스 pipeline)이 한 slot 안에서 실행되는지 확인한다.
+ * master 3개 이상인 cluster 의 seed 노드를 REDIS_CLUSTER_NODES=host:port,host:port,... 로 지정했을 때만 실행된다.
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_CLUSTER_NODES", matches = ".+")
+public class IntegrationRedisClusterTest {
+
+    private static final int MINIMUM_MASTERS = 3;
+    private static final Pageable TIMELINE_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date"));
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "date"));
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(RedisInfo.class, CacheMetrics.class, ProdCacheConfig.class,
+                    CacheRefresher.class, NegativeCache.class, SingleFlightLoader.class, CacheTagIndex.class,
+                    RedisMemberCacheAdapter.class, RedisDiaryCacheAdapter.class, RedisRefreshTokenCacheAdapter.class,
+                    RedisCacheEvictor.class, RedisDiaryTimelineCacheAdapter.class, RedisDiaryPagingCacheAdapter.class)
+            .withPropertyValues(clusterProperties());
+
+    @Test
+    @DisplayName("[전제] master 가 여러 개인 cluster 이고, slot 이 다른 key 를 한 script 로 보내면 CROSSSLOT 으로 거절한다")
+    void clusterRejectsCrossSlot() {
+        contextRunner.run(context -> {
+            RedisTemplate<String, String> template = cacheTagRedisTemplate(context);
+            List<String> users = usersOnDifferentMasters(template);
+
+            RedisScript<Long> script = RedisScript.of("return redis.call('EXISTS', KEYS[1], KEYS[2])", Long.class);
+            RuntimeException e = assertThrows(RuntimeException.class,
+                    () -> template.execute(script, Arrays.asList(CacheKeys.member(users.get(0)), CacheKeys.member(users.get(1)))));
+            assertTrue(NestedExceptionUtils.getMostSpecificCause(e).getMessage().contains("CROSSSLOT"));
+        });
+    }
+
+    @Test
+    @DisplayName("[정상] 사용자/일기 캐시 삭제와 near cache 무효화 발행 pipeline 은 master 마다 한 slot 에서 실행된다")
+    void evictorPipeline() {
+        contextRunner.run(context -> {
+            RedisTemplate<String, String> template = cacheTagRedisTemplate(context);
+            RedisMemberCacheAdapter memberCache = context.getBean(RedisMemberCacheAdapter.class);
+            RedisDiaryCacheAdapter diaryCache = context.getBean(RedisDiaryCacheAdapter.class);
+            RedisRefreshTokenCacheAdapter refreshTokenCache = context.getBean(RedisRefreshTokenCacheAdapter.class);
+            CacheEvictor evictor = context.getBean(RedisCacheEvictor.class);
+
+            for (String userId : usersOnDifferentMasters(template)) {
+                memberCache.put(CacheKeys.member(userId), MemberInfoResponse.builder().userId(userId).build());
+                diaryCache.put(CacheKeys.diary(userId, "diary1"), DiaryResponse.builder().userId(userId).diaryId("diary1").build());
+                refreshTokenCache.put(userId, "refreshToken", Duration.ofMinutes(1));
+                assertSingleSlot(template, userId);
+
+                evictor.deleteMemberAndDiary(CacheKeys.member(userId), CacheKeys.diary(userId, "diary1"));
+                assertFalse(exists(template, CacheKeys.member(userId)));
+                assertFalse(exists(template, CacheKeys.diary(userId, "diary1")));
+
+                // refresh token key 는 hash tag 없이 사용자 id 그대로이지만 같은 slot
+                memberCache.put(CacheKeys.member(userId), MemberInfoResponse.builder().userId(userId).build());
+                evictor.deleteMemberAndRefreshToken(CacheKeys.member(userId), userId);
+                assertFalse(exists(template, CacheKeys.member(userId)));
+                assertFalse(exists(template, userId));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("[정상] 타임라인 교체 script(임시 key RENAME)와 put/delete/invalidate pipeline 은 master 마다 한 slot 에서 실행된다")
+    void timelineSwapScript() {
+        contextRunner.run(context -> {
+            RedisTemplate<String, String> template = cacheTagRedisTemplate(context);
+            DiaryTimelineCacheAdapter timeline = context.getBean(RedisDiaryTimelineCacheAdapter.class);
+
+            for (String userId : usersOnDifferentMasters(template)) {
+                long sequence = timeline.sequence(userId);
+                assertTrue(timeline.rebuild(userId, Arrays.asList(diary(userId, 1), diary(userId, 2)), sequence));
+                assertEquals(Arrays.asList("diary2", "diary1"), ids(timeline.page(userId, TIMELINE_PAGE)));
+
+                timeline.put(userId, diary(userId, 3));
+                timeline.delete(userId, "diary1");
+                assertEquals(Arrays.asList("diary3", "diary2"), ids(timeline.page(userId, TIMELINE_PAGE)));
+                // 이전 순번으로는 교체하지 않음 (script 안에서 순번 비교)
+                assertFalse(timeline.rebuild(userId, Collections.singletonList(diary(userId, 1)), sequence));
+                assertSingleSlot(template, userId);
+
+                timeline.invalidate(userId);
+                assertNull(timeline.page(userId, TIMELINE_PAGE));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("[정상] 페이지 patch 와 태그 인덱스 등록/무효화 pipeline 은 master 마다 한 slot 에서 실행된다")
+    void tagIndexPipeline() {
+        contextRunner.run(context -> {
+            RedisTemplate<String, String> template = cacheTagRedisTemplate(context);
+            DiaryPagingCacheAdapter paging = context.getBean(RedisDiaryPagingCacheAdapter.class);
+
+            for (String userId : usersOnDifferentMasters(template)) {
+                String pageKey = CacheKeys.diaryPage(userId, FIRST_PAGE);
+                paging.put(userId, pageKey, new RestPage<>(Arrays.asList(diary(userId, 2), diary(userId, 1)), 0, 2, 2));
+                paging.putCount(userId, CacheKeys.diaryCount(userId, "filterHash"), 2);
+
+                // patch 가 실패하면 태그 전체를 삭제하므로, 수정된 페이지가 남아 있어야 pipeline 이 성공한 것
+                paging.applySave(userId, diary(userId, 3));
+                assertEquals(Arrays.asList("diary3", "diary2"), ids(paging.get(pageKey)));
+                assertNull(paging.getCount(CacheKeys.diaryCount(userId, "filterHash")));
+                assertSingleSlot(template, userId);
+
+                paging.deleteByTag(userId);
+                assertNull(paging.get(pageKey));
+                assertTrue(Objects.requireNonNull(template.opsForSet().members(CacheKeys.tag(DiaryPagingCacheAdapter.CACHE_NAME, userId))).isEmpty());
+            }
+        });
+    }
+
+    // REDIS_CLUSTER_NODES 를 redis.nodes 설정으로 변환
+    private static String[] clusterProperties() {
+        List<String> properties = new ArrayList<>();
+        properties.add("spring.profiles.active=prod");
+        properties.add("redis.mode=" + RedisInfo.MODE_CLUSTER);
+        String[] nodes = System.getenv("REDIS_CLUSTER_NODES").split(",");
+        for (int i = 0; i < nodes.length; i++) {
+            String[] hostAndPort = nodes[i].trim().split(":");
+            properties.add("redis.nodes[" + i + "].host=" + hostAndPort[0]);
+            properties.add("redis.nodes[" + i + "].port=" + hostAndPort[1]);
+        }
+        return properties.toArray(new String[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisTemplate<String, String> cacheTagRedisTemplate(AssertableApplicationContext context) {
+        return context.getBean("cacheTagRedisTemplate", RedisTemplate.class);
+    }
+
+    // 서로 다른 master 가 담당하는 slot 의 사용자 id (master 마다 1명)
+    private static List<String> usersOnDifferentMasters(RedisTemplate<String, String> template) {
+        try (RedisClusterConnection connection = template.getRequiredConnectionFactory().getClusterConnection()) {
+            long masters = StreamSupport.stream(connection.clusterGetNodes().spliterator(), false).filter(RedisClusterNode::isMaster).count();
+            assertTrue(masters >= MINIMUM_MASTERS, "cluster masters : " + masters);
+
+            Map<String, String> userByMaster = new LinkedHashMap<>();
+            for (int i = 0; i < 10_000 && userByMaster.size() < masters; i++) {
+                String userId = UUID.randomUUID().toString();
+                RedisClusterNode master = connection.clusterGetNodeForKey(RedisSerializer.string().serialize(CacheKeys.slot(userId)));
+                userByMaster.putIfAbsent(master.getId(), userId);
+            }
+            assertEquals(masters, userByMaster.size());
+            return new ArrayList<>(userByMaster.values());
+        }
+    }
+
+    // 사용자의 캐시 key 가 모두 사용자 id 의 slot 에 있는지 (Redis 가 계산한 slot 으로 확인)
+    private static void assertSingleSlot(RedisTemplate<String, String> template, String userId) {
+        Set<String> keys = template.keys("*" + CacheKeys.slot(userId) + "*");
+        assertNotNull(keys);
+        assertFalse(keys.isEmpty());
+
+        try (RedisClusterConnection connection = template.getRequiredConnectionFactory().getClusterConnection()) {
+            Integer slot = connection.clusterGetSlotForKey(RedisSerializer.string().serialize(CacheKeys.slot(userId)));
+            Set<Integer> slots = keys.stream()
+                    .map(key -> connection.clusterGetSlotForKey(RedisSerializer.string().serialize(key)))
+                    .collect(Collectors.toSet());
+            assertEquals(Collections.singleton(slot), slots, keys::toString);
+        }
+    }
+
+    private static boolean exists(RedisTemplate<String, String> template, String key) {
+        return CacheSchema.siblingKeys(key).stream().anyMatch(sibling -> Boolean.TRUE.equals(template.hasKey(sibling)));
+    }
+
+    private static DiaryInfoResponse diary(String userId, int day) {
+        return new DiaryInfoResponse("diary" + day, userId, LocalDate.of(2023, 1, day), LocalDate.of(2023, 1, day),
+                "emotion", new String[]{"keyword"}, "thumbnail");
+    }
+
+    private static List<String> ids(RestPage<DiaryInfoResponse> page) {
+        assertNotNull(page);
+        return page.getContent().stream().map(DiaryInfoResponse::getDiaryId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,200 @@
+package com.sweep.jaksim31.service.impl;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
+import com.sweep.jaksim31.adapter.cache.CacheMetrics;
+import com.sweep.jaksim31.adapter.cache.CacheWriteQueue;
+import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
+import com.sweep.jaksim31.adapter.cache.RecentWriteTracker;
+import com.sweep.jaksim31.domain.members.MemberRepository;
+import com.sweep.jaksim31.domain.members.Members;
+import com.sweep.jaksim31.dto.member.MemberInfoResponse;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import com.sweep.jaksim31.service.DiaryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.service.impl
+ * fileName : CachePrewarmerTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 로그인 직후 캐시 prewarm 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             prewarm 실행 전 정보 수정 테스트 추가
+ */
+@ExtendWith(MockitoExtension.class)
+class CachePrewarmerTest {
+
+    @Mock
+    private MemberCacheAdapter memberCacheAdapter;
+    @Mock
+    private MemberRepository memberRepository;
+    @Mock
+    private DiaryService diaryService;
+
+    private final RecentWriteTracker recentWriteTracker = new RecentWriteTracker(3000, new CacheWriteQueue(false, 1, 1, 5_000));
+    private MeterRegistry registry;
+    private CacheMetrics cacheMetrics;
+    private Members members;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cacheMetrics = new CacheMetrics();
+        cacheMetrics.bindTo(registry);
+        members = Members.builder()
+                .loginId("loginId")
+                .build();
+        ReflectionTestUtils.setField(members, "id", "userId");
+    }
+
+    private RestPage<DiaryInfoResponse> page(int page, long total) {
+        return new RestPage<>(new PageImpl<>(Collections.emptyList(), PageRequest.of(page, 1), total));
+    }
+
+    @Test
+    @DisplayName("[정상] 사용자 정보 캐시와 첫 페이지를 미리 채운다")
+    void prewarm() {
+        // given
+        CachePrewarmer cachePrewarmer = new CachePrewarmer(Runnable::run, memberCacheAdapter, memberRepository, recentWriteTracker, diaryService, cacheMetrics);
+        ReflectionTestUtils.setField(cachePrewarmer, "pages", 2);
+        ReflectionTestUtils.setField(cachePrewarmer, "pageSize", 1);
+        given(memberRepository.findById("userId"))
+                .willReturn(Optional.of(members));
+        given(diaryService.findUserDiaries(eq("userId"), any()))
+                .willReturn(page(0, 3), page(1, 3));
+
+        // when
+        cachePrewarmer.prewarm(members);
+
+        // then
+        verify(memberCacheAdapter, times(1)).put(eq(CacheKeys.member("userId")), any());
+        verify(diaryService, times(1)).findUserDiaries(eq("userId"), argThat((Map<?, ?> params) -> "0".equals(params.get("page")) && "1".equals(params.get("size"))));
+        verify(diaryService, times(1)).findUserDiaries(eq("userId"), argThat((Map<?, ?> params) -> "1".equals(params.get("page"))));
+        assertEquals(1, registry.get("cache.prewarm.runs").tag("result", "success").counter().count());
+    }
+
+    @Test
+    @DisplayName("[정상] 마지막 페이지 이후는 조회하지 않는다")
+    void stopAtLastPage() {
+        // given
+        CachePrewarmer cachePrewarmer = new CachePrewarmer(Runnable::run, memberCacheAdapter, memberRepository, recentWriteTracker, diaryService, cacheMetrics);
+        ReflectionTestUtils.setField(cachePrewarmer, "pages", 3);
+        given(diaryService.findUserDiaries(eq("userId"), any()))
+                .willReturn(page(0, 1));
+
+        // when
+        cachePrewarmer.prewarm(members);
+
+        // then
+        verify(diaryService, times(1)).findUserDiaries(eq("userId"), any());
+    }
+
+    @Test
+    @DisplayName("[정상] prewarm 실행 전에 정보가 수정되었으면 로그인 시점의 사용자 정보로 캐시를 채우지 않는다")
+    void memberUpdatedBeforeRun() {
+        // given (로그인 후 prewarm 작업이 실행되기 전에 정보 수정 : DB 저장 -> 쓰기 기록 -> 캐시 삭제)
+        List<Runnable> tasks = new ArrayList<>();
+        CachePrewarmer cachePrewarmer = new CachePrewarmer(tasks::add, memberCacheAdapter, memberRepository, recentWriteTracker, diaryService, cacheMetrics);
+        cachePrewarmer.prewarm(members);
+        Members updated = Members.builder()
+                .loginId("loginId")
+                .username("updated")
+                .build();
+        ReflectionTestUtils.setField(updated, "id", "userId");
+        given(memberRepository.findById("userId"))
+                .willReturn(Optional.of(updated));
+        given(diaryService.findUserDiaries(eq("userId"), any()))
+                .willReturn(page(0, 1));
+
+        // when (같은 노드에서 수정 : 최근 쓰기 기록이 있으면 저장하지 않음)
+        recentWriteTracker.markWrite("userId");
+        tasks.forEach(Runnable::run);
+
+        // then
+        verify(memberCacheAdapter, never()).put(any(), any());
+
+        // when (다른 노드에서 수정 : 로그인 시점 값이 아닌 수정된 DB 값을 저장)
+        RecentWriteTracker otherNode = new RecentWriteTracker(3000, new CacheWriteQueue(false, 1, 1, 5_000));
+        tasks.clear();
+        new CachePrewarmer(tasks::add, memberCacheAdapter, memberRepository, otherNode, diaryService, cacheMetrics).prewarm(members);
+        tasks.forEach(Runnable::run);
+
+        // then
+        verify(memberCacheAdapter, times(1)).put(eq(CacheKeys.member("userId")),
+                argThat((MemberInfoResponse member) -> "updated".equals(member.getUsername())));
+    }
+
+    @Test
+    @DisplayName("[정상] kill switch 가 꺼져 있으면 아무것도 하지 않는다")
+    void disabled() {
+        // given
+        CachePrewarmer cachePrewarmer = new CachePrewarmer(Runnable::run, memberCacheAdapter, memberRepository, recentWriteTracker, diaryService, cacheMetrics);
+        ReflectionTestUtils.setField(cachePrewarmer, "enabled", false);
+
+        // when
+        cachePrewarmer.prewarm(members);
+
+        // then
+        verifyNoInteractions(memberCacheAdapter, diaryService);
+        assertEquals(1, registry.get("cache.prewarm.runs").tag("result", "disabled").counter().count());
+    }
+
+    @Test
+    @DisplayName("[예외] executor 가 가득 차면 건너뛰고 로그인에는 영향을 주지 않는다")
+    void rejected() {
+        // given
+        CachePrewarmer cachePrewarmer = new CachePrewarmer(command -> {
+            throw new RejectedExecutionException();
+        }, memberCacheAdapter, memberRepository, recentWriteTracker, diaryService, cacheMetrics);
+
+        // when
+        cachePrewarmer.prewarm(members);
+
+        // then
+        verifyNoInteractions(memberCacheAdapter, diaryService);
+        assertEquals(1, registry.get("cache.prewarm.runs").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("[예외] 조회 중 오류가 나도 예외를 던지지 않고 실패로 기록한다")
+    void failure() {
+        // given
+        CachePrewarmer cachePrewarmer = new CachePrewarmer(Runnable::run, memberCacheAdapter, memberRepository, recentWriteTracker, diaryService, cacheMetrics);
+        given(diaryService.findUserDiaries(eq("userId"), any()))
+                .willThrow(new IllegalStateException("redis down"));
+
+        // when
+        cachePrewarmer.prewarm(members);
+
+        // then
+        assertEquals(1, registry.get("cache.prewarm.runs").tag("result", "failure").counter().count());
+    }
+}
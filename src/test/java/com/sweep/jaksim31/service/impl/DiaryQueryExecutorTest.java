@@ -0,0 +1,144 @@
+package com.sweep.jaksim31.service.impl;
+
+import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.DiaryPagingCacheAdapter;
+import com.sweep.jaksim31.domain.diary.DiaryRepository;
+import com.sweep.jaksim31.dto.diary.DiaryInfoResponse;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.service.impl
+ * fileName : DiaryQueryExecutorTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 일기 목록 페이지 조회(diaryTotal / 개수 캐시 / $facet) 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ *                      방근호             요약 field projection 조회 반영
+ */
+@ExtendWith(MockitoExtension.class)
+class DiaryQueryExecutorTest {
+
+    private static final String USER_ID = "userId";
+    private static final String COUNT_KEY = "{userId}Count:hash";
+
+    @InjectMocks
+    private DiaryQueryExecutor diaryQueryExecutor;
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private DiaryPagingCacheAdapter diaryPagingCacheAdapter;
+    @Mock
+    private DiaryRepository diaryRepository;
+
+    private final Criteria criteria = Criteria.where("userId").is(USER_ID);
+    private final Pageable pageable = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "date"));
+
+    @Test
+    @DisplayName("전체 개수를 알고 있으면 find 한 번만 실행한다")
+    void knownTotal() {
+        given(diaryRepository.findSummaries(any(Query.class)))
+                .willReturn(Collections.singletonList(diary(3)));
+
+        RestPage<DiaryInfoResponse> page = diaryQueryExecutor.page(criteria, pageable, 5);
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+        verify(mongoTemplate, never()).count(any(Query.class), any(Class.class), any());
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("조건별 개수가 캐싱되어 있으면 aggregation 없이 find 만 실행한다")
+    void cachedCount() {
+        given(diaryPagingCacheAdapter.getCount(COUNT_KEY))
+                .willReturn(3L);
+        given(diaryRepository.findSummaries(any(Query.class)))
+                .willReturn(Collections.singletonList(diary(3)));
+
+        RestPage<DiaryInfoResponse> page = diaryQueryExecutor.page(USER_ID, COUNT_KEY, criteria, pageable);
+
+        assertEquals(3, page.getTotalElements());
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), anyString(), any());
+        verify(diaryPagingCacheAdapter, never()).putCount(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("개수가 없으면 $facet 한 번으로 데이터와 개수를 읽고 개수를 캐싱한다")
+    void facetAndCacheCount() {
+        Document first = summary("d1", 5);
+        Document second = summary("d2", 4);
+        Document result = new Document("data", List.of(first, second))
+                .append("total", List.of(new Document("count", 7)));
+        given(diaryPagingCacheAdapter.getCount(COUNT_KEY))
+                .willReturn(null);
+        given(mongoTemplate.aggregate(any(Aggregation.class), eq("diary"), eq(Document.class)))
+                .willReturn(new AggregationResults<>(Collections.singletonList(result), new Document()));
+
+        RestPage<DiaryInfoResponse> page = diaryQueryExecutor.page(USER_ID, COUNT_KEY, criteria, pageable);
+
+        assertEquals(7, page.getTotalElements());
+        assertEquals(List.of(LocalDate.of(2023, 1, 5), LocalDate.of(2023, 1, 4)),
+                page.getContent().stream().map(DiaryInfoResponse::getDiaryDate).collect(Collectors.toList()));
+        assertArrayEquals(new String[]{"happy"}, page.getContent().get(0).getKeywords());
+        verify(diaryRepository, never()).findSummaries(any());
+        verify(diaryPagingCacheAdapter, times(1)).putCount(USER_ID, COUNT_KEY, 7L);
+    }
+
+    @Test
+    @DisplayName("$facet 은 조건으로 거른 뒤 data(정렬, skip, limit) 와 total(count) 로 나눈다")
+    void facetPipeline() {
+        String pipeline = DiaryQueryExecutor.facetAggregation(criteria, pageable).toString();
+
+        assertTrue(pipeline.contains("\"$match\""));
+        assertTrue(pipeline.contains("\"$facet\""));
+        assertTrue(pipeline.contains("\"$skip\" : 2") || pipeline.contains("\"$skip\": 2"));
+        assertTrue(pipeline.contains("\"$limit\" : 2") || pipeline.contains("\"$limit\": 2"));
+        assertTrue(pipeline.contains("\"$count\""));
+        // data 는 요약 field 만 반환
+        assertTrue(pipeline.contains("\"$project\""));
+        assertFalse(pipeline.contains("content"));
+    }
+
+    private static DiaryInfoResponse diary(int day) {
+        return new DiaryInfoResponse("d" + day, USER_ID, LocalDate.of(2023, 1, day), null, null, null, null);
+    }
+
+    // Mongo 에 저장된 형식의 요약 document (날짜는 Date)
+    private static Document summary(String diaryId, int day) {
+        Date date = Date.from(LocalDate.of(2023, 1, day).atTime(9, 0).atZone(ZoneId.systemDefault()).toInstant());
+        return new Document("_id", diaryId)
+                .append("userId", USER_ID)
+                .append("date", date)
+                .append("modifyDate", date)
+                .append("keywords", List.of("happy"));
+    }
+}
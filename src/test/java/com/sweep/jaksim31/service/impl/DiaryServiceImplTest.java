@@ -1,8 +1,17 @@
 package com.sweep.jaksim31.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sweep.jaksim31.adapter.RestPage;
+import com.sweep.jaksim31.adapter.cache.CacheEvictor;
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
+import com.sweep.jaksim31.adapter.cache.CacheWriteQueue;
+import com.sweep.jaksim31.adapter.cache.CachedResponseBody;
+import com.sweep.jaksim31.adapter.cache.DiaryCacheAdapter;
 import com.sweep.jaksim31.adapter.cache.DiaryPagingCacheAdapter;
+import com.sweep.jaksim31.adapter.cache.DiaryTimelineCacheAdapter;
 import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
+import com.sweep.jaksim31.adapter.cache.RecentWriteTracker;
+import com.sweep.jaksim31.adapter.search.DiarySearchIndex;
 import com.sweep.jaksim31.domain.diary.Diary;
 import com.sweep.jaksim31.domain.diary.DiaryRepository;
 import com.sweep.jaksim31.domain.members.MemberRepository;
@@ -15,22 +24,37 @@ import com.sweep.jaksim31.enums.MemberExceptionType;
 import org.bson.Document;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -46,6 +70,22 @@ import static org.mockito.Mockito.*;
  * 2023-01-19           김주현             최초 생성
  * 2023-01-20           김주현             일기 삭제 service 수정으로 인한 test 수정
  * 2023-01-25           방근호             캐시로 인한 테스트 검증 코드 추가 및 수정
+ * 2026-10-18           방근호             페이징 캐시 태그 무효화(deleteByTag) 반영
+ *                      방근호             negative cache 테스트 추가
+ *                      방근호             페이징 캐시 직접 수정(applyUpdate/applyRemove) 반영
+ *                      방근호             사용자 일기 조회 타임라인 캐시 반영
+ *                      방근호             캐시 쓰기 queue(CacheWriteQueue) 반영
+ *                      방근호             read-your-writes(RecentWriteTracker) 반영
+ *                      방근호             감정 통계 counter(EmotionCounter) 반영
+ *                      방근호             직렬화된 응답 body 캐시(findUserDiariesBody) 테스트 추가
+ *                      방근호             일기 검색 결과 캐시(findDiaries) 테스트 추가
+ *                      방근호             cursor(keyset) pagination 테스트 추가
+ *                      방근호             일기 검색 조회를 DiaryQueryExecutor(diaryTotal / $facet + 개수 캐시) 로 변경
+ *                      방근호             일기 목록 요약 조회(findSummariesByUserId, findSummaries) 반영
+ *                      방근호             본문 검색 index(DiarySearchIndex) 검색 테스트 추가
+ *                      방근호             일기 수정 시 캐시 삭제 순서 테스트 추가
+ *                      방근호             타임라인 재생성 시 쓰기 순번 전달 반영
+ *                      방근호             일기 수정/삭제 캐시 삭제(CacheEvictor) 반영
  */
 @ExtendWith(MockitoExtension.class)
 @WithMockUser(username = "username", password = "password", roles = "ROLE_USER")
@@ -63,6 +103,25 @@ public class DiaryServiceImplTest {
     private DiaryPagingCacheAdapter diaryCacheAdapter;
     @Mock
     private MemberCacheAdapter memberCacheAdapter;
+    @Mock
+    private DiaryCacheAdapter diaryResponseCacheAdapter;
+    @Mock
+    private DiaryTimelineCacheAdapter diaryTimelineCacheAdapter;
+    @Mock
+    private CacheEvictor cacheEvictor;
+    @Mock
+    private EmotionCounter emotionCounter;
+    @Mock
+    private DiaryQueryExecutor diaryQueryExecutor;
+    @Mock
+    private DiarySearchIndex diarySearchIndex;
+    // 동기 모드 (제출한 캐시 작업을 바로 실행)
+    @Spy
+    private CacheWriteQueue cacheWriteQueue = new CacheWriteQueue(false, 1, 1, 5_000);
+    @Spy
+    private RecentWriteTracker recentWriteTracker = new RecentWriteTracker(3000, new CacheWriteQueue(false, 1, 1, 5_000));
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     private static MockedStatic<DiaryResponse> diaryResponse;
     private static MockedStatic<DiaryInfoResponse> diaryInfoResponse;
@@ -158,8 +217,8 @@ public class DiaryServiceImplTest {
                     .willReturn(diaryResponse);
 
             // 아무것도 안하게 하겠음
-            doNothing().when(diaryCacheAdapter).findAndDelete(any());
-            doNothing().when(memberCacheAdapter).delete(any());
+            doNothing().when(diaryCacheAdapter).applyUpdate(any(), any(), any());
+            doNothing().when(cacheEvictor).deleteMemberAndDiary(any(), any());
 
             // when
             String expected = diaryService.updateDiary(diaryId, diarySaveRequest);
@@ -171,8 +230,31 @@ public class DiaryServiceImplTest {
             verify(diaryRepository, times(1)).findById(diaryId);
             verify(memberRepository, times(1)).findById(userId);
             verify(diaryRepository, times(1)).save(any());
-            verify(diaryCacheAdapter, times(1)).findAndDelete(any());
+            verify(diaryCacheAdapter, times(1)).applyUpdate(any(), any(), any());
+            verify(emotionCounter, times(1)).onUpdate(any(), any());
+        }
+        @Test
+        @DisplayName("[정상]일기 수정 시 사용자/일기 캐시는 DB 저장 이후에 삭제한다")
+        void updateDiaryEvictsAfterSave(){
+            // given
+            Diary updatedDiary = new Diary(diaryId, diarySaveRequest);
+            DiaryInfoResponse recentDiary = new DiaryInfoResponse();
+            recentDiary.setDiaryId("differentDiaryId");
+            given(diaryRepository.findById(diaryId))
+                    .willReturn(Optional.of(updatedDiary));
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().recentDiary(recentDiary).build()));
+
+            // when
+            diaryService.updateDiary(diaryId, diarySaveRequest);
+
+            // then
+            // 저장 전에 삭제하면 그 사이의 조회가 수정 전 일기를 다시 캐싱한다
+            InOrder inOrder = inOrder(diaryRepository, cacheEvictor);
+            inOrder.verify(diaryRepository).save(any());
+            inOrder.verify(cacheEvictor).deleteMemberAndDiary(CacheKeys.member(userId), CacheKeys.diary(userId, diaryId));
         }
+
         @Test
         @DisplayName("[예외]일기가 존재하지 않을 때, 저장 X")
         void failUpdateDiaryNotFoundDiary(){
@@ -186,7 +268,7 @@ public class DiaryServiceImplTest {
             // then
             assertThrows(BizException.class, () -> diaryService.updateDiary(diaryId, diarySaveRequest));
             verify(diaryRepository, never()).save(updatedDiary);
-            verify(diaryCacheAdapter, never()).findAndDelete(any());
+            verify(diaryCacheAdapter, never()).applyUpdate(any(), any(), any());
         }
         @Test
         @DisplayName("[예외]사용자가 존재하지 않을 때, 저장 X")
@@ -203,7 +285,7 @@ public class DiaryServiceImplTest {
             // then
             assertThrows(BizException.class, () -> diaryService.updateDiary(diaryId, diarySaveRequest));
             verify(diaryRepository, never()).save(updatedDiary);
-            verify(diaryCacheAdapter, never()).findAndDelete(any());
+            verify(diaryCacheAdapter, never()).applyUpdate(any(), any(), any());
         }
     }
 
@@ -227,8 +309,8 @@ public class DiaryServiceImplTest {
                     .willReturn(Optional.of(user));
 
             // 아무것도 안하게 하겠음
-            doNothing().when(diaryCacheAdapter).findAndDelete(any());
-            doNothing().when(memberCacheAdapter).delete(any());
+            doNothing().when(diaryCacheAdapter).applyRemove(any(), any());
+            doNothing().when(cacheEvictor).deleteMemberAndDiary(any(), any());
 
             // when
             String result = diaryService.remove(any(), userId, diaryId);
@@ -240,7 +322,8 @@ public class DiaryServiceImplTest {
             verify(memberRepository, times(1)).findById(userId);
             verify(memberRepository, times(1)).save(user);
             verify(diaryRepository, times(1)).delete(diary);
-            verify(diaryCacheAdapter, times(1)).findAndDelete(any());
+            verify(diaryCacheAdapter, times(1)).applyRemove(any(), any());
+            verify(emotionCounter, times(1)).onRemove(diary);
         }
         @Test
         @DisplayName("[예외]사용자의 일기가 아닐 경우")
@@ -314,6 +397,19 @@ public class DiaryServiceImplTest {
             // then
             assertThrows(BizException.class, () -> diaryService.findDiary(userId, diaryId));
             verify(diaryRepository, times(1)).findById(any());
+            verify(diaryResponseCacheAdapter, times(1)).putNotFound(any());
+        }
+        @Test
+        @DisplayName("[예외]존재하지 않는 일기로 확인된 id 일 때 (negative cache)")
+        void failFindDiaryNotFoundDiaryCached(){
+            // given
+            given(diaryResponseCacheAdapter.isNotFound(any()))
+                    .willReturn(true);
+
+            // when
+            // then
+            assertThrows(BizException.class, () -> diaryService.findDiary(userId, diaryId));
+            verify(diaryRepository, never()).findById(any());
         }
         @Test
         @DisplayName("[예외]사용자의 일기가 아닐 경우")
@@ -329,6 +425,35 @@ public class DiaryServiceImplTest {
             assertThrows(BizException.class, () -> diaryService.findDiary("DifferentUserId", diaryId));
             verify(diaryRepository, times(1)).findById(any());
         }
+        @Test
+        @DisplayName("[정상] 캐시가 존재할 때")
+        void hasCache(){
+            // given
+            DiaryResponse diaryResponse = new DiaryResponse(diaryId,userId, "testContext", diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
+            given(diaryResponseCacheAdapter.get(any(), any()))
+                    .willReturn(diaryResponse);
+
+            // when
+            DiaryResponse expected = diaryService.findDiary(userId, diaryId);
+
+            // then
+            assertEquals(expected, diaryResponse);
+            verify(diaryRepository, never()).findById(any());
+            verify(diaryResponseCacheAdapter, never()).put(any(), any());
+        }
+        @Test
+        @DisplayName("[예외] 캐시가 존재하지만 사용자의 일기가 아닐 경우")
+        void hasCacheNoPermission(){
+            // given
+            DiaryResponse diaryResponse = new DiaryResponse(diaryId,userId, "testContext", diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
+            given(diaryResponseCacheAdapter.get(any(), any()))
+                    .willReturn(diaryResponse);
+
+            // when
+            // then
+            assertThrows(BizException.class, () -> diaryService.findDiary("DifferentUserId", diaryId));
+            verify(diaryRepository, never()).findById(any());
+        }
     }
 
     @Nested
@@ -337,10 +462,9 @@ public class DiaryServiceImplTest {
         String userId = "userId";
 
         @Test
-        @DisplayName("[정상]사용자 일기 조회 성공_page,size,sort")
+        @DisplayName("[정상]사용자 일기 조회 성공_page,size,sort (타임라인 재생성)")
         void findUserDiaryByPageSizeSort(){
             // given
-            Diary diary = diarySaveRequest.toEntity();
             DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
             List<DiaryInfoResponse> diaryInfoResponses = List.of(diaryInfoResponse);
 
@@ -350,17 +474,17 @@ public class DiaryServiceImplTest {
             param.put("sort","asc");
 
             Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "date"));
-            Page<Object> page = new PageImpl(diaryInfoResponses, pageable, 1);
 
             given(memberRepository.findById(userId))
                     .willReturn(Optional.of(Members.builder().build()));
-            given(mongoTemplate.find(any(),any(),any()))
-                    .willReturn(List.of(diary));
-            given(PageableExecutionUtils.getPage(any(),any(),any()))
-                    .willReturn(page);
-
             given(diaryCacheAdapter.get(any()))
                     .willReturn(null);
+            given(diaryCacheAdapter.load(any(), any(), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<RestPage<DiaryInfoResponse>>>getArgument(2).get());
+            given(diaryTimelineCacheAdapter.page(userId, pageable))
+                    .willReturn(null);
+            given(diaryRepository.findSummariesByUserId(userId))
+                    .willReturn(List.of(diaryInfoResponse));
 
             // when
             Page<DiaryInfoResponse> expected = diaryService.findUserDiaries(userId,param);
@@ -368,40 +492,40 @@ public class DiaryServiceImplTest {
             // then
             assert expected != null;
             assertEquals(expected.getPageable(), pageable);
-            assertEquals(expected.getSize(), page.getSize());
+            assertEquals(expected.getSize(), pageable.getPageSize());
+            assertEquals(expected.getTotalElements(), 1);
             assertEquals(expected.getContent(), diaryInfoResponses);
 
             verify(memberRepository, times(1)).findById(userId);
-            verify(mongoTemplate, times(1)).find(any(),any(),any());
+            verify(diaryRepository, times(1)).findSummariesByUserId(userId);
+            verify(diaryTimelineCacheAdapter, times(1)).rebuild(userId, diaryInfoResponses, 0L);
+            verify(mongoTemplate, never()).find(any(),any(),any());
             verify(diaryCacheAdapter, times(1)).get(any());
         }
         @Test
-        @DisplayName("[정상]사용자 일기 조회 성공_page,size")
+        @DisplayName("[정상]사용자 일기 조회 성공_page,size (타임라인 재생성 후 페이지 자르기)")
         void findUserDiaryByPageSize(){
             // given
-            Diary diary = diarySaveRequest.toEntity();
             DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
-            List<DiaryInfoResponse> diaryInfoResponses = List.of(diaryInfoResponse);
+            DiaryInfoResponse olderDiaryInfoResponse = new DiaryInfoResponse("olderDiaryId", userId, diaryDate.minusDays(1), LocalDate.now(), "emotion", keywords, "thumbnail");
 
             Map<String, String> param = new HashMap<>();
-            param.put("page", "0");
+            param.put("page", "1");
             param.put("size","1");
 
             // Input으로 입력되는 값이 없을 경우, sort default value = "date", DESC
-            Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "date"));
-            Page<Object> page = new PageImpl(diaryInfoResponses, pageable, 1);
+            Pageable pageable = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "date"));
 
             given(memberRepository.findById(userId))
                     .willReturn(Optional.of(Members.builder().build()));
-            given(mongoTemplate.find(any(),any(),any()))
-                    .willReturn(List.of(diary));
-            given(PageableExecutionUtils.getPage(any(),any(),any()))
-                    .willReturn(page);
-
             given(diaryCacheAdapter.get(any()))
                     .willReturn(null);
-
-            doNothing().when(diaryCacheAdapter).put(any(), any());
+            given(diaryCacheAdapter.load(any(), any(), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<RestPage<DiaryInfoResponse>>>getArgument(2).get());
+            given(diaryTimelineCacheAdapter.page(userId, pageable))
+                    .willReturn(null);
+            given(diaryRepository.findSummariesByUserId(userId))
+                    .willReturn(List.of(olderDiaryInfoResponse, diaryInfoResponse));
 
             // when
             Page<DiaryInfoResponse> expected = diaryService.findUserDiaries(userId,param);
@@ -409,41 +533,39 @@ public class DiaryServiceImplTest {
             // then
             assert expected != null;
             assertEquals(expected.getPageable(), pageable);
-            assertEquals(expected.getSize(), page.getSize());
-            assertEquals(expected.getSort(), page.getSort());
-            assertEquals(expected.getContent(), diaryInfoResponses);
+            assertEquals(expected.getSort(), pageable.getSort());
+            assertEquals(expected.getTotalElements(), 2);
+            // 최신순 두번째 페이지 = 더 오래된 일기
+            assertEquals(expected.getContent(), List.of(olderDiaryInfoResponse));
 
             verify(memberRepository, times(1)).findById(userId);
-            verify(mongoTemplate, times(1)).find(any(),any(),any());
+            verify(diaryTimelineCacheAdapter, times(1)).rebuild(userId, List.of(olderDiaryInfoResponse, diaryInfoResponse), 0L);
+            verify(mongoTemplate, never()).find(any(),any(),any());
             verify(diaryCacheAdapter, times(1)).get(any());
         }
         @Test
-        @DisplayName("[정상]사용자 일기 조회 성공_page")
+        @DisplayName("[정상]사용자 일기 조회 성공_page (타임라인 조회)")
         void findUserDiaryByPage(){
             // given
-            Diary diary = diarySaveRequest.toEntity();
             DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
             List<DiaryInfoResponse> diaryInfoResponses = List.of(diaryInfoResponse);
 
             Map<String, String> param = new HashMap<>();
             param.put("page", "0");
-            // Input으로 입력되는 값이 없을 경우, size default value = 9, sort default value = "date", DESC
-            Pageable pageable = PageRequest.of(0, 9, Sort.by(Sort.Direction.DESC, "date"));
-            Page<Object> page = new PageImpl(diaryInfoResponses, pageable, 1);
+            // Input으로 입력되는 값이 없을 경우, size default value = diaryTotal, sort default value = "date", DESC
+            Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "date"));
+            Page<DiaryInfoResponse> page = new PageImpl<>(diaryInfoResponses, pageable, 1);
 
             given(memberRepository.findById(userId))
                     .willReturn(Optional.of(Members.builder()
                             .diaryTotal(5)
                             .build()));
-            given(mongoTemplate.find(any(),any(),any()))
-                    .willReturn(List.of(diary));
-            given(PageableExecutionUtils.getPage(any(),any(),any()))
-                    .willReturn(page);
-
             given(diaryCacheAdapter.get(any()))
                     .willReturn(null);
-
-            doNothing().when(diaryCacheAdapter).put(any(), any());
+            given(diaryCacheAdapter.load(any(), any(), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<RestPage<DiaryInfoResponse>>>getArgument(2).get());
+            given(diaryTimelineCacheAdapter.page(userId, pageable))
+                    .willReturn(new RestPage<>(page));
 
             // when
             Page<DiaryInfoResponse> expected = diaryService.findUserDiaries(userId,param);
@@ -456,39 +578,33 @@ public class DiaryServiceImplTest {
             assertEquals(expected.getContent(), diaryInfoResponses);
 
             verify(memberRepository, times(1)).findById(userId);
-            verify(mongoTemplate, times(1)).find(any(),any(),any());
-            verify(diaryCacheAdapter, times(1)).put(any(), any());
+            verify(diaryRepository, never()).findSummariesByUserId(any());
+            verify(diaryTimelineCacheAdapter, never()).rebuild(any(), any(), anyLong());
+            verify(diaryCacheAdapter, times(1)).load(any(), any(), any());
             verify(diaryCacheAdapter, times(1)).get(any());
         }
         @Test
-        @DisplayName("[정상]사용자 일기 조회 성공_no params")
+        @DisplayName("[정상]사용자 일기 조회 성공_no params (타임라인 조회)")
         void findUserDiary(){
             // given
-            Diary diary = diarySaveRequest.toEntity();
             DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
             List<DiaryInfoResponse> diaryInfoResponses = List.of(diaryInfoResponse);
 
             Map<String, String> param = new HashMap<>();
-            // page default value = 0, size default value = 9, sort default value = "date", DESC
-            Pageable pageable = PageRequest.of(0, 9, Sort.by(Sort.Direction.DESC, "date"));
-            Page<Object> page = new PageImpl(diaryInfoResponses, pageable, 1);
+            // page default value = 0, size default value = diaryTotal, sort default value = "date", DESC
+            Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "date"));
+            Page<DiaryInfoResponse> page = new PageImpl<>(diaryInfoResponses, pageable, 1);
 
             given(memberRepository.findById(userId))
                     .willReturn(Optional.of(Members.builder()
                             .diaryTotal(5)
                             .build()));
-            given(mongoTemplate.find(any(),any(),any()))
-                    .willReturn(List.of(diary));
-
-            given(PageableExecutionUtils.getPage(any(),any(),any()))
-                    .willReturn((Page<Object>) page);
-
-
             given(diaryCacheAdapter.get(any()))
                     .willReturn(null);
-
-            //void method
-            doNothing().when(diaryCacheAdapter).put(any(), any());
+            given(diaryCacheAdapter.load(any(), any(), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<RestPage<DiaryInfoResponse>>>getArgument(2).get());
+            given(diaryTimelineCacheAdapter.page(userId, pageable))
+                    .willReturn(new RestPage<>(page));
 
             // when
             Page<DiaryInfoResponse> expected = diaryService.findUserDiaries(userId,param);
@@ -501,8 +617,8 @@ public class DiaryServiceImplTest {
             assertEquals(expected.getContent(), diaryInfoResponses);
 
             verify(memberRepository, times(1)).findById(userId);
-            verify(mongoTemplate, times(1)).find(any(),any(),any());
-            verify(diaryCacheAdapter, times(1)).put(any(), any());
+            verify(mongoTemplate, never()).find(any(),any(),any());
+            verify(diaryCacheAdapter, times(1)).load(any(), any(), any());
             verify(diaryCacheAdapter, times(1)).get(any());
         }
         @Test
@@ -519,6 +635,20 @@ public class DiaryServiceImplTest {
             verify(mongoTemplate, never()).find(any(),any(),any());
         }
         @Test
+        @DisplayName("[예외]존재하지 않는 사용자로 확인된 id 일 때 (negative cache)")
+        void failFindUserDiaryNotFoundUserCached(){
+            // given
+            Map<String, String> param = new HashMap<>();
+            given(memberCacheAdapter.isNotFound(any()))
+                    .willReturn(true);
+
+            // when
+            // then
+            assertThrows(BizException.class, () -> diaryService.findUserDiaries(userId, param));
+            verify(memberRepository, never()).findById(any());
+            verify(mongoTemplate, never()).find(any(),any(),any());
+        }
+        @Test
         @DisplayName("[정상] 캐시가 존재할 때")
         void hasCache(){
             // given
@@ -549,9 +679,303 @@ public class DiaryServiceImplTest {
             verify(memberRepository, times(1)).findById(userId);
             verify(mongoTemplate, never()).find(any(),any(),any());
             verify(diaryCacheAdapter, times(1)).get(any());
+            verify(diaryCacheAdapter, never()).load(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("[정상] 응답 body 캐시가 존재하면 페이지 조회/직렬화 없이 그대로 반환")
+        void hasBodyCache(){
+            // given
+            Map<String, String> param = new HashMap<>();
+            CachedResponseBody cached = CachedResponseBody.json("{}".getBytes());
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder()
+                            .diaryTotal(5)
+                            .build()));
+            given(diaryCacheAdapter.getBody(CacheKeys.diaryPageBody(userId, PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "date")))))
+                    .willReturn(cached);
+
+            // when
+            CachedResponseBody expected = diaryService.findUserDiariesBody(userId, param);
+
+            // then
+            assertEquals(cached, expected);
+            verify(diaryCacheAdapter, never()).get(any());
+            verify(diaryCacheAdapter, never()).putBody(any(), any(), any());
+            verifyNoInteractions(objectMapper);
+        }
+
+        @Test
+        @DisplayName("[정상] 응답 body 캐시가 없으면 페이지를 직렬화하여 ETag 와 함께 저장")
+        void noBodyCache() throws Exception {
+            // given
+            Map<String, String> param = new HashMap<>();
+            DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
+            Pageable pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "date"));
+            RestPage<DiaryInfoResponse> page = new RestPage<>(new PageImpl<>(List.of(diaryInfoResponse), pageable, 1));
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder()
+                            .diaryTotal(5)
+                            .build()));
+            given(diaryCacheAdapter.getBody(any()))
+                    .willReturn(null);
+            given(diaryCacheAdapter.get(CacheKeys.diaryPage(userId, pageable)))
+                    .willReturn(page);
+
+            // when
+            CachedResponseBody expected = diaryService.findUserDiariesBody(userId, param);
+
+            // then
+            assertArrayEquals(objectMapper.writeValueAsBytes(page), expected.getBody());
+            assertEquals(MediaType.APPLICATION_JSON, expected.getContentType());
+            assertNotNull(expected.getEtag());
+            verify(diaryCacheAdapter, times(1)).putBody(userId, CacheKeys.diaryPageBody(userId, pageable), expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("일기 cursor pagination 서비스")
+    class findDiariesByCursor{
+        String userId = "userId";
+
+        private DiaryInfoResponse diary(String diaryId, int day) {
+            return new DiaryInfoResponse(diaryId, userId, LocalDate.of(2023, 1, day), null, null, null, null);
+        }
+
+        @Test
+        @DisplayName("[정상] limit 보다 하나 더 읽어 다음 페이지가 있으면 마지막 일기의 (날짜, id) 를 nextCursor 로 반환")
+        void firstPage(){
+            // given
+            Map<String, Object> params = new HashMap<>();
+            params.put("limit", "2");
+            List<DiaryInfoResponse> diaries = List.of(diary("d3", 3), diary("d2", 2), diary("d1", 1));
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().build()));
+            given(diaryRepository.findSummaries(any()))
+                    .willReturn(diaries);
+
+            // when
+            DiaryCursorPageResponse response = diaryService.findDiariesByCursor(userId, params);
+
+            // then
+            assertEquals(2, response.getContent().size());
+            assertEquals(2, response.getLimit());
+            DiaryCursor next = DiaryCursor.decode(response.getNextCursor());
+            assertEquals(LocalDate.of(2023, 1, 2), next.getDate());
+            assertEquals("d2", next.getDiaryId());
+        }
+
+        @Test
+        @DisplayName("[정상] 마지막 페이지는 nextCursor 가 없다")
+        void lastPage(){
+            // given
+            Map<String, Object> params = new HashMap<>();
+            params.put("cursor", new DiaryCursor(LocalDate.of(2023, 1, 2), "d2").encode());
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().build()));
+            given(diaryRepository.findSummaries(any()))
+                    .willReturn(List.of(diary("d1", 1)));
+
+            // when
+            DiaryCursorPageResponse response = diaryService.findDiariesByCursor(userId, params);
+
+            // then
+            assertEquals(1, response.getContent().size());
+            assertNull(response.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("[정상] cursor 다음 위치를 (date, _id) 범위 조건과 정렬로 조회한다")
+        void seekQuery(){
+            Map<String, Object> params = new HashMap<>();
+            params.put("emotion", "1");
+            DiaryCursor cursor = new DiaryCursor(LocalDate.of(2023, 1, 2), "63c0cb6f30dc3d547e3b88bb");
+
+            Query descending = DiaryServiceImpl.cursorQuery(userId, params, cursor, false);
+            String query = descending.getQueryObject().toString();
+            assertTrue(query.contains("date=Document{{$lte=2023-01-02T09:00}}"));
+            assertTrue(query.contains("date=Document{{$lt=2023-01-02T09:00}}"));
+            assertTrue(query.contains("_id=Document{{$lt=63c0cb6f30dc3d547e3b88bb}}"));
+            assertTrue(query.contains("emotion=1"));
+            assertEquals("{\"date\": -1, \"_id\": -1}", descending.getSortObject().toJson());
+
+            Query ascending = DiaryServiceImpl.cursorQuery(userId, params, cursor, true);
+            assertTrue(ascending.getQueryObject().toString().contains("_id=Document{{$gt=63c0cb6f30dc3d547e3b88bb}}"));
+            assertEquals("{\"date\": 1, \"_id\": 1}", ascending.getSortObject().toJson());
+        }
+
+        @Test
+        @DisplayName("[예외] 해석할 수 없는 cursor")
+        void invalidCursor(){
+            // given
+            Map<String, Object> params = new HashMap<>();
+            params.put("cursor", "not-a-cursor");
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().build()));
+
+            // when
+            BizException exception = assertThrows(BizException.class, () -> diaryService.findDiariesByCursor(userId, params));
+
+            // then
+            assertEquals(DiaryExceptionType.INVALID_CURSOR.getMessage(), exception.getMessage());
+            verify(mongoTemplate, never()).find(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("일기 검색 서비스")
+    class findDiaries{
+        String userId = "userId";
+
+        private Map<String, Object> searchParams() {
+            Map<String, Object> params = new HashMap<>();
+            params.put("page", "0");
+            params.put("size", "10");
+            params.put("startDate", "2023-01-01");
+            params.put("endDate", "2023-01-31");
+            params.put("searchWord", "일기");
+            return params;
+        }
+
+        @Test
+        @DisplayName("[정상] 같은 조건의 검색 결과가 캐싱되어 있으면 Mongo 를 조회하지 않는다")
+        void hasSearchCache(){
+            // given
+            DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
+            // 검색어가 있고 정렬 조건이 없으면 검색 점수 순 (정렬 없는 pageable)
+            Pageable pageable = PageRequest.of(0, 10);
+            RestPage<DiaryInfoResponse> cached = new RestPage<>(new PageImpl<>(List.of(diaryInfoResponse), pageable, 1));
+            String key = CacheKeys.diarySearch(userId, DiaryServiceImpl.searchHash(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), "일기", null, pageable));
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().build()));
+            given(diaryCacheAdapter.get(key))
+                    .willReturn(cached);
+
+            // when
+            RestPage<DiaryInfoResponse> expected = diaryService.findDiaries(userId, searchParams());
+
+            // then
+            assertEquals(cached, expected);
+            verify(mongoTemplate, never()).find(any(), any(), any());
+            verify(mongoTemplate, never()).count(any(), any(Class.class), any());
+            verify(diaryCacheAdapter, never()).load(any(), any(), any());
+            verify(diarySearchIndex, never()).search(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("[정상] 캐시가 없으면 본문 검색 index 로 조회하여 사용자 태그로 캐싱한다")
+        void searchIndex(){
+            // given
+            DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
+            diaryInfoResponse.setHighlight("오늘 <em>일기</em>");
+            Pageable pageable = PageRequest.of(0, 10);
+            String key = CacheKeys.diarySearch(userId, DiaryServiceImpl.searchHash(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), "일기", null, pageable));
+            RestPage<DiaryInfoResponse> searched = new RestPage<>(new PageImpl<>(List.of(diaryInfoResponse), pageable, 1));
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().build()));
+            given(diaryCacheAdapter.load(eq(userId), eq(key), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<RestPage<DiaryInfoResponse>>>getArgument(2).get());
+            given(diarySearchIndex.search(userId, "일기", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), null, pageable))
+                    .willReturn(searched);
+
+            // when
+            RestPage<DiaryInfoResponse> expected = diaryService.findDiaries(userId, searchParams());
+
+            // then
+            assertSame(searched, expected);
+            verifyNoInteractions(diaryQueryExecutor);
+        }
+
+        @Test
+        @DisplayName("[정상] 본문 검색 index 를 사용할 수 없으면 검색어를 문자열 그대로 Mongo 에서 조건별 개수 캐시와 함께 조회한다")
+        void noSearchCache(){
+            // given
+            DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
+            // Mongo 조회는 최신순
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date"));
+            String key = CacheKeys.diarySearch(userId, DiaryServiceImpl.searchHash(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), "일기", null, PageRequest.of(0, 10)));
+            String countKey = CacheKeys.diaryCount(userId, DiaryServiceImpl.countHash(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), "일기", null));
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().build()));
+            given(diaryCacheAdapter.get(key))
+                    .willReturn(null);
+            given(diaryCacheAdapter.load(eq(userId), eq(key), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<RestPage<DiaryInfoResponse>>>getArgument(2).get());
+            given(diaryQueryExecutor.page(eq(userId), eq(countKey), any(Criteria.class), eq(pageable)))
+                    .willReturn(new RestPage<>(new PageImpl<>(List.of(diaryInfoResponse), pageable, 1)));
+
+            // when
+            Map<String, Object> params = searchParams();
+            params.put("searchWord", "(a+)+$");
+            String escapedKey = CacheKeys.diarySearch(userId, DiaryServiceImpl.searchHash(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), "(a+)+$", null, PageRequest.of(0, 10)));
+            String escapedCountKey = CacheKeys.diaryCount(userId, DiaryServiceImpl.countHash(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), "(a+)+$", null));
+            given(diaryCacheAdapter.load(eq(userId), eq(escapedKey), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<RestPage<DiaryInfoResponse>>>getArgument(2).get());
+            ArgumentCaptor<Criteria> criteria = ArgumentCaptor.forClass(Criteria.class);
+            given(diaryQueryExecutor.page(eq(userId), eq(escapedCountKey), criteria.capture(), eq(pageable)))
+                    .willReturn(new RestPage<>(new PageImpl<>(List.of(diaryInfoResponse), pageable, 1)));
+            RestPage<DiaryInfoResponse> expected = diaryService.findDiaries(userId, searchParams());
+            diaryService.findDiaries(userId, params);
+
+            // then
+            assertEquals(List.of(diaryInfoResponse), expected.getContent());
+            verify(diaryCacheAdapter, times(1)).load(eq(userId), eq(key), any());
+            // 정규식 문법은 escape 되어 문자 그대로 찾는다
+            assertTrue(criteria.getValue().getCriteriaObject().toString().contains("\\Q(a+)+$\\E"));
+            verify(diaryQueryExecutor, never()).page(any(Criteria.class), any(), anyLong());
         }
 
+        @Test
+        @DisplayName("[정상] 조건 없는 조회는 사용자의 전체 일기 수를 개수로 사용하여 count 를 조회하지 않는다")
+        void unfilteredUsesDiaryTotal(){
+            // given
+            DiaryInfoResponse diaryInfoResponse = new DiaryInfoResponse("diaryId", userId, diaryDate, LocalDate.now(), "emotion", keywords, "thumbnail");
+            Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "date"));
+            Map<String, Object> params = new HashMap<>();
+            params.put("page", "0");
+            params.put("size", "10");
+
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().diaryTotal(7).build()));
+            given(diaryCacheAdapter.load(eq(userId), any(), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<RestPage<DiaryInfoResponse>>>getArgument(2).get());
+            RestPage<DiaryInfoResponse> page = new RestPage<>(new PageImpl<>(List.of(diaryInfoResponse), pageable, 7));
+            given(diaryQueryExecutor.page(any(Criteria.class), eq(pageable), eq(7L)))
+                    .willReturn(page);
+
+            // when
+            RestPage<DiaryInfoResponse> expected = diaryService.findDiaries(userId, params);
+
+            // then
+            assertSame(page, expected);
+            verify(diaryQueryExecutor, never()).page(any(), any(), any(Criteria.class), any());
+            verify(mongoTemplate, never()).count(any(), any(Class.class), any());
+        }
 
+        @Test
+        @DisplayName("[정상] 검색 조건 hash 는 정렬 표기와 상관없이 같고, 조건이 다르면 달라진다")
+        void normalizedSearchHash(){
+            LocalDate start = LocalDate.of(2023, 1, 1);
+            LocalDate end = LocalDate.of(2023, 1, 31);
+            Pageable ascending = PageRequest.of(0, 10, Sort.by("date"));
+
+            assertEquals(DiaryServiceImpl.searchHash(start, end, "일기", null, ascending),
+                    DiaryServiceImpl.searchHash(start, end, "일기", null, PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "date"))));
+            assertNotEquals(DiaryServiceImpl.searchHash(start, end, "일기", null, ascending),
+                    DiaryServiceImpl.searchHash(start, end, "일기", "1", ascending));
+            assertNotEquals(DiaryServiceImpl.searchHash(start, end, "일기", null, ascending),
+                    DiaryServiceImpl.searchHash(start, end, "일기", null, PageRequest.of(1, 10, Sort.by("date"))));
+            assertNotEquals(DiaryServiceImpl.searchHash(start, end, null, null, ascending),
+                    DiaryServiceImpl.searchHash(start, end, "", null, ascending));
+        }
     }
 
     @Nested
@@ -573,6 +997,9 @@ public class DiaryServiceImplTest {
             // given
             given(memberRepository.findById(userId))
                     .willReturn(Optional.of(Members.builder().build()));
+            // counter 를 사용할 수 없을 때 aggregation 으로 조회
+            given(emotionCounter.statistics(any(), any(), any()))
+                    .willReturn(null);
             given(mongoTemplate.aggregate(any(), (Class<?>) any(), any()))
                     .willReturn(aggregation);
             given(DiaryEmotionStaticsResponse.of(any(),any(),any()))
@@ -606,6 +1033,9 @@ public class DiaryServiceImplTest {
             // given
             given(memberRepository.findById(userId))
                     .willReturn(Optional.of(Members.builder().build()));
+            // counter 를 사용할 수 없을 때 aggregation 으로 조회
+            given(emotionCounter.statistics(any(), any(), any()))
+                    .willReturn(null);
             given(mongoTemplate.aggregate(any(), (Class<?>) any(), any()))
                     .willReturn(aggregation);
             given(DiaryEmotionStaticsResponse.of(any(),any(),any()))
@@ -639,6 +1069,9 @@ public class DiaryServiceImplTest {
             // given
             given(memberRepository.findById(userId))
                     .willReturn(Optional.of(Members.builder().build()));
+            // counter 를 사용할 수 없을 때 aggregation 으로 조회
+            given(emotionCounter.statistics(any(), any(), any()))
+                    .willReturn(null);
             given(mongoTemplate.aggregate(any(), (Class<?>) any(), any()))
                     .willReturn(aggregation);
             given(DiaryEmotionStaticsResponse.of(any(),any(),any()))
@@ -671,6 +1104,9 @@ public class DiaryServiceImplTest {
             // given
             given(memberRepository.findById(userId))
                     .willReturn(Optional.of(Members.builder().build()));
+            // counter 를 사용할 수 없을 때 aggregation 으로 조회
+            given(emotionCounter.statistics(any(), any(), any()))
+                    .willReturn(null);
             given(mongoTemplate.aggregate(any(), (Class<?>) any(), any()))
                     .willReturn(aggregation);
             given(DiaryEmotionStaticsResponse.of(any(),any(),any()))
@@ -688,6 +1124,34 @@ public class DiaryServiceImplTest {
             verify(mongoTemplate, times(1)).aggregate(any(), (Class<?>) any(), any());
         }
         @Test
+        @DisplayName("[정상]감정 통계 성공_counter 합산 (aggregation 실행 X)")
+        void emotionStaticsFromCounter(){
+            DiaryEmotionStatics diaryEmotionStatics = new DiaryEmotionStatics("emotion", 3);
+
+            Map<String, Object> param = new HashMap<>();
+            param.put("startDate", "2023-01-01");
+            param.put("endDate","2023-01-20");
+
+            List<DiaryEmotionStatics> emotionStatics = List.of(diaryEmotionStatics);
+            DiaryEmotionStaticsResponse diaryEmotionStaticsResponse = new DiaryEmotionStaticsResponse(emotionStatics,LocalDate.parse("2023-01-01"),LocalDate.parse("2023-01-20"));
+
+            // given
+            given(memberRepository.findById(userId))
+                    .willReturn(Optional.of(Members.builder().build()));
+            given(emotionCounter.statistics(userId, LocalDate.parse("2023-01-01"), LocalDate.parse("2023-01-20")))
+                    .willReturn(emotionStatics);
+            given(DiaryEmotionStaticsResponse.of(emotionStatics, LocalDate.parse("2023-01-01"), LocalDate.parse("2023-01-20")))
+                    .willReturn(diaryEmotionStaticsResponse);
+
+            // when
+            DiaryEmotionStaticsResponse expected = diaryService.emotionStatics(userId,param);
+
+            // then
+            assertEquals(expected.getEmotionStatics(), emotionStatics);
+            verify(emotionCounter, times(1)).statistics(userId, LocalDate.parse("2023-01-01"), LocalDate.parse("2023-01-20"));
+            verify(mongoTemplate, never()).aggregate(any(), (Class<?>) any(), any());
+        }
+        @Test
         @DisplayName("[예외]사용자가 존재하지 않을 때")
         void failEmotionStaticsNotFoundUser(){
             Diary diary = diarySaveRequest.toEntity();
@@ -0,0 +1,287 @@
+package com.sweep.jaksim31.service.impl;
+
+import com.mongodb.client.result.UpdateResult;
+import com.sweep.jaksim31.domain.diary.Diary;
+import com.sweep.jaksim31.domain.diary.EmotionCount;
+import com.sweep.jaksim31.dto.diary.DiaryEmotionStatics;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * packageName :  com.sweep.jaksim31.service.impl
+ * fileName : EmotionCounterTest
+ * author :  방근호
+ * date : 2026-10-18
+ * description : 일/월 단위 감정 통계 counter 테스트
+ * ===========================================================
+ * DATE                 AUTHOR                NOTE
+ * -----------------------------------------------------------
+ * 2026-10-18           방근호             최초 생성
+ * 2026-10-18           방근호             rebuild 도중 counter 갱신 테스트 추가
+ *                      방근호             rebuild lease 테스트 추가
+ *                      방근호             background rebuild 테스트 추가
+ */
+@ExtendWith(MockitoExtension.class)
+class EmotionCounterTest {
+
+    private static final String USER_ID = "userId";
+
+    private EmotionCounter emotionCounter;
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private BulkOperations bulkOperations;
+
+    // 예약된 rebuild 를 바로 실행
+    @BeforeEach
+    void setUp() {
+        emotionCounter = new EmotionCounter(mongoTemplate, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("기간은 온전한 달은 월 counter, 앞뒤 남은 날은 일 counter 로 나누어 조회한다")
+    void splitRangeIntoMonthsAndDays() {
+        String query = EmotionCounter.rangeQuery(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 3, 10))
+                .getQueryObject().toJson();
+
+        assertTrue(query.contains("{\"unit\": \"BUILT\"}"));
+        assertTrue(query.contains("{\"unit\": \"MONTH\", \"period\": {\"$gte\": \"2023-02\", \"$lte\": \"2023-02\"}}"));
+        assertTrue(query.contains("{\"unit\": \"DAY\", \"period\": {\"$gte\": \"2023-01-15\", \"$lte\": \"2023-01-31\"}}"));
+        assertTrue(query.contains("{\"unit\": \"DAY\", \"period\": {\"$gte\": \"2023-03-01\", \"$lte\": \"2023-03-10\"}}"));
+
+        // 한 달 안의 기간은 일 counter 만 사용
+        String withinMonth = EmotionCounter.rangeQuery(USER_ID, LocalDate.of(2023, 1, 3), LocalDate.of(2023, 1, 20))
+                .getQueryObject().toJson();
+        assertFalse(withinMonth.contains("MONTH"));
+    }
+
+    @Test
+    @DisplayName("counter 가 생성되어 있으면 일/월 counter 를 합산하고 aggregation 은 실행하지 않는다")
+    void sumBuckets() {
+        given(mongoTemplate.find(any(Query.class), eq(EmotionCount.class)))
+                .willReturn(Arrays.asList(
+                        marker(true),
+                        bucket(EmotionCount.UNIT_MONTH, "2023-02", Map.of("1", 1, "2", 3)),
+                        bucket(EmotionCount.UNIT_DAY, "2023-01-20", Map.of("1", 2, "3", 0))));
+
+        List<DiaryEmotionStatics> statics = emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 3, 10));
+
+        assertEquals(Arrays.asList(new DiaryEmotionStatics("1", 3), new DiaryEmotionStatics("2", 3)), statics);
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq(Diary.class), any());
+    }
+
+    @Test
+    @DisplayName("counter 가 없으면 null 을 반환하여 aggregation 으로 조회하게 하고 counter 를 다시 생성한다")
+    void rebuildWhenNotBuilt() {
+        given(mongoTemplate.find(any(Query.class), eq(EmotionCount.class)))
+                .willReturn(Collections.emptyList());
+        givenRebuild(3L, 1L);
+
+        assertNull(emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 31)));
+        verify(mongoTemplate, times(1)).remove(any(Query.class), eq(EmotionCount.class));
+        // 일 counter 3개 + 월 counter 1개
+        verify(bulkOperations, times(4)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+        // 시작할 때 읽은 갱신 순번이 그대로인 경우에만 생성 완료 표시
+        verify(mongoTemplate, times(1)).updateFirst(
+                argThat(query -> query.getQueryObject().toJson().contains("\"seq\": 3")),
+                argThat(update -> update.getUpdateObject().toJson().contains("\"built\": true")),
+                eq(EmotionCount.class));
+    }
+
+    @Test
+    @DisplayName("rebuild 도중 counter 가 갱신되면 생성 완료로 표시되지 않아 다음 조회 때 다시 생성한다")
+    void rebuildAgainWhenRecordRacedRebuild() {
+        // 이전 rebuild 가 끝나기 전에 record() 가 실행되어 순번이 바뀐 상태 (built = false)
+        given(mongoTemplate.find(any(Query.class), eq(EmotionCount.class)))
+                .willReturn(Collections.singletonList(marker(false)));
+        givenRebuild(3L, 0L);
+
+        assertNull(emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 31)));
+        assertNull(emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 31)));
+
+        verify(mongoTemplate, times(2)).aggregate(any(Aggregation.class), eq(Diary.class), eq(EmotionCounter.DayEmotionCount.class));
+    }
+
+    @Test
+    @DisplayName("rebuild 는 조회 요청에서 실행하지 않고, 실행되기 전까지 같은 사용자의 rebuild 는 한 번만 예약한다")
+    void rebuildInBackground() {
+        List<Runnable> tasks = new ArrayList<>();
+        emotionCounter = new EmotionCounter(mongoTemplate, tasks::add);
+        given(mongoTemplate.find(any(Query.class), eq(EmotionCount.class)))
+                .willReturn(Collections.emptyList());
+
+        assertNull(emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 31)));
+        assertNull(emotionCounter.statistics(USER_ID, LocalDate.of(2023, 2, 1), LocalDate.of(2023, 2, 28)));
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EmotionCount.class));
+        assertEquals(1, tasks.size());
+
+        givenRebuild(0L, 1L);
+        tasks.remove(0).run();
+        verify(mongoTemplate, times(1)).aggregate(any(Aggregation.class), eq(Diary.class), eq(EmotionCounter.DayEmotionCount.class));
+
+        // 실행된 뒤에는 다시 예약할 수 있음
+        emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 31));
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    @DisplayName("생성 완료 표시가 없고 lease 가 없거나 만료된 경우에만 rebuild lease 를 얻는다")
+    void rebuildLeaseCondition() {
+        given(mongoTemplate.find(any(Query.class), eq(EmotionCount.class)))
+                .willReturn(Collections.emptyList());
+        givenRebuild(0L, 1L);
+
+        emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 31));
+
+        verify(mongoTemplate, times(1)).findAndModify(
+                argThat(query -> query.getQueryObject().toJson().contains("\"built\": {\"$ne\": true}")
+                        && query.getQueryObject().toJson().contains("\"rebuildingUntil\": {\"$exists\": false}")),
+                argThat(update -> update.getUpdateObject().toJson().contains("rebuildingUntil")),
+                any(FindAndModifyOptions.class), eq(EmotionCount.class));
+        // 생성 완료 표시와 함께 lease 해제
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class),
+                argThat(update -> update.getUpdateObject().toJson().contains("\"$unset\": {\"rebuildingUntil\"")),
+                eq(EmotionCount.class));
+    }
+
+    @Test
+    @DisplayName("다른 요청이 rebuild 중이면 counter 를 지우지 않고 null 을 반환하여 aggregation 으로 조회하게 한다")
+    void fallbackWhileRebuilding() {
+        given(mongoTemplate.find(any(Query.class), eq(EmotionCount.class)))
+                .willReturn(Collections.singletonList(marker(false)));
+        // lease 조건에 맞지 않으면 같은 _id 로 upsert 하여 duplicate key
+        given(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EmotionCount.class)))
+                .willThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        assertNull(emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 31)));
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq(Diary.class), eq(EmotionCounter.DayEmotionCount.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(EmotionCount.class));
+    }
+
+    @Test
+    @DisplayName("rebuild 중 실패하면 lease 를 해제한다")
+    void releaseLeaseOnFailure() {
+        given(mongoTemplate.find(any(Query.class), eq(EmotionCount.class)))
+                .willReturn(Collections.emptyList());
+        given(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EmotionCount.class)))
+                .willReturn(marker(false));
+        given(mongoTemplate.aggregate(any(Aggregation.class), eq(Diary.class), eq(EmotionCounter.DayEmotionCount.class)))
+                .willThrow(new IllegalStateException("mongo down"));
+
+        assertNull(emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 15), LocalDate.of(2023, 1, 31)));
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class),
+                argThat(update -> update.getUpdateObject().toJson().contains("\"$unset\": {\"rebuildingUntil\"")),
+                eq(EmotionCount.class));
+    }
+
+    @Test
+    @DisplayName("counter 를 읽지 못하면 null 을 반환하여 aggregation 으로 조회하게 한다")
+    void fallbackOnFailure() {
+        given(mongoTemplate.find(any(Query.class), eq(EmotionCount.class)))
+                .willThrow(new IllegalStateException("mongo down"));
+
+        assertNull(emotionCounter.statistics(USER_ID, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31)));
+    }
+
+    @Test
+    @DisplayName("일기 수정은 감정이나 날짜가 바뀐 경우에만 counter 를 옮긴다")
+    void updateOnlyWhenChanged() {
+        Diary before = diary(LocalDate.of(2023, 1, 7), "1");
+        emotionCounter.onUpdate(before, diary(LocalDate.of(2023, 1, 7), "1"));
+        verifyNoInteractions(mongoTemplate);
+
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmotionCount.class))
+                .willReturn(bulkOperations);
+        emotionCounter.onUpdate(before, diary(LocalDate.of(2023, 1, 7), "2"));
+
+        // 이전 감정 일/월 -1, 새 감정 일/월 +1, 갱신 순번 +1
+        verify(bulkOperations, times(5)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+    }
+
+    @Test
+    @DisplayName("counter 갱신에 실패하면 생성 완료 표시를 지워 다음 조회 때 다시 생성한다")
+    void invalidateOnWriteFailure() {
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmotionCount.class))
+                .willReturn(bulkOperations);
+        given(bulkOperations.execute()).willThrow(new IllegalStateException("mongo down"));
+
+        emotionCounter.onSave(diary(LocalDate.of(2023, 1, 7), "1"));
+
+        verify(mongoTemplate, times(1)).updateFirst(any(Query.class),
+                argThat(update -> update.getUpdateObject().toJson().contains("\"built\": false")),
+                eq(EmotionCount.class));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(EmotionCount.class));
+    }
+
+    // 생성 완료 표시 순번(seq)을 읽고, 마지막 표시 update 는 matchedCount 개 문서에 적용된 것으로 stub
+    private void givenRebuild(long seq, long matchedCount) {
+        EmotionCount marker = marker(false);
+        ReflectionTestUtils.setField(marker, "seq", seq);
+        given(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class), eq(EmotionCount.class)))
+                .willReturn(marker);
+        given(mongoTemplate.aggregate(any(Aggregation.class), eq(Diary.class), eq(EmotionCounter.DayEmotionCount.class)))
+                .willReturn(new AggregationResults<>(Arrays.asList(
+                        dayCount(LocalDate.of(2023, 1, 10), "1", 1),
+                        dayCount(LocalDate.of(2023, 1, 20), "1", 1),
+                        dayCount(LocalDate.of(2023, 1, 21), null, 1)), new Document()));
+        given(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EmotionCount.class))
+                .willReturn(bulkOperations);
+        given(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(EmotionCount.class)))
+                .willReturn(UpdateResult.acknowledged(matchedCount, matchedCount, null));
+    }
+
+    private static EmotionCount marker(boolean built) {
+        EmotionCount marker = bucket(EmotionCount.UNIT_BUILT, null, Collections.emptyMap());
+        ReflectionTestUtils.setField(marker, "built", built);
+        return marker;
+    }
+
+    private static EmotionCount bucket(String unit, String period, Map<String, Integer> counts) {
+        EmotionCount bucket = new EmotionCount();
+        ReflectionTestUtils.setField(bucket, "unit", unit);
+        ReflectionTestUtils.setField(bucket, "period", period);
+        ReflectionTestUtils.setField(bucket, "counts", counts);
+        return bucket;
+    }
+
+    private static EmotionCounter.DayEmotionCount dayCount(LocalDate date, String emotion, int count) {
+        EmotionCounter.DayEmotionCount dayCount = new EmotionCounter.DayEmotionCount();
+        dayCount.setDate(date.atTime(9, 0));
+        dayCount.setEmotion(emotion);
+        dayCount.setCount(count);
+        return dayCount;
+    }
+
+    private static Diary diary(LocalDate date, String emotion) {
+        return Diary.builder()
+                .userId(USER_ID)
+                .date(date)
+                .emotion(emotion)
+                .build();
+    }
+}
@@ -1,5 +1,10 @@
 package com.sweep.jaksim31.service.impl;
 
+import com.sweep.jaksim31.adapter.cache.CacheEvictor;
+import com.sweep.jaksim31.adapter.cache.CacheKeys;
+import com.sweep.jaksim31.adapter.cache.CacheWriteQueue;
+import com.sweep.jaksim31.adapter.cache.MemberCacheAdapter;
+import com.sweep.jaksim31.adapter.cache.RecentWriteTracker;
 import com.sweep.jaksim31.adapter.cache.RefreshTokenCacheAdapter;
 import com.sweep.jaksim31.auth.TokenProvider;
 import com.sweep.jaksim31.domain.diary.DiaryRepository;
@@ -16,6 +21,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -42,6 +48,9 @@ import static org.mockito.Mockito.*;
  * -----------------------------------------------------------
  * 2023-01-17           방근호             최초 생성
  * 2023-01-31           김주현             사용자 정보 조회, 수정 시 본인의 일기가 아니면 `NO_PERMISSION` test 추가
+ * 2026-10-18           방근호             사용자 정보 조회 negative cache 테스트 추가
+ *                      방근호             read-your-writes(RecentWriteTracker) 반영
+ *                      방근호             회원 탈퇴 캐시 삭제(CacheEvictor) 반영
  */
 
 @ExtendWith(MockitoExtension.class)
@@ -62,6 +71,12 @@ class MemberServiceImplTest {
     private TokenProvider tokenProvider;
     @Mock
     private RefreshTokenCacheAdapter refreshTokenCacheAdapter;
+    @Mock
+    private MemberCacheAdapter memberCacheAdapter;
+    @Mock
+    private CacheEvictor cacheEvictor;
+    @Spy
+    private RecentWriteTracker recentWriteTracker = new RecentWriteTracker(3000, new CacheWriteQueue(false, 1, 1, 5_000));
     private static MockedStatic<MemberSaveResponse> memberSaveResponse;
     private static MockedStatic<MemberInfoResponse> memberInfoResponse;
     private static MockedStatic<CookieUtil> cookieUtil;
@@ -251,7 +266,7 @@ class MemberServiceImplTest {
                     .willReturn(memberInfoResponse1.getLoginId());
 
             //when
-            MemberInfoResponse res = memberService.getMyInfo(userId,any());
+            MemberInfoResponse res = memberService.getMyInfo(userId, null);
             //then
             verify(memberRepository).findById(userId);
             assert res != null;
@@ -268,8 +283,24 @@ class MemberServiceImplTest {
                     .willReturn(Optional.empty());
 
             //when & then
-            assertThrows(BizException.class, () -> memberService.getMyInfo(userId,any()));
+            assertThrows(BizException.class, () -> memberService.getMyInfo(userId, null));
             verify(memberRepository, times(1)).findById(userId);
+            verify(memberCacheAdapter, times(1)).putNotFound(any());
+
+        }
+
+        @Test
+        @DisplayName("실패한 경우 - 회원이 아닌 것으로 확인된 id 인 경우 (negative cache)")
+        void invalidGetMyInfoCached() {
+            String userId = "63c4f6cbeb0a310a89188df6";
+
+            //given
+            given(memberCacheAdapter.isNotFound(any()))
+                    .willReturn(true);
+
+            //when & then
+            assertThrows(BizException.class, () -> memberService.getMyInfo(userId, null));
+            verify(memberRepository, never()).findById(userId);
 
         }
 
@@ -291,9 +322,29 @@ class MemberServiceImplTest {
                     .willReturn("wrongUserId");
 
             //when & then
-            assertThrows(BizException.class, () -> memberService.getMyInfo(userId,any()));
+            assertThrows(BizException.class, () -> memberService.getMyInfo(userId, null));
             verify(memberRepository, times(1)).findById(userId);
         }
+
+        @Test
+        @DisplayName("정상인 경우 - 캐시가 존재할 때")
+        void getMyInfoHasCache() {
+            String userId = "63c4f6cbeb0a310a89188df6";
+            MemberInfoResponse memberInfoResponse1 = new MemberInfoResponse(userId, "loginId", "username", "profileImage", null, 10);
+            //given
+            given(memberCacheAdapter.get(any(), any()))
+                    .willReturn(memberInfoResponse1);
+
+            given(tokenProvider.getMemberLoginIdByToken(any()))
+                    .willReturn(memberInfoResponse1.getLoginId());
+
+            //when
+            MemberInfoResponse res = memberService.getMyInfo(userId, null);
+            //then
+            verify(memberRepository, never()).findById(userId);
+            verify(memberCacheAdapter, never()).put(any(), any());
+            assertEquals(res, memberInfoResponse1);
+        }
     }
 //    @Nested
 //    @DisplayName("로그인 아이디 멤버 정보 조회 서비스")
@@ -518,7 +569,7 @@ class MemberServiceImplTest {
                     .willReturn(members.getLoginId());
 
             // 아무것도 안하게 하겠음
-            doNothing().when(refreshTokenCacheAdapter).delete(any());
+            doNothing().when(cacheEvictor).deleteMemberAndRefreshToken(any(), any());
 
             // when
             String res = memberService.remove(userId, memberRemoveRequest, response, request);
@@ -528,7 +579,7 @@ class MemberServiceImplTest {
             verify(memberRepository, times(1)).findById(userId);
             verify(passwordEncoder, times(1)).encode(any());
             verify(passwordEncoder, times(1)).matches(any(), any());
-            verify(refreshTokenCacheAdapter, times(1)).delete(any());
+            verify(cacheEvictor, times(1)).deleteMemberAndRefreshToken(CacheKeys.member(userId), userId);
 
         }
 